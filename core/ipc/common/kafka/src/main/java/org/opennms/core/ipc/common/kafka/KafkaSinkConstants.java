@@ -44,4 +44,10 @@ public interface KafkaSinkConstants {
     String MESSAGEID_CACHE_CONFIG = "messageId.cache.config";
     // Default to 1000 messages (large) in 10 minute interval.
     String DEFAULT_MESSAGEID_CONFIG = "maximumSize=1000,expireAfterWrite=10m";
+
+    // Number of lanes over which every consumer dispatches the records it polls, records with the same key
+    // are dispatched in order on the same lane.
+    String NUM_LANES_PER_CONSUMER_CONFIG = "lanes.per.consumer";
+    // By default, records are dispatched by the consumer thread itself.
+    int DEFAULT_NUM_LANES_PER_CONSUMER = 1;
 }
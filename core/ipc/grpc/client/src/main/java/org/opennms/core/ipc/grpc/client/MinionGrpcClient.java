@@ -306,13 +306,14 @@ public class MinionGrpcClient extends AbstractMessageDispatcherFactory<String> {
     public <S extends Message, T extends Message> void dispatch(SinkModule<S, T> module, String metadata, T message) {
 
         try (Logging.MDCCloseable mdc = Logging.withPrefixCloseable(MessageConsumerManager.LOG_PREFIX)) {
-            byte[] sinkMessageContent = module.marshal(message);
+            byte[] sinkMessageContent = marshal(module, message);
             String messageId = UUID.randomUUID().toString();
             SinkMessage.Builder sinkMessageBuilder = SinkMessage.newBuilder()
                     .setMessageId(messageId)
                     .setLocation(minionIdentity.getLocation())
                     .setModuleId(module.getId())
                     .setContent(ByteString.copyFrom(sinkMessageContent));
+            module.getRoutingKey(message).ifPresent(sinkMessageBuilder::setRoutingKey);
 
             if (module.getId().equals(HEARTBEAT_MODULE_ID)) {
                 if (rpcStream == null || sinkStream == null || hasChangedToReadyState()) {
@@ -91,16 +91,17 @@ public final class MinionIpc {
       "(\t\022\021\n\tmodule_id\030\005 \001(\t\0228\n\014tracing_info\030\006 " +
       "\003(\0132\".RpcResponseProto.TracingInfoEntry\032" +
       "2\n\020TracingInfoEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005valu" +
-      "e\030\002 \001(\t:\0028\001\"\323\001\n\013SinkMessage\022\022\n\nmessage_i" +
+      "e\030\002 \001(\t:\0028\001\"\350\001\n\013SinkMessage\022\022\n\nmessage_i" +
       "d\030\001 \001(\t\022\017\n\007content\030\002 \001(\014\022\021\n\tsystem_id\030\003 " +
       "\001(\t\022\020\n\010location\030\004 \001(\t\022\021\n\tmodule_id\030\005 \001(\t" +
       "\0223\n\014tracing_info\030\006 \003(\0132\035.SinkMessage.Tra" +
-      "cingInfoEntry\0322\n\020TracingInfoEntry\022\013\n\003key" +
-      "\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\0012r\n\nOpenNMSIpc\022" +
-      "9\n\014RpcStreaming\022\021.RpcResponseProto\032\020.Rpc" +
-      "RequestProto\"\000(\0010\001\022)\n\rSinkStreaming\022\014.Si" +
-      "nkMessage\032\006.Empty\"\000(\001B/\n org.opennms.cor" +
-      "e.ipc.grpc.commonB\tMinionIpcP\001b\006proto3"
+      "cingInfoEntry\022\023\n\013routing_key\030\007 \001(\t\0322\n\020Tr" +
+      "acingInfoEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001" +
+      "(\t:\0028\0012r\n\nOpenNMSIpc\0229\n\014RpcStreaming\022\021.R" +
+      "pcResponseProto\032\020.RpcRequestProto\"\000(\0010\001\022" +
+      ")\n\rSinkStreaming\022\014.SinkMessage\032\006.Empty\"\000" +
+      "(\001B/\n org.opennms.core.ipc.grpc.commonB\t" +
+      "MinionIpcP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -141,7 +142,7 @@ public final class MinionIpc {
     internal_static_SinkMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SinkMessage_descriptor,
-        new java.lang.String[] { "MessageId", "Content", "SystemId", "Location", "ModuleId", "TracingInfo", });
+        new java.lang.String[] { "MessageId", "Content", "SystemId", "Location", "ModuleId", "TracingInfo", "RoutingKey", });
     internal_static_SinkMessage_TracingInfoEntry_descriptor =
       internal_static_SinkMessage_descriptor.getNestedTypes().get(0);
     internal_static_SinkMessage_TracingInfoEntry_fieldAccessorTable = new
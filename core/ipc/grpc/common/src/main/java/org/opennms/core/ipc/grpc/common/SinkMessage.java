@@ -42,6 +42,7 @@ private static final long serialVersionUID = 0L;
     systemId_ = "";
     location_ = "";
     moduleId_ = "";
+    routingKey_ = "";
   }
 
   @java.lang.Override
@@ -325,6 +326,52 @@ private static final long serialVersionUID = 0L;
     return map.get(key);
   }
 
+  public static final int ROUTING_KEY_FIELD_NUMBER = 7;
+  private volatile java.lang.Object routingKey_;
+  /**
+   * <pre>
+   * Messages with the same routing key are consumed in order
+   * </pre>
+   *
+   * <code>string routing_key = 7;</code>
+   * @return The routingKey.
+   */
+  @java.lang.Override
+  public java.lang.String getRoutingKey() {
+    java.lang.Object ref = routingKey_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      routingKey_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Messages with the same routing key are consumed in order
+   * </pre>
+   *
+   * <code>string routing_key = 7;</code>
+   * @return The bytes for routingKey.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRoutingKeyBytes() {
+    java.lang.Object ref = routingKey_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      routingKey_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -360,6 +407,9 @@ private static final long serialVersionUID = 0L;
         internalGetTracingInfo(),
         TracingInfoDefaultEntryHolder.defaultEntry,
         6);
+    if (!getRoutingKeyBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, routingKey_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -395,6 +445,9 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, tracingInfo__);
     }
+    if (!getRoutingKeyBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, routingKey_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -422,6 +475,8 @@ private static final long serialVersionUID = 0L;
         .equals(other.getModuleId())) return false;
     if (!internalGetTracingInfo().equals(
         other.internalGetTracingInfo())) return false;
+    if (!getRoutingKey()
+        .equals(other.getRoutingKey())) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -447,6 +502,8 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + TRACING_INFO_FIELD_NUMBER;
       hash = (53 * hash) + internalGetTracingInfo().hashCode();
     }
+    hash = (37 * hash) + ROUTING_KEY_FIELD_NUMBER;
+    hash = (53 * hash) + getRoutingKey().hashCode();
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -608,6 +665,8 @@ private static final long serialVersionUID = 0L;
       moduleId_ = "";
 
       internalGetMutableTracingInfo().clear();
+      routingKey_ = "";
+
       return this;
     }
 
@@ -642,6 +701,7 @@ private static final long serialVersionUID = 0L;
       result.moduleId_ = moduleId_;
       result.tracingInfo_ = internalGetTracingInfo();
       result.tracingInfo_.makeImmutable();
+      result.routingKey_ = routingKey_;
       onBuilt();
       return result;
     }
@@ -711,6 +771,10 @@ private static final long serialVersionUID = 0L;
       }
       internalGetMutableTracingInfo().mergeFrom(
           other.internalGetTracingInfo());
+      if (!other.getRoutingKey().isEmpty()) {
+        routingKey_ = other.routingKey_;
+        onChanged();
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -770,6 +834,11 @@ private static final long serialVersionUID = 0L;
                   tracingInfo__.getKey(), tracingInfo__.getValue());
               break;
             } // case 50
+            case 58: {
+              routingKey_ = input.readStringRequireUtf8();
+
+              break;
+            } // case 58
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -1252,6 +1321,102 @@ private static final long serialVersionUID = 0L;
           .putAll(values);
       return this;
     }
+
+    private java.lang.Object routingKey_ = "";
+    /**
+     * <pre>
+     * Messages with the same routing key are consumed in order
+     * </pre>
+     *
+     * <code>string routing_key = 7;</code>
+     * @return The routingKey.
+     */
+    public java.lang.String getRoutingKey() {
+      java.lang.Object ref = routingKey_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        routingKey_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Messages with the same routing key are consumed in order
+     * </pre>
+     *
+     * <code>string routing_key = 7;</code>
+     * @return The bytes for routingKey.
+     */
+    public com.google.protobuf.ByteString
+        getRoutingKeyBytes() {
+      java.lang.Object ref = routingKey_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        routingKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Messages with the same routing key are consumed in order
+     * </pre>
+     *
+     * <code>string routing_key = 7;</code>
+     * @param value The routingKey to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoutingKey(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      routingKey_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Messages with the same routing key are consumed in order
+     * </pre>
+     *
+     * <code>string routing_key = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRoutingKey() {
+      
+      routingKey_ = getDefaultInstance().getRoutingKey();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Messages with the same routing key are consumed in order
+     * </pre>
+     *
+     * <code>string routing_key = 7;</code>
+     * @param value The bytes for routingKey to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoutingKeyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      routingKey_ = value;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
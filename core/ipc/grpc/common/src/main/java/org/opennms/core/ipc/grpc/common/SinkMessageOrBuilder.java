@@ -115,4 +115,24 @@ public interface SinkMessageOrBuilder extends
 
   java.lang.String getTracingInfoOrThrow(
       java.lang.String key);
+
+  /**
+   * <pre>
+   * Messages with the same routing key are consumed in order
+   * </pre>
+   *
+   * <code>string routing_key = 7;</code>
+   * @return The routingKey.
+   */
+  java.lang.String getRoutingKey();
+  /**
+   * <pre>
+   * Messages with the same routing key are consumed in order
+   * </pre>
+   *
+   * <code>string routing_key = 7;</code>
+   * @return The bytes for routingKey.
+   */
+  com.google.protobuf.ByteString
+      getRoutingKeyBytes();
 }
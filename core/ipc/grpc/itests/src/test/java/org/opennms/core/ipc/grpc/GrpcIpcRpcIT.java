@@ -22,10 +22,14 @@
 package org.opennms.core.ipc.grpc;
 
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -47,6 +51,7 @@ import org.opennms.core.ipc.grpc.client.MinionGrpcClient;
 import org.opennms.core.ipc.grpc.common.RpcRequestProto;
 import org.opennms.core.ipc.grpc.server.GrpcServerConstants;
 import org.opennms.core.ipc.grpc.server.OpennmsGrpcServer;
+import org.opennms.core.rpc.api.RequestTimedOutException;
 import org.opennms.core.rpc.echo.EchoRequest;
 import org.opennms.core.rpc.echo.EchoResponse;
 import org.opennms.core.rpc.echo.EchoRpcModule;
@@ -156,6 +161,44 @@ public class GrpcIpcRpcIT {
 
     }
 
+    @Test(timeout = 30000)
+    public void testRpcTimesOutWhenTheMinionDoesNotRespondInTime() throws InterruptedException {
+        await().atMost(15, TimeUnit.SECONDS).pollInterval(2, TimeUnit.SECONDS)
+                .until(() -> {
+                            grpcClient.dispatch(new HeartbeatModule(), null, new Heartbeat());
+                            return server.getRpcHandlerByLocation().size();
+                        },
+                        not(0));
+        EchoRequest request = new EchoRequest("gRPC-RPC-Request");
+        request.setLocation(REMOTE_LOCATION_NAME);
+        request.setDelay(10000L);
+        request.setTimeToLiveMs(500L);
+        long start = System.currentTimeMillis();
+        try {
+            echoClient.execute(request).get();
+            fail("Did not get an ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(RequestTimedOutException.class));
+        }
+        assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+
+    @Test(timeout = 30000)
+    public void testRpcBeforeTheServerIsStarted() throws Exception {
+        OpennmsGrpcServer notStarted = new OpennmsGrpcServer(new GrpcIpcServerBuilder(configAdmin, 0, "PT0S"));
+        EchoRequest request = new EchoRequest("gRPC-RPC-Request");
+        request.setLocation(REMOTE_LOCATION_NAME);
+        try {
+            new MockEchoClient(notStarted).execute(request).get();
+            fail("Did not get an ExecutionException");
+        } catch (ExecutionException e) {
+            // No minion has connected to this server
+            assertThat(e.getCause().getMessage(), containsString(REMOTE_LOCATION_NAME));
+        } finally {
+            notStarted.shutdown();
+        }
+    }
+
     @Test(timeout = 45000)
     public void testMultipleGrpcClientsIteration() throws Exception {
         MinionIdentity minionIdentity = new MockMinionIdentity(REMOTE_LOCATION_NAME, "minion2");
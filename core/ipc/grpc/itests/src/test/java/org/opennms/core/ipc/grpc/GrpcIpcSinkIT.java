@@ -28,7 +28,12 @@ import static org.mockito.Mockito.when;
 import static org.opennms.core.ipc.grpc.GrpcIpcRpcIT.getAvailablePort;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -43,6 +48,8 @@ import org.opennms.core.ipc.grpc.client.GrpcClientConstants;
 import org.opennms.core.ipc.grpc.client.MinionGrpcClient;
 import org.opennms.core.ipc.grpc.server.GrpcServerConstants;
 import org.opennms.core.ipc.grpc.server.OpennmsGrpcServer;
+import org.opennms.core.ipc.sink.api.MessageConsumer;
+import org.opennms.core.ipc.sink.api.SinkModule;
 import org.opennms.distributed.core.api.MinionIdentity;
 import org.osgi.service.cm.ConfigurationAdmin;
 
@@ -101,6 +108,87 @@ public class GrpcIpcSinkIT {
                 }, Matchers.greaterThan(0L));
     }
 
+    @Test(timeout = 30000)
+    public void testSinkMessagesWithSameRoutingKeyAreDispatchedInOrder() throws Exception {
+        startServer();
+        Meter meter = new Meter();
+        server.registerConsumer(new HeartbeatConsumer(new HeartbeatModule(), meter));
+        // Sending a heartbeat initializes the sink stream
+        await().atMost(20, TimeUnit.SECONDS).pollInterval(1, TimeUnit.SECONDS)
+                .until(() -> {
+                    grpcClient.dispatch(new HeartbeatModule(), null, new Heartbeat());
+                    return meter.getCount();
+                }, Matchers.greaterThan(0L));
+
+        final OrderedHeartbeatModule orderedModule = new OrderedHeartbeatModule();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        server.registerConsumer(new MessageConsumer<Heartbeat, Heartbeat>() {
+            @Override
+            public SinkModule<Heartbeat, Heartbeat> getModule() {
+                return orderedModule;
+            }
+
+            @Override
+            public void handleMessage(Heartbeat heartbeat) {
+                try {
+                    // Gives the messages that follow a chance to overtake this one
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(heartbeat.getSequence());
+            }
+        });
+
+        // The consumers are started in the background, probe until they are
+        await().atMost(20, TimeUnit.SECONDS).pollInterval(100, TimeUnit.MILLISECONDS)
+                .until(() -> {
+                    grpcClient.dispatch(orderedModule, null, new Heartbeat(-1));
+                    return received.contains(-1);
+                });
+
+        final List<Integer> sent = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            grpcClient.dispatch(orderedModule, null, new Heartbeat(i));
+            sent.add(i);
+        }
+        await().atMost(20, TimeUnit.SECONDS).until(() -> sequences(received).size(), Matchers.equalTo(sent.size()));
+        Assert.assertEquals(sent, sequences(received));
+    }
+
+    private static List<Integer> sequences(List<Integer> received) {
+        synchronized (received) {
+            final List<Integer> sequences = new ArrayList<>();
+            for (Integer sequence : received) {
+                if (sequence >= 0) {
+                    sequences.add(sequence);
+                }
+            }
+            return sequences;
+        }
+    }
+
+    /**
+     * Consumed by several threads, but all of its messages share the same routing key.
+     */
+    private static class OrderedHeartbeatModule extends HeartbeatModule {
+
+        @Override
+        public String getId() {
+            return "OrderedHeartbeat";
+        }
+
+        @Override
+        public int getNumConsumerThreads() {
+            return 4;
+        }
+
+        @Override
+        public Optional<String> getRoutingKey(Heartbeat message) {
+            return Optional.of("agent");
+        }
+    }
+
     private void startServer() throws IOException {
         if (!serverStarted) {
             server.start();
@@ -23,6 +23,7 @@ package org.opennms.core.ipc.grpc;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.opennms.core.ipc.sink.api.Message;
@@ -30,4 +31,18 @@ import org.opennms.core.ipc.sink.api.Message;
 @XmlRootElement(name="heartbeat")
 @XmlAccessorType(XmlAccessType.NONE)
 public class Heartbeat implements Message {
+
+    @XmlAttribute(name="sequence")
+    private int sequence;
+
+    public Heartbeat() {
+    }
+
+    public Heartbeat(int sequence) {
+        this.sequence = sequence;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
 }
@@ -38,12 +38,7 @@ import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -57,6 +52,7 @@ import org.opennms.core.ipc.sink.api.Message;
 import org.opennms.core.ipc.sink.api.MessageConsumerManager;
 import org.opennms.core.ipc.sink.api.SinkModule;
 import org.opennms.core.ipc.sink.common.AbstractMessageConsumerManager;
+import org.opennms.core.ipc.sink.common.KeyPartitionedExecutor;
 import org.opennms.core.logging.Logging;
 import org.opennms.core.rpc.api.RemoteExecutionException;
 import org.opennms.core.rpc.api.RequestTimedOutException;
@@ -66,6 +62,8 @@ import org.opennms.core.rpc.api.RpcModule;
 import org.opennms.core.rpc.api.RpcRequest;
 import org.opennms.core.rpc.api.RpcResponse;
 import org.opennms.core.rpc.api.RpcResponseHandler;
+import org.opennms.core.rpc.common.HashedWheelTimer.Timeout;
+import org.opennms.core.rpc.common.RpcClientCore;
 import org.opennms.core.tracing.api.TracerConstants;
 import org.opennms.core.tracing.api.TracerRegistry;
 import org.opennms.core.tracing.util.TracingInfoCarrier;
@@ -120,32 +118,22 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
     private String location;
     private Identity identity;
     private Properties properties;
-    private long ttl;
+    private long ttl = DEFAULT_GRPC_TTL;
     private MetricRegistry rpcMetrics;
     private MetricRegistry sinkMetrics;
     private JmxReporter rpcMetricsReporter;
     private JmxReporter sinkMetricsReporter;
     private TracerRegistry tracerRegistry;
     private AtomicBoolean closed = new AtomicBoolean(false);
-    private final ThreadFactory responseHandlerThreadFactory = new ThreadFactoryBuilder()
-            .setNameFormat("rpc-response-handler-%d")
-            .build();
-    private final ThreadFactory timerThreadFactory = new ThreadFactoryBuilder()
-            .setNameFormat("rpc-timeout-tracker-%d")
-            .build();
     private final ThreadFactory sinkConsumerThreadFactory = new ThreadFactoryBuilder()
             .setNameFormat("sink-consumer-%d")
             .build();
 
-    // RPC timeout executor thread retrieves elements from delay queue used to timeout rpc requests.
-    private final ExecutorService rpcTimeoutExecutor = Executors.newSingleThreadExecutor(timerThreadFactory);
-    // Each RPC response is handled on a new thread which does unmarshalling and returning response to corresponding module.
-    private final ExecutorService responseHandlerExecutor = Executors.newCachedThreadPool(responseHandlerThreadFactory);
+    // Times out the RPC requests if no response was received within the delay specified, and handles the responses
+    // on a bounded number of threads which do unmarshalling and returning response to corresponding module.
+    private volatile RpcClientCore rpcClientCore;
     // This map used to maintain all the requests that are sent with unique Id and all the context related to the request.
     private final Map<String, RpcResponseHandler> rpcResponseMap = new ConcurrentHashMap<>();
-    // Delay queue maintains the priority queue of RPC requests and times out the requests if no response was received
-    // within the delay specified.
-    private DelayQueue<RpcResponseHandler> rpcTimeoutQueue = new DelayQueue<>();
     // Maintains map of minionId and rpc handler for that minion. Used for directed RPC requests.
     private Map<String, StreamObserver<RpcRequestProto>> rpcHandlerByMinionId = new HashMap<>();
     // Maintains multi element map of location and rpc handlers for that location.
@@ -156,7 +144,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
     // Maintains the map of sink modules by it's id.
     private final Map<String, SinkModule<?, Message>> sinkModulesById = new ConcurrentHashMap<>();
     // Maintains the map of sink consumer executor and by module Id.
-    private final Map<String, ExecutorService> sinkConsumersByModuleId = new ConcurrentHashMap<>();
+    private final Map<String, KeyPartitionedExecutor> sinkConsumersByModuleId = new ConcurrentHashMap<>();
 
     public OpennmsGrpcServer(GrpcIpcServer grpcIpcServer) {
         this.grpcIpcServer = grpcIpcServer;
@@ -171,7 +159,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
 
             properties = grpcIpcServer.getProperties();
             ttl = PropertiesUtils.getProperty(properties, GRPC_TTL_PROPERTY, DEFAULT_GRPC_TTL);
-            rpcTimeoutExecutor.execute(this::handleRpcTimeouts);
+            getRpcClientCore();
             rpcMetricsReporter = JmxReporter.forRegistry(getRpcMetrics())
                     .inDomain(JMX_DOMAIN_RPC)
                     .build();
@@ -191,7 +179,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
     protected void startConsumingForModule(SinkModule<?, Message> module) throws Exception {
         if (sinkConsumersByModuleId.get(module.getId()) == null) {
             int numOfThreads = getNumConsumerThreads(module);
-            ExecutorService executor = Executors.newFixedThreadPool(numOfThreads, sinkConsumerThreadFactory);
+            KeyPartitionedExecutor executor = new KeyPartitionedExecutor(numOfThreads, sinkConsumerThreadFactory);
             sinkConsumersByModuleId.put(module.getId(), executor);
             LOG.info("Adding {} consumers for module: {}", numOfThreads, module.getId());
         }
@@ -201,7 +189,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
     @Override
     protected void stopConsumingForModule(SinkModule<?, Message> module) throws Exception {
 
-        ExecutorService executor = sinkConsumersByModuleId.get(module.getId());
+        KeyPartitionedExecutor executor = sinkConsumersByModuleId.get(module.getId());
         if (executor != null) {
             executor.shutdownNow();
         }
@@ -229,9 +217,9 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                 timeToLive = (timeToLive != null && timeToLive > 0) ? timeToLive : ttl;
                 long expirationTime = System.currentTimeMillis() + timeToLive;
                 RpcResponseHandlerImpl responseHandler = new RpcResponseHandlerImpl<S, T>(future,
-                        module, rpcId, request.getLocation(), expirationTime, span, loggingContext);
+                        module, rpcId, request.getLocation(), span, loggingContext);
                 rpcResponseMap.put(rpcId, responseHandler);
-                rpcTimeoutQueue.offer(responseHandler);
+                responseHandler.setTimeout(getRpcClientCore().scheduleTimeout(responseHandler::onTimeout, expirationTime));
                 RpcRequestProto.Builder builder = RpcRequestProto.newBuilder()
                         .setRpcId(rpcId)
                         .setLocation(request.getLocation())
@@ -278,34 +266,15 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
     }
 
 
-    private void handleRpcTimeouts() {
-        while (!closed.get()) {
-            try {
-                RpcResponseHandler responseHandler = rpcTimeoutQueue.take();
-                if (!responseHandler.isProcessed()) {
-                    LOG.warn("RPC request from module: {} with RpcId:{} timedout ", responseHandler.getRpcModule().getId(),
-                            responseHandler.getRpcId());
-                    responseHandlerExecutor.execute(() -> responseHandler.sendResponse(null));
-                }
-            } catch (InterruptedException e) {
-                LOG.info("interrupted while waiting for an element from rpcTimeoutQueue", e);
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                LOG.warn("error while sending response from timeout handler", e);
-            }
-        }
-    }
-
-
     private void handleResponse(RpcResponseProto responseProto) {
 
         if (Strings.isNullOrEmpty(responseProto.getRpcId())) {
             return;
         }
         // Handle response from the Minion.
-        RpcResponseHandler responseHandler = rpcResponseMap.get(responseProto.getRpcId());
+        RpcResponseHandler responseHandler = rpcResponseMap.remove(responseProto.getRpcId());
         if (responseHandler != null && responseProto.getRpcContent() != null) {
+            responseHandler.cancelTimeout();
             responseHandler.sendResponse(responseProto.getRpcContent().toStringUtf8());
         } else {
             LOG.debug("Received a response for request for module: {} with RpcId:{}, but no outstanding request was found with this id." +
@@ -415,6 +384,18 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
         return rpcMetrics;
     }
 
+    // Requests may be sent before the server is started.
+    private RpcClientCore getRpcClientCore() {
+        if (rpcClientCore == null) {
+            synchronized (this) {
+                if (rpcClientCore == null) {
+                    rpcClientCore = new RpcClientCore("rpc", getRpcMetrics());
+                }
+            }
+        }
+        return rpcClientCore;
+    }
+
     public void setRpcMetrics(MetricRegistry metricRegistry) {
         this.rpcMetrics = metricRegistry;
     }
@@ -448,7 +429,6 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
 
     public void shutdown() {
         closed.set(true);
-        rpcTimeoutQueue.clear();
         rpcHandlerByLocation.clear();
         rpcHandlerByMinionId.clear();
         rpcHandlerIteratorMap.clear();
@@ -461,8 +441,9 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
             sinkMetricsReporter.close();
         }
         grpcIpcServer.stopServer();
-        rpcTimeoutExecutor.shutdownNow();
-        responseHandlerExecutor.shutdownNow();
+        if (rpcClientCore != null) {
+            rpcClientCore.close();
+        }
         LOG.info("OpenNMS gRPC server stopped");
     }
 
@@ -485,7 +466,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                     if (isHeaders(rpcResponseProto)) {
                         addRpcHandler(rpcResponseProto.getLocation(), rpcResponseProto.getSystemId(), responseObserver);
                     } else {
-                        responseHandlerExecutor.execute(() -> handleResponse(rpcResponseProto));
+                        getRpcClientCore().execute(() -> handleResponse(rpcResponseProto));
                     }
                 }
 
@@ -513,9 +494,10 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                 public void onNext(SinkMessage sinkMessage) {
 
                     if (!Strings.isNullOrEmpty(sinkMessage.getModuleId())) {
-                        ExecutorService sinkModuleExecutor = sinkConsumersByModuleId.get(sinkMessage.getModuleId());
+                        KeyPartitionedExecutor sinkModuleExecutor = sinkConsumersByModuleId.get(sinkMessage.getModuleId());
                         if(sinkModuleExecutor != null) {
-                            sinkModuleExecutor.execute(() -> dispatchSinkMessage(sinkMessage));
+                            // Messages with the same routing key are dispatched in order
+                            sinkModuleExecutor.execute(sinkMessage.getRoutingKey(), () -> dispatchSinkMessage(sinkMessage));
                         }
                     }
                 }
@@ -537,7 +519,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
     private void dispatchSinkMessage(SinkMessage sinkMessage) {
         SinkModule<?, Message> sinkModule = sinkModulesById.get(sinkMessage.getModuleId());
         if (sinkModule != null && sinkMessage.getContent() != null) {
-            Message message = sinkModule.unmarshal(sinkMessage.getContent().toByteArray());
+            Message message = unmarshal(sinkModule, sinkMessage.getContent().toByteArray());
 
             MessageConsumerManager.updateMessageSize(getSinkMetrics(), sinkMessage.getLocation(),
                     sinkMessage.getModuleId(), sinkMessage.getSerializedSize());
@@ -577,19 +559,18 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
         private final RpcModule<S, T> rpcModule;
         private final String rpcId;
         private final String location;
-        private final long expirationTime;
         private final Map<String, String> loggingContext;
         private boolean isProcessed = false;
         private final Long requestCreationTime;
         private Span span;
+        private volatile Timeout timeout;
 
         private RpcResponseHandlerImpl(CompletableFuture<T> responseFuture, RpcModule<S, T> rpcModule, String rpcId,
-                                       String location, long timeout, Span span, Map<String, String> loggingContext) {
+                                       String location, Span span, Map<String, String> loggingContext) {
             this.responseFuture = responseFuture;
             this.rpcModule = rpcModule;
             this.rpcId = rpcId;
             this.location = location;
-            this.expirationTime = timeout;
             this.loggingContext = loggingContext;
             this.span = span;
             this.requestCreationTime = System.currentTimeMillis();
@@ -615,7 +596,9 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                     RpcClientFactory.markFailed(getRpcMetrics(), this.location, rpcModule.getId());
                     responseFuture.completeExceptionally(new RequestTimedOutException(new TimeoutException()));
                 }
-                RpcClientFactory.updateDuration(getRpcMetrics(), this.location, rpcModule.getId(), System.currentTimeMillis() - requestCreationTime);
+                final long duration = System.currentTimeMillis() - requestCreationTime;
+                RpcClientFactory.updateDuration(getRpcMetrics(), this.location, rpcModule.getId(), duration);
+                RpcClientFactory.updateRoundTripTime(getRpcMetrics(), rpcModule.getId(), duration);
                 rpcResponseMap.remove(rpcId);
                 span.finish();
             } catch (Throwable e) {
@@ -637,17 +620,27 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
         }
 
 
-        @Override
-        public int compareTo(Delayed other) {
-            long myDelay = getDelay(TimeUnit.MILLISECONDS);
-            long otherDelay = other.getDelay(TimeUnit.MILLISECONDS);
-            return Long.compare(myDelay, otherDelay);
+        private void setTimeout(Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        /**
+         * Called by the timer once the request expires.
+         */
+        private void onTimeout() {
+            // The response may have been received in the meantime
+            if (rpcResponseMap.remove(rpcId, this)) {
+                LOG.warn("RPC request from module: {} with RpcId:{} timedout ", rpcModule.getId(), rpcId);
+                sendResponse(null);
+            }
         }
 
         @Override
-        public long getDelay(TimeUnit unit) {
-            long now = System.currentTimeMillis();
-            return unit.convert(expirationTime - now, TimeUnit.MILLISECONDS);
+        public void cancelTimeout() {
+            final Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
         }
 
         public RpcModule<S, T> getRpcModule() {
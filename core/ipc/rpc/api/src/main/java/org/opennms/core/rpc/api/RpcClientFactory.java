@@ -41,6 +41,7 @@ public interface RpcClientFactory {
     String RPC_DURATION = "duration";
     String RPC_REQUEST_SIZE = "requestSize";
     String RPC_RESPONSE_SIZE = "responseSize";
+    String RPC_ROUND_TRIP_TIME = "roundTripTime";
 
     <R extends RpcRequest, S extends RpcResponse> RpcClient<R, S> getClient(RpcModule<R, S> module);
 
@@ -50,6 +51,14 @@ public interface RpcClientFactory {
         histogram.update(duration);
     }
 
+    /**
+     * Updates the round-trip time of the module, over all of the locations.
+     */
+    static void updateRoundTripTime(MetricRegistry metricRegistry, String moduleId, long duration) {
+        Histogram histogram = metricRegistry.histogram(MetricRegistry.name(moduleId, RPC_ROUND_TRIP_TIME));
+        histogram.update(duration);
+    }
+
     static void markRpcCount(MetricRegistry metricRegistry, String location, String moduleId) {
         Meter rpcCount = metricRegistry.meter(MetricRegistry.name(location, moduleId, RPC_REQUEST_SENT));
         rpcCount.mark();
@@ -21,9 +21,7 @@
  */
 package org.opennms.core.rpc.api;
 
-import java.util.concurrent.Delayed;
-
-public interface RpcResponseHandler extends Delayed {
+public interface RpcResponseHandler {
 
     void sendResponse(String response);
 
@@ -32,4 +30,6 @@ public interface RpcResponseHandler extends Delayed {
     String getRpcId();
 
     RpcModule getRpcModule();
+
+    void cancelTimeout();
 }
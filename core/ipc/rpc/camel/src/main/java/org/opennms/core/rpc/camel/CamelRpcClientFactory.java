@@ -163,7 +163,7 @@ public class CamelRpcClientFactory implements RpcClientFactory {
                                     span.log(ex.getMessage());
                                 }
                                 span.finish();
-                                rpcDuration.update(System.currentTimeMillis() - requestCreationTime);
+                                updateDuration(rpcDuration, System.currentTimeMillis() - requestCreationTime);
                                 // Ensure that future log statements on this thread are routed properly
                                 Logging.putPrefix(RpcClientFactory.LOG_PREFIX);
                             }
@@ -188,7 +188,7 @@ public class CamelRpcClientFactory implements RpcClientFactory {
                                 span.log(exchange.getException().getMessage());
                                 span.finish();
                                 failedMeter.mark();
-                                rpcDuration.update(System.currentTimeMillis() - requestCreationTime);
+                                updateDuration(rpcDuration, System.currentTimeMillis() - requestCreationTime);
                                 // Ensure that future log statements on this thread are routed properly
                                 Logging.putPrefix(RpcClientFactory.LOG_PREFIX);
                             }
@@ -201,7 +201,7 @@ public class CamelRpcClientFactory implements RpcClientFactory {
                         future.completeExceptionally(new RequestRejectedException(e));
                         span.setTag(TAG_RPC_FAILED, "true");
                         span.log(e.getMessage());
-                        rpcDuration.update(System.currentTimeMillis() - requestCreationTime);
+                        updateDuration(rpcDuration, System.currentTimeMillis() - requestCreationTime);
                         span.finish();
                     }
                     // Ensure that future log statements on this thread are routed properly
@@ -212,6 +212,11 @@ public class CamelRpcClientFactory implements RpcClientFactory {
                 return future;
             }
 
+            private void updateDuration(Histogram rpcDuration, long duration) {
+                rpcDuration.update(duration);
+                RpcClientFactory.updateRoundTripTime(getMetrics(), module.getId(), duration);
+            }
+
             private Span buildAndStartSpan(S request) {
                 // Build span with module id and start it.
                 Span span = null;
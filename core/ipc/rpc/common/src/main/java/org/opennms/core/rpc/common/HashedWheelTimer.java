@@ -0,0 +1,344 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.common;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer optimized for large numbers of timeouts that are, for the most part,
+ * cancelled before they expire, such as the ones of in-flight RPC requests.
+ *
+ * Timeouts are hashed into the buckets of a wheel, which a single worker thread
+ * advances by one bucket every tick, expiring the timeouts of the bucket it reaches.
+ * Scheduling and cancelling a timeout is a lock-free, constant time operation:
+ * new and cancelled timeouts are queued and only moved in and out of the buckets
+ * by the worker thread. Timeouts expire within one tick of their deadline.
+ *
+ * The tasks are run by the worker thread and must hence return quickly.
+ */
+public class HashedWheelTimer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    /**
+     * Bounds the number of timeouts moved into the wheel on every tick, so that
+     * a burst of new timeouts does not delay the expiration of the other ones.
+     */
+    private static final int MAX_TIMEOUTS_ADDED_PER_TICK = 100000;
+
+    /**
+     * A task scheduled with {@link HashedWheelTimer#newTimeout}.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels the timeout, unless it has already expired.
+         *
+         * @return <code>true</code> if the task will not be run
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    private final long tickDurationNanos;
+
+    private final Bucket[] wheel;
+
+    private final int mask;
+
+    private final Queue<TimeoutImpl> newTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final Queue<TimeoutImpl> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final long startTime;
+
+    private final Thread workerThread;
+
+    // Only accessed by the worker thread
+    private long tick;
+
+    /**
+     * @param threadFactory used to create the worker thread
+     * @param tickDuration the duration between two ticks, i.e. the precision of the timeouts
+     * @param unit the unit of the tick duration
+     * @param ticksPerWheel the number of buckets in the wheel, rounded up to a power of two
+     */
+    public HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Objects.requireNonNull(threadFactory);
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+        tickDurationNanos = unit.toNanos(tickDuration);
+
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = size - 1;
+
+        startTime = System.nanoTime();
+        workerThread = threadFactory.newThread(this::run);
+        workerThread.start();
+    }
+
+    /**
+     * Schedules the task to be run once the given delay has elapsed.
+     *
+     * @throws IllegalStateException if the timer was closed
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task);
+        if (closed.get()) {
+            throw new IllegalStateException("The timer was closed.");
+        }
+        final long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        final TimeoutImpl timeout = new TimeoutImpl(task, deadline);
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the number of timeouts that have neither expired nor been cancelled
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Stops the worker thread, the pending timeouts will never expire.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            workerThread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!closed.get()) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            final Bucket bucket = wheel[(int) (tick & mask)];
+            removeCancelledTimeouts();
+            addNewTimeouts();
+            bucket.expireTimeouts();
+            tick++;
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the timer was closed while waiting
+     */
+    private boolean waitForNextTick() {
+        final long deadline = tickDurationNanos * (tick + 1);
+        while (true) {
+            final long currentTime = System.nanoTime() - startTime;
+            final long sleepTimeMs = (deadline - currentTime + 999999) / 1000000;
+            if (sleepTimeMs <= 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(sleepTimeMs);
+            } catch (InterruptedException e) {
+                if (closed.get()) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void addNewTimeouts() {
+        for (int i = 0; i < MAX_TIMEOUTS_ADDED_PER_TICK; i++) {
+            final TimeoutImpl timeout = newTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.isCancelled()) {
+                // Cancelled before it was added to the wheel
+                continue;
+            }
+            final long calculated = timeout.deadline / tickDurationNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // Timeouts that are already due are expired with the current tick
+            final long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        while (true) {
+            final TimeoutImpl timeout = cancelledTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private final class TimeoutImpl implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+
+        private final long deadline;
+
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // The following are only accessed by the worker thread
+        private long remainingRounds;
+
+        private Bucket bucket;
+
+        private TimeoutImpl next;
+
+        private TimeoutImpl prev;
+
+        private TimeoutImpl(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            pendingTimeouts.decrementAndGet();
+            // Let the worker thread remove it from its bucket, so that it can be garbage collected
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOG.warn("An exception was thrown by the task of an expired timeout.", t);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private TimeoutImpl head;
+
+        private TimeoutImpl tail;
+
+        private void add(TimeoutImpl timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts() {
+            TimeoutImpl timeout = head;
+            while (timeout != null) {
+                final TimeoutImpl next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    // Buckets are only reached once the deadlines of their last round have passed
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(TimeoutImpl timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            final TimeoutImpl next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
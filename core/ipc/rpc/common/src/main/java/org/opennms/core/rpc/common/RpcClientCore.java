@@ -0,0 +1,185 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.common;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.core.rpc.common.HashedWheelTimer.Timeout;
+import org.opennms.core.sysprops.SystemProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * The parts shared by the RPC client factories to track the requests in flight.
+ *
+ * Responses are handled by a fixed number of threads fed by a bounded queue. Once the
+ * queue is full, the handlers are run by the submitting thread, i.e. the thread consuming
+ * the responses from the broker, which slows the consumption down instead of creating
+ * more threads.
+ *
+ * Timeouts are tracked by a {@link HashedWheelTimer} and handled by a few threads of their
+ * own, so that the thread of the wheel never runs a handler, even when the response handlers
+ * are busy, and keeps expiring the other requests on time. Their queue is not bounded, but
+ * never holds more than the requests in flight.
+ */
+public class RpcClientCore implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RpcClientCore.class);
+
+    public static final String SYS_PROP_PREFIX = "org.opennms.core.ipc.rpc.client.";
+
+    /**
+     * System property used to set the number of threads handling the responses.
+     */
+    public static final String RESPONSE_HANDLER_THREADS_SYS_PROP = SYS_PROP_PREFIX + "responseHandlerThreads";
+
+    public static final int DEFAULT_RESPONSE_HANDLER_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * System property used to set the number of responses queued for the handlers.
+     */
+    public static final String RESPONSE_HANDLER_QUEUE_SIZE_SYS_PROP = SYS_PROP_PREFIX + "responseHandlerQueueSize";
+
+    public static final int DEFAULT_RESPONSE_HANDLER_QUEUE_SIZE = 10000;
+
+    /**
+     * System property used to set the number of threads handling the timeouts.
+     */
+    public static final String TIMEOUT_HANDLER_THREADS_SYS_PROP = SYS_PROP_PREFIX + "timeoutHandlerThreads";
+
+    public static final int DEFAULT_TIMEOUT_HANDLER_THREADS = 2;
+
+    /**
+     * System property used to set the precision of the timeouts, in milliseconds.
+     */
+    public static final String TIMER_TICK_MS_SYS_PROP = SYS_PROP_PREFIX + "timerTickMs";
+
+    public static final long DEFAULT_TIMER_TICK_MS = 10;
+
+    // With 10ms ticks, a round of the wheel takes about 10 seconds
+    private static final int TICKS_PER_WHEEL = 1024;
+
+    public static final String METRIC_QUEUED_RESPONSES = "rpcClient.queuedResponses";
+
+    public static final String METRIC_PENDING_TIMEOUTS = "rpcClient.pendingTimeouts";
+
+    private final HashedWheelTimer timer;
+
+    private final ThreadPoolExecutor responseHandlerExecutor;
+
+    private final ThreadPoolExecutor timeoutHandlerExecutor;
+
+    private final MetricRegistry metrics;
+
+    /**
+     * @param name used to name the threads
+     * @param metrics registry in which the depth of the queue and the number of pending timeouts are published
+     */
+    public RpcClientCore(String name, MetricRegistry metrics) {
+        this(name, metrics,
+                SystemProperties.getInteger(RESPONSE_HANDLER_THREADS_SYS_PROP, DEFAULT_RESPONSE_HANDLER_THREADS),
+                SystemProperties.getInteger(RESPONSE_HANDLER_QUEUE_SIZE_SYS_PROP, DEFAULT_RESPONSE_HANDLER_QUEUE_SIZE),
+                SystemProperties.getInteger(TIMEOUT_HANDLER_THREADS_SYS_PROP, DEFAULT_TIMEOUT_HANDLER_THREADS),
+                SystemProperties.getLong(TIMER_TICK_MS_SYS_PROP, DEFAULT_TIMER_TICK_MS));
+    }
+
+    public RpcClientCore(String name, MetricRegistry metrics, int numResponseHandlerThreads, int responseHandlerQueueSize,
+                         int numTimeoutHandlerThreads, long timerTickMs) {
+        this.metrics = metrics;
+        timer = new HashedWheelTimer(new ThreadFactoryBuilder()
+                    .setNameFormat(name + "-timeout-tracker-%d")
+                    .setDaemon(true)
+                    .build(),
+                Math.max(1, timerTickMs), TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+
+        final int numThreads = Math.max(1, numResponseHandlerThreads);
+        responseHandlerExecutor = new ThreadPoolExecutor(numThreads, numThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, responseHandlerQueueSize)),
+                new ThreadFactoryBuilder()
+                    .setNameFormat(name + "-response-handler-%d")
+                    .build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        final int numTimeoutThreads = Math.max(1, numTimeoutHandlerThreads);
+        timeoutHandlerExecutor = new ThreadPoolExecutor(numTimeoutThreads, numTimeoutThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                    .setNameFormat(name + "-timeout-handler-%d")
+                    .setDaemon(true)
+                    .build());
+
+        if (metrics != null) {
+            metrics.remove(METRIC_QUEUED_RESPONSES);
+            metrics.register(METRIC_QUEUED_RESPONSES, (Gauge<Integer>) () -> responseHandlerExecutor.getQueue().size());
+            metrics.remove(METRIC_PENDING_TIMEOUTS);
+            metrics.register(METRIC_PENDING_TIMEOUTS, (Gauge<Long>) timer::getPendingTimeouts);
+        }
+    }
+
+    /**
+     * Schedules the handler to be run once the expiration time has been reached, unless
+     * the returned timeout is cancelled first.
+     *
+     * @param onTimeout handler run by the timeout handlers, never by the thread of the wheel
+     * @param expirationTime the expiration time, in milliseconds since the epoch
+     */
+    public Timeout scheduleTimeout(Runnable onTimeout, long expirationTime) {
+        return timer.newTimeout(() -> {
+            try {
+                timeoutHandlerExecutor.execute(onTimeout);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Timeout handler rejected, the client is closed.", e);
+            }
+        }, expirationTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the given response handler, in the calling thread if all of the handlers are busy
+     * and the queue is full.
+     */
+    public void execute(Runnable responseHandler) {
+        responseHandlerExecutor.execute(responseHandler);
+    }
+
+    public ThreadPoolExecutor getResponseHandlerExecutor() {
+        return responseHandlerExecutor;
+    }
+
+    @Override
+    public void close() {
+        timer.close();
+        responseHandlerExecutor.shutdown();
+        timeoutHandlerExecutor.shutdown();
+        if (metrics != null) {
+            metrics.remove(METRIC_QUEUED_RESPONSES);
+            metrics.remove(METRIC_PENDING_TIMEOUTS);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.rpc.common.HashedWheelTimer.Timeout;
+
+public class HashedWheelTimerTest {
+
+    // A small wheel, so that the timeouts span several rounds
+    private final HashedWheelTimer timer = new HashedWheelTimer(Executors.defaultThreadFactory(), 10, TimeUnit.MILLISECONDS, 8);
+
+    @After
+    public void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    public void canExpireTimeouts() throws InterruptedException {
+        final CountDownLatch expired = new CountDownLatch(3);
+        final long start = System.nanoTime();
+        timer.newTimeout(expired::countDown, 0, TimeUnit.MILLISECONDS);
+        timer.newTimeout(expired::countDown, 50, TimeUnit.MILLISECONDS);
+        final Timeout last = timer.newTimeout(expired::countDown, 200, TimeUnit.MILLISECONDS);
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+        assertTrue(last.isExpired());
+        assertFalse(last.cancel());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void canCancelTimeouts() throws InterruptedException {
+        final AtomicInteger cancelledRuns = new AtomicInteger();
+        final CountDownLatch expired = new CountDownLatch(1);
+        for (int i = 0; i < 1000; i++) {
+            final Timeout timeout = timer.newTimeout(cancelledRuns::incrementAndGet, i % 100, TimeUnit.MILLISECONDS);
+            assertTrue(timeout.cancel());
+            assertTrue(timeout.isCancelled());
+        }
+        timer.newTimeout(expired::countDown, 150, TimeUnit.MILLISECONDS);
+        assertEquals(1, timer.getPendingTimeouts());
+
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertEquals(0, cancelledRuns.get());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.rpc.common.HashedWheelTimer.Timeout;
+
+import com.codahale.metrics.MetricRegistry;
+
+public class RpcClientCoreTest {
+
+    private final MetricRegistry metrics = new MetricRegistry();
+
+    // A single response handler with a single slot in its queue
+    private final RpcClientCore core = new RpcClientCore("test", metrics, 1, 1, 1, 10);
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        unblock.countDown();
+        core.close();
+    }
+
+    @Test
+    public void canRunTimeoutsWhileTheResponseHandlersAreBusy() throws InterruptedException {
+        blockResponseHandlers();
+
+        final AtomicReference<String> timeoutThread = new AtomicReference<>();
+        final CountDownLatch expired = new CountDownLatch(1);
+        core.scheduleTimeout(() -> {
+            timeoutThread.set(Thread.currentThread().getName());
+            expired.countDown();
+        }, System.currentTimeMillis() + 50);
+
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertTrue(timeoutThread.get(), timeoutThread.get().startsWith("test-timeout-handler-"));
+        assertEquals(0L, metrics.getGauges().get(RpcClientCore.METRIC_PENDING_TIMEOUTS).getValue());
+    }
+
+    @Test
+    public void canRunResponseHandlersInTheCallingThreadOnceTheQueueIsFull() throws InterruptedException {
+        blockResponseHandlers();
+        assertEquals(1, metrics.getGauges().get(RpcClientCore.METRIC_QUEUED_RESPONSES).getValue());
+
+        final AtomicReference<Thread> responseThread = new AtomicReference<>();
+        core.execute(() -> responseThread.set(Thread.currentThread()));
+        assertEquals(Thread.currentThread(), responseThread.get());
+    }
+
+    @Test
+    public void canCancelTimeouts() throws InterruptedException {
+        final AtomicInteger cancelledRuns = new AtomicInteger();
+        final Timeout timeout = core.scheduleTimeout(cancelledRuns::incrementAndGet, System.currentTimeMillis() + 50);
+        assertTrue(timeout.cancel());
+
+        final CountDownLatch expired = new CountDownLatch(1);
+        core.scheduleTimeout(expired::countDown, System.currentTimeMillis() + 100);
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertEquals(0, cancelledRuns.get());
+    }
+
+    @Test
+    public void canCloseWithPendingTimeouts() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        core.scheduleTimeout(runs::incrementAndGet, System.currentTimeMillis() + 50);
+        core.close();
+        assertFalse(metrics.getGauges().containsKey(RpcClientCore.METRIC_PENDING_TIMEOUTS));
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+    }
+
+    // Keeps the only response handler busy and fills its queue
+    private void blockResponseHandlers() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        core.execute(() -> {
+            started.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        core.execute(() -> {});
+    }
+}
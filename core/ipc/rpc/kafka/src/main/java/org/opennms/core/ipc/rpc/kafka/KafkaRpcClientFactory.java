@@ -41,8 +41,6 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -78,6 +76,8 @@ import org.opennms.core.rpc.api.RpcClientFactory;
 import org.opennms.core.rpc.api.RpcModule;
 import org.opennms.core.rpc.api.RpcRequest;
 import org.opennms.core.rpc.api.RpcResponse;
+import org.opennms.core.rpc.common.HashedWheelTimer.Timeout;
+import org.opennms.core.rpc.common.RpcClientCore;
 import org.opennms.core.tracing.api.TracerRegistry;
 import org.opennms.core.tracing.util.TracingInfoCarrier;
 import org.opennms.core.utils.PropertiesUtils;
@@ -113,8 +113,8 @@ import io.opentracing.propagation.Format;
  * Consumer thread (one for each module) will receive the response and send it to a response handler which will return
  * the response.
  * <p>
- * Timeout tracker thread will fetch the response handler from it's delay queue and send a timeout response if it is not
- * finished already.
+ * Timeouts are tracked by the {@link RpcClientCore}, which sends a timeout response if the request is not finished
+ * already, and runs the response handlers on a bounded number of threads.
  */
 public class KafkaRpcClientFactory implements RpcClientFactory {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaRpcClientFactory.class);
@@ -128,18 +128,10 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
     private final ThreadFactory consumerThreadFactory = new ThreadFactoryBuilder()
             .setNameFormat("rpc-client-kafka-consumer-%d")
             .build();
-    private final ThreadFactory responseHandlerThreadFactory = new ThreadFactoryBuilder()
-            .setNameFormat("rpc-client-response-handler-%d")
-            .build();
-    private final ThreadFactory timerThreadFactory = new ThreadFactoryBuilder()
-            .setNameFormat("rpc-client-timeout-tracker-%d")
-            .build();
     private final ExecutorService kafkaConsumerExecutor = Executors.newSingleThreadExecutor(consumerThreadFactory);
-    private final ExecutorService timerExecutor = Executors.newSingleThreadExecutor(timerThreadFactory);
-    private final ExecutorService responseHandlerExecutor = Executors.newCachedThreadPool(responseHandlerThreadFactory);
     private final Map<String, ResponseCallback> rpcResponseMap = new ConcurrentHashMap<>();
     private KafkaConsumerRunner kafkaConsumerRunner;
-    private DelayQueue<ResponseCallback> delayQueue = new DelayQueue<>();
+    private RpcClientCore rpcClientCore;
     // Used to cache responses when large message are involved.
     private Map<String, ByteString> messageCache = new ConcurrentHashMap<>();
     private Map<String, Integer> currentChunkCache = new ConcurrentHashMap<>();
@@ -179,9 +171,9 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                 final CompletableFuture<T> future = new CompletableFuture<>();
                 final Map<String, String> loggingContext = Logging.getCopyOfContextMap();
                 ResponseHandler<S, T> responseHandler = new ResponseHandler<S, T>(future, module, rpcId,
-                        expirationTime, loggingContext, request.getLocation(), span);
-                delayQueue.offer(responseHandler);
+                        loggingContext, request.getLocation(), span);
                 rpcResponseMap.put(rpcId, responseHandler);
+                responseHandler.setTimeout(rpcClientCore.scheduleTimeout(responseHandler::onTimeout, expirationTime));
                 kafkaConsumerRunner.startConsumingForModule(module.getId());
                 byte[] messageInBytes = marshalRequest.getBytes();
                 int totalChunks = IntMath.divide(messageInBytes.length, maxBufferSize, RoundingMode.UP);
@@ -326,6 +318,8 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
             String singleTopicConfig = kafkaConfig.getProperty(SINGLE_TOPIC_FOR_ALL_MODULES);
             boolean singleTopicDisabled = singleTopicConfig != null && singleTopicConfig.equalsIgnoreCase("false");
             topicProvider = new KafkaTopicProvider(!singleTopicDisabled);
+            // Tracks the timeouts and handles the responses.
+            rpcClientCore = new RpcClientCore("rpc-client", getMetrics());
             producer = new KafkaProducer<>(kafkaConfig);
             LOG.info("initializing the Kafka producer with: {}", kafkaConfig);
             // Start consumer which handles all the responses.
@@ -338,23 +332,6 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
             // Initialize tracer from tracer registry.
             tracerRegistry.init(SystemInfoUtils.getInstanceId());
             tracer = tracerRegistry.getTracer();
-            // Start a new thread which handles timeouts from delayQueue and calls response callback.
-            timerExecutor.execute(() -> {
-                while (true) {
-                    try {
-                        ResponseCallback responseCb = delayQueue.take();
-                        if (!responseCb.isProcessed()) {
-                            LOG.warn("RPC request with id {} timedout ", responseCb.getRpcId());
-                            responseHandlerExecutor.execute(() -> responseCb.sendResponse(null));
-                        }
-                    } catch (InterruptedException e) {
-                        LOG.info("interrupted while waiting for an element from delayQueue", e);
-                        break;
-                    } catch (Exception e) {
-                        LOG.warn("error while sending response from timeout handler", e);
-                    }
-                }
-            });
             LOG.info("started timeout tracker");
         }
     }
@@ -372,22 +349,21 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
 
         private final CompletableFuture<T> responseFuture;
         private final RpcModule<S, T> rpcModule;
-        private final long expirationTime;
         private final String rpcId;
         private Map<String, String> loggingContext;
         private boolean isProcessed = false;
         private final String location;
         private Span span;
+        private volatile Timeout timeout;
         private final Long requestCreationTime;
         private final Histogram rpcDuration;
         private final Meter failedMeter;
         private final Histogram responseSize;
 
         private ResponseHandler(CompletableFuture<T> responseFuture, RpcModule<S, T> rpcModule, String rpcId,
-                                long timeout, Map<String, String> loggingContext, String location, Span span) {
+                                Map<String, String> loggingContext, String location, Span span) {
             this.responseFuture = responseFuture;
             this.rpcModule = rpcModule;
-            this.expirationTime = timeout;
             this.rpcId = rpcId;
             this.loggingContext = loggingContext;
             this.span = span;
@@ -422,24 +398,36 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                     messageCache.remove(rpcId);
                     currentChunkCache.remove(rpcId);
                 }
-                rpcDuration.update(System.currentTimeMillis() - requestCreationTime);
+                final long duration = System.currentTimeMillis() - requestCreationTime;
+                rpcDuration.update(duration);
+                RpcClientFactory.updateRoundTripTime(getMetrics(), rpcModule.getId(), duration);
                 span.finish();
             } catch (Throwable e) {
                 LOG.warn("Error while handling response for RPC module: {}. Response string: {}", rpcModule.getId(), message, e);
             }
         }
 
-        @Override
-        public int compareTo(Delayed other) {
-            long myDelay = getDelay(TimeUnit.MILLISECONDS);
-            long otherDelay = other.getDelay(TimeUnit.MILLISECONDS);
-            return Long.compare(myDelay, otherDelay);
+        private void setTimeout(Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        /**
+         * Called by the timer once the request expires.
+         */
+        private void onTimeout() {
+            // The response may have been received in the meantime
+            if (rpcResponseMap.remove(rpcId, this)) {
+                LOG.warn("RPC request with id {} timedout ", rpcId);
+                sendResponse(null);
+            }
         }
 
         @Override
-        public long getDelay(TimeUnit unit) {
-            long now = System.currentTimeMillis();
-            return unit.convert(expirationTime - now, TimeUnit.MILLISECONDS);
+        public void cancelTimeout() {
+            final Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
         }
 
         @Override
@@ -505,12 +493,16 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                                 LOG.trace("Received RPC response for id {}", rpcMessage.getRpcId());
                             }
                             final String rpcMessageContent = rpcContent.toStringUtf8();
-                            responseHandlerExecutor.execute(() ->
-                                    responseCb.sendResponse(rpcMessageContent));
                             // Remove rpcId from the maps so that duplicate response will not be handled.
-                            rpcResponseMap.remove(rpcId);
                             messageCache.remove(rpcId);
                             currentChunkCache.remove(rpcId);
+                            if (!rpcResponseMap.remove(rpcId, responseCb)) {
+                                // The request timed out in the meantime
+                                continue;
+                            }
+                            responseCb.cancelTimeout();
+                            // Runs in this thread when all of the handlers are busy, which slows down consumption
+                            rpcClientCore.execute(() -> responseCb.sendResponse(rpcMessageContent));
                         } else {
                             LOG.debug("Received a response for request with ID:{}, but no outstanding request was found with this id." +
                                     "The request may have timed out or the response may be a duplicate.", record.key());
@@ -602,8 +594,9 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
         }
         kafkaConsumerRunner.stop();
         kafkaConsumerExecutor.shutdown();
-        timerExecutor.shutdown();
-        responseHandlerExecutor.shutdown();
+        if (rpcClientCore != null) {
+            rpcClientCore.close();
+        }
     }
 
 
@@ -21,9 +21,7 @@
  */
 package org.opennms.core.ipc.rpc.kafka;
 
-import java.util.concurrent.Delayed;
-
-public interface ResponseCallback extends Delayed {
+public interface ResponseCallback {
 
     public void sendResponse(String response);
 
@@ -31,4 +29,6 @@ public interface ResponseCallback extends Delayed {
 
     public String getRpcId();
 
+    public void cancelTimeout();
+
 }
@@ -47,6 +47,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -186,6 +187,28 @@ public class RpcKafkaIT {
         }
     }
 
+    @Test(timeout = 30000)
+    public void testKafkaRpcTimesOutWhenTheMinionDoesNotRespondInTime() throws InterruptedException {
+        EchoRequest request = new EchoRequest("Kafka-RPC");
+        request.setLocation(REMOTE_LOCATION_NAME);
+        request.setDelay(10000L);
+        request.setTimeToLiveMs(1000L);
+        final AtomicReference<String> timeoutThread = new AtomicReference<>();
+        final long start = System.currentTimeMillis();
+        try {
+            getEchoClient().execute(request)
+                    .whenComplete((response, ex) -> timeoutThread.set(Thread.currentThread().getName()))
+                    .get();
+            fail("Did not get ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue("Cause is of type TimedOutException: " + ExceptionUtils.getStackTrace(e),
+                    e.getCause() instanceof RequestTimedOutException);
+        }
+        assertThat(System.currentTimeMillis() - start, lessThan(10000L));
+        // Timeouts are never handled by the thread of the timer
+        assertTrue(timeoutThread.get(), timeoutThread.get().startsWith("rpc-client-timeout-handler-"));
+    }
+
     @Test(timeout = 30000)
     public void testExceptionWhileExecutingLocally() throws InterruptedException {
         EchoRequest request = new EchoRequest("Kafka-RPC");
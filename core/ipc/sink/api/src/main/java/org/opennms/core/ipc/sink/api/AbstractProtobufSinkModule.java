@@ -0,0 +1,189 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+/**
+ * Base class for modules whose messages are sent over the wire as protocol buffers instead of XML.
+ *
+ * Messages encoded as protocol buffers start with a header made of a magic number, which can not
+ * start an XML document, followed by the version of the schema used to encode them. Consumers
+ * detect the format of every message from this header and hand the messages without it to the XML
+ * unmarshaller given to the constructor, so that they keep accepting messages from producers that
+ * still send XML.
+ *
+ * Producers send XML unless the {@value #ENCODING_PROPERTY} system property, or the
+ * {@value #ENCODING_PROPERTY}.&lt;module id&gt; system property for a single module, is set to
+ * {@code protobuf}. This should only be done once all of the consumers support the protobuf encoding.
+ *
+ * The schema version is only incremented for changes that are not compatible with the previous
+ * versions: messages encoded with a newer schema are rejected, whereas fields unknown to the
+ * consumer are skipped.
+ *
+ * @param <S> type of message that will be sent by the producers
+ * @param <T> type of message that will be received by the consumers
+ * @param <P> type of the protocol buffer message generated from the schema of the module
+ */
+public abstract class AbstractProtobufSinkModule<S extends Message, T extends Message, P extends MessageLite> implements SinkModule<S, T> {
+
+    public static final String ENCODING_PROPERTY = "org.opennms.core.ipc.sink.encoding";
+
+    public enum Encoding {
+        XML,
+        PROTOBUF
+    }
+
+    private static final byte[] MAGIC = { 0x00, 'P', 'B' };
+
+    private static final int HEADER_LENGTH = MAGIC.length + 1;
+
+    private final Function<T, byte[]> xmlMarshaller;
+
+    private final Function<byte[], T> xmlUnmarshaller;
+
+    private volatile Encoding encoding;
+
+    protected AbstractProtobufSinkModule(Function<T, byte[]> xmlMarshaller, Function<byte[], T> xmlUnmarshaller) {
+        this.xmlMarshaller = Objects.requireNonNull(xmlMarshaller);
+        this.xmlUnmarshaller = Objects.requireNonNull(xmlUnmarshaller);
+    }
+
+    /**
+     * The version of the schema the messages are encoded with, between 1 and 255.
+     */
+    protected abstract int getSchemaVersion();
+
+    /**
+     * The parser of the protocol buffer messages.
+     */
+    protected abstract Parser<P> getParser();
+
+    /**
+     * Maps the aggregated message to its protocol buffer message.
+     */
+    protected abstract P toProto(T message);
+
+    /**
+     * Maps a protocol buffer message encoded with the given, or an older, schema version.
+     */
+    protected abstract T fromProto(int schemaVersion, P proto);
+
+    /**
+     * Modules whose messages may hold data that is not part of their schema should override this
+     * method so that these messages are sent as XML instead.
+     */
+    protected boolean canWrite(T message) {
+        return true;
+    }
+
+    /**
+     * The encoding used to marshal the messages.
+     */
+    public Encoding getEncoding() {
+        if (encoding == null) {
+            final String value = System.getProperty(ENCODING_PROPERTY + "." + getId(), System.getProperty(ENCODING_PROPERTY));
+            encoding = Encoding.PROTOBUF.name().equalsIgnoreCase(value) ? Encoding.PROTOBUF : Encoding.XML;
+        }
+        return encoding;
+    }
+
+    public void setEncoding(Encoding encoding) {
+        this.encoding = encoding;
+    }
+
+    @Override
+    public byte[] marshal(T message) {
+        if (getEncoding() != Encoding.PROTOBUF || !canWrite(message)) {
+            return xmlMarshaller.apply(message);
+        }
+        final P proto = toProto(message);
+        final int size = proto.getSerializedSize();
+        final byte[] bytes = new byte[HEADER_LENGTH + size];
+        System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+        bytes[MAGIC.length] = (byte)getSchemaVersion();
+        try {
+            final CodedOutputStream out = CodedOutputStream.newInstance(bytes, HEADER_LENGTH, size);
+            proto.writeTo(out);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to marshal message for module " + getId(), e);
+        }
+        return bytes;
+    }
+
+    @Override
+    public T unmarshal(byte[] bytes) {
+        if (!isProtobuf(bytes)) {
+            return xmlUnmarshaller.apply(bytes);
+        }
+        final int schemaVersion = bytes[MAGIC.length] & 0xff;
+        if (schemaVersion > getSchemaVersion()) {
+            throw new IllegalArgumentException("Message for module " + getId() + " was encoded with schema version "
+                    + schemaVersion + ", only versions up to " + getSchemaVersion() + " are supported.");
+        }
+        try {
+            return fromProto(schemaVersion, getParser().parseFrom(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH));
+        } catch (InvalidProtocolBufferException e) {
+            throw new UncheckedIOException("Failed to unmarshal message for module " + getId(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] marshalSingleMessage(S message) {
+        return marshal((T)getAggregationPolicy().aggregate(null, message));
+    }
+
+    /** Modules with different aggregated message should override this method **/
+    @Override
+    @SuppressWarnings("unchecked")
+    public S unmarshalSingleMessage(byte[] bytes) {
+        return (S)unmarshal(bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        return getClass() == obj.getClass();
+    }
+
+    public static boolean isProtobuf(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_LENGTH
+                && Arrays.equals(MAGIC, Arrays.copyOf(bytes, MAGIC.length));
+    }
+}
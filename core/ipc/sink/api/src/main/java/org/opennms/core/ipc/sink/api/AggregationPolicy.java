@@ -32,7 +32,8 @@ package org.opennms.core.ipc.sink.api;
  * create accumulators and add messages to existing accumulators.
  *
  * The completion size and completion interval options determine the conditions
- * under which the buckets will be dispatched.
+ * under which the buckets will be dispatched, unless a target latency is set in
+ * which case they are chosen at runtime.
  *
  * @author jwhite
  *
@@ -66,6 +67,24 @@ public interface AggregationPolicy<S, T, U> {
      */
     int getCompletionIntervalMs();
 
+    /**
+     * Target latency, in milliseconds, between the time a message is aggregated
+     * and the time its bucket is dispatched.
+     *
+     * When set, the completion size and interval are adjusted at runtime based on
+     * the observed arrival rate and dispatch time: buckets grow when messages arrive
+     * faster than they can be dispatched one by one, and shrink as the rate drops.
+     * The values returned by {@link #getCompletionSize()} and {@link #getCompletionIntervalMs()}
+     * are then only used as a starting point.
+     *
+     * Values <= 0 disable the adaptive behavior.
+     *
+     * @return the target latency in milliseconds
+     */
+    default int getTargetLatencyMs() {
+        return 0;
+    }
+
     /**
      * Calculate a key for the given message.
      *
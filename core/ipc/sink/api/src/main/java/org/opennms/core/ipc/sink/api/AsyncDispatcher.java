@@ -47,7 +47,44 @@ public interface AsyncDispatcher<S extends Message> extends AutoCloseable {
      * @return current queue size
      */
     int getQueueSize();
-    
+
+    /**
+     * Returns true if the queue is full, in which case sending a message blocks
+     * or fails, depending on the {@link AsyncPolicy}.
+     *
+     * @return whether the queue is full
+     */
+    default boolean isQueueFull() {
+        return false;
+    }
+
+    /**
+     * Registers a listener notified whenever the queue becomes full and whenever
+     * it has room again.
+     *
+     * The listeners are invoked on the threads that fill and drain the queue, so
+     * they must not block. Notifications may be delivered out of order, listeners
+     * should use {@link #isQueueFull()} to get the current state.
+     *
+     * @param listener the listener
+     */
+    default void addQueueStateListener(QueueStateListener listener) {
+        // The queue of this dispatcher is never reported as full
+    }
+
+    /**
+     * Removes a listener registered with {@link #addQueueStateListener(QueueStateListener)}.
+     *
+     * @param listener the listener
+     */
+    default void removeQueueStateListener(QueueStateListener listener) {
+    }
+
+    @FunctionalInterface
+    interface QueueStateListener {
+        void queueStateChanged();
+    }
+
     enum DispatchStatus {
         /**
          * The message was actually dispatched.
@@ -94,6 +94,11 @@ public interface SinkModule<S extends Message, T extends Message> {
     /**
      * Thr routing key will be used to ensure all messages of the same group is handled by the same consumer.
      *
+     * Messages with the same routing key, i.e. the source address, are consumed one at a time and in
+     * the order in which they were dispatched, while messages with different keys may be consumed in
+     * parallel. The key is carried along with the message by the transports: as the record key
+     * with Kafka, the message group with JMS, and in the sink message with gRPC.
+     *
      * @param message the message to generate the routing key from
      * @return the routing key or, {@code Optional.empty()} if no routing is required
      */
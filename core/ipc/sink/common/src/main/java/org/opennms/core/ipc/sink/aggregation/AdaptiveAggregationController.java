@@ -0,0 +1,158 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.aggregation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
+
+/**
+ * Chooses the completion size and interval used by the {@link Aggregator} so that
+ * messages are dispatched within a target latency.
+ *
+ * The first message added to a bucket waits at most for the completion interval, and
+ * is then held up for as long as it takes to dispatch the bucket. The interval is
+ * hence set to the target latency, less the 99th percentile of the recent dispatch
+ * times and the granularity of the flush timer. The completion size is set to the
+ * number of messages that are expected to arrive in a bucket within that interval,
+ * given the observed arrival rate, so that batches grow during floods and shrink to a
+ * single message when idle.
+ *
+ * If the dispatch time alone exceeds the target, the target can not be met and the
+ * largest batches are used in order to get the most throughput out of the dispatcher.
+ */
+public class AdaptiveAggregationController {
+
+    /**
+     * Recent dispatch times are kept over this window.
+     */
+    private static final int DISPATCH_TIME_WINDOW_SECONDS = 30;
+
+    // Weight of the latest sample in the smoothed arrival rate
+    private static final double ARRIVAL_RATE_WEIGHT = 0.5;
+
+    private final long targetLatencyMs;
+
+    private final long flushPeriodMs;
+
+    private final int maxCompletionSize;
+
+    private final LongAdder arrivals = new LongAdder();
+
+    private final Histogram dispatchTimes = new Histogram(new SlidingTimeWindowArrayReservoir(DISPATCH_TIME_WINDOW_SECONDS, TimeUnit.SECONDS));
+
+    private volatile int completionSize;
+
+    private volatile long completionIntervalMs;
+
+    private volatile double arrivalRatePerMs = Double.NaN;
+
+    private volatile double dispatchTimeP99Ms;
+
+    private long lastAdjustmentNanos;
+
+    /**
+     * @param targetLatencyMs the target latency
+     * @param flushPeriodMs the period at which the buckets are checked for completion
+     * @param maxCompletionSize the largest completion size that can be chosen
+     * @param initialCompletionSize the completion size used until the first adjustment
+     */
+    public AdaptiveAggregationController(long targetLatencyMs, long flushPeriodMs, int maxCompletionSize, int initialCompletionSize) {
+        if (targetLatencyMs <= 0) {
+            throw new IllegalArgumentException("targetLatencyMs must be a positive integer: " + targetLatencyMs);
+        }
+        this.targetLatencyMs = targetLatencyMs;
+        this.flushPeriodMs = Math.max(0, flushPeriodMs);
+        this.maxCompletionSize = Math.max(1, maxCompletionSize);
+        completionSize = Math.max(1, Math.min(initialCompletionSize, this.maxCompletionSize));
+        completionIntervalMs = Math.max(1, targetLatencyMs - this.flushPeriodMs);
+        lastAdjustmentNanos = System.nanoTime();
+    }
+
+    public void onArrival() {
+        arrivals.increment();
+    }
+
+    public void onDispatch(long durationNanos) {
+        dispatchTimes.update(durationNanos);
+    }
+
+    /**
+     * Recomputes the completion size and interval from the messages that arrived since
+     * the last adjustment.
+     *
+     * @param nowNanos the current value of {@link System#nanoTime()}
+     * @param numBuckets the number of buckets the messages are spread over
+     */
+    public synchronized void adjust(long nowNanos, int numBuckets) {
+        final double elapsedMs = (nowNanos - lastAdjustmentNanos) / 1e6;
+        if (elapsedMs <= 0) {
+            return;
+        }
+        lastAdjustmentNanos = nowNanos;
+
+        final double rate = arrivals.sumThenReset() / elapsedMs;
+        final double smoothedRate = Double.isNaN(arrivalRatePerMs) ? rate
+                : ARRIVAL_RATE_WEIGHT * rate + (1 - ARRIVAL_RATE_WEIGHT) * arrivalRatePerMs;
+        arrivalRatePerMs = smoothedRate;
+
+        final double dispatchP99Ms = dispatchTimes.getSnapshot().get99thPercentile() / 1e6;
+        dispatchTimeP99Ms = dispatchP99Ms;
+
+        final double budgetMs = targetLatencyMs - dispatchP99Ms - flushPeriodMs;
+        if (budgetMs < 1) {
+            completionSize = maxCompletionSize;
+            completionIntervalMs = Math.max(1, targetLatencyMs - flushPeriodMs);
+            return;
+        }
+
+        final double expectedPerBucket = smoothedRate / Math.max(1, numBuckets) * budgetMs;
+        completionSize = (int) Math.max(1, Math.min(maxCompletionSize, Math.floor(expectedPerBucket)));
+        completionIntervalMs = (long) budgetMs;
+    }
+
+    public int getCompletionSize() {
+        return completionSize;
+    }
+
+    public long getCompletionIntervalMs() {
+        return completionIntervalMs;
+    }
+
+    /**
+     * @return the smoothed number of messages aggregated per second
+     */
+    public double getArrivalRate() {
+        final double rate = arrivalRatePerMs;
+        return Double.isNaN(rate) ? 0 : rate * 1000;
+    }
+
+    public double getDispatchTimeP99Ms() {
+        return dispatchTimeP99Ms;
+    }
+
+    public long getTargetLatencyMs() {
+        return targetLatencyMs;
+    }
+}
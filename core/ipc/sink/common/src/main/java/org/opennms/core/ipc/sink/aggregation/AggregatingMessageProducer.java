@@ -44,12 +44,16 @@ public abstract class AggregatingMessageProducer<S, T> implements MessageDispatc
         final T log = aggregator.aggregate(message);
         if (log != null) {
             // This log is ready to be dispatched
-            dispatch(log);
+            aggregator.dispatch(log);
         }
     }
 
     public abstract void dispatch(T message);
 
+    public Aggregator<S,T> getAggregator() {
+        return aggregator;
+    }
+
     @Override
     public void close() throws Exception {
         aggregator.close();
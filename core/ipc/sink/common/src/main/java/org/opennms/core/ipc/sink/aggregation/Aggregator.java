@@ -68,16 +68,50 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
      */
     private static final int NUM_STRIPE_LOCKS = SystemProperties.getInteger(NUM_STRIPE_LOCKS_SYS_PROP, DEFAULT_NUM_STRIPE_LOCKS);
 
+    /**
+     * Prefix of the system properties used to override the target latency, and the
+     * maximum completion size used when adapting to it, on a per module basis, i.e.
+     * <code>org.opennms.ipc.sink.aggregation.Trap.targetLatencyMs</code>.
+     */
+    public static final String SYS_PROP_PREFIX = "org.opennms.ipc.sink.aggregation.";
+
+    public static final String TARGET_LATENCY_MS_SYS_PROP_SUFFIX = ".targetLatencyMs";
+
+    public static final String MAX_COMPLETION_SIZE_SYS_PROP_SUFFIX = ".maxCompletionSize";
+
+    /**
+     * Unless overridden, the completion size grows up to this multiple
+     * of the one defined by the policy.
+     */
+    public static final int DEFAULT_MAX_COMPLETION_SIZE_FACTOR = 4;
+
+    /**
+     * Upper bound on the period of the flush timer when adapting to a target latency.
+     */
+    private static final long MAX_ADAPTIVE_FLUSH_PERIOD_MS = 100;
+
+    /**
+     * Period at which the completion size and interval are adjusted.
+     */
+    private static final long ADJUSTMENT_PERIOD_MS = 1000;
+
     private final AggregationPolicy<S,T,Object> aggregationPolicy;
 
     private final AggregatingMessageProducer<S,T> messageProducer;
 
-    private final int completionSize;
+    private volatile int completionSize;
+
+    private volatile long completionIntervalMs;
 
-    private final long completionIntervalMs;
+    private final AdaptiveAggregationController adaptiveController;
 
     private final Timer flushTimer;
 
+    // Largest number of buckets seen by the flush timer since the last adjustment
+    private int peakNumBuckets;
+
+    private long lastAdjustmentMillis;
+
     private final ConcurrentHashMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
 
     private final Striped<Lock> lockStripes = Striped.lock(NUM_STRIPE_LOCKS);
@@ -88,7 +122,24 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
         completionSize = aggregationPolicy.getCompletionSize();
         completionIntervalMs = aggregationPolicy.getCompletionIntervalMs();
 
-        if (completionIntervalMs > 0) {
+        final long targetLatencyMs = SystemProperties.getLong(SYS_PROP_PREFIX + id + TARGET_LATENCY_MS_SYS_PROP_SUFFIX, aggregationPolicy.getTargetLatencyMs());
+        final long flushPeriodMs;
+        if (targetLatencyMs > 0) {
+            final int maxCompletionSize = SystemProperties.getInteger(SYS_PROP_PREFIX + id + MAX_COMPLETION_SIZE_SYS_PROP_SUFFIX,
+                    Math.max(1, completionSize) * DEFAULT_MAX_COMPLETION_SIZE_FACTOR);
+            flushPeriodMs = Math.max(1, Math.min(targetLatencyMs / 4, MAX_ADAPTIVE_FLUSH_PERIOD_MS));
+            adaptiveController = new AdaptiveAggregationController(targetLatencyMs, flushPeriodMs, maxCompletionSize, completionSize);
+            completionSize = adaptiveController.getCompletionSize();
+            completionIntervalMs = adaptiveController.getCompletionIntervalMs();
+            lastAdjustmentMillis = System.currentTimeMillis();
+            LOG.info("Adapting the aggregation in module '{}' to a target latency of {}ms, with completion sizes of up to {}.",
+                    id, targetLatencyMs, maxCompletionSize);
+        } else {
+            adaptiveController = null;
+            flushPeriodMs = completionIntervalMs;
+        }
+
+        if (flushPeriodMs > 0) {
             // Periodically verify the buckets, and flush those that are older than completionIntervalMs
             flushTimer = new Timer(String.format("AggregatorFlush-%s", id));
             flushTimer.scheduleAtFixedRate(new TimerTask() {
@@ -102,7 +153,7 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
                         LOG.error("An error occurred while flushing one or more aggregates in module '{}'.", id, t);
                     }
                 }
-            }, completionIntervalMs, completionIntervalMs);
+            }, flushPeriodMs, flushPeriodMs);
         } else {
             flushTimer = null;
         }
@@ -117,6 +168,9 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
      * if nothing is ready to be dispatched
      */
     public T aggregate(S message) {
+        if (adaptiveController != null) {
+            adaptiveController.onArrival();
+        }
         // Compute the key
         final Object key = aggregationPolicy.key(message);
         // Lock the bucket
@@ -147,6 +201,10 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
 
     @Override
     public void run() {
+        if (adaptiveController != null) {
+            adjust();
+        }
+
         final List<T> messagesReadyForDispatch = new LinkedList<>();
         // Grab a copy of all the current bucket keys
         final Set<Object> keys = new HashSet<>(buckets.keySet());
@@ -180,10 +238,60 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
 
         // Dispatch!
         for (T message : messagesReadyForDispatch) {
+            dispatch(message);
+        }
+    }
+
+    /**
+     * Dispatches the given bucket through the message producer, recording the time
+     * it takes when adapting to a target latency.
+     */
+    void dispatch(T message) {
+        if (adaptiveController == null) {
+            messageProducer.dispatch(message);
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
             messageProducer.dispatch(message);
+        } finally {
+            adaptiveController.onDispatch(System.nanoTime() - start);
         }
     }
 
+    /**
+     * Only called from the flush timer.
+     */
+    private void adjust() {
+        peakNumBuckets = Math.max(peakNumBuckets, buckets.size());
+        final long now = System.currentTimeMillis();
+        if (now - lastAdjustmentMillis < ADJUSTMENT_PERIOD_MS) {
+            return;
+        }
+        lastAdjustmentMillis = now;
+
+        adaptiveController.adjust(System.nanoTime(), peakNumBuckets);
+        peakNumBuckets = 0;
+        completionSize = adaptiveController.getCompletionSize();
+        completionIntervalMs = adaptiveController.getCompletionIntervalMs();
+    }
+
+    public int getCompletionSize() {
+        return completionSize;
+    }
+
+    public long getCompletionIntervalMs() {
+        return completionIntervalMs;
+    }
+
+    /**
+     * @return the controller used to adapt to the target latency, or <code>null</code>
+     * if the completion size and interval are fixed
+     */
+    public AdaptiveAggregationController getAdaptiveController() {
+        return adaptiveController;
+    }
+
     @Override
     public void close() throws Exception {
         if (flushTimer != null) {
@@ -32,6 +32,7 @@ import org.opennms.core.ipc.sink.api.Message;
 import org.opennms.core.ipc.sink.api.MessageConsumer;
 import org.opennms.core.ipc.sink.api.MessageConsumerManager;
 import org.opennms.core.ipc.sink.api.SinkModule;
+import org.opennms.core.ipc.sink.compression.SinkCompression;
 import org.opennms.core.logging.Logging;
 import org.opennms.core.logging.Logging.MDCCloseable;
 import org.slf4j.Logger;
@@ -158,6 +159,14 @@ public abstract class AbstractMessageConsumerManager implements MessageConsumerM
         }
     }
 
+    /**
+     * Unmarshals a message received for the given module, decompressing it first
+     * if it was compressed by the dispatcher, see {@link SinkCompression}.
+     */
+    public static <T extends Message> T unmarshal(SinkModule<?, T> module, byte[] bytes) {
+        return module.unmarshal(SinkCompression.forModule(module.getId()).decompress(bytes));
+    }
+
     public static int getNumConsumerThreads(SinkModule<?, ?> module) {
         Objects.requireNonNull(module);
         final int defaultValue = Runtime.getRuntime().availableProcessors() * 2;
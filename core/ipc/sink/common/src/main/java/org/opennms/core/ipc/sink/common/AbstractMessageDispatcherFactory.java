@@ -25,15 +25,19 @@ import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Objects;
 
+import org.opennms.core.ipc.sink.aggregation.AdaptiveAggregationController;
 import org.opennms.core.ipc.sink.aggregation.AggregatingSinkMessageProducer;
+import org.opennms.core.ipc.sink.aggregation.Aggregator;
 import org.opennms.core.ipc.sink.api.AsyncDispatcher;
 import org.opennms.core.ipc.sink.api.Message;
 import org.opennms.core.ipc.sink.api.MessageDispatcherFactory;
 import org.opennms.core.ipc.sink.api.SinkModule;
 import org.opennms.core.ipc.sink.api.SyncDispatcher;
+import org.opennms.core.ipc.sink.compression.SinkCompression;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.jmx.JmxReporter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.MetricSet;
@@ -56,6 +60,12 @@ import io.opentracing.Tracer;
  */
 public abstract class AbstractMessageDispatcherFactory<W> implements MessageDispatcherFactory {
 
+    public static final String METRIC_BYTES_MARSHALLED = "bytesMarshalled";
+
+    public static final String METRIC_BYTES_COMPRESSED = "bytesCompressed";
+
+    public static final String METRIC_AGGREGATION = "aggregation";
+
     private JmxReporter metricsJmxRepoter = null;
 
     private ServiceRegistration<MetricSet> metricsServiceRegistration = null;
@@ -80,6 +90,26 @@ public abstract class AbstractMessageDispatcherFactory<W> implements MessageDisp
         }
     }
 
+    /**
+     * Marshals the (aggregated) message and compresses it, if compression
+     * is enabled for the module, see {@link SinkCompression}.
+     *
+     * Implementations that send the messages over the wire should use this instead
+     * of {@link SinkModule#marshal}.
+     */
+    protected <S extends Message, T extends Message> byte[] marshal(SinkModule<S, T> module, T message) {
+        final byte[] bytes = module.marshal(message);
+        final SinkCompression compression = SinkCompression.forModule(module.getId());
+        if (!compression.isEnabled()) {
+            return bytes;
+        }
+        final byte[] compressed = compression.compress(bytes);
+        final MetricRegistry metrics = getMetrics();
+        metrics.counter(MetricRegistry.name(module.getId(), METRIC_BYTES_MARSHALLED)).inc(bytes.length);
+        metrics.counter(MetricRegistry.name(module.getId(), METRIC_BYTES_COMPRESSED)).inc(compressed.length);
+        return compressed;
+    }
+
     /**
      * Optionally build meta-data or state information for the module which will
      * be passed on all the calls to {@link #dispatch}.
@@ -114,7 +144,7 @@ public abstract class AbstractMessageDispatcherFactory<W> implements MessageDisp
         final SinkModule<S,T> module = state.getModule();
         if (module.getAggregationPolicy() != null) {
             // Aggregate the message before dispatching them
-            return new AggregatingSinkMessageProducer<S,T>(module) {
+            final AggregatingSinkMessageProducer<S,T> producer = new AggregatingSinkMessageProducer<S,T>(module) {
                 @Override
                 public void dispatch(T message) {
                     AbstractMessageDispatcherFactory.this.timedDispatch(state, message);
@@ -126,12 +156,37 @@ public abstract class AbstractMessageDispatcherFactory<W> implements MessageDisp
                 }
 
             };
+            registerAggregationGauges(state, producer.getAggregator());
+            return producer;
         } else {
             // No aggregation strategy is set, dispatch directly to reduce overhead
             return new DirectDispatcher<>(state);
         }
     }
 
+    /**
+     * Exposes the completion size and interval currently used by the aggregator, along
+     * with the inputs used to choose them when adapting to a target latency.
+     */
+    private <S extends Message, T extends Message> void registerAggregationGauges(DispatcherState<W,S,T> state, Aggregator<S,T> aggregator) {
+        final MetricRegistry metrics = state.getMetrics();
+        final String prefix = MetricRegistry.name(state.getModule().getId(), METRIC_AGGREGATION);
+        registerGauge(metrics, MetricRegistry.name(prefix, "completionSize"), aggregator::getCompletionSize);
+        registerGauge(metrics, MetricRegistry.name(prefix, "completionIntervalMs"), aggregator::getCompletionIntervalMs);
+
+        final AdaptiveAggregationController controller = aggregator.getAdaptiveController();
+        if (controller != null) {
+            registerGauge(metrics, MetricRegistry.name(prefix, "targetLatencyMs"), controller::getTargetLatencyMs);
+            registerGauge(metrics, MetricRegistry.name(prefix, "arrivalRate"), controller::getArrivalRate);
+            registerGauge(metrics, MetricRegistry.name(prefix, "dispatchTimeP99Ms"), controller::getDispatchTimeP99Ms);
+        }
+    }
+
+    private static <V> void registerGauge(MetricRegistry metrics, String name, Gauge<V> gauge) {
+        metrics.remove(name);
+        metrics.register(name, gauge);
+    }
+
     private class DirectDispatcher<S extends Message, T extends Message> implements SyncDispatcher<S> {
         private final DispatcherState<W, S, T> state;
 
@@ -23,6 +23,7 @@ package org.opennms.core.ipc.sink.common;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,9 +32,11 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -70,6 +73,8 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
     private final AtomicResultQueue<S> atomicResultQueue;
     private final AtomicLong missedFutures = new AtomicLong(0);
     private final AtomicInteger activeDispatchers = new AtomicInteger(0);
+    private final AtomicBoolean queueFull = new AtomicBoolean(false);
+    private final List<QueueStateListener> queueStateListeners = new CopyOnWriteArrayList<>();
     
     private final RateLimitedLog RATE_LIMITED_LOGGER = RateLimitedLog
             .withRateLimit(LOG)
@@ -121,6 +126,7 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
                 LOG.trace("Asking dispatch queue for the next entry...");
                 Map.Entry<String, S> messageEntry = atomicResultQueue.dequeue();
                 LOG.trace("Received message entry from dispatch queue {}", messageEntry);
+                updateQueueState();
                 activeDispatchers.incrementAndGet();
                 LOG.trace("Sending message {} via sync dispatcher", messageEntry);
                 syncDispatcher.send(messageEntry.getValue());
@@ -166,8 +172,8 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
             return sendFuture;
         }
 
+        String newId = UUID.randomUUID().toString();
         try {
-            String newId = UUID.randomUUID().toString();
             futureMap.put(newId, sendFuture);
             atomicResultQueue.enqueue(message, newId, result -> {
                 LOG.trace("Result of enqueueing for Id {} was {}", newId, result);
@@ -178,12 +184,58 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
                 }
             });
         } catch (WriteFailedException e) {
+            // The message was dropped, for instance by a queue that is full
+            futureMap.remove(newId);
+            droppedCounter.inc();
             sendFuture.completeExceptionally(e);
         }
+        updateQueueState();
 
         return sendFuture;
     }
 
+    @Override
+    public boolean isQueueFull() {
+        return atomicResultQueue.isFull();
+    }
+
+    @Override
+    public void addQueueStateListener(QueueStateListener listener) {
+        queueStateListeners.add(Objects.requireNonNull(listener));
+        queueFull.set(atomicResultQueue.isFull());
+    }
+
+    @Override
+    public void removeQueueStateListener(QueueStateListener listener) {
+        queueStateListeners.remove(listener);
+    }
+
+    /**
+     * Notifies the listeners when the queue became full or has room again.
+     */
+    private void updateQueueState() {
+        if (queueStateListeners.isEmpty()) {
+            return;
+        }
+        while (true) {
+            final boolean wasFull = queueFull.get();
+            final boolean full = atomicResultQueue.isFull();
+            if (full == wasFull) {
+                return;
+            }
+            if (queueFull.compareAndSet(wasFull, full)) {
+                for (QueueStateListener listener : queueStateListeners) {
+                    try {
+                        listener.queueStateChanged();
+                    } catch (RuntimeException e) {
+                        RATE_LIMITED_LOGGER.warn("Queue state listener {} failed", listener, e);
+                    }
+                }
+                // Check again, the state may have changed before it was recorded
+            }
+        }
+    }
+
     @VisibleForTesting
     public long getMissedFutures() {
         return missedFutures.get();
@@ -204,7 +256,13 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
         void enqueue(T message, String key, Consumer<DispatchQueue.EnqueueResult> onEnqueue) throws WriteFailedException {
             CountDownLatch resultRecorded = new CountDownLatch(1);
             resultRecordedMap.put(key, resultRecorded);
-            DispatchQueue.EnqueueResult result = dispatchQueue.enqueue(message, key);
+            DispatchQueue.EnqueueResult result;
+            try {
+                result = dispatchQueue.enqueue(message, key);
+            } catch (WriteFailedException e) {
+                resultRecordedMap.remove(key);
+                throw e;
+            }
 
             // When the result is DEFERRED we should not track the future so remove it from the map
             if (result == DispatchQueue.EnqueueResult.DEFERRED) {
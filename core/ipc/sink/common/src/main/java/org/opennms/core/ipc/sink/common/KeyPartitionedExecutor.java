@@ -0,0 +1,105 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opennms.core.ipc.sink.api.SinkModule;
+
+/**
+ * A fixed set of single-threaded lanes used to consume the messages of a module.
+ *
+ * Messages are assigned to a lane by hashing their routing key, see {@link SinkModule#getRoutingKey},
+ * so that the messages with the same key are handled one at a time, in the order in which
+ * they were received, while the messages with different keys are handled in parallel.
+ * Messages without a routing key are spread over all of the lanes.
+ */
+public class KeyPartitionedExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public KeyPartitionedExecutor(int numLanes, ThreadFactory threadFactory) {
+        if (numLanes < 1) {
+            throw new IllegalArgumentException("numLanes must be greater than 0");
+        }
+        lanes = new ThreadPoolExecutor[numLanes];
+        for (int i = 0; i < numLanes; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        }
+    }
+
+    /**
+     * Queues the task on the lane of the given key.
+     *
+     * @param key the routing key, or <code>null</code> if the task can be run in any order
+     * @param task the task
+     */
+    public void execute(String key, Runnable task) {
+        lanes[getLane(key)].execute(task);
+    }
+
+    protected int getLane(String key) {
+        if (key == null || key.isEmpty()) {
+            return Math.floorMod(next.getAndIncrement(), lanes.length);
+        }
+        final int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), lanes.length);
+    }
+
+    /**
+     * @return the number of tasks queued over all of the lanes
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            size += lane.getQueue().size();
+        }
+        return size;
+    }
+
+    public int getNumLanes() {
+        return lanes.length;
+    }
+
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending = new ArrayList<>();
+        for (ExecutorService lane : lanes) {
+            pending.addAll(lane.shutdownNow());
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.compression;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compresses the marshalled (and aggregated) messages of a Sink module before they are
+ * sent to the broker, and decompresses them again on the consuming side.
+ *
+ * Compression is enabled per module on the producing side, i.e. the Minion, by setting
+ * the system property {@code org.opennms.core.ipc.sink.compression.<moduleId>} to
+ * {@code lz4} or {@code zstd}. A Zstandard dictionary can be given using
+ * {@code org.opennms.core.ipc.sink.compression.<moduleId>.dictionary} and the level
+ * using {@code org.opennms.core.ipc.sink.compression.<moduleId>.level}.
+ *
+ * Compressed messages start with a header that identifies the codec, so that the
+ * consuming side decompresses them without any configuration of its own, unless a
+ * dictionary is used, in which case the same properties must be set on the consuming
+ * side as well. Messages that were not compressed are passed through as-is:
+ * the header starts with a zero byte followed by {@code 'Z'}, which can not start an
+ * XML document nor a protocol buffer (field number 0 is invalid), and differs from the
+ * header of the modules that are encoded as protocol buffers, which starts with a zero
+ * byte followed by {@code 'P'}.
+ *
+ * The length of the uncompressed message is taken from the header, and messages that
+ * claim to be larger than {@value #MAX_UNCOMPRESSED_SIZE_PROPERTY} bytes, 64 MiB by
+ * default, are rejected before anything is allocated for them.
+ */
+public class SinkCompression {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SinkCompression.class);
+
+    public static final String COMPRESSION_PROPERTY_PREFIX = "org.opennms.core.ipc.sink.compression.";
+
+    /**
+     * Messages smaller than this number of bytes are not worth compressing.
+     */
+    public static final String MIN_SIZE_PROPERTY = "org.opennms.core.ipc.sink.compressionMinSize";
+
+    public static final int DEFAULT_MIN_SIZE = 256;
+
+    public static final String MAX_UNCOMPRESSED_SIZE_PROPERTY = "org.opennms.core.ipc.sink.maxUncompressedSize";
+
+    public static final int DEFAULT_MAX_UNCOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAX_UNCOMPRESSED_SIZE = Integer.getInteger(MAX_UNCOMPRESSED_SIZE_PROPERTY, DEFAULT_MAX_UNCOMPRESSED_SIZE);
+
+    public static final String NONE = "none";
+
+    private static final byte[] MAGIC = { 0x00, 'Z' };
+
+    // Magic, codec identifier and the length of the uncompressed message
+    private static final int HEADER_LENGTH = MAGIC.length + 5;
+
+    private static final SinkCompression DISABLED = new SinkCompression(null, Integer.MAX_VALUE);
+
+    private static final Map<String, SinkCompression> compressionByModuleId = new ConcurrentHashMap<>();
+
+    private final SinkCodec codec;
+
+    private final int minSize;
+
+    /**
+     * @param codec the codec used to compress messages, or null if compression is disabled
+     * @param minSize the minimum size of the messages that are compressed
+     */
+    public SinkCompression(SinkCodec codec, int minSize) {
+        this.codec = codec;
+        this.minSize = minSize;
+    }
+
+    /**
+     * Returns the compression configured for the given module through the system properties.
+     */
+    public static SinkCompression forModule(String moduleId) {
+        Objects.requireNonNull(moduleId);
+        return compressionByModuleId.computeIfAbsent(moduleId, SinkCompression::fromSystemProperties);
+    }
+
+    private static SinkCompression fromSystemProperties(String moduleId) {
+        final String prefix = COMPRESSION_PROPERTY_PREFIX + moduleId;
+        final String name = System.getProperty(prefix, NONE).trim().toLowerCase();
+        final int minSize = Integer.getInteger(MIN_SIZE_PROPERTY, DEFAULT_MIN_SIZE);
+        switch (name) {
+            case NONE:
+            case "":
+                return DISABLED;
+            case Lz4SinkCodec.NAME:
+                LOG.info("Compressing the messages of module {} using {}.", moduleId, name);
+                return new SinkCompression(new Lz4SinkCodec(), minSize);
+            case ZstdSinkCodec.NAME:
+                final int level = Integer.getInteger(prefix + ".level", ZstdSinkCodec.DEFAULT_LEVEL);
+                final byte[] dictionary = readDictionary(moduleId, System.getProperty(prefix + ".dictionary"));
+                LOG.info("Compressing the messages of module {} using {} at level {}{}.", moduleId, name, level,
+                        dictionary != null ? " with a dictionary" : "");
+                return new SinkCompression(new ZstdSinkCodec(level, dictionary), minSize);
+            default:
+                LOG.warn("Unsupported codec '{}' for module {}. The messages will not be compressed.", name, moduleId);
+                return DISABLED;
+        }
+    }
+
+    private static byte[] readDictionary(String moduleId, String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(Paths.get(path.trim()));
+        } catch (IOException e) {
+            LOG.warn("Could not read the dictionary of module {} from {}. The messages will be compressed without it.", moduleId, path, e);
+            return null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return codec != null;
+    }
+
+    public SinkCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Compresses the given message, if compression is enabled and the message is large
+     * enough to benefit from it.
+     *
+     * @return the compressed message including its header, or the given message as-is
+     */
+    public byte[] compress(byte[] bytes) {
+        if (codec == null || bytes.length < minSize) {
+            return bytes;
+        }
+
+        final byte[] compressed;
+        try {
+            compressed = codec.compress(bytes);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not compress message using {}. The message will be sent uncompressed.", codec.getName(), e);
+            return bytes;
+        }
+        if (compressed.length + HEADER_LENGTH >= bytes.length) {
+            return bytes;
+        }
+
+        final byte[] framed = new byte[HEADER_LENGTH + compressed.length];
+        framed[0] = MAGIC[0];
+        framed[1] = MAGIC[1];
+        framed[2] = codec.getId();
+        framed[3] = (byte) (bytes.length >>> 24);
+        framed[4] = (byte) (bytes.length >>> 16);
+        framed[5] = (byte) (bytes.length >>> 8);
+        framed[6] = (byte) bytes.length;
+        System.arraycopy(compressed, 0, framed, HEADER_LENGTH, compressed.length);
+        return framed;
+    }
+
+    /**
+     * Decompresses the given message if it was compressed, regardless of whether or not
+     * compression is enabled on this side.
+     *
+     * @throws IllegalArgumentException if the length of the uncompressed message is invalid or
+     *         larger than {@value #MAX_UNCOMPRESSED_SIZE_PROPERTY}
+     */
+    public byte[] decompress(byte[] bytes) {
+        if (!isCompressed(bytes)) {
+            return bytes;
+        }
+
+        final int uncompressedLength = ((bytes[3] & 0xff) << 24) | ((bytes[4] & 0xff) << 16) | ((bytes[5] & 0xff) << 8) | (bytes[6] & 0xff);
+        if (uncompressedLength < 0 || uncompressedLength > MAX_UNCOMPRESSED_SIZE) {
+            throw new IllegalArgumentException("Invalid length of compressed message: " + uncompressedLength
+                    + ", the maximum is " + MAX_UNCOMPRESSED_SIZE + " bytes.");
+        }
+        return getDecoder(bytes[2]).decompress(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, uncompressedLength);
+    }
+
+    /**
+     * Whether the given message starts with the header of a message compressed by a known codec.
+     */
+    public static boolean isCompressed(byte[] bytes) {
+        return bytes != null && bytes.length > HEADER_LENGTH
+                && bytes[0] == MAGIC[0] && bytes[1] == MAGIC[1]
+                && isKnownCodec(bytes[2]);
+    }
+
+    private static boolean isKnownCodec(byte id) {
+        return id == Lz4SinkCodec.ID || id == ZstdSinkCodec.ID;
+    }
+
+    private SinkCodec getDecoder(byte id) {
+        // Prefer the configured codec, which holds the dictionary
+        if (codec != null && codec.getId() == id) {
+            return codec;
+        }
+        switch (id) {
+            case Lz4SinkCodec.ID:
+                return Lz4Holder.CODEC;
+            case ZstdSinkCodec.ID:
+                return ZstdHolder.CODEC;
+            default:
+                throw new IllegalArgumentException("Unsupported codec for compressed message: " + id);
+        }
+    }
+
+    // The native libraries are only loaded once a codec is used
+    private static class Lz4Holder {
+        private static final SinkCodec CODEC = new Lz4SinkCodec();
+    }
+
+    private static class ZstdHolder {
+        private static final SinkCodec CODEC = new ZstdSinkCodec();
+    }
+}
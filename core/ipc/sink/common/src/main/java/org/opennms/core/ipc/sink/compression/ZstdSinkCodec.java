@@ -0,0 +1,93 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.compression;
+
+import java.util.Arrays;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+
+/**
+ * Zstandard compression, optionally using a dictionary trained on the messages of the module.
+ *
+ * Small batches of similar messages compress considerably better with a dictionary, but the
+ * very same dictionary must then be configured on both the producers and the consumers.
+ */
+public class ZstdSinkCodec implements SinkCodec {
+
+    public static final byte ID = 2;
+
+    public static final String NAME = "zstd";
+
+    public static final int DEFAULT_LEVEL = 3;
+
+    private final int level;
+
+    private final ZstdDictCompress dictCompress;
+
+    private final ZstdDictDecompress dictDecompress;
+
+    public ZstdSinkCodec() {
+        this(DEFAULT_LEVEL, null);
+    }
+
+    /**
+     * @param level the compression level
+     * @param dictionary the dictionary, or null if none is used
+     */
+    public ZstdSinkCodec(int level, byte[] dictionary) {
+        this.level = level;
+        if (dictionary != null) {
+            dictCompress = new ZstdDictCompress(dictionary, level);
+            dictDecompress = new ZstdDictDecompress(dictionary);
+        } else {
+            dictCompress = null;
+            dictDecompress = null;
+        }
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    public boolean hasDictionary() {
+        return dictCompress != null;
+    }
+
+    @Override
+    public byte[] compress(byte[] bytes) {
+        return dictCompress != null ? Zstd.compress(bytes, dictCompress) : Zstd.compress(bytes, level);
+    }
+
+    @Override
+    public byte[] decompress(byte[] bytes, int offset, int length, int uncompressedLength) {
+        final byte[] frame = offset == 0 && length == bytes.length ? bytes : Arrays.copyOfRange(bytes, offset, offset + length);
+        return dictDecompress != null ? Zstd.decompress(frame, dictDecompress, uncompressedLength) : Zstd.decompress(frame, uncompressedLength);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.aggregation;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class AdaptiveAggregationControllerTest {
+
+    private static final long TARGET_LATENCY_MS = 200;
+    private static final long FLUSH_PERIOD_MS = 50;
+    private static final int MAX_COMPLETION_SIZE = 1000;
+
+    private long now = System.nanoTime();
+
+    @Test
+    public void canGrowBatchesWithTheArrivalRate() {
+        final AdaptiveAggregationController controller = new AdaptiveAggregationController(TARGET_LATENCY_MS, FLUSH_PERIOD_MS, MAX_COMPLETION_SIZE, 10);
+        assertThat(controller.getCompletionIntervalMs(), equalTo(TARGET_LATENCY_MS - FLUSH_PERIOD_MS));
+
+        // 10 messages/ms over a single bucket, with dispatches taking 10ms
+        for (int i = 0; i < 3; i++) {
+            arrive(controller, 10000, 10);
+            controller.adjust(now, 1);
+        }
+        assertThat(controller.getCompletionIntervalMs(), equalTo(TARGET_LATENCY_MS - FLUSH_PERIOD_MS - 10));
+        assertThat(controller.getCompletionSize(), equalTo(1000));
+
+        // The same rate, spread over 4 buckets
+        arrive(controller, 10000, 10);
+        controller.adjust(now, 4);
+        assertThat(controller.getCompletionSize(), equalTo(350));
+    }
+
+    @Test
+    public void canShrinkBatchesWhenIdle() {
+        final AdaptiveAggregationController controller = new AdaptiveAggregationController(TARGET_LATENCY_MS, FLUSH_PERIOD_MS, MAX_COMPLETION_SIZE, 100);
+        arrive(controller, 10000, 1);
+        controller.adjust(now, 1);
+        assertThat(controller.getCompletionSize(), equalTo(MAX_COMPLETION_SIZE));
+
+        // Nothing arrives for a few seconds
+        for (int i = 0; i < 10; i++) {
+            now += TimeUnit.SECONDS.toNanos(1);
+            controller.adjust(now, 1);
+        }
+        assertThat(controller.getCompletionSize(), equalTo(1));
+        assertThat(controller.getArrivalRate(), lessThan(100d));
+    }
+
+    @Test
+    public void canUseLargestBatchesWhenTheTargetCanNotBeMet() {
+        final AdaptiveAggregationController controller = new AdaptiveAggregationController(TARGET_LATENCY_MS, FLUSH_PERIOD_MS, MAX_COMPLETION_SIZE, 10);
+        // Dispatches take longer than the target
+        arrive(controller, 10, 500);
+        controller.adjust(now, 1);
+        assertThat(controller.getCompletionSize(), equalTo(MAX_COMPLETION_SIZE));
+        assertThat(controller.getCompletionIntervalMs(), equalTo(TARGET_LATENCY_MS - FLUSH_PERIOD_MS));
+    }
+
+    /**
+     * Simulates the given number of messages arriving over one second, and a
+     * dispatch taking the given number of milliseconds.
+     */
+    private void arrive(AdaptiveAggregationController controller, int numMessages, long dispatchTimeMs) {
+        for (int i = 0; i < numMessages; i++) {
+            controller.onArrival();
+        }
+        controller.onDispatch(TimeUnit.MILLISECONDS.toNanos(dispatchTimeMs));
+        now += TimeUnit.SECONDS.toNanos(1);
+    }
+}
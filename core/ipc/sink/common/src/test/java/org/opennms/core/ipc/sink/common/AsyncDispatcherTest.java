@@ -29,6 +29,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +43,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.junit.Before;
@@ -191,6 +193,63 @@ public class AsyncDispatcherTest {
         asyncDispatcher.close();
     }
 
+    @Test(timeout=3*60*1000)
+    public void testNotifiesQueueStateListeners() throws Exception {
+        // Set up the dispatch queue
+        DispatchQueueFactory dispatchQueueFactory = new QueueFileOffHeapDispatchQueueFactory(NUM_THREADS, NUM_THREADS, null,
+                folder.newFolder().toPath().toString());
+        DispatchQueueServiceLoader.setDispatchQueue(dispatchQueueFactory);
+
+        when(module.getAsyncPolicy()).thenReturn(new AsyncPolicy() {
+            @Override
+            public int getQueueSize() {
+                return QUEUE_SIZE;
+            }
+
+            @Override
+            public int getNumThreads() {
+                return NUM_THREADS;
+            }
+
+            @Override
+            public boolean isBlockWhenFull() {
+                return true;
+            }
+        });
+
+        final AsyncDispatcher<MyMessage> asyncDispatcher = blockableDispatcherFactory.createAsyncDispatcher(module);
+        BlockableSyncDispatcher<MyMessage> blockableSyncDispatcher = blockableDispatcherFactory.getBlockableSyncDispatcher();
+        final AtomicInteger notifications = new AtomicInteger();
+        asyncDispatcher.addQueueStateListener(notifications::incrementAndGet);
+
+        // Get all the dispatch threads parked
+        blockableSyncDispatcher.block();
+        for (int i = 0; i < NUM_THREADS; i++) {
+            asyncDispatcher.send(new MyMessage(Integer.toString(i)));
+        }
+        await().atMost(1, MINUTES).until(blockableSyncDispatcher::getBlockedThreadCount, equalTo(NUM_THREADS));
+        assertFalse(asyncDispatcher.isQueueFull());
+        assertEquals(0, notifications.get());
+
+        // Fill up the queue
+        for (int i = NUM_THREADS; i < NUM_THREADS * 2; i++) {
+            asyncDispatcher.send(new MyMessage(Integer.toString(i)));
+        }
+        assertTrue(asyncDispatcher.isQueueFull());
+        assertEquals(1, notifications.get());
+
+        // Release the threads!
+        blockableSyncDispatcher.unblock();
+
+        // The listener is notified once the queue has room again
+        await().atMost(1, MINUTES).until(notifications::get, equalTo(2));
+        assertFalse(asyncDispatcher.isQueueFull());
+        await().atMost(1, MINUTES).until(() -> blockableSyncDispatcher.getNumMessageDispatched(),
+                equalTo(NUM_THREADS * 2));
+
+        asyncDispatcher.close();
+    }
+
     @Test(timeout=3*60*1000)
     public void testBlockedWhenFull() throws Exception {
         // Set up the dispatch queue
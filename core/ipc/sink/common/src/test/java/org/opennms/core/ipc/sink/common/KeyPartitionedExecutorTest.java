@@ -0,0 +1,110 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class KeyPartitionedExecutorTest {
+
+    private final KeyPartitionedExecutor executor = new KeyPartitionedExecutor(4, Executors.defaultThreadFactory());
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void canPreserveOrderPerKey() throws InterruptedException {
+        final int numKeys = 16;
+        final int numMessagesPerKey = 1000;
+        final Map<String, List<Integer>> handledByKey = new HashMap<>();
+        for (int k = 0; k < numKeys; k++) {
+            handledByKey.put("key" + k, Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        final CountDownLatch done = new CountDownLatch(numKeys * numMessagesPerKey);
+        for (int i = 0; i < numMessagesPerKey; i++) {
+            for (int k = 0; k < numKeys; k++) {
+                final String key = "key" + k;
+                final int sequence = i;
+                executor.execute(key, () -> {
+                    handledByKey.get(key).add(sequence);
+                    done.countDown();
+                });
+            }
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        for (List<Integer> handled : handledByKey.values()) {
+            assertEquals(numMessagesPerKey, handled.size());
+            for (int i = 0; i < numMessagesPerKey; i++) {
+                assertEquals(Integer.valueOf(i), handled.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void canHandleDifferentKeysInParallel() throws InterruptedException {
+        // Block a lane, the tasks queued on the other lanes must still be handled
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final String blockedKey = "blocked";
+        executor.execute(blockedKey, () -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final int blockedLane = executor.getLane(blockedKey);
+        String otherKey = null;
+        for (int k = 0; otherKey == null; k++) {
+            if (executor.getLane("key" + k) != blockedLane) {
+                otherKey = "key" + k;
+            }
+        }
+        final CountDownLatch handled = new CountDownLatch(1);
+        executor.execute(otherKey, handled::countDown);
+        assertTrue(handled.await(10, TimeUnit.SECONDS));
+
+        // Messages without a key are spread over all of the lanes
+        final CountDownLatch unkeyed = new CountDownLatch(executor.getNumLanes() - 1);
+        for (int i = 0; i < executor.getNumLanes(); i++) {
+            executor.execute(null, unkeyed::countDown);
+        }
+        assertTrue(unkeyed.await(10, TimeUnit.SECONDS));
+        blocked.countDown();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.compression;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
+import org.opennms.core.ipc.sink.api.AggregationPolicy;
+import org.opennms.core.ipc.sink.api.AsyncPolicy;
+import org.opennms.core.ipc.sink.api.Message;
+
+import com.google.protobuf.Parser;
+import com.google.protobuf.StringValue;
+
+public class SinkCompressionTest {
+
+    private static final byte[] MESSAGE = repeat("<syslog-message source-address=\"10.0.0.1\" source-port=\"514\">"
+            + "&lt;31&gt;main: 2010-08-19 localhost foo%d: load test %d on tty1</syslog-message>", 64);
+
+    @Test
+    public void canCompressAndDecompress() {
+        for (SinkCodec codec : new SinkCodec[] { new Lz4SinkCodec(), new ZstdSinkCodec() }) {
+            final SinkCompression compression = new SinkCompression(codec, 0);
+            final byte[] compressed = compression.compress(MESSAGE);
+            assertTrue(codec.getName(), SinkCompression.isCompressed(compressed));
+            assertThat(codec.getName(), compressed.length, lessThan(MESSAGE.length / 5));
+
+            assertThat(codec.getName(), compression.decompress(compressed), equalTo(MESSAGE));
+            // The consuming side does not need any configuration
+            assertThat(codec.getName(), new SinkCompression(null, 0).decompress(compressed), equalTo(MESSAGE));
+        }
+    }
+
+    @Test
+    public void canCompressUsingDictionary() {
+        final byte[] dictionary = repeat("<syslog-message source-address=\"10.0.0.1\" source-port=\"514\"></syslog-message>", 8);
+        final SinkCompression compression = new SinkCompression(new ZstdSinkCodec(ZstdSinkCodec.DEFAULT_LEVEL, dictionary), 0);
+        final byte[] compressed = compression.compress(MESSAGE);
+        assertThat(compressed.length, lessThan(new SinkCompression(new ZstdSinkCodec(), 0).compress(MESSAGE).length));
+        assertThat(compression.decompress(compressed), equalTo(MESSAGE));
+    }
+
+    @Test
+    public void canPassThroughSmallAndUncompressedMessages() {
+        final byte[] small = "<log/>".getBytes(StandardCharsets.UTF_8);
+        final SinkCompression compression = new SinkCompression(new Lz4SinkCodec(), 64);
+        assertThat(compression.compress(small), sameInstance(small));
+        assertFalse(SinkCompression.isCompressed(small));
+        assertThat(compression.decompress(small), sameInstance(small));
+        assertThat(compression.decompress(MESSAGE), sameInstance(MESSAGE));
+
+        // Disabled unless configured
+        assertFalse(SinkCompression.forModule("SinkCompressionTest").isEnabled());
+    }
+
+    @Test
+    public void canPassThroughAndDecompressProtobufMessages() {
+        final TextModule module = new TextModule();
+        final byte[] small = module.marshal(new Text("small"));
+        final byte[] large = module.marshal(new Text(new String(MESSAGE, StandardCharsets.UTF_8)));
+        assertTrue(AbstractProtobufSinkModule.isProtobuf(small));
+        assertFalse(SinkCompression.isCompressed(small));
+        assertFalse(SinkCompression.isCompressed(large));
+
+        for (SinkCodec codec : new SinkCodec[] { new Lz4SinkCodec(), new ZstdSinkCodec() }) {
+            final SinkCompression compression = new SinkCompression(codec, 64);
+            assertThat(codec.getName(), compression.decompress(compression.compress(small)), sameInstance(small));
+            assertThat(codec.getName(), module.unmarshal(compression.decompress(compression.compress(small))).value, equalTo("small"));
+
+            final byte[] compressed = compression.compress(large);
+            assertTrue(codec.getName(), SinkCompression.isCompressed(compressed));
+            assertFalse(codec.getName(), AbstractProtobufSinkModule.isProtobuf(compressed));
+            assertThat(codec.getName(), module.unmarshal(compression.decompress(compressed)).value,
+                    equalTo(new String(MESSAGE, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void canRejectMessagesWithUnknownCodecsOrLargeLengths() {
+        final SinkCompression compression = new SinkCompression(new Lz4SinkCodec(), 0);
+        final byte[] compressed = compression.compress(MESSAGE);
+
+        final byte[] unknownCodec = compressed.clone();
+        unknownCodec[2] = 42;
+        assertFalse(SinkCompression.isCompressed(unknownCodec));
+        assertThat(compression.decompress(unknownCodec), sameInstance(unknownCodec));
+
+        final byte[] tooLarge = compressed.clone();
+        tooLarge[3] = 0x7f;
+        try {
+            compression.decompress(tooLarge);
+            fail("The length of the uncompressed message must be checked");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void canConfigureModuleThroughSystemProperties() {
+        System.setProperty(SinkCompression.COMPRESSION_PROPERTY_PREFIX + "SinkCompressionTest-zstd", "ZSTD");
+        try {
+            final SinkCompression compression = SinkCompression.forModule("SinkCompressionTest-zstd");
+            assertTrue(compression.isEnabled());
+            assertThat(compression.getCodec().getName(), equalTo(ZstdSinkCodec.NAME));
+        } finally {
+            System.clearProperty(SinkCompression.COMPRESSION_PROPERTY_PREFIX + "SinkCompressionTest-zstd");
+        }
+    }
+
+    private static class Text implements Message {
+
+        private final String value;
+
+        private Text(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class TextModule extends AbstractProtobufSinkModule<Text, Text, StringValue> {
+
+        private TextModule() {
+            super(text -> text.value.getBytes(StandardCharsets.UTF_8), bytes -> new Text(new String(bytes, StandardCharsets.UTF_8)));
+            setEncoding(Encoding.PROTOBUF);
+        }
+
+        @Override
+        protected int getSchemaVersion() {
+            return 1;
+        }
+
+        @Override
+        protected Parser<StringValue> getParser() {
+            return StringValue.parser();
+        }
+
+        @Override
+        protected StringValue toProto(Text message) {
+            return StringValue.of(message.value);
+        }
+
+        @Override
+        protected Text fromProto(int schemaVersion, StringValue proto) {
+            return new Text(proto.getValue());
+        }
+
+        @Override
+        public String getId() {
+            return "Text";
+        }
+
+        @Override
+        public int getNumConsumerThreads() {
+            return 1;
+        }
+
+        @Override
+        public AggregationPolicy<Text, Text, ?> getAggregationPolicy() {
+            return null;
+        }
+
+        @Override
+        public AsyncPolicy getAsyncPolicy() {
+            return null;
+        }
+    }
+
+    private static byte[] repeat(String format, int count) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(String.format(format, i, i));
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -22,8 +22,10 @@
 package org.opennms.core.ipc.sink.kafka.server;
 
 import static org.opennms.core.ipc.common.kafka.KafkaSinkConstants.DEFAULT_MESSAGEID_CONFIG;
+import static org.opennms.core.ipc.common.kafka.KafkaSinkConstants.DEFAULT_NUM_LANES_PER_CONSUMER;
 import static org.opennms.core.ipc.common.kafka.KafkaSinkConstants.KAFKA_COMMON_CONFIG_SYS_PROP_PREFIX;
 import static org.opennms.core.ipc.common.kafka.KafkaSinkConstants.MESSAGEID_CACHE_CONFIG;
+import static org.opennms.core.ipc.common.kafka.KafkaSinkConstants.NUM_LANES_PER_CONSUMER_CONFIG;
 import static org.opennms.core.ipc.sink.api.Message.SINK_METRIC_CONSUMER_DOMAIN;
 
 import java.time.Duration;
@@ -35,6 +37,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -55,6 +58,7 @@ import org.opennms.core.ipc.sink.api.Message;
 import org.opennms.core.ipc.sink.api.MessageConsumerManager;
 import org.opennms.core.ipc.sink.api.SinkModule;
 import org.opennms.core.ipc.sink.common.AbstractMessageConsumerManager;
+import org.opennms.core.ipc.sink.common.KeyPartitionedExecutor;
 import org.opennms.core.ipc.sink.model.SinkMessage;
 import org.opennms.core.logging.Logging;
 import org.opennms.core.tracing.api.TracerConstants;
@@ -96,6 +100,12 @@ public class KafkaMessageConsumerManager extends AbstractMessageConsumerManager
 
     private final ExecutorService executor = Executors.newCachedThreadPool(threadFactory);
 
+    private final ThreadFactory laneThreadFactory = new ThreadFactoryBuilder()
+            .setNameFormat("kafka-consumer-lane-%d")
+            .build();
+
+    private int numLanesPerConsumer = DEFAULT_NUM_LANES_PER_CONSUMER;
+
     private final Properties kafkaConfig = new Properties();
     private final KafkaConfigProvider configProvider;
     // Cache that stores chunks in large message.
@@ -152,72 +162,35 @@ public class KafkaMessageConsumerManager extends AbstractMessageConsumerManager
         @Override
         public void run() {
             Logging.putPrefix(MessageConsumerManager.LOG_PREFIX);
+            final KeyPartitionedExecutor lanes = numLanesPerConsumer > 1 ? new KeyPartitionedExecutor(numLanesPerConsumer, laneThreadFactory) : null;
             try {
                 consumer.subscribe(Arrays.asList(topic));
                 while (!closed.get()) {
                     ConsumerRecords<String, byte[]> records = consumer.poll(CONSUMER_POLL_DURATION);
+                    if (lanes == null) {
+                        for (ConsumerRecord<String, byte[]> record : records) {
+                            handleRecord(record);
+                        }
+                        continue;
+                    }
+
+                    // Records with the same key are dispatched in order, and the offsets are only committed
+                    // on the next poll, so we wait for all of the records to be dispatched before polling again
+                    final CountDownLatch dispatched = new CountDownLatch(records.count());
                     for (ConsumerRecord<String, byte[]> record : records) {
-                        try {
-                            // Parse sink message content from protobuf.
-                            SinkMessage sinkMessage = SinkMessage.parseFrom(record.value());
-                            byte[] messageInBytes = sinkMessage.getContent().toByteArray();
-                            String messageId = sinkMessage.getMessageId();
-                            // Handle large message where there are multiple chunks of message.
-                            if (sinkMessage.getTotalChunks() > 1) {
-
-                                if (largeMessageCache == null || currentChunkCache == null) {
-                                    LOG.error("LargeMessageCache config {}={} is invalid", MESSAGEID_CACHE_CONFIG,
-                                            kafkaConfig.getProperty(MESSAGEID_CACHE_CONFIG));
-                                    continue;
-                                }
-                                // Avoid duplicate chunks. discard if chunk is repeated.
-                                Integer chunkNum = currentChunkCache.getIfPresent(messageId);
-                                if (chunkNum == null) {
-                                    currentChunkCache.put(messageId, 0);
-                                    chunkNum = 0;
-                                }
-
-                                if(chunkNum == sinkMessage.getCurrentChunkNumber()) {
-                                    continue;
-                                }
-                                ByteString byteString = largeMessageCache.getIfPresent(messageId);
-                                if(byteString != null) {
-                                    largeMessageCache.put(messageId, byteString.concat(sinkMessage.getContent()));
-                                } else {
-                                    largeMessageCache.put(messageId, sinkMessage.getContent());
-                                }
-                                currentChunkCache.put(messageId, ++chunkNum);
-                                // continue till all chunks arrive.
-                                if (sinkMessage.getTotalChunks() != chunkNum) {
-                                    continue;
-                                }
-                                byteString = largeMessageCache.getIfPresent(messageId);
-                                if (byteString != null) {
-                                    messageInBytes = byteString.toByteArray();
-                                    largeMessageCache.invalidate(messageId);
-                                    currentChunkCache.invalidate(messageId);
-                                } else {
-                                    continue;
-                                }
-                            }
-                            // Update metrics.
-                            messageSize.update(messageInBytes.length);
-                            Tracer.SpanBuilder spanBuilder = buildSpanFromSinkMessage(sinkMessage);
-                            // Tracing scope and Metrics Timer context will measure the time to dispatch.
-                            try(Scope scope = spanBuilder.startActive(true);
-                                Timer.Context context = dispatchTime.time()) {
-                                scope.span().setTag(TracerConstants.TAG_MESSAGE_SIZE, messageInBytes.length);
-                                scope.span().setTag(TracerConstants.TAG_TOPIC, topic);
-                                scope.span().setTag(TracerConstants.TAG_THREAD, Thread.currentThread().getName());
-                                dispatch(module, module.unmarshal(messageInBytes));
+                        lanes.execute(record.key(), () -> {
+                            try {
+                                handleRecord(record);
+                            } finally {
+                                dispatched.countDown();
                             }
-
-                        } catch (RuntimeException e) {
-                            LOG.warn("Unexpected exception while dispatching message", e);
-                        } catch (InvalidProtocolBufferException e) {
-                            LOG.warn("Error parsing procotol buffer in message. The message will be dropped. \n" +
-                                    "Ensure that all components are running the same version of the software.");
-                        }
+                        });
+                    }
+                    try {
+                        dispatched.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
                     }
                 }
             } catch (WakeupException e) {
@@ -226,10 +199,77 @@ public class KafkaMessageConsumerManager extends AbstractMessageConsumerManager
                     throw e;
                 }
             } finally {
+                if (lanes != null) {
+                    lanes.shutdown();
+                }
                 consumer.close();
             }
         }
 
+        private void handleRecord(ConsumerRecord<String, byte[]> record) {
+            try {
+                // Parse sink message content from protobuf.
+                SinkMessage sinkMessage = SinkMessage.parseFrom(record.value());
+                byte[] messageInBytes = sinkMessage.getContent().toByteArray();
+                String messageId = sinkMessage.getMessageId();
+                // Handle large message where there are multiple chunks of message.
+                if (sinkMessage.getTotalChunks() > 1) {
+
+                    if (largeMessageCache == null || currentChunkCache == null) {
+                        LOG.error("LargeMessageCache config {}={} is invalid", MESSAGEID_CACHE_CONFIG,
+                                kafkaConfig.getProperty(MESSAGEID_CACHE_CONFIG));
+                        return;
+                    }
+                    // Avoid duplicate chunks. discard if chunk is repeated.
+                    Integer chunkNum = currentChunkCache.getIfPresent(messageId);
+                    if (chunkNum == null) {
+                        currentChunkCache.put(messageId, 0);
+                        chunkNum = 0;
+                    }
+
+                    if(chunkNum == sinkMessage.getCurrentChunkNumber()) {
+                        return;
+                    }
+                    ByteString byteString = largeMessageCache.getIfPresent(messageId);
+                    if(byteString != null) {
+                        largeMessageCache.put(messageId, byteString.concat(sinkMessage.getContent()));
+                    } else {
+                        largeMessageCache.put(messageId, sinkMessage.getContent());
+                    }
+                    currentChunkCache.put(messageId, ++chunkNum);
+                    // continue till all chunks arrive.
+                    if (sinkMessage.getTotalChunks() != chunkNum) {
+                        return;
+                    }
+                    byteString = largeMessageCache.getIfPresent(messageId);
+                    if (byteString != null) {
+                        messageInBytes = byteString.toByteArray();
+                        largeMessageCache.invalidate(messageId);
+                        currentChunkCache.invalidate(messageId);
+                    } else {
+                        return;
+                    }
+                }
+                // Update metrics.
+                messageSize.update(messageInBytes.length);
+                Tracer.SpanBuilder spanBuilder = buildSpanFromSinkMessage(sinkMessage);
+                // Tracing scope and Metrics Timer context will measure the time to dispatch.
+                try(Scope scope = spanBuilder.startActive(true);
+                    Timer.Context context = dispatchTime.time()) {
+                    scope.span().setTag(TracerConstants.TAG_MESSAGE_SIZE, messageInBytes.length);
+                    scope.span().setTag(TracerConstants.TAG_TOPIC, topic);
+                    scope.span().setTag(TracerConstants.TAG_THREAD, Thread.currentThread().getName());
+                    dispatch(module, unmarshal(module, messageInBytes));
+                }
+
+            } catch (RuntimeException e) {
+                LOG.warn("Unexpected exception while dispatching message", e);
+            } catch (InvalidProtocolBufferException e) {
+                LOG.warn("Error parsing procotol buffer in message. The message will be dropped. \n" +
+                        "Ensure that all components are running the same version of the software.");
+            }
+        }
+
         private Tracer.SpanBuilder buildSpanFromSinkMessage(SinkMessage sinkMessage) {
 
             Tracer tracer = getTracer();
@@ -263,7 +303,7 @@ public class KafkaMessageConsumerManager extends AbstractMessageConsumerManager
             for (int i = 0; i < numConsumerThreads; i++) {
                 final KafkaConsumerRunner consumerRunner = new KafkaConsumerRunner(module);
                 executor.execute(consumerRunner);
-                consumerRunners.add(new KafkaConsumerRunner(module));
+                consumerRunners.add(consumerRunner);
             }
 
             consumerRunnersByModule.put(module, consumerRunners);
@@ -293,6 +333,15 @@ public class KafkaMessageConsumerManager extends AbstractMessageConsumerManager
         LOG.info("KafkaMessageConsumerManager: consuming from Kafka using: {}", kafkaConfig);
         String cacheConfig = kafkaConfig.getProperty(MESSAGEID_CACHE_CONFIG, DEFAULT_MESSAGEID_CONFIG);
         largeMessageCache =  CacheBuilder.from(cacheConfig).build();
+        final String numLanes = kafkaConfig.getProperty(NUM_LANES_PER_CONSUMER_CONFIG);
+        if (numLanes != null) {
+            try {
+                numLanesPerConsumer = Math.max(1, Integer.parseInt(numLanes.trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value for {}: {}. Using {}.", NUM_LANES_PER_CONSUMER_CONFIG, numLanes, DEFAULT_NUM_LANES_PER_CONSUMER);
+                numLanesPerConsumer = DEFAULT_NUM_LANES_PER_CONSUMER;
+            }
+        }
         currentChunkCache = CacheBuilder.from(cacheConfig).build();
         if (identity != null && tracerRegistry != null) {
             tracerRegistry.init(identity.getId());
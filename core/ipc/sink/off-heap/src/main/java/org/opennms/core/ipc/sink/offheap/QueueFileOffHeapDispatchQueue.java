@@ -361,6 +361,27 @@ public class QueueFileOffHeapDispatchQueue<T> implements DispatchQueue<T> {
         return inMemoryQueue.take();
     }
 
+    /**
+     * Removes the messages that are only held in memory, i.e. the ones that would be lost if the queue was
+     * dropped, without reading the queue file. They are returned in the order they would have been dequeued
+     * in, except for the messages batched for the queue file which come last, ahead of the ones on disk.
+     */
+    public List<Map.Entry<String, T>> drainInMemory() {
+        final List<Map.Entry<String, T>> messages = new ArrayList<>();
+        if (offHeapQueue == null) {
+            inMemoryQueue.drainTo(messages);
+            return messages;
+        }
+        offHeapLock.lock();
+        try {
+            inMemoryQueue.drainTo(messages);
+            messages.addAll(batch.unbatch());
+            return messages;
+        } finally {
+            offHeapLock.unlock();
+        }
+    }
+
     @Override
     public boolean isFull() {
         if (offHeapQueue == null) {
@@ -38,11 +38,26 @@ public class QueueFileOffHeapDispatchQueueFactory implements DispatchQueueFactor
 
     private static final Logger LOG = LoggerFactory.getLogger(QueueFileOffHeapDispatchQueueFactory.class);
 
+    /**
+     * Queues messages in memory first and then in a {@link com.squareup.tape2.QueueFile}.
+     */
+    public static final String QUEUE_TYPE_QUEUE_FILE = "queue-file";
+
+    /**
+     * Queues all messages in memory-mapped segment files, see {@link SegmentedLogOffHeapDispatchQueue}.
+     */
+    public static final String QUEUE_TYPE_SEGMENTED_LOG = "segmented-log";
+
     private final int inMemoryEntrySize;
     private final long offHeapSize;
     private final int batchSize;
     private final Path baseFilePath;
 
+    private String queueType = QUEUE_TYPE_QUEUE_FILE;
+    private long segmentSize = SegmentedLogOffHeapDispatchQueue.DEFAULT_SEGMENT_SIZE;
+    private SegmentedLogOffHeapDispatchQueue.OverflowPolicy overflowPolicy = SegmentedLogOffHeapDispatchQueue.OverflowPolicy.BLOCK;
+    private long groupCommitIntervalMs = SegmentedLogOffHeapDispatchQueue.DEFAULT_GROUP_COMMIT_INTERVAL_MS;
+
     private final Map<String, DispatchQueue<?>> queues = new ConcurrentHashMap<>();
 
     public QueueFileOffHeapDispatchQueueFactory(int inMemoryEntrySize, int batchSize, String offHeapSize,
@@ -72,6 +87,10 @@ public class QueueFileOffHeapDispatchQueueFactory implements DispatchQueueFactor
 
         return (DispatchQueue<T>) queues.computeIfAbsent(moduleName, (k) -> {
             try {
+                if (QUEUE_TYPE_SEGMENTED_LOG.equals(queueType) && offHeapSize > 0) {
+                    return new SegmentedLogOffHeapDispatchQueue<>(serializer, deserializer, k, baseFilePath,
+                            segmentSize, offHeapSize, overflowPolicy, groupCommitIntervalMs);
+                }
                 return new QueueFileOffHeapDispatchQueue<>(serializer, deserializer, k, baseFilePath,
                         inMemoryEntrySize, batchSize,
                         offHeapSize);
@@ -81,7 +100,47 @@ public class QueueFileOffHeapDispatchQueueFactory implements DispatchQueueFactor
         });
     }
 
-    private static long convertToBytes(String sizeWithSuffix) {
+    /**
+     * Closes the queues that hold resources of their own, such as the mapped segments and the
+     * group commit task of the {@link SegmentedLogOffHeapDispatchQueue}.
+     */
+    public void destroy() {
+        queues.forEach((moduleName, queue) -> {
+            if (queue instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) queue).close();
+                } catch (Exception e) {
+                    LOG.warn("Failed to close the dispatch queue of module {}.", moduleName, e);
+                }
+            }
+        });
+        queues.clear();
+    }
+
+    public void setQueueType(String queueType) {
+        if (queueType == null || queueType.trim().isEmpty()) {
+            this.queueType = QUEUE_TYPE_QUEUE_FILE;
+        } else if (QUEUE_TYPE_QUEUE_FILE.equals(queueType.trim()) || QUEUE_TYPE_SEGMENTED_LOG.equals(queueType.trim())) {
+            this.queueType = queueType.trim();
+        } else {
+            throw new IllegalArgumentException("Invalid queue type " + queueType);
+        }
+        LOG.info("DispatchQueue factory using queue type: {}", this.queueType);
+    }
+
+    public void setSegmentSize(String segmentSize) {
+        this.segmentSize = convertToBytes(segmentSize);
+    }
+
+    public void setOverflowPolicy(String overflowPolicy) {
+        this.overflowPolicy = SegmentedLogOffHeapDispatchQueue.OverflowPolicy.parse(overflowPolicy);
+    }
+
+    public void setGroupCommitIntervalMs(long groupCommitIntervalMs) {
+        this.groupCommitIntervalMs = groupCommitIntervalMs;
+    }
+
+    public static long convertToBytes(String sizeWithSuffix) {
         if (sizeWithSuffix == null || sizeWithSuffix.length() == 0) {
             return 0;
         }
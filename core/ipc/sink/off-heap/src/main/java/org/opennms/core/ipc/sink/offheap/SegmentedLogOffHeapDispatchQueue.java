@@ -0,0 +1,654 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.swrve.ratelimitedlogger.RateLimitedLog;
+
+/**
+ * A {@link DispatchQueue} backed by an append-only log of memory-mapped segment files.
+ * <p>
+ * Every message is serialized once and copied straight into the mapped segment that is
+ * currently being written, there is no in-memory batch and no intermediate buffer. Messages
+ * are read back from the mapped segments, directly into the array handed to the deserializer.
+ * Writes are made durable by a background task that forces the dirty segments to disk every
+ * {@code groupCommitIntervalMs}, so that producers never wait for the disk (group commit).
+ * An interval of 0 forces every write instead.
+ * <p>
+ * A segment is deleted as a whole as soon as all of its messages have been dequeued, there
+ * is no compaction. The position of the reader is kept in a small checkpoint file, so that
+ * the remaining messages are dequeued again after a restart. Messages that were dequeued
+ * since the last group commit may be dequeued twice after a crash.
+ * <p>
+ * The disk usage is bounded by the number of segments. Once that number is reached, the
+ * {@link OverflowPolicy} decides whether producers are blocked, or whether the oldest
+ * segment or the newest message is dropped. A dropped newest message is reported to its
+ * producer with a {@link WriteFailedException}.
+ * <p>
+ * Messages that serialize to an empty array are rejected with a {@link WriteFailedException}
+ * as well, since a record of length 0 marks the end of the log.
+ * <p>
+ * The segments are unmapped as soon as they are deleted, and all of them once the queue is
+ * closed, instead of holding on to their mapping until the buffers are garbage collected.
+ * <p>
+ * Like the other off-heap queues, the keys of the messages are not persisted and every message
+ * is reported as {@link EnqueueResult#DEFERRED}.
+ *
+ * @param <T> the type being queued
+ */
+public class SegmentedLogOffHeapDispatchQueue<T> implements DispatchQueue<T>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedLogOffHeapDispatchQueue.class);
+    private final RateLimitedLog RATE_LIMITED_LOGGER = RateLimitedLog
+            .withRateLimit(LOG)
+            .maxRate(5)
+            .every(Duration.ofSeconds(30))
+            .build();
+
+    public enum OverflowPolicy {
+        /**
+         * Block the producers until a segment has been consumed.
+         */
+        BLOCK,
+        /**
+         * Delete the oldest segment, along with the messages it holds.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the message being enqueued.
+         */
+        DROP_NEWEST;
+
+        public static OverflowPolicy parse(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return BLOCK;
+            }
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024L * 1024L;
+
+    public static final long DEFAULT_GROUP_COMMIT_INTERVAL_MS = 1000L;
+
+    private static final String DIRECTORY_EXTENSION = ".segments";
+    private static final String SEGMENT_EXTENSION = ".seg";
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("(\\d{20})\\" + SEGMENT_EXTENSION);
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    // Index of the segment and offset within the segment of the next message to read
+    private static final int CHECKPOINT_SIZE = Long.BYTES + Integer.BYTES;
+    // Length and CRC32 of the message
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+    // Unmaps a mapped buffer, null if the JVM does not support it
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Mapped segments can not be unmapped explicitly, they will be unmapped once garbage collected.", e);
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "SegmentedLogOffHeapDispatchQueue-Flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Function<T, byte[]> serializer;
+    private final Function<byte[], T> deserializer;
+    private final String moduleName;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean forceEveryWrite;
+
+    // Guards all of the fields below
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    // Held for reading while buffers are forced outside of the lock above, and for writing while they are unmapped
+    private final ReadWriteLock mappingLock = new ReentrantReadWriteLock();
+    private boolean checkpointUnmapped;
+
+    // The oldest segment, being read, comes first and the segment being written comes last
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final MappedByteBuffer checkpoint;
+    private boolean checkpointDirty;
+    private int readOffset;
+    private int readRecords;
+    private long droppedRecords;
+    private volatile int size;
+    private volatile boolean full;
+    private boolean closed;
+
+    private final ScheduledFuture<?> flushTask;
+
+    public SegmentedLogOffHeapDispatchQueue(Function<T, byte[]> serializer, Function<byte[], T> deserializer,
+                                            String moduleName, Path filePath, long segmentSize, long maxSizeInBytes,
+                                            OverflowPolicy overflowPolicy, long groupCommitIntervalMs) throws IOException {
+        this.serializer = Objects.requireNonNull(serializer);
+        this.deserializer = Objects.requireNonNull(deserializer);
+        this.moduleName = Objects.requireNonNull(moduleName);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        Objects.requireNonNull(filePath);
+
+        if (segmentSize <= RECORD_HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be a positive integer no larger than 2GB");
+        }
+        if (maxSizeInBytes < segmentSize * 2) {
+            throw new IllegalArgumentException("Max size must allow for at least two segments");
+        }
+
+        this.segmentSize = (int) segmentSize;
+        maxSegments = (int) Math.min(Integer.MAX_VALUE, maxSizeInBytes / segmentSize);
+        directory = Paths.get(filePath.toString(), moduleName + DIRECTORY_EXTENSION);
+        Files.createDirectories(directory);
+        checkpoint = map(directory.resolve(CHECKPOINT_FILE).toFile(), CHECKPOINT_SIZE);
+        recover();
+
+        if (groupCommitIntervalMs > 0) {
+            forceEveryWrite = false;
+            flushTask = FLUSHER.scheduleWithFixedDelay(this::flush, groupCommitIntervalMs, groupCommitIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            forceEveryWrite = true;
+            flushTask = null;
+        }
+
+        LOG.info("Opened segmented log for module {} in {} with {} messages in {} segments.", moduleName, directory,
+                size, segments.size());
+    }
+
+    @Override
+    public EnqueueResult enqueue(T message, String key) throws WriteFailedException {
+        final byte[] bytes = serializer.apply(message);
+        if (bytes.length == 0) {
+            // A length of 0 marks the end of the log, the records after it would be lost on recovery
+            throw new WriteFailedException("Empty messages can not be written to the segmented log of module " + moduleName);
+        }
+        final int recordSize = RECORD_HEADER_SIZE + bytes.length;
+        if (recordSize > segmentSize) {
+            throw new WriteFailedException("Message of " + bytes.length + " bytes does not fit in a segment of "
+                    + segmentSize + " bytes");
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        final Segment tail;
+        lock.lock();
+        try {
+            checkNotClosed();
+            Segment segment = segments.getLast();
+            while (segment.remaining() < recordSize) {
+                if (segments.size() < maxSegments) {
+                    segment = newSegment(segment.index + 1);
+                    segments.addLast(segment);
+                } else if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                    markFull();
+                    droppedRecords++;
+                    RATE_LIMITED_LOGGER.warn("Segmented log for module {} is full, dropping the newest message. {} messages were dropped so far.",
+                            moduleName, droppedRecords);
+                    throw new WriteFailedException("Segmented log for module " + moduleName + " is full, the message was dropped");
+                } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    dropOldestSegment();
+                } else {
+                    markFull();
+                    notFull.await();
+                    checkNotClosed();
+                }
+                segment = segments.getLast();
+            }
+
+            segment.append(bytes, (int) crc.getValue());
+            size++;
+            notEmpty.signal();
+            tail = segment;
+        } catch (IOException e) {
+            throw new WriteFailedException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteFailedException(e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (forceEveryWrite) {
+            tail.force();
+        }
+        return EnqueueResult.DEFERRED;
+    }
+
+    @Override
+    public Map.Entry<String, T> dequeue() throws InterruptedException {
+        final byte[] bytes;
+        lock.lockInterruptibly();
+        try {
+            while (size == 0 && !closed) {
+                notEmpty.await();
+            }
+            if (closed) {
+                throw new InterruptedException("Segmented log for module " + moduleName + " is closed");
+            }
+
+            Segment head = segments.getFirst();
+            while (readOffset >= head.writeOffset) {
+                // Only sealed segments can be exhausted while the queue is not empty
+                releaseHead();
+                head = segments.getFirst();
+            }
+
+            final int length = head.buffer.getInt(readOffset);
+            bytes = new byte[length];
+            final ByteBuffer record = head.buffer.duplicate();
+            record.position(readOffset + RECORD_HEADER_SIZE);
+            record.get(bytes);
+
+            readOffset += RECORD_HEADER_SIZE + length;
+            readRecords++;
+            size--;
+            if (readOffset >= head.writeOffset && head != segments.getLast()) {
+                releaseHead();
+            }
+            writeCheckpoint();
+        } finally {
+            lock.unlock();
+        }
+
+        if (forceEveryWrite) {
+            forceCheckpoint();
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(null, deserializer.apply(bytes));
+    }
+
+    @Override
+    public boolean isFull() {
+        return full;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the segments and the checkpoint that were modified since the last call to disk.
+     */
+    public void flush() {
+        final List<Segment> toForce = new ArrayList<>();
+        final boolean forceCheckpoint;
+        lock.lock();
+        try {
+            for (final Segment segment : segments) {
+                if (segment.dirty) {
+                    segment.dirty = false;
+                    toForce.add(segment);
+                }
+            }
+            forceCheckpoint = checkpointDirty;
+            checkpointDirty = false;
+        } finally {
+            lock.unlock();
+        }
+
+        // Writers may append to the buffers while they are being forced
+        try {
+            for (final Segment segment : toForce) {
+                segment.force();
+            }
+            if (forceCheckpoint) {
+                forceCheckpoint();
+            }
+        } catch (RuntimeException e) {
+            RATE_LIMITED_LOGGER.warn("Failed to force segmented log of module {} to disk.", moduleName, e);
+        }
+    }
+
+    /**
+     * Forces the pending writes to disk and unmaps the segments. The messages that were not
+     * dequeued yet remain on disk, producers fail and consumers are interrupted from now on.
+     */
+    @Override
+    public void close() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        flush();
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            for (final Segment segment : segments) {
+                segment.unmap();
+            }
+            segments.clear();
+            mappingLock.writeLock().lock();
+            try {
+                checkpointUnmapped = true;
+                unmap(checkpoint);
+            } finally {
+                mappingLock.writeLock().unlock();
+            }
+        } finally {
+            lock.unlock();
+        }
+        LOG.info("Closed segmented log for module {}.", moduleName);
+    }
+
+    private void checkNotClosed() throws WriteFailedException {
+        if (closed) {
+            throw new WriteFailedException("Segmented log for module " + moduleName + " is closed");
+        }
+    }
+
+    private void forceCheckpoint() {
+        mappingLock.readLock().lock();
+        try {
+            if (!checkpointUnmapped) {
+                checkpoint.force();
+            }
+        } finally {
+            mappingLock.readLock().unlock();
+        }
+    }
+
+    private void markFull() {
+        if (!full) {
+            RATE_LIMITED_LOGGER.info("Segmented log for module {} is now full", moduleName);
+            full = true;
+        }
+    }
+
+    private void releaseHead() {
+        final Segment head = segments.removeFirst();
+        head.delete();
+        readOffset = 0;
+        readRecords = 0;
+        if (full) {
+            RATE_LIMITED_LOGGER.info("Segmented log for module {} is no longer full", moduleName);
+            full = false;
+        }
+        notFull.signalAll();
+    }
+
+    private void dropOldestSegment() {
+        final int dropped = segments.getFirst().records - readRecords;
+        releaseHead();
+        size -= dropped;
+        droppedRecords += dropped;
+        writeCheckpoint();
+        RATE_LIMITED_LOGGER.warn("Segmented log for module {} is full, dropped the {} messages of the oldest segment. {} messages were dropped so far.",
+                moduleName, dropped, droppedRecords);
+    }
+
+    private void writeCheckpoint() {
+        checkpoint.putLong(0, segments.getFirst().index);
+        checkpoint.putInt(Long.BYTES, readOffset);
+        checkpointDirty = true;
+    }
+
+    /**
+     * Opens the existing segments, deletes those that were already consumed and scans the
+     * others to restore the position of the writer and the number of queued messages.
+     */
+    private void recover() throws IOException {
+        final long checkpointIndex = checkpoint.getLong(0);
+        final int checkpointOffset = checkpoint.getInt(Long.BYTES);
+
+        final List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                final Matcher m = SEGMENT_PATTERN.matcher(file.getFileName().toString());
+                if (m.matches()) {
+                    indexes.add(Long.parseLong(m.group(1)));
+                }
+            });
+        }
+        indexes.sort(null);
+
+        int records = 0;
+        for (final long index : indexes) {
+            final File file = segmentFile(index);
+            if (index < checkpointIndex) {
+                Files.deleteIfExists(file.toPath());
+                continue;
+            }
+            final Segment segment = new Segment(index, file, map(file, segmentSize));
+            final int start = segments.isEmpty() && index == checkpointIndex ? checkpointOffset : 0;
+            segment.scan(start);
+            if (segments.isEmpty()) {
+                readOffset = start;
+            }
+            segments.addLast(segment);
+            records += segment.records;
+        }
+
+        if (segments.isEmpty()) {
+            segments.addLast(newSegment(Math.max(0, checkpointIndex)));
+            readOffset = 0;
+        }
+        size = records;
+        writeCheckpoint();
+    }
+
+    private Segment newSegment(long index) throws IOException {
+        final File file = segmentFile(index);
+        Files.deleteIfExists(file.toPath());
+        return new Segment(index, file, map(file, segmentSize));
+    }
+
+    private File segmentFile(long index) {
+        return directory.resolve(String.format("%020d%s", index, SEGMENT_EXTENSION)).toFile();
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Failed to unmap a segment, it will be unmapped once garbage collected.", e);
+        }
+    }
+
+    private static MappedByteBuffer map(File file, int size) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            // The file is sparse until it is written to, the mapping remains valid once the channel is closed
+            final long length = Math.max(raf.length(), size);
+            if (raf.length() < length) {
+                raf.setLength(length);
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+
+    private final class Segment {
+        private final long index;
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private int writeOffset;
+        private int records;
+        private boolean dirty;
+        // Guarded by the mapping lock, the buffer must not be accessed anymore once set
+        private boolean unmapped;
+
+        private Segment(long index, File file, MappedByteBuffer buffer) {
+            this.index = index;
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writeOffset;
+        }
+
+        /**
+         * Writes the message before its header, so that a partially written record is never
+         * mistaken for a complete one during recovery.
+         */
+        private void append(byte[] bytes, int crc) {
+            final ByteBuffer record = buffer.duplicate();
+            record.position(writeOffset + RECORD_HEADER_SIZE);
+            record.put(bytes);
+            buffer.putInt(writeOffset + Integer.BYTES, crc);
+            buffer.putInt(writeOffset, bytes.length);
+            writeOffset += RECORD_HEADER_SIZE + bytes.length;
+            records++;
+            dirty = true;
+        }
+
+        private void scan(int start) {
+            int offset = start;
+            while (offset + RECORD_HEADER_SIZE <= buffer.capacity()) {
+                final int length = buffer.getInt(offset);
+                if (length <= 0 || length > buffer.capacity() - offset - RECORD_HEADER_SIZE) {
+                    break;
+                }
+                final ByteBuffer record = buffer.duplicate();
+                record.position(offset + RECORD_HEADER_SIZE).limit(offset + RECORD_HEADER_SIZE + length);
+                final CRC32 crc = new CRC32();
+                crc.update(record);
+                if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                    break;
+                }
+                offset += RECORD_HEADER_SIZE + length;
+                records++;
+            }
+            writeOffset = offset;
+
+            if (offset + Integer.BYTES <= buffer.capacity() && buffer.getInt(offset) != 0) {
+                // Clear the torn record, it would otherwise be followed by whatever is appended next
+                LOG.warn("Discarding a partially written message at offset {} of {}.", offset, file);
+                for (int i = offset; i < buffer.capacity(); i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                dirty = true;
+            }
+        }
+
+        private void force() {
+            mappingLock.readLock().lock();
+            try {
+                if (!unmapped) {
+                    buffer.force();
+                }
+            } finally {
+                mappingLock.readLock().unlock();
+            }
+        }
+
+        private void unmap() {
+            mappingLock.writeLock().lock();
+            try {
+                if (!unmapped) {
+                    unmapped = true;
+                    SegmentedLogOffHeapDispatchQueue.unmap(buffer);
+                }
+            } finally {
+                mappingLock.writeLock().unlock();
+            }
+        }
+
+        private void delete() {
+            // The file of a mapped segment can not be deleted on every platform
+            unmap();
+            if (!file.delete()) {
+                RATE_LIMITED_LOGGER.warn("Could not delete consumed segment {}.", file);
+            }
+        }
+    }
+}
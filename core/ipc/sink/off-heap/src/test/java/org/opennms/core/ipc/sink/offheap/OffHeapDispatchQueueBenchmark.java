@@ -0,0 +1,143 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the throughput of the off-heap
+ * {@link DispatchQueue} implementations while the broker is unavailable, i.e. when the
+ * messages are written to disk and read back later on.
+ * <p>
+ * Every invocation enqueues a backlog of messages that exceeds the on-heap capacity of the
+ * queues and then drains it. The reported number of operations per second is the number of
+ * messages that were both enqueued and dequeued.
+ */
+public class OffHeapDispatchQueueBenchmark {
+
+    private static final int MESSAGES_PER_INVOCATION = 100_000;
+
+    private static final int ENTRIES_ALLOWED_ON_HEAP = 1_000;
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final long OFF_HEAP_SIZE = 1024L * 1024L * 1024L;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Thread)
+    public static class QueueState {
+
+        @Param({"queue-file", "data-blocks", "segmented-log"})
+        public String queueType;
+
+        @Param({"512"})
+        public int messageSize;
+
+        private Path directory;
+        private DispatchQueue<byte[]> queue;
+        private byte[] message;
+        private int iteration;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            message = new byte[messageSize];
+            for (int i = 0; i < message.length; i++) {
+                message[i] = (byte) ('a' + i % 26);
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void createQueue() throws Exception {
+            directory = Files.createTempDirectory("offheap-benchmark");
+            final String moduleName = "benchmark" + iteration++;
+            switch (queueType) {
+                case "queue-file":
+                    queue = new QueueFileOffHeapDispatchQueue<>(b -> b, b -> b, moduleName, directory,
+                            ENTRIES_ALLOWED_ON_HEAP, BATCH_SIZE, OFF_HEAP_SIZE);
+                    break;
+                case "data-blocks":
+                    queue = new DataBlocksOffHeapQueue<>(b -> b, b -> b, moduleName, directory,
+                            ENTRIES_ALLOWED_ON_HEAP, BATCH_SIZE, OFF_HEAP_SIZE);
+                    break;
+                case "segmented-log":
+                    queue = new SegmentedLogOffHeapDispatchQueue<>(b -> b, b -> b, moduleName, directory,
+                            SegmentedLogOffHeapDispatchQueue.DEFAULT_SEGMENT_SIZE, OFF_HEAP_SIZE,
+                            SegmentedLogOffHeapDispatchQueue.OverflowPolicy.BLOCK,
+                            SegmentedLogOffHeapDispatchQueue.DEFAULT_GROUP_COMMIT_INTERVAL_MS);
+                    break;
+                default:
+                    throw new IllegalArgumentException(queueType);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void deleteQueue() throws Exception {
+            if (queue instanceof AutoCloseable) {
+                ((AutoCloseable) queue).close();
+            }
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(f -> {
+                    try {
+                        Files.delete(f);
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                });
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public void backlog(QueueState state, Blackhole blackhole) throws Exception {
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            state.queue.enqueue(state.message, null);
+        }
+        while (state.queue.getSize() > 0) {
+            blackhole.consume(state.queue.dequeue());
+        }
+    }
+}
@@ -35,7 +35,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -77,6 +79,27 @@ public class QueueFileOffHeapDispatchQueueTest {
         assertThat(queue.dequeue().getValue(), equalTo(payload2));
     }
 
+    @Test
+    public void canDrainWhatIsInMemory() throws IOException, WriteFailedException {
+        Path path = Paths.get(folder.newFolder().toURI());
+        QueueFileOffHeapDispatchQueue<String> queue = new QueueFileOffHeapDispatchQueue<>(String::getBytes, String::new,
+                "canDrainWhatIsInMemory", path, 2, 2, 10000);
+
+        // 2 entries in memory, a batch of 2 on disk and a single one batched
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue("msg" + i, "key");
+        }
+
+        assertThat(queue.drainInMemory().stream().map(Map.Entry::getValue).collect(Collectors.toList()),
+                equalTo(Arrays.asList("msg0", "msg1", "msg4")));
+        assertThat(queue.getSize(), equalTo(2));
+
+        // The batch on disk is still there once the queue is opened again
+        queue = new QueueFileOffHeapDispatchQueue<>(String::getBytes, String::new,
+                "canDrainWhatIsInMemory", path, 2, 2, 10000);
+        assertThat(queue.getSize(), equalTo(2));
+    }
+
     @Test
     public void canQueueAndDequeueInParallel() throws IOException {
         DispatchQueue<String> queue = new QueueFileOffHeapDispatchQueue<>(String::getBytes, String::new,
@@ -0,0 +1,320 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opennms.core.ipc.sink.api.AsyncPolicy;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+import org.opennms.core.ipc.sink.offheap.SegmentedLogOffHeapDispatchQueue.OverflowPolicy;
+
+public class SegmentedLogOffHeapDispatchQueueTest {
+
+    // Holds 10 of the messages used below, which take 8 bytes of payload and 8 bytes of header
+    private static final long SEGMENT_SIZE = 160;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void canQueueAndDequeueAcrossSegments() throws IOException, WriteFailedException, InterruptedException {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canQueueAndDequeueAcrossSegments", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            final List<String> toQueue = messages(95);
+            for (String s : toQueue) {
+                assertThat(queue.enqueue(s, "key" + s), equalTo(DispatchQueue.EnqueueResult.DEFERRED));
+            }
+            assertThat(queue.getSize(), equalTo(95));
+            assertThat(queue.getSegmentCount(), equalTo(10));
+
+            final List<String> dequeued = new ArrayList<>();
+            while (queue.getSize() > 0) {
+                dequeued.add(queue.dequeue().getValue());
+            }
+            assertThat(dequeued, equalTo(toQueue));
+            // Consumed segments are deleted
+            assertThat(queue.getSegmentCount(), equalTo(1));
+        }
+    }
+
+    @Test
+    public void canRecoverAfterRestart() throws IOException, WriteFailedException, InterruptedException {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        final List<String> toQueue = messages(35);
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canRecoverAfterRestart", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            for (String s : toQueue) {
+                queue.enqueue(s, null);
+            }
+            for (int i = 0; i < 12; i++) {
+                assertThat(queue.dequeue().getValue(), equalTo(toQueue.get(i)));
+            }
+        }
+
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canRecoverAfterRestart", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            assertThat(queue.getSize(), equalTo(23));
+            queue.enqueue("msg-0035", null);
+            final List<String> dequeued = new ArrayList<>();
+            while (queue.getSize() > 0) {
+                dequeued.add(queue.dequeue().getValue());
+            }
+            final List<String> expected = new ArrayList<>(toQueue.subList(12, 35));
+            expected.add("msg-0035");
+            assertThat(dequeued, equalTo(expected));
+        }
+    }
+
+    @Test
+    public void canDropOldestSegment() throws IOException, WriteFailedException, InterruptedException {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canDropOldestSegment", 3 * SEGMENT_SIZE, OverflowPolicy.DROP_OLDEST)) {
+            final List<String> toQueue = messages(40);
+            for (String s : toQueue) {
+                queue.enqueue(s, null);
+            }
+            assertThat(queue.isFull(), is(false));
+            assertThat(queue.getSegmentCount(), equalTo(3));
+            assertThat(queue.getDroppedCount(), equalTo(10L));
+            assertThat(queue.getSize(), equalTo(30));
+            assertThat(queue.dequeue().getValue(), equalTo(toQueue.get(10)));
+        }
+    }
+
+    @Test
+    public void canDropNewestMessages() throws IOException, WriteFailedException, InterruptedException {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canDropNewestMessages", 3 * SEGMENT_SIZE, OverflowPolicy.DROP_NEWEST)) {
+            final List<String> toQueue = messages(40);
+            int failed = 0;
+            for (String s : toQueue) {
+                try {
+                    queue.enqueue(s, null);
+                } catch (WriteFailedException e) {
+                    // The producer learns about the dropped message
+                    failed++;
+                }
+            }
+            assertThat(failed, equalTo(10));
+            assertThat(queue.isFull(), is(true));
+            assertThat(queue.getDroppedCount(), equalTo(10L));
+            assertThat(queue.getSize(), equalTo(30));
+            assertThat(queue.dequeue().getValue(), equalTo(toQueue.get(0)));
+        }
+    }
+
+    @Test
+    public void blocksWhenFull() throws Exception {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "blocksWhenFull", 2 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            final List<String> toQueue = messages(21);
+            for (String s : toQueue.subList(0, 20)) {
+                queue.enqueue(s, null);
+            }
+
+            final CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+                try {
+                    queue.enqueue(toQueue.get(20), null);
+                } catch (WriteFailedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            await().atMost(10, TimeUnit.SECONDS).until(queue::isFull);
+            assertThat(blocked.isDone(), is(false));
+
+            // Consuming the first segment makes room for the blocked message
+            for (int i = 0; i < 10; i++) {
+                assertThat(queue.dequeue().getValue(), equalTo(toQueue.get(i)));
+            }
+            blocked.get(10, TimeUnit.SECONDS);
+            assertThat(queue.isFull(), is(false));
+            assertThat(queue.getSize(), equalTo(11));
+        }
+    }
+
+    @Test
+    public void canQueueAndDequeueInParallel() throws Exception {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canQueueAndDequeueInParallel", 4 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            final List<String> toQueue = messages(5000);
+            final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+                for (String s : toQueue) {
+                    try {
+                        queue.enqueue(s, null);
+                    } catch (WriteFailedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+            final List<String> dequeued = new ArrayList<>();
+            while (dequeued.size() < toQueue.size()) {
+                dequeued.add(queue.dequeue().getValue());
+                assertThat(queue.getSegmentCount(), lessThanOrEqualTo(4));
+            }
+            producer.get(1, TimeUnit.MINUTES);
+            assertThat(dequeued, equalTo(toQueue));
+            assertThat(queue.getSize(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void canClose() throws Exception {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        final SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "canClose", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK);
+        final CompletableFuture<Void> consumer = CompletableFuture.runAsync(() -> {
+            try {
+                queue.dequeue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        queue.enqueue("msg-0000", null);
+        consumer.get(10, TimeUnit.SECONDS);
+        queue.enqueue("msg-0001", null);
+
+        final CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                queue.dequeue();
+                queue.dequeue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        await().atMost(10, TimeUnit.SECONDS).until(() -> queue.getSize() == 0);
+
+        queue.close();
+        queue.close();
+        try {
+            blocked.get(10, TimeUnit.SECONDS);
+            fail("Consumers waiting for a message must be interrupted");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause().getCause() instanceof InterruptedException, is(true));
+        }
+        try {
+            queue.enqueue("msg-0002", null);
+            fail("Closed queues must not accept messages");
+        } catch (WriteFailedException e) {
+            // Expected
+        }
+
+        try (SegmentedLogOffHeapDispatchQueue<String> reopened = newQueue(path, "canClose", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            assertThat(reopened.getSize(), equalTo(0));
+            reopened.enqueue("msg-0003", null);
+            assertThat(reopened.dequeue().getValue(), equalTo("msg-0003"));
+        }
+    }
+
+    @Test
+    public void factoryClosesItsQueues() throws Exception {
+        final QueueFileOffHeapDispatchQueueFactory factory = new QueueFileOffHeapDispatchQueueFactory(1, 1, "1MB",
+                folder.newFolder().getAbsolutePath());
+        factory.setQueueType(QueueFileOffHeapDispatchQueueFactory.QUEUE_TYPE_SEGMENTED_LOG);
+        factory.setSegmentSize("64KB");
+        final DispatchQueue<String> queue = factory.getQueue(new AsyncPolicy() {
+            @Override
+            public int getQueueSize() {
+                return 1;
+            }
+
+            @Override
+            public int getNumThreads() {
+                return 1;
+            }
+
+            @Override
+            public boolean isBlockWhenFull() {
+                return true;
+            }
+        }, "factoryClosesItsQueues", String::getBytes, String::new);
+        queue.enqueue("msg-0000", null);
+
+        factory.destroy();
+        try {
+            queue.enqueue("msg-0001", null);
+            fail("The queues must be closed with the factory");
+        } catch (WriteFailedException e) {
+            // Expected
+        }
+    }
+
+    @Test(expected = WriteFailedException.class)
+    public void rejectsMessagesLargerThanSegment() throws IOException, WriteFailedException {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "rejectsMessagesLargerThanSegment", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            queue.enqueue(String.join("", messages(20)), null);
+        }
+    }
+
+    @Test
+    public void rejectsEmptyMessages() throws IOException, WriteFailedException, InterruptedException {
+        final Path path = Paths.get(folder.newFolder().toURI());
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "rejectsEmptyMessages", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            queue.enqueue("msg-0000", null);
+            try {
+                queue.enqueue("", null);
+                fail("Empty messages must be rejected");
+            } catch (WriteFailedException e) {
+                // Expected
+            }
+            queue.enqueue("msg-0001", null);
+            assertThat(queue.getSize(), equalTo(2));
+        }
+
+        // The messages written after the rejected one must survive a restart
+        try (SegmentedLogOffHeapDispatchQueue<String> queue = newQueue(path, "rejectsEmptyMessages", 100 * SEGMENT_SIZE, OverflowPolicy.BLOCK)) {
+            assertThat(queue.getSize(), equalTo(2));
+            assertThat(queue.dequeue().getValue(), equalTo("msg-0000"));
+            assertThat(queue.dequeue().getValue(), equalTo("msg-0001"));
+        }
+    }
+
+    private static SegmentedLogOffHeapDispatchQueue<String> newQueue(Path path, String moduleName, long maxSize,
+                                                                    OverflowPolicy overflowPolicy) throws IOException {
+        return new SegmentedLogOffHeapDispatchQueue<>(String::getBytes, String::new, moduleName, path,
+                SEGMENT_SIZE, maxSize, overflowPolicy, 10);
+    }
+
+    private static List<String> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.format("msg-%04d", i))
+                .collect(Collectors.toList());
+    }
+}
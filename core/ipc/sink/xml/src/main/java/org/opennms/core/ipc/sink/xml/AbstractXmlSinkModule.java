@@ -21,40 +21,27 @@
  */
 package org.opennms.core.ipc.sink.xml;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import org.opennms.core.ipc.sink.api.SinkModule;
-import org.opennms.core.xml.XmlHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.opennms.core.ipc.sink.api.Message;
 
 public abstract class AbstractXmlSinkModule<S extends Message, T extends Message> implements SinkModule<S, T> {
 
-    private static final Logger LOG = LoggerFactory.getLogger(AbstractXmlSinkModule.class);
-
-    private final Class<T> messageClazz;
-
-    /**
-     * Store a thread-local reference to the {@link XmlHandler} because 
-     * Unmarshalers are not thread-safe.
-     */
-    private final ThreadLocal<XmlHandler<T>> messageXmlHandler = new ThreadLocal<>();
-
+    private final XmlSinkMarshaller<T> xmlMarshaller;
 
     public AbstractXmlSinkModule(Class<T> messageClazz) {
-        this.messageClazz = Objects.requireNonNull(messageClazz);
+        this.xmlMarshaller = new XmlSinkMarshaller<>(messageClazz);
     }
 
     @Override
     public byte[] marshal(T message) {
-        return getXmlHandler().marshal(message).getBytes(StandardCharsets.UTF_8);
+        return xmlMarshaller.marshal(message);
     }
 
     @Override
     public T unmarshal(byte[] bytes) {
-        return getXmlHandler().unmarshal(new String(bytes, StandardCharsets.UTF_8));
+        return xmlMarshaller.unmarshal(bytes);
     }
 
     @Override
@@ -80,26 +67,4 @@ public abstract class AbstractXmlSinkModule<S extends Message, T extends Message
         if (obj == null) return false;
         return getClass() == obj.getClass();
     }
-
-    private XmlHandler<T> getXmlHandler() {
-        XmlHandler<T> xmlHandler = messageXmlHandler.get();
-        if (xmlHandler == null) {
-            xmlHandler = createXmlHandler(messageClazz);
-            messageXmlHandler.set(xmlHandler);
-        }
-        return xmlHandler;
-    }
-
-    private <W> XmlHandler<W> createXmlHandler(Class<W> clazz) {
-        try {
-            return new XmlHandler<>(clazz);
-        } catch (Throwable t) {
-            // NMS-8793: This is a work-around for some failure in the Minion container
-            // When invoked for the first time, the creation may fail due to
-            // errors of the form "invalid protocol handler: mvn", but subsequent
-            // calls always seem to work
-            LOG.warn("Creating the XmlHandler failed. Retrying.", t);
-            return new XmlHandler<>(clazz);
-        }
-    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.xml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.opennms.core.xml.XmlHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Marshals Sink messages to and from XML.
+ *
+ * Used by {@link AbstractXmlSinkModule} and as the fallback of the modules that
+ * extend {@link org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule}.
+ */
+public class XmlSinkMarshaller<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlSinkMarshaller.class);
+
+    private final Class<T> messageClazz;
+
+    /**
+     * Store a thread-local reference to the {@link XmlHandler} because 
+     * Unmarshalers are not thread-safe.
+     */
+    private final ThreadLocal<XmlHandler<T>> messageXmlHandler = new ThreadLocal<>();
+
+    public XmlSinkMarshaller(Class<T> messageClazz) {
+        this.messageClazz = Objects.requireNonNull(messageClazz);
+    }
+
+    public byte[] marshal(T message) {
+        return getXmlHandler().marshal(message).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public T unmarshal(byte[] bytes) {
+        return getXmlHandler().unmarshal(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private XmlHandler<T> getXmlHandler() {
+        XmlHandler<T> xmlHandler = messageXmlHandler.get();
+        if (xmlHandler == null) {
+            xmlHandler = createXmlHandler(messageClazz);
+            messageXmlHandler.set(xmlHandler);
+        }
+        return xmlHandler;
+    }
+
+    private <W> XmlHandler<W> createXmlHandler(Class<W> clazz) {
+        try {
+            return new XmlHandler<>(clazz);
+        } catch (Throwable t) {
+            // NMS-8793: This is a work-around for some failure in the Minion container
+            // When invoked for the first time, the creation may fail due to
+            // errors of the form "invalid protocol handler: mvn", but subsequent
+            // calls always seem to work
+            LOG.warn("Creating the XmlHandler failed. Retrying.", t);
+            return new XmlHandler<>(clazz);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.util.Objects;
+
+import org.snmp4j.security.AuthenticationProtocol;
+import org.snmp4j.security.PrivacyProtocol;
+import org.snmp4j.security.SecurityProtocol;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+
+/**
+ * {@link SecurityProtocols} that look the localized keys up in a {@link LocalizedKeyCache}
+ * before localizing them. All other calls are passed on to the given protocols, so that
+ * the protocols added to them are used.
+ */
+public class CachingSecurityProtocols extends SecurityProtocols {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SecurityProtocols delegate;
+
+    private final transient LocalizedKeyCache cache;
+
+    public CachingSecurityProtocols(final SecurityProtocols delegate, final LocalizedKeyCache cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public byte[] passwordToKey(final OID authProtocolID, final OctetString passwordString, final byte[] engineID) {
+        return cache.get(null, authProtocolID, passwordString, engineID,
+                () -> delegate.passwordToKey(authProtocolID, passwordString, engineID));
+    }
+
+    @Override
+    public byte[] passwordToKey(final OID privProtocolID, final OID authProtocolID, final OctetString passwordString, final byte[] engineID) {
+        return cache.get(privProtocolID, authProtocolID, passwordString, engineID,
+                () -> delegate.passwordToKey(privProtocolID, authProtocolID, passwordString, engineID));
+    }
+
+    @Override
+    public SecurityProtocol getSecurityProtocol(final OID oid) {
+        return delegate.getSecurityProtocol(oid);
+    }
+
+    @Override
+    public SecurityProtocols addDefaultProtocols() {
+        delegate.addDefaultProtocols();
+        return this;
+    }
+
+    @Override
+    public void addAuthenticationProtocol(final AuthenticationProtocol auth) {
+        delegate.addAuthenticationProtocol(auth);
+    }
+
+    @Override
+    public AuthenticationProtocol getAuthenticationProtocol(final OID id) {
+        return delegate.getAuthenticationProtocol(id);
+    }
+
+    @Override
+    public void removeAuthenticationProtocol(final AuthenticationProtocol auth) {
+        delegate.removeAuthenticationProtocol(auth);
+    }
+
+    @Override
+    public void addPrivacyProtocol(final PrivacyProtocol priv) {
+        delegate.addPrivacyProtocol(priv);
+    }
+
+    @Override
+    public PrivacyProtocol getPrivacyProtocol(final OID privProtocolID) {
+        return delegate.getPrivacyProtocol(privProtocolID);
+    }
+
+    @Override
+    public void removePrivacyProtocol(final PrivacyProtocol priv) {
+        delegate.removePrivacyProtocol(priv);
+    }
+
+    @Override
+    public int getMaxAuthDigestLength() {
+        return delegate.getMaxAuthDigestLength();
+    }
+
+    @Override
+    public int getMaxPrivDecryptParamsLength() {
+        return delegate.getMaxPrivDecryptParamsLength();
+    }
+
+    @Override
+    public byte[] truncateKey(final byte[] key, final int newLength) {
+        return delegate.truncateKey(key, newLength);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.opennms.core.sysprops.SystemProperties;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+
+/**
+ * A bounded cache of the keys localized from the passphrases of the SNMPv3 users.
+ *
+ * Localizing a key hashes a megabyte of data derived from the passphrase, which is done
+ * whenever a USM meets an engine it did not localize the keys of the user for yet: for every
+ * agent sending traps after the listener was (re)started, and for every SNMPv3 session, since
+ * a session gets a USM of its own. The keys only depend on the protocols, the passphrase and
+ * the engine ID, so that they are cached by these, and shared by all of the USMs using the
+ * {@link CachingSecurityProtocols}.
+ *
+ * The passphrases are only held as digests. The least recently used keys are evicted once
+ * the {@value #MAX_SIZE_PROPERTY} system property is exceeded, and the keys of a user can be
+ * evicted when its credentials change, see {@link #invalidate(UsmUser)}.
+ */
+public class LocalizedKeyCache {
+
+    public static final String MAX_SIZE_PROPERTY = "org.opennms.snmp.snmp4j.localizedKeyCacheSize";
+
+    private static final LocalizedKeyCache INSTANCE = new LocalizedKeyCache(SystemProperties.getInteger(MAX_SIZE_PROPERTY, 50000));
+
+    private final int maxSize;
+
+    private final Map<Key, byte[]> keys;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    public LocalizedKeyCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.keys = new LinkedHashMap<Key, byte[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, byte[]> eldest) {
+                return size() > LocalizedKeyCache.this.maxSize;
+            }
+        };
+    }
+
+    public static LocalizedKeyCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the key localized from the given passphrase, localizing it if it is not cached yet.
+     *
+     * @param privProtocol the privacy protocol of privacy keys, or null for authentication keys
+     * @param authProtocol the authentication protocol
+     * @param passphrase the passphrase
+     * @param engineID the ID of the engine the key is localized for
+     * @param localizer localizes the key
+     * @return the localized key, or null if it could not be localized
+     */
+    public byte[] get(final OID privProtocol, final OID authProtocol, final OctetString passphrase, final byte[] engineID, final Supplier<byte[]> localizer) {
+        if (maxSize <= 0 || passphrase == null || engineID == null) {
+            return localizer.get();
+        }
+        final Key key = new Key(privProtocol, authProtocol, digest(passphrase), engineID);
+        byte[] localizedKey;
+        synchronized (keys) {
+            localizedKey = keys.get(key);
+        }
+        if (localizedKey != null) {
+            hits.incrementAndGet();
+            return localizedKey.clone();
+        }
+
+        // Localize outside of the lock, concurrent localizations of the same key give the same result
+        misses.incrementAndGet();
+        localizedKey = localizer.get();
+        if (localizedKey != null) {
+            synchronized (keys) {
+                keys.put(key, localizedKey.clone());
+            }
+        }
+        return localizedKey;
+    }
+
+    /**
+     * Evicts the keys localized from the passphrases of the given user.
+     */
+    public void invalidate(final UsmUser user) {
+        final byte[] authDigest = user.getAuthenticationPassphrase() == null ? null : digest(user.getAuthenticationPassphrase());
+        final byte[] privDigest = user.getPrivacyPassphrase() == null ? null : digest(user.getPrivacyPassphrase());
+        synchronized (keys) {
+            final Iterator<Key> it = keys.keySet().iterator();
+            while (it.hasNext()) {
+                final Key key = it.next();
+                if (!Objects.equals(key.authProtocol, user.getAuthenticationProtocol())) {
+                    continue;
+                }
+                if (key.privProtocol == null ? Arrays.equals(key.passphraseDigest, authDigest)
+                        : key.privProtocol.equals(user.getPrivacyProtocol()) && Arrays.equals(key.passphraseDigest, privDigest)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (keys) {
+            keys.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static byte[] digest(final OctetString passphrase) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(passphrase.getValue());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Key {
+        private final OID privProtocol;
+        private final OID authProtocol;
+        private final byte[] passphraseDigest;
+        private final ByteBuffer engineID;
+        private final int hashCode;
+
+        private Key(final OID privProtocol, final OID authProtocol, final byte[] passphraseDigest, final byte[] engineID) {
+            this.privProtocol = privProtocol;
+            this.authProtocol = authProtocol;
+            this.passphraseDigest = passphraseDigest;
+            this.engineID = ByteBuffer.wrap(engineID.clone());
+            this.hashCode = Objects.hash(privProtocol, authProtocol, Arrays.hashCode(passphraseDigest), this.engineID);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key that = (Key) o;
+            return hashCode == that.hashCode
+                    && Objects.equals(privProtocol, that.privProtocol)
+                    && Objects.equals(authProtocol, that.authProtocol)
+                    && Arrays.equals(passphraseDigest, that.passphraseDigest)
+                    && engineID.equals(that.engineID);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.TransportMapping;
+import org.snmp4j.TransportStateReference;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.transport.TransportListener;
+
+/**
+ * Passes the messages received by one or more transports on to the given listeners
+ * on a fixed set of single-threaded lanes.
+ *
+ * Messages are assigned to a lane by hashing the address of their sender, so that the
+ * messages of a given agent are processed in the order in which they were received,
+ * while the messages of different agents are decoded, authenticated and decrypted in
+ * parallel. The transport blocks once the queue of a lane is full.
+ *
+ * The transports must copy every message they receive, which is what the SNMP4J
+ * transports do unless asynchronous message processing was turned off.
+ */
+public class PartitionedTransportListener implements TransportListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedTransportListener.class);
+
+    private final ThreadPoolExecutor[] m_lanes;
+
+    private final List<TransportListener> m_listeners;
+
+    /**
+     * @param name the prefix of the names of the threads
+     * @param numLanes the number of lanes
+     * @param queueLength the maximum number of messages queued on a single lane
+     * @param listeners the listeners to pass the messages on to, in this order
+     */
+    public PartitionedTransportListener(final String name, final int numLanes, final int queueLength, final List<TransportListener> listeners) {
+        if (numLanes < 1) {
+            throw new IllegalArgumentException("numLanes must be greater than 0");
+        }
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("queueLength must be greater than 0");
+        }
+        m_listeners = new ArrayList<>(Objects.requireNonNull(listeners));
+
+        m_lanes = new ThreadPoolExecutor[numLanes];
+        for (int i = 0; i < numLanes; i++) {
+            final String threadName = name + "-" + i;
+            m_lanes[i] = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueLength),
+                r -> new Thread(r, threadName),
+                (r, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Lane " + threadName + " is shut down.");
+                    }
+                    try {
+                        executor.getQueue().put(r);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for lane " + threadName + ".", e);
+                    }
+                }
+            );
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void processMessage(final TransportMapping sourceTransport, final Address incomingAddress, final ByteBuffer wholeMessage, final TransportStateReference tmStateReference) {
+        try {
+            m_lanes[getLane(incomingAddress)].execute(() -> {
+                for (final TransportListener listener : m_listeners) {
+                    try {
+                        listener.processMessage(sourceTransport, incomingAddress, wholeMessage, tmStateReference);
+                    } catch (final RuntimeException e) {
+                        LOG.warn("Failed to process message received from {}.", incomingAddress, e);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            LOG.debug("Dropping message received from {}: {}", incomingAddress, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of messages waiting to be processed over all of the lanes
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (final ThreadPoolExecutor lane : m_lanes) {
+            size += lane.getQueue().size();
+        }
+        return size;
+    }
+
+    public int getNumLanes() {
+        return m_lanes.length;
+    }
+
+    /**
+     * Stops the lanes once the messages already queued were processed.
+     */
+    public void shutdown() {
+        for (final ThreadPoolExecutor lane : m_lanes) {
+            lane.shutdown();
+        }
+    }
+
+    protected int getLane(final Address address) {
+        final Object key = address instanceof IpAddress ? ((IpAddress) address).getInetAddress() : address;
+        final int h = key == null ? 0 : key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), m_lanes.length);
+    }
+}
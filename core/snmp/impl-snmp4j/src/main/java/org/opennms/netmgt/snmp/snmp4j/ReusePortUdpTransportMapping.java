@@ -0,0 +1,69 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.StandardSocketOptions;
+
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * A {@link DefaultUdpTransportMapping} whose socket is bound with {@code SO_REUSEPORT},
+ * so that several of them can listen on the same address and port. The kernel spreads
+ * the datagrams over the sockets by hashing the address and port of their sender,
+ * so that those sent by a given agent are all received by the same socket.
+ */
+public class ReusePortUdpTransportMapping extends DefaultUdpTransportMapping {
+
+    public ReusePortUdpTransportMapping(final UdpAddress udpAddress) throws IOException {
+        // The super class binds its socket right away, release it and bind our own
+        super(new UdpAddress(udpAddress.getInetAddress(), 0), true);
+        socket.close();
+
+        this.udpAddress = udpAddress;
+        final DatagramSocket reusePortSocket = new DatagramSocket(null);
+        try {
+            reusePortSocket.setReuseAddress(true);
+            reusePortSocket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            reusePortSocket.bind(new InetSocketAddress(udpAddress.getInetAddress(), udpAddress.getPort()));
+        } catch (final IOException | RuntimeException e) {
+            reusePortSocket.close();
+            throw e;
+        }
+        socket = reusePortSocket;
+    }
+
+    /**
+     * @return true if sockets can be bound with {@code SO_REUSEPORT} on this platform
+     */
+    public static boolean isSupported() {
+        try (final DatagramSocket socket = new DatagramSocket(null)) {
+            return socket.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+        } catch (final SocketException e) {
+            return false;
+        }
+    }
+}
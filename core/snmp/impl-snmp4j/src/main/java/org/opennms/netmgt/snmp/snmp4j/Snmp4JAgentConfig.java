@@ -49,7 +49,6 @@ import org.snmp4j.security.PrivAES192;
 import org.snmp4j.security.PrivAES256;
 import org.snmp4j.security.PrivDES;
 import org.snmp4j.security.SecurityLevel;
-import org.snmp4j.security.SecurityProtocols;
 import org.snmp4j.security.USM;
 import org.snmp4j.security.UsmUser;
 import org.snmp4j.smi.Address;
@@ -356,7 +355,7 @@ public class Snmp4JAgentConfig {
             session = new Snmp(disp, transport);
         } else {
             // Make a new USM
-            final USM usm = new USM(SecurityProtocols.getInstance(), new OctetString(MPv3.createLocalEngineID()), 0);
+            final USM usm = new USM(Snmp4JStrategy.getSecurityProtocols(), new OctetString(MPv3.createLocalEngineID()), 0);
             // Add the specified user to the USM
             usm.addUser(
                 getSecurityName(),
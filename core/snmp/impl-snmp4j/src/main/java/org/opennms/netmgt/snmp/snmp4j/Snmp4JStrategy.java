@@ -27,6 +27,7 @@ import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -109,6 +110,7 @@ import org.snmp4j.smi.SMIConstants;
 import org.snmp4j.smi.UdpAddress;
 import org.snmp4j.smi.VariableBinding;
 import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.snmp4j.transport.TransportListener;
 
 
 public class Snmp4JStrategy implements SnmpStrategy {
@@ -127,6 +129,11 @@ public class Snmp4JStrategy implements SnmpStrategy {
 
     private static USM m_usm;
 
+    private static SecurityProtocols s_securityProtocols;
+
+    // The users the traps were last registered with
+    private static List<UsmUser> s_trapUsers = new ArrayList<>();
+
     private Snmp4JValueFactory m_valueFactory;
 
     private static ScheduledExecutorService s_sessionStatsExecutor;
@@ -135,10 +142,22 @@ public class Snmp4JStrategy implements SnmpStrategy {
     private static long s_trackSummaryDelay = SystemProperties.getLong("org.opennms.core.snmp.trackSummaryDelay", 60);
     private static long s_trackSummaryLimit = SystemProperties.getLong("org.opennms.core.snmp.trackSummaryLimit", 10);
 
+    /**
+     * The number of sockets bound to the trap port with SO_REUSEPORT, each one read by a thread of its own.
+     */
+    private static final String TRAP_LISTENER_SOCKETS_PROPERTY = "org.opennms.snmp.snmp4j.trapListenerSockets";
+
+    /**
+     * The number of threads decoding the received traps, or 0 to decode them on the threads reading the sockets.
+     */
+    private static final String TRAP_WORKER_THREADS_PROPERTY = "org.opennms.snmp.snmp4j.trapWorkerThreads";
+
+    private static final String TRAP_WORKER_QUEUE_SIZE_PROPERTY = "org.opennms.snmp.snmp4j.trapWorkerQueueSize";
+
     /**
      * Initialize for v3 communications
      */
-    private static void initialize() {
+    private static synchronized void initialize() {
         if (s_initialized) {
             return;
         }
@@ -165,8 +184,18 @@ public class Snmp4JStrategy implements SnmpStrategy {
         // Adding it manually here results in it being registered with the correct ID
         SecurityProtocols.getInstance().addPrivacyProtocol(new PrivAES256());
 
+        s_securityProtocols = new CachingSecurityProtocols(SecurityProtocols.getInstance(), LocalizedKeyCache.getInstance());
+
         s_initialized = true;
     }
+
+    /**
+     * @return the security protocols of the USMs, sharing the keys they localize
+     */
+    protected static SecurityProtocols getSecurityProtocols() {
+        initialize();
+        return s_securityProtocols;
+    }
     
     public Snmp4JStrategy() {
         initialize();
@@ -509,6 +538,7 @@ public class Snmp4JStrategy implements SnmpStrategy {
         Snmp m_trapSession;
         Snmp4JTrapNotifier m_trapHandler;
         private TransportMapping<UdpAddress> m_transportMapping;
+        private PartitionedTransportListener m_workers;
 		private InetAddress m_address;
 		private int m_port;
         
@@ -562,6 +592,14 @@ public class Snmp4JStrategy implements SnmpStrategy {
         public TransportMapping<UdpAddress> getTransportMapping() {
             return m_transportMapping;
         }
+
+        public void setWorkers(final PartitionedTransportListener workers) {
+            m_workers = workers;
+        }
+
+        public PartitionedTransportListener getWorkers() {
+            return m_workers;
+        }
         
         @Override
         public int hashCode() {
@@ -593,13 +631,37 @@ public class Snmp4JStrategy implements SnmpStrategy {
         	udpAddress = new UdpAddress(address, snmpTrapPort);
         }
 
-        // Set socket option SO_REUSEADDR so that we can bind to the port even if it
-        // has recently been closed by passing 'true' as the second argument here.
-        final DefaultUdpTransportMapping transport = new DefaultUdpTransportMapping(udpAddress, true);
-        // Increase the receive buffer for the socket
-        LOG.debug("Attempting to set receive buffer size to {}", Integer.MAX_VALUE);
-        transport.setReceiveBufferSize(Integer.MAX_VALUE);
-        LOG.debug("Actual receive buffer size is {}", transport.getReceiveBufferSize());
+        int numSockets = Math.max(1, SystemProperties.getInteger(TRAP_LISTENER_SOCKETS_PROPERTY, 1));
+        if (numSockets > 1 && !ReusePortUdpTransportMapping.isSupported()) {
+            LOG.warn("SO_REUSEPORT is not supported on this platform, listening for traps on a single socket.");
+            numSockets = 1;
+        }
+
+        final List<DefaultUdpTransportMapping> transports = new ArrayList<>(numSockets);
+        try {
+            for (int i = 0; i < numSockets; i++) {
+                final DefaultUdpTransportMapping transport;
+                if (numSockets > 1) {
+                    transport = new ReusePortUdpTransportMapping(udpAddress);
+                    transport.setThreadName("DefaultUDPTransportMapping_" + udpAddress + "-" + i);
+                } else {
+                    // Set socket option SO_REUSEADDR so that we can bind to the port even if it
+                    // has recently been closed by passing 'true' as the second argument here.
+                    transport = new DefaultUdpTransportMapping(udpAddress, true);
+                }
+                // Increase the receive buffer for the socket
+                LOG.debug("Attempting to set receive buffer size to {}", Integer.MAX_VALUE);
+                transport.setReceiveBufferSize(Integer.MAX_VALUE);
+                LOG.debug("Actual receive buffer size is {}", transport.getReceiveBufferSize());
+                transports.add(transport);
+            }
+        } catch (final IOException e) {
+            for (final DefaultUdpTransportMapping transport : transports) {
+                transport.close();
+            }
+            throw e;
+        }
+        final DefaultUdpTransportMapping transport = transports.get(0);
 
         info.setTransportMapping(transport);
 
@@ -609,8 +671,15 @@ public class Snmp4JStrategy implements SnmpStrategy {
         dispatcher.addMessageProcessingModel(new MPv2c());
         dispatcher.addMessageProcessingModel(new MPv3(getLocalEngineID()));
 
-        Snmp snmp = new Snmp(dispatcher, transport);
-        m_usm = new USM(SecurityProtocols.getInstance(), new OctetString(getLocalEngineID()), 0);
+        // The dispatchers every received message is passed on to, in this order
+        final List<TransportListener> listeners = new ArrayList<>();
+        listeners.add(dispatcher);
+
+        Snmp snmp = new Snmp(dispatcher);
+        for (final DefaultUdpTransportMapping t : transports) {
+            dispatcher.addTransportMapping(t);
+        }
+        m_usm = new USM(getSecurityProtocols(), new OctetString(getLocalEngineID()), 0);
         SecurityModels.getInstance().addSecurityModel(m_usm);
 
         if (snmpUsers != null) {
@@ -635,6 +704,8 @@ public class Snmp4JStrategy implements SnmpStrategy {
                         // Use the same key as SNMP4J uses in the UserTable
                     }).collect(Collectors.groupingBy(user ->new UsmUserTable.UsmUserKey(new UsmUserEntry(user.getSecurityName(), user))));
 
+            invalidateChangedUsers(usmUsersByKey.values().stream().flatMap(List::stream).collect(Collectors.toList()));
+
             // The map may contain a list with multiple entries for a given key
             // Process the first entries by adding all users to the default USM context
             usmUsersByKey.values().stream()
@@ -653,8 +724,7 @@ public class Snmp4JStrategy implements SnmpStrategy {
             // All SNMPv3 packets are expected to be processed by all processors, but only 1 is expected to respond
             for (int k = 1; k < maxNumUniqueDefs; k++) {
                 // New USM context with same engine ID
-                USM usm = new USM();
-                usm.setLocalEngine(new OctetString(getLocalEngineID()), 0, 0);
+                USM usm = new USM(getSecurityProtocols(), new OctetString(getLocalEngineID()), 0);
 
                 // Add all the corresponding users to the USM context
                 final int index = k;
@@ -677,9 +747,27 @@ public class Snmp4JStrategy implements SnmpStrategy {
                 nextDispatcher.addMessageProcessingModel(new NoOpMessageProcessor(MessageProcessingModel.MPv2c));
                 // Use the same trap notifier
                 nextDispatcher.addCommandResponder(trapNotifier);
-                transport.addTransportListener(nextDispatcher);
+                listeners.add(nextDispatcher);
+            }
+        }
+
+        final int numWorkers = SystemProperties.getInteger(TRAP_WORKER_THREADS_PROPERTY, 0);
+        if (numWorkers > 0) {
+            // Decode, authenticate and decrypt the traps in parallel, keeping those of a given agent in order
+            final PartitionedTransportListener workers = new PartitionedTransportListener("SNMP4J-Trap-Worker", numWorkers,
+                    SystemProperties.getInteger(TRAP_WORKER_QUEUE_SIZE_PROPERTY, 10000), listeners);
+            info.setWorkers(workers);
+            for (final DefaultUdpTransportMapping t : transports) {
+                t.addTransportListener(workers);
+            }
+        } else {
+            for (final DefaultUdpTransportMapping t : transports) {
+                for (final TransportListener l : listeners) {
+                    t.addTransportListener(l);
+                }
             }
         }
+        LOG.debug("Listening for traps on {} socket(s) with {} worker thread(s)", numSockets, numWorkers);
 
         Snmp4JStrategy.trackSession(snmp);
         snmp.addCommandResponder(trapNotifier);
@@ -690,6 +778,24 @@ public class Snmp4JStrategy implements SnmpStrategy {
         snmp.listen();
     }
 
+    /**
+     * Evicts the localized keys of the users whose credentials changed since the traps were last registered.
+     */
+    private static synchronized void invalidateChangedUsers(final List<UsmUser> users) {
+        for (final UsmUser previous : s_trapUsers) {
+            final boolean unchanged = users.stream().anyMatch(user -> Objects.equals(user.getSecurityName(), previous.getSecurityName())
+                    && Objects.equals(user.getAuthenticationProtocol(), previous.getAuthenticationProtocol())
+                    && Objects.equals(user.getAuthenticationPassphrase(), previous.getAuthenticationPassphrase())
+                    && Objects.equals(user.getPrivacyProtocol(), previous.getPrivacyProtocol())
+                    && Objects.equals(user.getPrivacyPassphrase(), previous.getPrivacyPassphrase()));
+            if (!unchanged) {
+                LOG.debug("Evicting the localized keys of SNMPv3 user {}", previous.getSecurityName());
+                LocalizedKeyCache.getInstance().invalidate(previous);
+            }
+        }
+        s_trapUsers = new ArrayList<>(users);
+    }
+
     private static class AuthenticationFailureLogger implements AuthenticationFailureListener, CommandResponder {
         private int currentDispatcher, maxDispatcher;
 
@@ -735,6 +841,9 @@ public class Snmp4JStrategy implements SnmpStrategy {
             LOG.error("session error unregistering for traps", e);
             throw e;
         } finally {
+            if (info.getWorkers() != null) {
+                info.getWorkers().shutdown();
+            }
             Snmp4JStrategy.reapSession(session);
         }
     }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OctetString;
+
+public class LocalizedKeyCacheTest {
+
+    private static final byte[] ENGINE_ID = new OctetString("engine-1").getValue();
+
+    private static final byte[] OTHER_ENGINE_ID = new OctetString("engine-2").getValue();
+
+    @Test
+    public void canCacheLocalizedKeys() {
+        final SecurityProtocols protocols = getSecurityProtocols();
+        final LocalizedKeyCache cache = new LocalizedKeyCache(10);
+        final CachingSecurityProtocols cachingProtocols = new CachingSecurityProtocols(protocols, cache);
+        final OctetString passphrase = new OctetString("0p3nNMSv3");
+
+        final byte[] authKey = protocols.passwordToKey(AuthSHA.ID, passphrase, ENGINE_ID);
+        final byte[] privKey = protocols.passwordToKey(PrivAES128.ID, AuthSHA.ID, passphrase, ENGINE_ID);
+
+        assertArrayEquals(authKey, cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, ENGINE_ID));
+        assertArrayEquals(privKey, cachingProtocols.passwordToKey(PrivAES128.ID, AuthSHA.ID, passphrase, ENGINE_ID));
+        assertEquals(2, cache.getMisses());
+
+        assertArrayEquals(authKey, cachingProtocols.passwordToKey(AuthSHA.ID, new OctetString("0p3nNMSv3"), ENGINE_ID));
+        assertArrayEquals(privKey, cachingProtocols.passwordToKey(PrivAES128.ID, AuthSHA.ID, passphrase, ENGINE_ID));
+        assertEquals(2, cache.getHits());
+
+        // Keys are localized per engine
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, OTHER_ENGINE_ID);
+        assertEquals(3, cache.getMisses());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void canInvalidateUser() {
+        final LocalizedKeyCache cache = new LocalizedKeyCache(10);
+        final CachingSecurityProtocols cachingProtocols = new CachingSecurityProtocols(getSecurityProtocols(), cache);
+        final UsmUser user = new UsmUser(new OctetString("user"), AuthSHA.ID, new OctetString("authPassphrase"), PrivAES128.ID, new OctetString("privPassphrase"));
+        final UsmUser other = new UsmUser(new OctetString("other"), AuthSHA.ID, new OctetString("otherPassphrase"), null, null);
+
+        for (byte[] engineID : new byte[][] { ENGINE_ID, OTHER_ENGINE_ID }) {
+            cachingProtocols.passwordToKey(AuthSHA.ID, user.getAuthenticationPassphrase(), engineID);
+            cachingProtocols.passwordToKey(PrivAES128.ID, AuthSHA.ID, user.getPrivacyPassphrase(), engineID);
+            cachingProtocols.passwordToKey(AuthSHA.ID, other.getAuthenticationPassphrase(), engineID);
+        }
+        assertEquals(6, cache.size());
+
+        cache.invalidate(user);
+        assertEquals(2, cache.size());
+
+        cachingProtocols.passwordToKey(AuthSHA.ID, other.getAuthenticationPassphrase(), ENGINE_ID);
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void canEvictLeastRecentlyUsedKeys() {
+        final LocalizedKeyCache cache = new LocalizedKeyCache(2);
+        final CachingSecurityProtocols cachingProtocols = new CachingSecurityProtocols(getSecurityProtocols(), cache);
+        final OctetString passphrase = new OctetString("0p3nNMSv3");
+
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, ENGINE_ID);
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, OTHER_ENGINE_ID);
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, ENGINE_ID);
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, new OctetString("engine-3").getValue());
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getMisses());
+
+        // engine-2 was the least recently used
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, ENGINE_ID);
+        assertEquals(2, cache.getHits());
+        cachingProtocols.passwordToKey(AuthSHA.ID, passphrase, OTHER_ENGINE_ID);
+        assertEquals(4, cache.getMisses());
+    }
+
+    private static SecurityProtocols getSecurityProtocols() {
+        // Registers the default protocols
+        new Snmp4JStrategy();
+        return SecurityProtocols.getInstance();
+    }
+}
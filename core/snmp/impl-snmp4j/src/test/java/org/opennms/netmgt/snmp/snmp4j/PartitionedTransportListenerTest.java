@@ -0,0 +1,114 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.transport.TransportListener;
+
+public class PartitionedTransportListenerTest {
+
+    @Test
+    public void canKeepMessagesOfAnAgentInOrder() throws Exception {
+        final Map<InetAddress, List<Integer>> received = new ConcurrentHashMap<>();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final AtomicInteger count = new AtomicInteger();
+        final TransportListener recorder = (transport, address, message, tmStateReference) -> {
+            threads.add(Thread.currentThread().getName());
+            received.computeIfAbsent(((UdpAddress) address).getInetAddress(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(message.getInt(0));
+        };
+        // Every listener gets every message, in order
+        final TransportListener counter = (transport, address, message, tmStateReference) -> count.incrementAndGet();
+
+        final PartitionedTransportListener workers = new PartitionedTransportListener("test", 4, 16, List.of(recorder, counter));
+        try {
+            for (int i = 0; i < 1000; i++) {
+                final UdpAddress address = new UdpAddress(InetAddress.getByName("10.0.0." + (i % 16)), 162);
+                workers.processMessage(null, address, ByteBuffer.allocate(4).putInt(0, i), null);
+            }
+            await().atMost(30, TimeUnit.SECONDS).until(() -> count.get() == 1000);
+        } finally {
+            workers.shutdown();
+        }
+
+        assertEquals(16, received.size());
+        for (final List<Integer> messages : received.values()) {
+            assertEquals(1000 / 16, messages.size(), 1);
+            for (int i = 1; i < messages.size(); i++) {
+                assertTrue(messages + " are out of order", messages.get(i - 1) < messages.get(i));
+            }
+        }
+        assertTrue(threads.size() > 1);
+    }
+
+    @Test
+    public void canShareThePortBetweenTransports() throws Exception {
+        Assume.assumeTrue(ReusePortUdpTransportMapping.isSupported());
+
+        final int port;
+        try (final DatagramSocket probe = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+
+        final UdpAddress udpAddress = new UdpAddress(InetAddress.getLoopbackAddress(), port);
+        final AtomicInteger count = new AtomicInteger();
+        final List<ReusePortUdpTransportMapping> transports = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2; i++) {
+                final ReusePortUdpTransportMapping transport = new ReusePortUdpTransportMapping(udpAddress);
+                transport.addTransportListener((t, address, message, tmStateReference) -> count.incrementAndGet());
+                transport.listen();
+                transports.add(transport);
+                assertEquals(port, transport.getListenAddress().getPort());
+            }
+
+            try (final DatagramSocket sender = new DatagramSocket()) {
+                final byte[] data = { 0x30, 0x00 };
+                sender.send(new DatagramPacket(data, data.length, InetAddress.getLoopbackAddress(), port));
+            }
+            await().atMost(30, TimeUnit.SECONDS).until(() -> count.get() == 1);
+        } finally {
+            for (final ReusePortUdpTransportMapping transport : transports) {
+                transport.close();
+            }
+        }
+    }
+}
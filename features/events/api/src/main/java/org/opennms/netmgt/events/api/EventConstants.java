@@ -415,6 +415,11 @@ public abstract class EventConstants {
      */
     public static final String DROOLS_ENGINE_ENCOUNTERED_EXCEPTION = "uei.opennms.org/internal/droolsEngineException";
 
+    /**
+     * Summary of the events suppressed by the eventd rate limiter.
+     */
+    public static final String EVENTS_SUPPRESSED_UEI = "uei.opennms.org/internal/eventd/eventsSuppressed";
+
     /**
      * Reload Daemon configuration UEI.
      */
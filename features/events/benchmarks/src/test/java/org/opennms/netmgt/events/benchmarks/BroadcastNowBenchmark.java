@@ -0,0 +1,156 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.netmgt.eventd.DefaultEventHandlerImpl;
+import org.opennms.netmgt.eventd.EventIpcManagerDefaultImpl;
+import org.opennms.netmgt.events.api.EventListener;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.xml.event.Event;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the fan-out of expanded events
+ * to the event listeners by {@link EventIpcManagerDefaultImpl#broadcastNow(Event, boolean)}.
+ * <p>
+ * A few listeners are interested in all events and the others in a handful of UEIs each,
+ * which resembles the set of daemons that are subscribed in a running system. The listeners
+ * themselves do nothing but count the events, so that the dispatching is measured.
+ */
+public class BroadcastNowBenchmark {
+
+    // the number of events that are broadcast in a single benchmark method call
+    // -> the reported number of operations per second must be multiplied by this number to get
+    //    the number of broadcasts per second
+    private static final int BATCH_SIZE = 1000;
+
+    private static final int NUM_LISTENERS_FOR_ALL_EVENTS = 2;
+
+    private static final int NUM_LISTENERS_FOR_UEIS = 20;
+
+    private static final int NUM_UEIS_PER_LISTENER = 5;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private final LongAdder received = new LongAdder();
+        private final List<EventListener> listeners = new ArrayList<>();
+        private EventIpcManagerDefaultImpl eventIpcManager;
+        private List<Event> events;
+
+        @Setup
+        public void setup() {
+            final MetricRegistry registry = new MetricRegistry();
+            eventIpcManager = new EventIpcManagerDefaultImpl(registry);
+            eventIpcManager.setEventHandler(new DefaultEventHandlerImpl(registry));
+            eventIpcManager.setHandlerPoolSize(1);
+            // Bound the queues of the listeners in case they can't keep up with the asynchronous broadcasts
+            eventIpcManager.setHandlerQueueLength(100000);
+            eventIpcManager.afterPropertiesSet();
+
+            events = EventFixtures.getExpandedEvents(EventFixtures.loadEventConfDao(), BATCH_SIZE);
+
+            for (int i = 0; i < NUM_LISTENERS_FOR_ALL_EVENTS; i++) {
+                final EventListener listener = new CountingEventListener("all-" + i, received);
+                eventIpcManager.addEventListener(listener);
+                listeners.add(listener);
+            }
+            for (int i = 0; i < NUM_LISTENERS_FOR_UEIS; i++) {
+                final List<String> ueis = new ArrayList<>(NUM_UEIS_PER_LISTENER);
+                for (int j = 0; j < NUM_UEIS_PER_LISTENER; j++) {
+                    ueis.add(events.get((i * NUM_UEIS_PER_LISTENER + j) % events.size()).getUei());
+                }
+                final EventListener listener = new CountingEventListener("ueis-" + i, received);
+                eventIpcManager.addEventListener(listener, ueis);
+                listeners.add(listener);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            for (final EventListener listener : listeners) {
+                eventIpcManager.removeEventListener(listener);
+            }
+        }
+    }
+
+    private static class CountingEventListener implements EventListener {
+        private final String name;
+        private final LongAdder received;
+
+        private CountingEventListener(final String name, final LongAdder received) {
+            this.name = name;
+            this.received = received;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void onEvent(final IEvent e) {
+            received.increment();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void broadcastNow(BState state) {
+        for (final Event e : state.events) {
+            state.eventIpcManager.broadcastNow(e, false);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void broadcastNowSynchronous(BState state) {
+        for (final Event e : state.events) {
+            state.eventIpcManager.broadcastNow(e, true);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.config.SyslogdConfigFactory;
+import org.opennms.netmgt.dao.api.AbstractInterfaceToNodeCache;
+import org.opennms.netmgt.dao.api.MonitoringLocationDao;
+import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.dao.mock.MockInterfaceToNodeCache;
+import org.opennms.netmgt.syslogd.ConvertToEvent;
+import org.opennms.netmgt.syslogd.MessageDiscardedException;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the conversion of syslog messages
+ * into events by {@link ConvertToEvent}, using the shipped syslogd configuration and the
+ * sample messages in syslogMessages.txt.
+ */
+public class ConvertToEventBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private final InetAddress source = InetAddressUtils.addr("10.0.0.1");
+        private final Date receivedTimestamp = new Date();
+        private SyslogdConfig config;
+        private List<ByteBuffer> messages;
+
+        @Setup
+        public void setup() throws Exception {
+            EventFixtures.useShippedConfiguration();
+            config = new SyslogdConfigFactory();
+
+            final MockInterfaceToNodeCache cache = new MockInterfaceToNodeCache();
+            for (int i = 1; i <= 15; i++) {
+                cache.setNodeId(MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID, InetAddressUtils.addr("10.0.0." + i), i);
+            }
+            AbstractInterfaceToNodeCache.setInstance(cache);
+
+            messages = new ArrayList<>();
+            for (final String message : EventFixtures.getSyslogMessages()) {
+                messages.add(ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII)));
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void convertToEvent(BState state, Blackhole blackhole) {
+        for (final ByteBuffer message : state.messages) {
+            try {
+                blackhole.consume(new ConvertToEvent(
+                        MockDistPollerDao.DEFAULT_DIST_POLLER_ID,
+                        MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID,
+                        state.source,
+                        514,
+                        // every thread needs its own position
+                        message.duplicate(),
+                        state.receivedTimestamp,
+                        state.config,
+                        null,
+                        null
+                ).getEvent());
+            } catch (MessageDiscardedException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+}
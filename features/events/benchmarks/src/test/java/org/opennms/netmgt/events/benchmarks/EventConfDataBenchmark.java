@@ -0,0 +1,94 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.netmgt.config.DefaultEventConfDao;
+import org.opennms.netmgt.eventd.datablock.EventConfData;
+import org.opennms.netmgt.xml.event.Event;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the lookup of event definitions
+ * through {@link EventConfData}, next to the one performed by the {@link DefaultEventConfDao}.
+ */
+public class EventConfDataBenchmark {
+
+    // the number of events that are matched in a single benchmark method call
+    // -> the reported number of operations per second must be multiplied by this number to get
+    //    the number of lookups per second
+    private static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private DefaultEventConfDao eventConfDao;
+        private EventConfData eventConfData;
+        private List<Event> eventsToMatch;
+
+        @Setup
+        public void setup() {
+            eventConfDao = EventFixtures.loadEventConfDao();
+            eventConfData = new EventConfData();
+            for (final org.opennms.netmgt.xml.eventconf.Event definition : eventConfDao.getAllEvents()) {
+                eventConfData.put(definition);
+            }
+            eventsToMatch = EventFixtures.getEventsToMatch(eventConfDao, BATCH_SIZE);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void eventConfData(BState state, Blackhole blackhole) {
+        for (final Event e : state.eventsToMatch) {
+            blackhole.consume(state.eventConfData.getEvent(e));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void eventConfDao(BState state, Blackhole blackhole) {
+        for (final Event e : state.eventsToMatch) {
+            blackhole.consume(state.eventConfDao.findByEvent(e));
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.netmgt.config.DefaultEventConfDao;
+import org.opennms.netmgt.eventd.EventExpander;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.events.api.model.ImmutableMapper;
+import org.opennms.netmgt.xml.event.Event;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the expansion of events by the
+ * {@link EventExpander}.
+ * <p>
+ * The expansion modifies the events, so every event is copied before it is expanded. The
+ * {@link #copy(BState, Blackhole)} benchmark measures the copy alone, so that it can be
+ * subtracted from the results of {@link #expandEvent(BState, Blackhole)}.
+ */
+public class EventExpanderBenchmark {
+
+    // the number of events that are expanded in a single benchmark method call
+    // -> the reported number of operations per second must be multiplied by this number to get
+    //    the number of expansions per second
+    private static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private EventExpander eventExpander;
+        private List<IEvent> eventsToExpand;
+
+        @Setup
+        public void setup() {
+            final DefaultEventConfDao eventConfDao = EventFixtures.loadEventConfDao();
+            eventExpander = EventFixtures.createEventExpander(eventConfDao);
+            eventsToExpand = EventFixtures.getEventsToMatch(eventConfDao, BATCH_SIZE).stream()
+                    .map(ImmutableMapper::fromMutableEvent)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void copy(BState state, Blackhole blackhole) {
+        for (final IEvent e : state.eventsToExpand) {
+            blackhole.consume(Event.copyFrom(e));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void expandEvent(BState state, Blackhole blackhole) {
+        for (final IEvent e : state.eventsToExpand) {
+            final Event event = Event.copyFrom(e);
+            state.eventExpander.expandEvent(event);
+            blackhole.consume(event);
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.opennms.core.test.ConfigurationTestUtils;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.config.DefaultEventConfDao;
+import org.opennms.netmgt.config.api.EventConfDao;
+import org.opennms.netmgt.eventd.EventExpander;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+import org.springframework.core.io.FileSystemResource;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Fixtures shared by the event pipeline benchmarks.
+ * <p>
+ * The events are derived from randomly chosen event definitions of the shipped event
+ * configuration, so that both traps (matched by their masks) and internal events (matched
+ * by their UEI) are exercised. The same seed is used on every run, so that the results
+ * of different runs can be compared.
+ */
+public final class EventFixtures {
+
+    private static final long SEED = 123456L;
+
+    private EventFixtures() {}
+
+    /**
+     * Points opennms.home at the configuration shipped in opennms-base-assembly,
+     * so that the daemon configurations and the files they include can be loaded.
+     */
+    public static void useShippedConfiguration() {
+        ConfigurationTestUtils.setAbsoluteHomeDirectory(ConfigurationTestUtils.getDaemonEtcDirectory().getParentFile().getAbsolutePath());
+    }
+
+    /**
+     * Loads the shipped event configuration, including all of the event files it references.
+     */
+    public static DefaultEventConfDao loadEventConfDao() {
+        final DefaultEventConfDao eventConfDao = new DefaultEventConfDao();
+        try {
+            eventConfDao.setConfigResource(new FileSystemResource(ConfigurationTestUtils.getFileForConfigFile("eventconf.xml")));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        eventConfDao.afterPropertiesSet();
+        return eventConfDao;
+    }
+
+    /**
+     * Returns the given number of randomly chosen event definitions.
+     */
+    public static List<org.opennms.netmgt.xml.eventconf.Event> getDefinitions(final DefaultEventConfDao eventConfDao, final int count) {
+        final List<org.opennms.netmgt.xml.eventconf.Event> definitions = new ArrayList<>(eventConfDao.getAllEvents());
+        Collections.shuffle(definitions, new Random(SEED));
+        return definitions.subList(0, Math.min(count, definitions.size()));
+    }
+
+    /**
+     * Returns events, as received by eventd, that match the given number of randomly chosen
+     * event definitions.
+     */
+    public static List<Event> getEventsToMatch(final DefaultEventConfDao eventConfDao, final int count) {
+        final List<Event> events = new ArrayList<>(count);
+        for (final org.opennms.netmgt.xml.eventconf.Event definition : getDefinitions(eventConfDao, count)) {
+            events.add(toEvent(definition, events.size()).getEvent());
+        }
+        return events;
+    }
+
+    /**
+     * Returns the events of {@link #getEventsToMatch(DefaultEventConfDao, int)} after they were
+     * expanded by eventd, i.e. as they are broadcast to the event listeners.
+     */
+    public static List<Event> getExpandedEvents(final DefaultEventConfDao eventConfDao, final int count) {
+        final EventExpander eventExpander = createEventExpander(eventConfDao);
+        final List<Event> events = getEventsToMatch(eventConfDao, count);
+        for (final Event event : events) {
+            eventExpander.expandEvent(event);
+        }
+        return events;
+    }
+
+    /**
+     * Creates an {@link EventExpander} that resolves node related tokens with static values
+     * instead of querying the database.
+     */
+    public static EventExpander createEventExpander(final EventConfDao eventConfDao) {
+        final EventExpander eventExpander = new EventExpander(new MetricRegistry());
+        eventExpander.setEventConfDao(eventConfDao);
+        eventExpander.setEventUtil(new StaticEventUtil());
+        eventExpander.afterPropertiesSet();
+        return eventExpander;
+    }
+
+    /**
+     * Returns the sample syslog messages.
+     */
+    public static List<String> getSyslogMessages() throws IOException {
+        final List<String> messages = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(EventFixtures.class.getResourceAsStream("/syslogMessages.txt"), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    messages.add(line);
+                }
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Returns the first value of the given mask element of the definition, if it can be used verbatim.
+     */
+    public static String getMaskValue(final org.opennms.netmgt.xml.eventconf.Event definition, final String name) {
+        final List<String> values = definition.getMaskElementValues(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        final String value = values.get(0);
+        return value.startsWith("~") || value.endsWith("%") ? null : value;
+    }
+
+    private static EventBuilder toEvent(final org.opennms.netmgt.xml.eventconf.Event definition, final int index) {
+        final EventBuilder eb;
+        final String id = getMaskValue(definition, "id");
+        if (id == null) {
+            eb = new EventBuilder(definition.getUei(), "benchmark");
+        } else {
+            // Traps have no UEI until they are matched against the configuration
+            eb = new EventBuilder(null, "benchmark");
+            eb.setEnterpriseId(id);
+            final String generic = getMaskValue(definition, "generic");
+            eb.setGeneric(generic == null ? 6 : Integer.parseInt(generic));
+            final String specific = getMaskValue(definition, "specific");
+            eb.setSpecific(specific == null ? 0 : Integer.parseInt(specific));
+        }
+
+        // Give the templates of the definition something to expand
+        eb.setNodeid(index % 100 + 1);
+        eb.setInterface(InetAddressUtils.addr("10.0." + (index / 250) % 250 + "." + (index % 250 + 1)));
+        eb.setService("ICMP");
+        eb.addParam("ifIndex", index % 48 + 1);
+        eb.addParam("ifDescr", "GigabitEthernet0/" + (index % 48));
+        eb.addParam("reason", "benchmark");
+        return eb;
+    }
+}
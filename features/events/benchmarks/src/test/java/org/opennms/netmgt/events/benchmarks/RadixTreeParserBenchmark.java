@@ -0,0 +1,94 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.netmgt.syslogd.CompiledRadixTreeParser;
+import org.opennms.netmgt.syslogd.RadixTreeParser;
+import org.opennms.netmgt.syslogd.RadixTreeSyslogParser;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the parsing of the sample
+ * syslog messages by the {@link RadixTreeParser} built from the shipped grok patterns
+ * with the parsing by the same tree compiled into a {@link CompiledRadixTreeParser}.
+ */
+public class RadixTreeParserBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private RadixTreeParser radixParser;
+        private CompiledRadixTreeParser compiledParser;
+        private List<ByteBuffer> messages;
+
+        @Setup
+        public void setup() throws Exception {
+            EventFixtures.useShippedConfiguration();
+            radixParser = RadixTreeSyslogParser.getRadixParser();
+            compiledParser = radixParser.compile();
+
+            messages = new ArrayList<>();
+            for (final String message : EventFixtures.getSyslogMessages()) {
+                messages.add(ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII)));
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void interpreted(BState state, Blackhole blackhole) {
+        for (final ByteBuffer message : state.messages) {
+            blackhole.consume(state.radixParser.parse(message).join());
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void compiled(BState state, Blackhole blackhole) {
+        for (final ByteBuffer message : state.messages) {
+            blackhole.consume(state.compiledParser.parse(message).join());
+        }
+    }
+}
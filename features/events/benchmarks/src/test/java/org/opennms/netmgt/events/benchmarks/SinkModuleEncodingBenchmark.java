@@ -0,0 +1,237 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.features.events.sink.dispatcher.EventdConfigBean;
+import org.opennms.features.events.sink.module.EventSinkModule;
+import org.opennms.netmgt.config.SyslogdConfigFactory;
+import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+import org.opennms.netmgt.syslogd.SyslogSinkModule;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+import org.opennms.netmgt.trapd.TrapDTO;
+import org.opennms.netmgt.trapd.TrapIdentityDTO;
+import org.opennms.netmgt.trapd.TrapLogDTO;
+import org.opennms.netmgt.trapd.TrapSinkModule;
+import org.opennms.netmgt.trapd.TrapdConfigBean;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the XML and protobuf encodings
+ * of the syslog, trap and event Sink modules.
+ * <p>
+ * The reported times are per message, i.e. per syslog message, trap or event, rather than
+ * per batch.
+ */
+public class SinkModuleEncodingBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SinkModuleEncodingBenchmark.class);
+
+    // the number of messages in the batches that are marshalled in a single benchmark method call
+    private static final int BATCH_SIZE = 100;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"XML", "PROTOBUF"})
+        private Encoding encoding;
+
+        private SyslogSinkModule syslogModule;
+        private TrapSinkModule trapModule;
+        private EventSinkModule eventModule;
+
+        private SyslogMessageLogDTO syslogLog;
+        private TrapLogDTO trapLog;
+        private Log eventLog;
+
+        private byte[] syslogBytes;
+        private byte[] trapBytes;
+        private byte[] eventBytes;
+
+        @Setup
+        public void setup() throws Exception {
+            EventFixtures.useShippedConfiguration();
+
+            syslogModule = new SyslogSinkModule(new SyslogdConfigFactory(), new MockDistPollerDao());
+            syslogModule.setEncoding(encoding);
+            final InetSocketAddress source = new InetSocketAddress(InetAddressUtils.addr("10.0.0.1"), 514);
+            final List<String> messages = EventFixtures.getSyslogMessages();
+            final SyslogConnection[] connections = new SyslogConnection[BATCH_SIZE];
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                connections[i] = new SyslogConnection(source, ByteBuffer.wrap(messages.get(i % messages.size()).getBytes(StandardCharsets.US_ASCII)));
+            }
+            syslogLog = syslogModule.toMessageLog(connections);
+            syslogBytes = syslogModule.marshal(syslogLog);
+
+            final OnmsDistPoller distPoller = new OnmsDistPoller("00000000-0000-0000-0000-000000000000");
+            distPoller.setLocation("Default");
+            trapModule = new TrapSinkModule(new TrapdConfigBean(), distPoller);
+            trapModule.setEncoding(encoding);
+            trapLog = new TrapLogDTO(distPoller.getId(), distPoller.getLocation(), InetAddressUtils.addr("10.0.0.1"));
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                trapLog.addMessage(toTrap(i));
+            }
+            trapBytes = trapModule.marshal(trapLog);
+
+            eventModule = new EventSinkModule(new EventdConfigBean());
+            eventModule.setEncoding(encoding);
+            eventLog = new Log();
+            for (final Event event : EventFixtures.getEventsToMatch(EventFixtures.loadEventConfDao(), BATCH_SIZE)) {
+                eventLog.addEvent(event);
+            }
+            eventBytes = eventModule.marshal(eventLog);
+
+            if (encoding == Encoding.PROTOBUF && !AbstractProtobufSinkModule.isProtobuf(eventBytes)) {
+                LOG.warn("The events can not all be encoded as protobuf and were encoded as XML.");
+            }
+        }
+
+        private static TrapDTO toTrap(final int index) {
+            final TrapDTO trap = new TrapDTO();
+            trap.setAgentAddress(InetAddressUtils.addr("10.0.0." + (1 + index % 15)));
+            trap.setCommunity("public");
+            trap.setVersion("v2");
+            trap.setTimestamp(5000 + index);
+            trap.setPduLength(4);
+            trap.setCreationTime(System.currentTimeMillis());
+            final TrapIdentityDTO trapIdentity = new TrapIdentityDTO();
+            trapIdentity.setGeneric(6);
+            trapIdentity.setSpecific(1 + index % 10);
+            trapIdentity.setEnterpriseId(".1.3.6.1.4.1.9.9.41.2");
+            trapIdentity.setTrapOID(".1.3.6.1.4.1.9.9.41.2.0." + trapIdentity.getSpecific());
+            trap.setTrapIdentity(trapIdentity);
+            trap.setResults(Arrays.asList(
+                    new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.1.3.0"), null, SnmpUtils.getValueFactory().getTimeTicks(5000 + index)),
+                    new SnmpResult(SnmpObjId.get(".1.3.6.1.4.1.9.9.41.1.2.3.1.2.1"), null, SnmpUtils.getValueFactory().getOctetString("SYS".getBytes(StandardCharsets.US_ASCII))),
+                    new SnmpResult(SnmpObjId.get(".1.3.6.1.4.1.9.9.41.1.2.3.1.3.1"), null, SnmpUtils.getValueFactory().getInt32(5)),
+                    new SnmpResult(SnmpObjId.get(".1.3.6.1.4.1.9.9.41.1.2.3.1.5.1"), null, SnmpUtils.getValueFactory().getOctetString(("Configured from console by vty" + index).getBytes(StandardCharsets.US_ASCII)))));
+            return trap;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public byte[] marshalSyslog(BState state) {
+        return state.syslogModule.marshal(state.syslogLog);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public SyslogMessageLogDTO unmarshalSyslog(BState state) {
+        return state.syslogModule.unmarshal(state.syslogBytes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public byte[] marshalTraps(BState state) {
+        return state.trapModule.marshal(state.trapLog);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public TrapLogDTO unmarshalTraps(BState state) {
+        return state.trapModule.unmarshal(state.trapBytes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public byte[] marshalEvents(BState state) {
+        return state.eventModule.marshal(state.eventLog);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public Log unmarshalEvents(BState state) {
+        return state.eventModule.unmarshal(state.eventBytes);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import java.util.Map;
+
+import org.opennms.netmgt.eventd.AbstractEventUtil;
+import org.opennms.netmgt.xml.event.Event;
+
+/**
+ * An {@link org.opennms.netmgt.eventd.EventUtil} that answers the node related lookups
+ * with static values, so that the benchmarks measure the expansion itself rather than
+ * the database.
+ */
+class StaticEventUtil extends AbstractEventUtil {
+
+    @Override
+    public String getNodeLabel(long nodeId) {
+        return "node" + nodeId;
+    }
+
+    @Override
+    public String getNodeLocation(long nodeId) {
+        return "Default";
+    }
+
+    @Override
+    public String getForeignSource(long nodeId) {
+        return "benchmark";
+    }
+
+    @Override
+    public String getForeignId(long nodeId) {
+        return Long.toString(nodeId);
+    }
+
+    @Override
+    public String getPrimaryInterface(long nodeId) {
+        return "10.0.0." + (nodeId % 250 + 1);
+    }
+
+    @Override
+    public String getIfAlias(long nodeId, String ipaddr) {
+        return "uplink";
+    }
+
+    @Override
+    public String getAssetFieldValue(String parm, long nodeId) {
+        return null;
+    }
+
+    @Override
+    public String getHardwareFieldValue(String parm, long nodeId) {
+        return null;
+    }
+
+    @Override
+    public String getHostName(int nodeId, String hostip) {
+        return hostip;
+    }
+
+    @Override
+    public String expandParms(String inp, Event event) {
+        return super.expandParms(inp, event, null);
+    }
+
+    @Override
+    public String expandParms(String input, Event event, Map<String, Map<String, String>> decode) {
+        return super.expandParms(input, event, decode);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.events.benchmarks;
+
+import static org.opennms.core.utils.InetAddressUtils.str;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.config.SyslogdConfigFactory;
+import org.opennms.netmgt.config.syslogd.HideMatch;
+import org.opennms.netmgt.config.syslogd.ParameterAssignment;
+import org.opennms.netmgt.config.syslogd.UeiMatch;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.syslogd.MessageDiscardedException;
+import org.opennms.netmgt.syslogd.RadixTreeSyslogParser;
+import org.opennms.netmgt.syslogd.SyslogEventRules;
+import org.opennms.netmgt.syslogd.SyslogMessage;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the application of the
+ * ueiMatch and hideMatch rules of the shipped syslogd configuration by the compiled
+ * {@link SyslogEventRules} with their direct evaluation, as previously performed by
+ * {@link org.opennms.netmgt.syslogd.ConvertToEvent}.
+ * <p>
+ * The sample messages are parsed up front so that only the rules are measured.
+ * The compiled rules are expected to sustain at least five times the throughput.
+ */
+public class SyslogEventRulesBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private SyslogdConfig config;
+        private SyslogEventRules rules;
+        private List<SyslogMessage> messages;
+
+        @Setup
+        public void setup() throws Exception {
+            EventFixtures.useShippedConfiguration();
+            config = new SyslogdConfigFactory();
+            rules = SyslogEventRules.forConfig(config);
+
+            messages = new ArrayList<>();
+            for (final String message : EventFixtures.getSyslogMessages()) {
+                final RadixTreeSyslogParser parser = new RadixTreeSyslogParser(config, ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII)));
+                if (parser.find()) {
+                    final SyslogMessage syslogMessage = parser.parse();
+                    if (syslogMessage != null) {
+                        messages.add(syslogMessage);
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void interpreted(BState state, Blackhole blackhole) {
+        for (final SyslogMessage message : state.messages) {
+            final EventBuilder bldr = new EventBuilder("uei.opennms.org/syslogd/benchmark", "syslogd");
+            try {
+                blackhole.consume(Interpreted.apply(state.config, message, bldr));
+            } catch (MessageDiscardedException e) {
+                blackhole.consume(e);
+            }
+            blackhole.consume(bldr);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void compiled(BState state, Blackhole blackhole) {
+        for (final SyslogMessage message : state.messages) {
+            final EventBuilder bldr = new EventBuilder("uei.opennms.org/syslogd/benchmark", "syslogd");
+            try {
+                blackhole.consume(SyslogEventRules.forConfig(state.config).apply(message, bldr));
+            } catch (MessageDiscardedException e) {
+                blackhole.consume(e);
+            }
+            blackhole.consume(bldr);
+        }
+    }
+
+    /**
+     * The rules evaluated directly from the configuration for every message.
+     */
+    private static class Interpreted {
+
+        private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+        private static boolean apply(final SyslogdConfig config, final SyslogMessage message, final EventBuilder bldr) throws MessageDiscardedException {
+            final String facilityTxt = message.getFacility().toString();
+            final String priorityTxt = message.getSeverity().toString();
+
+            for (final UeiMatch uei : config.getUeiList()) {
+                final boolean matches = containsIgnoreCase(uei.getFacilities(), facilityTxt)
+                        && containsIgnoreCase(uei.getSeverities(), priorityTxt)
+                        && (!uei.getProcessMatch().isPresent() || find(uei.getProcessMatch().get().getExpression(), message.getProcessName()))
+                        && (!uei.getHostnameMatch().isPresent() || find(uei.getHostnameMatch().get().getExpression(), message.getHostName()))
+                        && matchHostAddr(uei, str(message.getHostAddress()));
+                if (!matches) {
+                    continue;
+                }
+                if ("substr".equals(uei.getMatch().getType())) {
+                    if (message.getMessage().contains(uei.getMatch().getExpression())) {
+                        setUei(config, uei, bldr);
+                        break;
+                    }
+                } else if (uei.getMatch().getType().startsWith("regex")) {
+                    final Matcher matcher = getPattern(uei.getMatch().getExpression()).matcher(message.getMessage());
+                    if (matcher.find()) {
+                        setUei(config, uei, bldr);
+                        if (matcher.groupCount() > 0) {
+                            if (uei.getMatch().getDefaultParameterMapping()) {
+                                for (int groupNum = 1; groupNum <= matcher.groupCount(); groupNum++) {
+                                    bldr.addParam("group" + groupNum, matcher.group(groupNum));
+                                }
+                            }
+                            for (final ParameterAssignment assignment : uei.getParameterAssignments()) {
+                                final String value = matcher.group(assignment.getMatchingGroup());
+                                bldr.addParam(assignment.getParameterName(), value == null ? "" : value);
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+
+            if (!config.getHideMessages().isEmpty()) {
+                final String fullText = message.asRfc3164Message();
+                for (final HideMatch hide : config.getHideMessages()) {
+                    if ("substr".equals(hide.getMatch().getType())) {
+                        if (fullText.contains(hide.getMatch().getExpression())) {
+                            return true;
+                        }
+                    } else if ("regex".equals(hide.getMatch().getType())) {
+                        if (getPattern(hide.getMatch().getExpression()).matcher(fullText).find()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean matchHostAddr(final UeiMatch uei, final String hostAddress) {
+            return !uei.getHostaddrMatch().isPresent() || find(uei.getHostaddrMatch().get().getExpression(), hostAddress);
+        }
+
+        private static void setUei(final SyslogdConfig config, final UeiMatch uei, final EventBuilder bldr) throws MessageDiscardedException {
+            if (config.getDiscardUei().equals(uei.getUei())) {
+                throw new MessageDiscardedException();
+            }
+            bldr.setUei(uei.getUei());
+        }
+
+        private static boolean find(final String expression, final String input) {
+            return input != null && getPattern(expression).matcher(input).find();
+        }
+
+        private static Pattern getPattern(final String expression) {
+            return PATTERNS.computeIfAbsent(expression, e -> Pattern.compile(e, Pattern.MULTILINE));
+        }
+
+        private static boolean containsIgnoreCase(final List<String> collection, final String match) {
+            if (collection.isEmpty()) {
+                return true;
+            }
+            for (final String string : collection) {
+                if (string.equalsIgnoreCase(match)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.config.DefaultEventConfDao;
+import org.opennms.netmgt.dao.api.MonitoringLocationDao;
+import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.dao.mock.MockInterfaceToNodeCache;
+import org.opennms.netmgt.events.benchmarks.EventFixtures;
+import org.opennms.netmgt.snmp.TrapInformation;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
+import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the creation of events from
+ * received traps by the {@link EventCreator}.
+ * <p>
+ * The traps are built from randomly chosen trap definitions of the shipped event
+ * configuration, alternating between SNMPv1 and SNMPv2c, so that they are matched
+ * against the configuration like the traps of a running system.
+ */
+public class EventCreatorBenchmark {
+
+    // the number of traps that are converted in a single benchmark method call
+    // -> the reported number of operations per second must be multiplied by this number to get
+    //    the number of traps per second
+    private static final int BATCH_SIZE = 1000;
+
+    private static final OID IF_INDEX = new OID(".1.3.6.1.2.1.2.2.1.1");
+
+    private static final OID IF_DESCR = new OID(".1.3.6.1.2.1.2.2.1.2");
+
+    private static final OID IF_OPER_STATUS = new OID(".1.3.6.1.2.1.2.2.1.8");
+
+    private static final OID SNMP_TRAPS = new OID(".1.3.6.1.6.3.1.1.5");
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private EventCreator eventCreator;
+        private List<TrapDTO> traps;
+
+        @Setup
+        public void setup() {
+            final DefaultEventConfDao eventConfDao = EventFixtures.loadEventConfDao();
+
+            final MockInterfaceToNodeCache cache = new MockInterfaceToNodeCache();
+            for (int i = 1; i <= 100; i++) {
+                cache.setNodeId(MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID, getAgentAddress(i), i);
+            }
+            eventCreator = new EventCreator(cache, eventConfDao);
+
+            traps = new ArrayList<>(BATCH_SIZE);
+            for (final org.opennms.netmgt.xml.eventconf.Event definition : EventFixtures.getDefinitions(eventConfDao, Integer.MAX_VALUE)) {
+                if (traps.size() >= BATCH_SIZE) {
+                    break;
+                }
+                final String id = EventFixtures.getMaskValue(definition, "id");
+                if (id == null || !id.startsWith(".")) {
+                    continue;
+                }
+                final String generic = EventFixtures.getMaskValue(definition, "generic");
+                final String specific = EventFixtures.getMaskValue(definition, "specific");
+                traps.add(new TrapDTO(toTrap(traps.size(), id,
+                        generic == null ? 6 : Integer.parseInt(generic),
+                        specific == null ? 0 : Integer.parseInt(specific))));
+            }
+        }
+
+        private static InetAddress getAgentAddress(final int index) {
+            return InetAddressUtils.addr("10.1.0." + (index % 200 + 1));
+        }
+
+        private static TrapInformation toTrap(final int index, final String enterprise, final int generic, final int specific) {
+            final int ifIndex = index % 48 + 1;
+            final List<VariableBinding> varbinds = new ArrayList<>();
+            varbinds.add(new VariableBinding(new OID(IF_INDEX).append(ifIndex), new Integer32(ifIndex)));
+            varbinds.add(new VariableBinding(new OID(IF_DESCR).append(ifIndex), new OctetString("GigabitEthernet0/" + ifIndex)));
+            varbinds.add(new VariableBinding(new OID(IF_OPER_STATUS).append(ifIndex), new Integer32(2)));
+
+            if (index % 2 == 0) {
+                final PDUv1 pdu = new PDUv1();
+                pdu.setType(PDU.V1TRAP);
+                pdu.setEnterprise(new OID(enterprise));
+                pdu.setGenericTrap(generic);
+                pdu.setSpecificTrap(specific);
+                pdu.setTimestamp(5000);
+                varbinds.forEach(pdu::add);
+                return new Snmp4JTrapNotifier.Snmp4JV1TrapInformation(getAgentAddress(index), "public", pdu);
+            }
+
+            // See RFC 3584 for the translation of the identity of SNMPv1 traps
+            final OID trapOid = generic == 6 ? new OID(enterprise).append(0).append(specific) : new OID(SNMP_TRAPS).append(generic + 1);
+            final PDU pdu = new PDU();
+            pdu.setType(PDU.TRAP);
+            pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000)));
+            pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, trapOid));
+            varbinds.forEach(pdu::add);
+            return new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(getAgentAddress(index), "public", pdu);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void createEventFrom(BState state, Blackhole blackhole) {
+        for (final TrapDTO trap : state.traps) {
+            blackhole.consume(state.eventCreator.createEventFrom(trap,
+                    MockDistPollerDao.DEFAULT_DIST_POLLER_ID,
+                    MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID,
+                    trap.getAgentAddress()));
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
+import org.opennms.core.ipc.sink.api.AggregationPolicy;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
+import org.snmp4j.PDU;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the work done by the Minion for
+ * the received traps: aggregating them in a {@link TrapLogDTO} and marshalling the log.
+ * <p>
+ * Run with {@code -prof gc} to compare the memory allocated per trap, reported as
+ * {@code gc.alloc.rate.norm}, by both encodings.
+ */
+public class TrapSinkModuleBenchmark {
+
+    // the number of traps that are aggregated and marshalled in a single benchmark method call
+    private static final int BATCH_SIZE = 100;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"XML", "PROTOBUF"})
+        private Encoding encoding;
+
+        @Param({"3", "10"})
+        private int numVarbinds;
+
+        private TrapSinkModule module;
+        private AggregationPolicy<TrapInformationWrapper, TrapLogDTO, TrapLogDTO> aggregationPolicy;
+        private List<TrapInformationWrapper> traps;
+
+        @Setup
+        public void setup() throws Exception {
+            final OnmsDistPoller distPoller = new OnmsDistPoller("00000000-0000-0000-0000-000000000000");
+            distPoller.setLocation("Default");
+            module = new TrapSinkModule(new TrapdConfigBean(), distPoller);
+            module.setEncoding(encoding);
+            aggregationPolicy = module.getAggregationPolicy();
+
+            traps = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final PDU pdu = new PDU();
+                pdu.setType(PDU.TRAP);
+                pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000 + i)));
+                pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(".1.3.6.1.4.1.9.9.41.2.0.1")));
+                for (int v = 0; v < numVarbinds; v++) {
+                    final OID oid = new OID(".1.3.6.1.4.1.9.9.41.1.2.3.1").append(v + 2).append(i);
+                    pdu.add(new VariableBinding(oid, v % 2 == 0
+                            ? new OctetString("Configured from console by vty" + i)
+                            : new Integer32(v * i)));
+                }
+                traps.add(new TrapInformationWrapper(new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(
+                        InetAddressUtils.addr("10.0.0." + (1 + i % 15)), "public", pdu)));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public byte[] aggregateAndMarshal(BState state) {
+        TrapLogDTO trapLog = null;
+        for (final TrapInformationWrapper trap : state.traps) {
+            trapLog = state.aggregationPolicy.aggregate(trapLog, trap);
+        }
+        return state.module.marshal(state.aggregationPolicy.build(trapLog));
+    }
+}
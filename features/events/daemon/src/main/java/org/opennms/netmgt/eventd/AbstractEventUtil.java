@@ -773,19 +773,33 @@ public abstract class AbstractEventUtil implements EventUtil {
 			return null;
 		}
 		try {
-			final EventTemplate eventTemplate = eventTemplateCache.get(input);
-			Supplier<String> expander = () -> eventTemplate.expand(event, decode);
-			if (eventTemplate.requiresTransaction()) {
-				Objects.requireNonNull(transactionOperations);
-				return transactionOperations.execute(session -> expander.get());
-			} else {
-				return expander.get();
-			}
+			return expandTemplate(eventTemplateCache.get(input), event, decode);
 		} catch (ExecutionException ex) {
 			throw new RuntimeException(ex);
 		}
 	}
 
+	/**
+	 * Expand the given template, which has been compiled beforehand, e.g. for an
+	 * event definition. The template is expanded in a transaction if any of its
+	 * parameters requires one.
+	 *
+	 * @param template the template to expand
+	 * @param event a {@link org.opennms.netmgt.xml.event.Event} object.
+	 * @param decode the varbind decode for this
+	 * @return the expanded value
+	 */
+	@Override
+	public String expandTemplate(EventTemplate template, Event event, Map<String, Map<String, String>> decode) {
+		Supplier<String> expander = () -> template.expand(event, decode);
+		if (template.requiresTransaction()) {
+			Objects.requireNonNull(transactionOperations);
+			return transactionOperations.execute(session -> expander.get());
+		} else {
+			return expander.get();
+		}
+	}
+
 	/**
 	 * <p>getEventHost</p>
 	 *
@@ -45,6 +45,7 @@ public class BroadcastEventProcessor implements EventListener {
     
     private final EventIpcManager m_eventIpcManager;
     private final EventConfDao m_eventConfDao;
+    private EventExpander m_eventExpander;
     
     /**
      * <p>Constructor for BroadcastEventProcessor.</p>
@@ -121,6 +122,9 @@ public class BroadcastEventProcessor implements EventListener {
             LOG.info("onEvent: Reloading events configuration in response to event with UEI " + event.getUei());
             try {
                 m_eventConfDao.reload();
+                if (m_eventExpander != null) {
+                    m_eventExpander.invalidateTemplates();
+                }
                 ebldr = new EventBuilder(EventConstants.RELOAD_DAEMON_CONFIG_SUCCESSFUL_UEI, getName());
                 ebldr.addParam(EventConstants.PARM_DAEMON_NAME, "Eventd");
                 
@@ -137,6 +141,15 @@ public class BroadcastEventProcessor implements EventListener {
         }
     }
 
+    /**
+     * <p>setEventExpander</p>
+     *
+     * @param eventExpander the expander whose compiled templates are discarded when the events configuration is reloaded
+     */
+    public void setEventExpander(EventExpander eventExpander) {
+        m_eventExpander = eventExpander;
+    }
+
     private boolean isReloadConfigEvent(IEvent event) {
         boolean isTarget = false;
         
@@ -22,12 +22,14 @@
 package org.opennms.netmgt.eventd;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.opennms.netmgt.config.api.EventConfDao;
+import org.opennms.netmgt.eventd.processor.expandable.EventDefinitionTemplates;
+import org.opennms.netmgt.eventd.processor.expandable.EventTemplate;
 import org.opennms.netmgt.events.api.EventProcessor;
 import org.opennms.netmgt.events.api.EventProcessorException;
 import org.opennms.netmgt.model.events.EventUtils;
@@ -42,11 +44,9 @@ import org.opennms.netmgt.xml.event.Parm;
 import org.opennms.netmgt.xml.event.Tticket;
 import org.opennms.netmgt.xml.event.UpdateField;
 import org.opennms.netmgt.xml.event.Value;
-import org.opennms.netmgt.xml.eventconf.Decode;
 import org.opennms.netmgt.xml.eventconf.Maskelement;
 import org.opennms.netmgt.xml.eventconf.MatchResult;
 import org.opennms.netmgt.xml.eventconf.Parameter;
-import org.opennms.netmgt.xml.eventconf.Varbindsdecode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -55,6 +55,9 @@ import org.springframework.util.Assert;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
 /**
  * <P>
@@ -116,6 +119,20 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
 
     private final Timer expandTimer;
 
+    /**
+     * The compiled templates of the event definitions. The definitions are compared by
+     * identity and weakly referenced, so that the templates of the definitions replaced
+     * by a reload of the event configuration can be garbage collected.
+     */
+    private final LoadingCache<org.opennms.netmgt.xml.eventconf.Event, EventDefinitionTemplates> m_definitionTemplates = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<org.opennms.netmgt.xml.eventconf.Event, EventDefinitionTemplates>() {
+                @Override
+                public EventDefinitionTemplates load(org.opennms.netmgt.xml.eventconf.Event definition) {
+                    return new EventDefinitionTemplates(definition, m_eventUtil);
+                }
+            });
+
     public EventExpander(MetricRegistry registry) {
         expandTimer = Objects.requireNonNull(registry).timer("eventlogs.process.expand");
     }
@@ -407,8 +424,8 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
     /**
      * Expand parms in the event logmsg
      */
-    private void expandParms(Logmsg logmsg, Event event, Map<String, Map<String, String>> decode) {
-        String strRet = m_eventUtil.expandParms(logmsg.getContent(), event, decode);
+    private void expandParms(Logmsg logmsg, Event event, EventDefinitionTemplates templates, Map<String, Map<String, String>> decode) {
+        String strRet = expandParms(logmsg.getContent(), event, templates, decode);
         if (strRet != null) {
             logmsg.setContent(strRet);
         }
@@ -474,7 +491,8 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
      * value of the parameter number 'num', if present - %parm[##]% is replaced
      * by the number of parameters
      */
-    private void expandParms(Event event, Map<String, Map<String, String>> decode) {
+    private void expandParms(Event event, EventDefinitionTemplates templates) {
+        final Map<String, Map<String, String>> decode = templates != null ? templates.getDecode() : Collections.emptyMap();
         String strRet = null;
 
         // parameters
@@ -489,7 +507,7 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
 
         // description
         if (event.getDescr() != null) {
-            strRet = m_eventUtil.expandParms(event.getDescr(), event,decode);
+            strRet = expandParms(event.getDescr(), event, templates, decode);
             if (strRet != null) {
                 event.setDescr(strRet);
                 strRet = null;
@@ -498,12 +516,12 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
 
         // logmsg
         if (event.getLogmsg() != null) {
-            expandParms(event.getLogmsg(), event, decode);
+            expandParms(event.getLogmsg(), event, templates, decode);
         }
 
         // operinstr
         if (event.getOperinstruct() != null) {
-            strRet = m_eventUtil.expandParms(event.getOperinstruct(), event);
+            strRet = expandParms(event.getOperinstruct(), event, templates, null);
             if (strRet != null) {
                 event.setOperinstruct(strRet);
                 strRet = null;
@@ -527,18 +545,30 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
 
         // reductionKey
         if (event.getAlarmData() != null) {
-            strRet = m_eventUtil.expandParms(event.getAlarmData().getReductionKey(), event);
+            strRet = expandParms(event.getAlarmData().getReductionKey(), event, templates, null);
             if (strRet != null) {
                 event.getAlarmData().setReductionKey(strRet);
             }
             strRet = null;
-            strRet = m_eventUtil.expandParms(event.getAlarmData().getClearKey(), event);
+            strRet = expandParms(event.getAlarmData().getClearKey(), event, templates, null);
             if (strRet != null) {
             	event.getAlarmData().setClearKey(strRet);
             }
         }
     }
 
+    /**
+     * Expand the given value, using the compiled template of the event definition
+     * when the value was copied from it.
+     */
+    private String expandParms(String value, Event event, EventDefinitionTemplates templates, Map<String, Map<String, String>> decode) {
+        final EventTemplate template = templates != null ? templates.getTemplate(value) : null;
+        if (template != null) {
+            return m_eventUtil.expandTemplate(template, event, decode);
+        }
+        return decode != null ? m_eventUtil.expandParms(value, event, decode) : m_eventUtil.expandParms(value, event);
+    }
+
     /**
      * <p>
      * This method is invoked to check and configure a received event. The event
@@ -754,20 +784,10 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
             }
         }
 
-        Map<String, Map<String, String>> decode = new HashMap<String, Map<String,String>>();
-        if (econf != null && econf.getVarbindsdecodes().size() > 0) {
-           for (final Varbindsdecode element : econf.getVarbindsdecodes()) {
-               List<Decode> decodeArray = element.getDecodes();
-               Map<String, String> valueMap = new HashMap<String, String>();
-               for (final Decode element2 : decodeArray) {
-                   valueMap.put(element2.getVarbindvalue(), element2.getVarbinddecodedstring());
-               }
-               decode.put(element.getParmid(), valueMap);
-           }
-        }// end fill of event using econf
+        final EventDefinitionTemplates templates = econf != null ? m_definitionTemplates.getUnchecked(econf) : null;
 
         // do the event parm expansion
-        expandParms(e, decode);
+        expandParms(e, templates);
 
     } // end expandEvent()
 
@@ -836,5 +856,14 @@ public final class EventExpander implements org.opennms.netmgt.dao.api.EventExpa
 
     public void setEventUtil(EventUtil eventUtil) {
         m_eventUtil = eventUtil;
+        invalidateTemplates();
+    }
+
+    /**
+     * Discards the compiled templates of all event definitions. They are
+     * compiled again the next time an event matches the definition.
+     */
+    public void invalidateTemplates() {
+        m_definitionTemplates.invalidateAll();
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd;
+
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Events;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Parm;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * A fixed set of single-threaded lanes used to process event logs.
+ *
+ * Event logs are assigned to a lane by hashing the node of their first event,
+ * so that the events of a given node are processed in the order in which they
+ * were received while the events of different nodes are processed in parallel.
+ * Events that are not associated with a node are keyed by their interface, and
+ * events with neither are spread over all of the lanes.
+ */
+public class EventHandlerLanes {
+
+    private final ThreadPoolExecutor[] m_lanes;
+
+    private final AtomicInteger m_next = new AtomicInteger();
+
+    /**
+     * <p>Constructor for EventHandlerLanes.</p>
+     *
+     * @param numLanes the number of lanes
+     * @param queueLength the maximum number of event logs queued over all of the lanes, or null if unbounded
+     * @param registry the registry in which the queue depth of every lane is published
+     */
+    public EventHandlerLanes(final int numLanes, final Integer queueLength, final MetricRegistry registry) {
+        if (numLanes < 1) {
+            throw new IllegalArgumentException("numLanes must be greater than 0");
+        }
+        Objects.requireNonNull(registry);
+
+        m_lanes = new ThreadPoolExecutor[numLanes];
+        for (int i = 0; i < numLanes; i++) {
+            final LinkedBlockingQueue<Runnable> workQueue = queueLength == null ? new LinkedBlockingQueue<>() : new LinkedBlockingQueue<>(Math.max(1, queueLength / numLanes));
+            m_lanes[i] = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                workQueue,
+                new LogPreservingThreadFactory(EventIpcManagerDefaultImpl.class.getSimpleName() + "-Lane-" + i, 1)
+            );
+
+            final String name = MetricRegistry.name("eventlogs.queued", "lane" + i);
+            registry.remove(name);
+            registry.register(name, new Gauge<Integer>() {
+                @Override
+                public Integer getValue() {
+                    return workQueue.size();
+                }
+            });
+        }
+    }
+
+    /**
+     * Queues the runnable on the lane of the given event log.
+     *
+     * @throws RejectedExecutionException if the queue of the lane is full
+     */
+    public void execute(final Log eventLog, final Runnable runnable) {
+        m_lanes[getLane(eventLog)].execute(runnable);
+    }
+
+    /**
+     * @return the number of event logs queued over all of the lanes
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (final ThreadPoolExecutor lane : m_lanes) {
+            size += lane.getQueue().size();
+        }
+        return size;
+    }
+
+    public int getNumLanes() {
+        return m_lanes.length;
+    }
+
+    public void shutdown() {
+        for (final ThreadPoolExecutor lane : m_lanes) {
+            lane.shutdown();
+        }
+    }
+
+    protected int getLane(final Log eventLog) {
+        final Object key = getKey(eventLog);
+        if (key == null) {
+            return Math.floorMod(m_next.getAndIncrement(), m_lanes.length);
+        }
+        final int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), m_lanes.length);
+    }
+
+    /**
+     * Returns the key used to order the given event log, or null if the
+     * event log can be processed in any order.
+     */
+    protected static Object getKey(final Log eventLog) {
+        final Events events = eventLog.getEvents();
+        if (events == null || events.getEventCount() <= 0) {
+            return null;
+        }
+
+        final Event event = events.getEvent(0);
+        if (event.hasNodeid() && event.getNodeid() > 0) {
+            return event.getNodeid();
+        }
+
+        // The node ID of these events is resolved by the event handler, see DefaultEventHandlerImpl
+        final Parm foreignSource = event.getParm("_foreignSource");
+        final Parm foreignId = event.getParm("_foreignId");
+        if (foreignSource != null && foreignSource.getValue() != null && foreignId != null && foreignId.getValue() != null) {
+            return foreignSource.getValue().getContent() + ":" + foreignId.getValue().getContent();
+        }
+
+        return event.getInterface();
+    }
+}
@@ -22,6 +22,7 @@
 package org.opennms.netmgt.eventd;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +32,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
@@ -108,6 +110,12 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
      */
     private Map<String, EventListenerExecutor> m_listenerThreads = new HashMap<String, EventListenerExecutor>();
 
+    /**
+     * Immutable view of the listeners used by {@link #broadcastNow(Event, boolean)}.
+     * It is replaced (copy-on-write) every time a listener is added or removed.
+     */
+    private volatile DispatchIndex m_dispatchIndex = new DispatchIndex(m_listeners, m_ueiListeners, m_listenerThreads);
+
     /**
      * The thread pool handling the events
      */
@@ -119,6 +127,14 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
     
     private Integer m_handlerQueueLength;
 
+    /**
+     * The lanes handling the events when they are processed in order by node,
+     * null when the events are processed by {@link #m_eventHandlerPool}
+     */
+    private EventHandlerLanes m_eventHandlerLanes;
+
+    private Integer m_handlerLanes;
+
     private final MetricRegistry m_registry;
 
     /**
@@ -170,24 +186,30 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         }
 
         public CompletableFuture<Void> addEvent(final IEvent event) {
-            return CompletableFuture.runAsync(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                         if (LOG.isDebugEnabled()) LOG.debug("run: calling onEvent on {} for event {}", m_listener.getName(), event.toStringSimple());
-
-                        // Make sure we restore our log4j logging prefix after onEvent is called
-                        Map<String,String> mdc = Logging.getCopyOfContextMap();
-                        try {
-                            m_listener.onEvent(event);
-                        } finally {
-                            Logging.setContextMap(mdc);
-                        }
-                    } catch (Throwable t) {
-                        LOG.warn("run: an unexpected error occured during ListenerThread {}", m_listener.getName(), t);
-                    }
+            return CompletableFuture.runAsync(() -> onEvent(event), m_delegateThread);
+        }
+
+        /**
+         * Queues the event without tracking its completion.
+         */
+        public void dispatchEvent(final IEvent event) {
+            m_delegateThread.execute(() -> onEvent(event));
+        }
+
+        private void onEvent(final IEvent event) {
+            try {
+                 if (LOG.isDebugEnabled()) LOG.debug("run: calling onEvent on {} for event {}", m_listener.getName(), event.toStringSimple());
+
+                // Make sure we restore our log4j logging prefix after onEvent is called
+                Map<String,String> mdc = Logging.getCopyOfContextMap();
+                try {
+                    m_listener.onEvent(event);
+                } finally {
+                    Logging.setContextMap(mdc);
                 }
-            }, m_delegateThread);
+            } catch (Throwable t) {
+                LOG.warn("run: an unexpected error occured during ListenerThread {}", m_listener.getName(), t);
+            }
         }
 
         /**
@@ -198,6 +220,108 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         }
     }
 
+    /**
+     * The listener executors an event with a given UEI must be queued to.
+     */
+    private static class Resolution {
+        private final EventListenerExecutor[] m_executors;
+
+        /**
+         * Whether or not any of the executors belongs to a listener that
+         * subscribed to the UEI (or to one of its prefixes), as opposed to
+         * listeners interested in all events.
+         */
+        private final boolean m_hasUeiListeners;
+
+        private Resolution(EventListenerExecutor[] executors, boolean hasUeiListeners) {
+            m_executors = executors;
+            m_hasUeiListeners = hasUeiListeners;
+        }
+    }
+
+    /**
+     * Immutable copy of the listener registrations along with a cache of the
+     * UEI to listener resolutions. The wildcard "directory" matching of UEIs
+     * is only performed the first time a given UEI is broadcast.
+     */
+    private static class DispatchIndex {
+        /**
+         * Upper bound on the number of cached resolutions. Events with UEIs
+         * beyond that are resolved on every broadcast.
+         */
+        private static final int MAX_CACHED_UEIS = 10000;
+
+        private final Resolution m_matchAll;
+        private final Map<String, List<EventListener>> m_ueiListeners;
+        private final Map<String, EventListenerExecutor> m_listenerThreads;
+        private final Map<String, Resolution> m_resolutions = new ConcurrentHashMap<>();
+
+        private DispatchIndex(List<EventListener> listeners, Map<String, List<EventListener>> ueiListeners, Map<String, EventListenerExecutor> listenerThreads) {
+            m_listenerThreads = new HashMap<>(listenerThreads);
+            m_ueiListeners = new HashMap<>();
+            for (Map.Entry<String, List<EventListener>> entry : ueiListeners.entrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    m_ueiListeners.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+                }
+            }
+            final List<EventListenerExecutor> executors = new ArrayList<>(listeners.size());
+            for (EventListener listener : listeners) {
+                executors.add(m_listenerThreads.get(listener.getName()));
+            }
+            m_matchAll = new Resolution(executors.toArray(new EventListenerExecutor[0]), false);
+        }
+
+        private boolean hasEventListener(String uei) {
+            return m_ueiListeners.containsKey(uei);
+        }
+
+        private Resolution resolve(String uei) {
+            if (uei == null) {
+                return m_matchAll;
+            }
+            Resolution resolution = m_resolutions.get(uei);
+            if (resolution == null) {
+                resolution = doResolve(uei);
+                if (m_resolutions.size() < MAX_CACHED_UEIS) {
+                    m_resolutions.putIfAbsent(uei, resolution);
+                }
+            }
+            return resolution;
+        }
+
+        private Resolution doResolve(final String eventUei) {
+            final List<EventListenerExecutor> executors = new ArrayList<>(Arrays.asList(m_matchAll.m_executors));
+
+            /*
+             * Listeners who are interested in this event UEI.
+             * Loop to attempt partial wild card "directory" matches.
+             */
+            Set<EventListener> sentToListeners = new HashSet<EventListener>();
+            for (String uei = eventUei; uei.length() > 0; ) {
+                final List<EventListener> ueiListeners = m_ueiListeners.get(uei);
+                if (ueiListeners != null) {
+                    for (EventListener listener : ueiListeners) {
+                        if (sentToListeners.add(listener)) {
+                            executors.add(m_listenerThreads.get(listener.getName()));
+                        }
+                    }
+                }
+
+                // Try wild cards: Find / before last character
+                int i = uei.lastIndexOf("/", uei.length() - 2);
+                if (i > 0) {
+                    // Split at "/", including the /
+                    uei = uei.substring (0, i + 1);
+                } else {
+                    // No more wild cards to match
+                    break;
+                }
+            }
+
+            return new Resolution(executors.toArray(new EventListenerExecutor[0]), !sentToListeners.isEmpty());
+        }
+    }
+
     /**
      * <p>Constructor for EventIpcManagerDefaultImpl.</p>
      */
@@ -254,7 +378,11 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         if (LOG.isDebugEnabled()) LOG.debug("sending: {}", eventLog);
 
         try {
-            m_eventHandlerPool.execute(m_eventHandler.createRunnable(eventLog));
+            if (m_eventHandlerLanes != null) {
+                m_eventHandlerLanes.execute(eventLog, m_eventHandler.createRunnable(eventLog));
+            } else {
+                m_eventHandlerPool.execute(m_eventHandler.createRunnable(eventLog));
+            }
         } catch (RejectedExecutionException e) {
             LOG.warn("Unable to queue event log to the event handler pool queue", e);
             throw e;
@@ -289,69 +417,45 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
             LOG.debug("Event ID {} to be broadcasted: {}", event.getDbid(), event.getUei());
         }
 
-        if (LOG.isDebugEnabled() && m_listeners.isEmpty()) {
+        final DispatchIndex dispatchIndex = m_dispatchIndex;
+        if (LOG.isDebugEnabled() && dispatchIndex.m_matchAll.m_executors.length == 0) {
             LOG.debug("No listeners interested in all events");
         }
 
-        List<CompletableFuture<Void>> listenerFutures = new ArrayList<>();
-
         IEvent immutableEvent = ImmutableMapper.fromMutableEvent(event);
 
-        // Send to listeners interested in receiving all events
-        for (EventListener listener : m_listeners) {
-            listenerFutures.add(queueEventToListener(immutableEvent, listener));
-        }
-
         if (event.getUei() == null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Event ID {} does not have a UEI, so skipping UEI matching", immutableEvent.getDbid());
             }
-            return;
         }
 
-        /*
-         * Send to listeners who are interested in this event UEI.
-         * Loop to attempt partial wild card "directory" matches.
-         */
-        Set<EventListener> sentToListeners = new HashSet<EventListener>();
-        for (String uei = event.getUei(); uei.length() > 0; ) {
-            if (m_ueiListeners.containsKey(uei)) {
-                for (EventListener listener : m_ueiListeners.get(uei)) {
-                    if (!sentToListeners.contains(listener)) {
-                        listenerFutures.add(queueEventToListener(immutableEvent, listener));
-                        sentToListeners.add(listener);
-                    }
-                }
-            }
-            
-            // Try wild cards: Find / before last character
-            int i = uei.lastIndexOf("/", uei.length() - 2);
-            if (i > 0) {
-                // Split at "/", including the /
-                uei = uei.substring (0, i + 1);
-            } else {
-                // No more wild cards to match
-                break;
-            }
-        }
-        
-        if (sentToListeners.isEmpty()) {
+        // Send to listeners interested in receiving all events and to
+        // the ones interested in this event UEI
+        final Resolution resolution = dispatchIndex.resolve(event.getUei());
+        final EventListenerExecutor[] executors = resolution.m_executors;
+
+        if (event.getUei() != null && !resolution.m_hasUeiListeners) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("No listener interested in event ID {}: {}", event.getDbid(), event.getUei());
             }
         }
 
         // If synchronous...
-        if (synchronous) {
+        if (synchronous && event.getUei() != null) {
+            final CompletableFuture<?>[] listenerFutures = new CompletableFuture<?>[executors.length];
+            for (int i = 0; i < executors.length; i++) {
+                listenerFutures[i] = executors[i].addEvent(immutableEvent);
+            }
             // Wait for all of the listeners to complete before returning
-            CompletableFuture.allOf(listenerFutures.toArray(new CompletableFuture[0])).join();
+            CompletableFuture.allOf(listenerFutures).join();
+        } else {
+            for (EventListenerExecutor executor : executors) {
+                executor.dispatchEvent(immutableEvent);
+            }
         }
     }
 
-    private CompletableFuture<Void> queueEventToListener(IEvent event, EventListener listener) {
-        return m_listenerThreads.get(listener.getName()).addEvent(event);
-    }
-
     /**
      * {@inheritDoc}
      *
@@ -370,6 +474,8 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         for (String uei : m_ueiListeners.keySet()) {
             removeUeiForListener(uei, listener);
         }
+
+        updateDispatchIndex();
     }
 
     /**
@@ -399,6 +505,8 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
 
         // Since we have a UEI-specific listener, remove the match-all listener
         removeMatchAllForListener(listener);
+
+        updateDispatchIndex();
     }
 
     /**
@@ -433,6 +541,8 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         for (String uei : ueis) {
             removeUeiForListener(uei, listener);
         }
+
+        updateDispatchIndex();
     }
 
     /**
@@ -452,6 +562,8 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         Assert.notNull(uei, "uei argument cannot be null");
 
         removeUeiForListener(uei, listener);
+
+        updateDispatchIndex();
     }
 
     /**
@@ -478,6 +590,16 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
 
             m_listenerThreads.remove(listener.getName());
         }
+
+        updateDispatchIndex();
+    }
+
+    /**
+     * Publish a new dispatch index reflecting the current registrations.
+     * Must be called with the lock held.
+     */
+    private void updateDispatchIndex() {
+        m_dispatchIndex = new DispatchIndex(m_listeners, m_ueiListeners, m_listenerThreads);
     }
 
     /**
@@ -536,11 +658,34 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
      */
     @Override
     public void afterPropertiesSet() {
-        Assert.state(m_eventHandlerPool == null, "afterPropertiesSet() has already been called");
+        Assert.state(!isStarted(), "afterPropertiesSet() has already been called");
 
         Assert.state(m_eventHandler != null, "eventHandler not set");
         Assert.state(m_handlerPoolSize != null, "handlerPoolSize not set");
 
+        if (m_handlerLanes != null && m_handlerLanes > 0) {
+            /**
+             * Process the events of a given node in order, on one of a fixed number of
+             * single-threaded lanes. The number of lanes can be configured by using the
+             * "lanes" attribute in the config.
+             */
+            Logging.withPrefix(Eventd.LOG4J_CATEGORY, new Runnable() {
+                @Override
+                public void run() {
+                    m_eventHandlerLanes = new EventHandlerLanes(m_handlerLanes, m_handlerQueueLength, m_registry);
+                }
+            });
+            final EventHandlerLanes eventHandlerLanes = m_eventHandlerLanes;
+            m_registry.remove("eventlogs.queued");
+            m_registry.register("eventlogs.queued", new Gauge<Integer>() {
+                @Override
+                public Integer getValue() {
+                    return eventHandlerLanes.getQueueSize();
+                }
+            });
+            return;
+        }
+
         final LinkedBlockingQueue<Runnable> workQueue = m_handlerQueueLength == null ? new LinkedBlockingQueue<>() : new LinkedBlockingQueue<>(m_handlerQueueLength);
         m_registry.remove("eventlogs.queued");
         m_registry.register("eventlogs.queued", new Gauge<Integer>() {
@@ -605,7 +750,7 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
      * @param handlerPoolSize a int.
      */
     public void setHandlerPoolSize(int handlerPoolSize) {
-        Assert.state(m_eventHandlerPool == null, "handlerPoolSize property cannot be set after afterPropertiesSet() is called");
+        Assert.state(!isStarted(), "handlerPoolSize property cannot be set after afterPropertiesSet() is called");
         
         m_handlerPoolSize = handlerPoolSize;
     }
@@ -625,16 +770,35 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
      * @param size a int.
      */
     public void setHandlerQueueLength(int size) {
-        Assert.state(m_eventHandlerPool == null, "handlerQueueLength property cannot be set after afterPropertiesSet() is called");
+        Assert.state(!isStarted(), "handlerQueueLength property cannot be set after afterPropertiesSet() is called");
         m_handlerQueueLength = size;
     }
 
+    /**
+     * <p>getHandlerLanes</p>
+     *
+     * @return the number of lanes used to process the events in order by node, 0 if disabled
+     */
+    public int getHandlerLanes() {
+        return m_handlerLanes == null ? 0 : m_handlerLanes;
+    }
+
+    /**
+     * <p>setHandlerLanes</p>
+     *
+     * @param handlerLanes the number of lanes used to process the events in order by node, 0 to disable
+     */
+    public void setHandlerLanes(int handlerLanes) {
+        Assert.state(!isStarted(), "handlerLanes property cannot be set after afterPropertiesSet() is called");
+        m_handlerLanes = handlerLanes;
+    }
+
+    private boolean isStarted() {
+        return m_eventHandlerPool != null || m_eventHandlerLanes != null;
+    }
+
     @Override
     public boolean hasEventListener(final String uei) {
-        if (this.m_ueiListeners.containsKey(uei)) {
-            return this.m_ueiListeners.get(uei).size() > 0;
-        } else {
-            return false;
-        }
+        return m_dispatchIndex.hasEventListener(uei);
     }
 }
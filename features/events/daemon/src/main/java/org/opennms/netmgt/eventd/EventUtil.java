@@ -26,6 +26,7 @@ import java.sql.SQLException;
 import java.util.Date;
 import java.util.Map;
 
+import org.opennms.netmgt.eventd.processor.expandable.EventTemplate;
 import org.opennms.netmgt.eventd.processor.expandable.ExpandableParameterResolver;
 import org.opennms.netmgt.xml.event.Event;
 
@@ -46,6 +47,8 @@ public interface EventUtil {
 	
 	String expandParms(String inp, Event event, Map<String, Map<String, String>> decode);
 
+	String expandTemplate(EventTemplate template, Event event, Map<String, Map<String, String>> decode);
+
 	String getNamedParmValue(String string, Event event);
 
 	void expandMapValues(Map<String, String> parmMap, Event event);
@@ -0,0 +1,75 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.listener;
+
+import java.util.Objects;
+
+import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.events.proto.EventsMapper;
+import org.opennms.netmgt.events.proto.EventsProto;
+import org.opennms.netmgt.xml.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.DecoderException;
+
+/**
+ * Handles the events sent as length-prefixed protobuf messages, using the
+ * same {@link EventsProto.Event} schema as the Kafka consumer.
+ *
+ * No receipt is sent back to the client since the protobuf events have no UUID.
+ */
+public class ProtobufEventProcessor extends SimpleChannelInboundHandler<EventsProto.Event> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProtobufEventProcessor.class);
+
+    private final EventForwarder eventForwarder;
+
+    public ProtobufEventProcessor(EventForwarder eventForwarder) {
+        this.eventForwarder = Objects.requireNonNull(eventForwarder);
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, EventsProto.Event pbEvent) {
+        final Event event = EventsMapper.toEvent(pbEvent);
+        if (event == null) {
+            return;
+        }
+        try {
+            LOG.debug("handling event: {}", event);
+            eventForwarder.sendNow(event);
+        } catch (final Throwable t) {
+            LOG.warn("An exception occured while processing an event.", t);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        LOG.error("An error occurred while processing the event stream: {}", cause.getMessage(), cause);
+        if (cause instanceof DecoderException) {
+            // The position within the stream is lost, the client must reconnect
+            ctx.close();
+        }
+    }
+}
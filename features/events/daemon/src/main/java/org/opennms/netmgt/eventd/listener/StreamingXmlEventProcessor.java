@@ -0,0 +1,99 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.xml.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.DecoderException;
+
+/**
+ * Handles the events decoded by the {@link XmlEventStreamDecoder} as soon as they are read,
+ * instead of waiting for the whole document. Once the end of a document is reached, the
+ * events that were successfully handled are acknowledged to the client by an XML event receipt,
+ * as done by the {@link XmlEventProcessor}.
+ *
+ * Unlike the {@link XmlEventProcessor}, the events are forwarded in the order in which they
+ * appear in the document.
+ */
+public class StreamingXmlEventProcessor extends ChannelInboundHandlerAdapter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingXmlEventProcessor.class);
+
+    private final EventForwarder eventForwarder;
+
+    // UUIDs of the events of the current document that have been handled
+    private final List<String> uuids = new ArrayList<>();
+
+    public StreamingXmlEventProcessor(EventForwarder eventForwarder) {
+        this.eventForwarder = Objects.requireNonNull(eventForwarder);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof Event) {
+            final Event event = (Event) msg;
+            try {
+                LOG.debug("handling event: {}", event);
+                eventForwarder.sendNow(event);
+                if (event.getUuid() != null) {
+                    uuids.add(event.getUuid());
+                }
+            } catch (final Throwable t) {
+                LOG.warn("An exception occured while processing an event.", t);
+            }
+        } else if (msg == XmlEventStreamDecoder.END_OF_LOG) {
+            final Optional<String> receipt = XmlEventProcessor.getReceipt(uuids);
+            uuids.clear();
+            if (receipt.isPresent()) {
+                ctx.write(receipt.get());
+                LOG.debug("Sent Event Receipt: {}", receipt.get());
+            }
+        } else {
+            LOG.warn("Expected message to be of type {} but received {}. Ignoring message.", Event.class, msg == null ? null : msg.getClass());
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        LOG.error("An error occurred while processing the event stream: {}", cause.getMessage(), cause);
+        if (cause instanceof DecoderException) {
+            // The position within the stream is lost, the client must reconnect
+            uuids.clear();
+            ctx.close();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Objects;
 
 import org.opennms.netmgt.config.api.EventdConfig;
 import org.opennms.netmgt.events.api.EventIpcManager;
+import org.opennms.netmgt.events.proto.EventsProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,19 +37,45 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.string.StringEncoder;
 import io.netty.handler.codec.xml.XmlFrameDecoder;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.util.CharsetUtil;
 
 public class TcpListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(TcpListener.class);
 
+    /**
+     * Each connection sends XML documents that are unmarshalled as a whole.
+     */
+    public static final String FORMAT_XML = "xml";
+
+    /**
+     * Each connection sends XML documents whose events are handled as soon as they are read.
+     */
+    public static final String FORMAT_XML_STREAMING = "xml-streaming";
+
+    /**
+     * Each connection sends events as protobuf messages, each prefixed by its length
+     * as a 4 byte big-endian integer.
+     */
+    public static final String FORMAT_PROTOBUF = "protobuf";
+
+    /**
+     * Maximum size of a single event when streaming, or of a single protobuf message.
+     */
+    private static final int MAX_EVENT_LENGTH = 4 * 1024 * 1024;
+
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
     private ChannelFuture future;
 
     private final EventIpcManager eventIpcManager;
     private final EventdConfig config;
+    private String format = FORMAT_XML;
 
     public TcpListener(EventdConfig config, EventIpcManager eventIpcManager) {
         this.config = Objects.requireNonNull(config);
@@ -67,15 +94,48 @@ public class TcpListener {
                     @Override
                     public void initChannel(SocketChannel ch) throws Exception {
                         ch.pipeline().addLast(new LoggingHandler());
-                        ch.pipeline().addLast(new XmlFrameDecoder(2147483647));
-                        ch.pipeline().addLast(new XmlEventProcessor(eventIpcManager));
+                        switch (format) {
+                            case FORMAT_XML_STREAMING:
+                                ch.pipeline().addLast(new StringEncoder(CharsetUtil.UTF_8));
+                                ch.pipeline().addLast(new XmlEventStreamDecoder(MAX_EVENT_LENGTH));
+                                ch.pipeline().addLast(new StreamingXmlEventProcessor(eventIpcManager));
+                                break;
+                            case FORMAT_PROTOBUF:
+                                ch.pipeline().addLast(newProtobufFrameDecoder());
+                                ch.pipeline().addLast(new ProtobufDecoder(EventsProto.Event.getDefaultInstance()));
+                                ch.pipeline().addLast(new ProtobufEventProcessor(eventIpcManager));
+                                break;
+                            default:
+                                ch.pipeline().addLast(new XmlFrameDecoder(2147483647));
+                                ch.pipeline().addLast(new XmlEventProcessor(eventIpcManager));
+                        }
                     }
                 });
 
         // Bind and start to accept incoming connections.
+        LOG.info("Accepting events in {} format on TCP port {}", format, config.getTCPPort());
         future = b.bind(config.getTCPIpAddress(), config.getTCPPort()).sync().await();
     }
 
+    /**
+     * Splits the stream into protobuf messages, failing on any length that exceeds
+     * {@link #MAX_EVENT_LENGTH} rather than buffering it.
+     */
+    static LengthFieldBasedFrameDecoder newProtobufFrameDecoder() {
+        return new LengthFieldBasedFrameDecoder(MAX_EVENT_LENGTH, 0, 4, 0, 4, true);
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        if (!FORMAT_XML.equals(format) && !FORMAT_XML_STREAMING.equals(format) && !FORMAT_PROTOBUF.equals(format)) {
+            throw new IllegalArgumentException("Unsupported TCP format: " + format);
+        }
+        this.format = format;
+    }
+
     public void stop() throws InterruptedException {
         LOG.info("Closing channel...");
         ChannelFuture cf = future.channel().closeFuture();
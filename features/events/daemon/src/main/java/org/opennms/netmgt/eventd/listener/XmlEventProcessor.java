@@ -160,24 +160,35 @@ public class XmlEventProcessor extends ChannelInboundHandlerAdapter {
         }
 
         // Now process the good events and send a receipt message
-        boolean hasReceipt = false;
-        final EventReceipt receipt = new EventReceipt();
-
+        final List<String> uuids = new ArrayList<>(okEvents.size());
         for (final Event event : okEvents) {
             if (event.getUuid() != null) {
-                receipt.addUuid(event.getUuid());
-                hasReceipt = true;
+                uuids.add(event.getUuid());
             }
         }
+        return getReceipt(uuids);
+    }
 
-        if (hasReceipt) {
-            // Transform it to XML and send it to the socket in one call
-            final StringWriter writer = new StringWriter();
-            JaxbUtils.marshal(receipt, writer);
-            writer.flush();
-            return Optional.of(writer.toString());
+    /**
+     * Builds the XML event receipt acknowledging the events with the given UUIDs.
+     *
+     * @return the receipt, or empty if there are no UUIDs to acknowledge
+     */
+    static Optional<String> getReceipt(List<String> uuids) {
+        if (uuids.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+
+        final EventReceipt receipt = new EventReceipt();
+        for (final String uuid : uuids) {
+            receipt.addUuid(uuid);
+        }
+
+        // Transform it to XML and send it to the socket in one call
+        final StringWriter writer = new StringWriter();
+        JaxbUtils.marshal(receipt, writer);
+        writer.flush();
+        return Optional.of(writer.toString());
     }
 
     private static Log getEventLog(ByteBuf buf) throws IOException {
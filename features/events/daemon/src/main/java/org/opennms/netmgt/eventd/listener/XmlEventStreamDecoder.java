@@ -0,0 +1,282 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.listener;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.opennms.core.xml.JaxbUtils;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.aalto.AsyncByteBufferFeeder;
+import com.fasterxml.aalto.AsyncXMLInputFactory;
+import com.fasterxml.aalto.AsyncXMLStreamReader;
+import com.fasterxml.aalto.stax.InputFactoryImpl;
+import com.fasterxml.aalto.stax.OutputFactoryImpl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.util.ByteProcessor;
+
+/**
+ * Decodes a stream of event XML documents incrementally.
+ *
+ * Instead of buffering a whole {@link Log} document before unmarshalling it, the
+ * bytes are fed to a non-blocking Aalto parser as they are received and every
+ * {@code <event>} element is unmarshalled and passed on as an {@link Event} as soon
+ * as its end tag is read. At most a single event is held in memory, regardless of
+ * the size of the document. The end of each document is signalled by {@link #END_OF_LOG}.
+ *
+ * The parser reads a single document, so the input is fed up to and including one
+ * {@code '>'} at a time: once the end tag of the root element has been read, the
+ * remaining bytes are known to belong to the next document, which is read by a
+ * new parser.
+ */
+public class XmlEventStreamDecoder extends ByteToMessageDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlEventStreamDecoder.class);
+
+    /**
+     * Passed on once the end tag of a {@code <log>} document has been read.
+     */
+    public static final Object END_OF_LOG = new Object() {
+        @Override
+        public String toString() {
+            return "END_OF_LOG";
+        }
+    };
+
+    private static final String EVENTS = "events";
+
+    private static final String EVENT = "event";
+
+    private static final AsyncXMLInputFactory INPUT_FACTORY = new InputFactoryImpl();
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = new OutputFactoryImpl();
+
+    static {
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // Each event is written as a document of its own, so the namespaces it uses must be declared again
+        OUTPUT_FACTORY.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, true);
+    }
+
+    private static final ByteProcessor FIND_NON_WHITESPACE = b -> b == ' ' || b == '\t' || b == '\r' || b == '\n';
+
+    private final int maxEventLength;
+
+    // Parser for the current document, or null in between documents
+    private AsyncXMLStreamReader<AsyncByteBufferFeeder> reader;
+
+    // Depth of the element being read in the current document
+    private int depth;
+
+    private boolean inEvents;
+
+    // Number of bytes fed to the parser since it last returned a token
+    private int pending;
+
+    // Markup of the event being read, or null
+    private StringWriter eventXml;
+
+    private XMLStreamWriter eventWriter;
+
+    public XmlEventStreamDecoder(int maxEventLength) {
+        if (maxEventLength <= 0) {
+            throw new IllegalArgumentException("maxEventLength must be a positive integer: " + maxEventLength);
+        }
+        this.maxEventLength = maxEventLength;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        while (in.isReadable()) {
+            if (reader == null) {
+                // Whitespace may separate the documents, but must not precede an XML declaration
+                final int start = in.forEachByte(FIND_NON_WHITESPACE);
+                if (start < 0) {
+                    in.skipBytes(in.readableBytes());
+                    return;
+                }
+                in.readerIndex(start);
+                reader = INPUT_FACTORY.createAsyncForByteBuffer();
+            }
+
+            final int gt = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '>');
+            final int length = gt < 0 ? in.readableBytes() : gt + 1 - in.readerIndex();
+            try {
+                reader.getInputFeeder().feedInput(in.nioBuffer(in.readerIndex(), length));
+                in.skipBytes(length);
+                pending += length;
+                parse(out);
+            } catch (XMLStreamException e) {
+                reset(in);
+                throw new CorruptedFrameException("Invalid event XML: " + e.getMessage(), e);
+            }
+            checkEventLength(in);
+        }
+    }
+
+    private void parse(List<Object> out) throws XMLStreamException {
+        int token;
+        while ((token = reader.next()) != AsyncXMLStreamReader.EVENT_INCOMPLETE) {
+            pending = 0;
+            switch (token) {
+                case XMLStreamConstants.START_ELEMENT:
+                    onStartElement();
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (onEndElement(out)) {
+                        // The input was fed up to the end tag of the root element
+                        return;
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (eventWriter != null) {
+                        eventWriter.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                default:
+                    // Comments, processing instructions and the like are not part of the event
+                    break;
+            }
+        }
+    }
+
+    private void onStartElement() throws XMLStreamException {
+        if (eventWriter == null) {
+            if (depth == 1 && EVENTS.equals(reader.getLocalName())) {
+                inEvents = true;
+            } else if (depth == 2 && inEvents && EVENT.equals(reader.getLocalName())) {
+                eventXml = new StringWriter();
+                eventWriter = OUTPUT_FACTORY.createXMLStreamWriter(eventXml);
+            }
+        }
+
+        if (eventWriter != null) {
+            eventWriter.writeStartElement(prefixOf(reader.getPrefix()), reader.getLocalName(), namespaceOf(reader.getNamespaceURI()));
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                eventWriter.writeAttribute(prefixOf(reader.getAttributePrefix(i)), namespaceOf(reader.getAttributeNamespace(i)),
+                        reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+        }
+        depth++;
+    }
+
+    /**
+     * Returns true once the end tag of the root element has been read.
+     */
+    private boolean onEndElement(List<Object> out) throws XMLStreamException {
+        depth--;
+        if (eventWriter != null) {
+            eventWriter.writeEndElement();
+            if (depth == 2) {
+                onEvent(out);
+            }
+        } else if (depth == 1) {
+            inEvents = false;
+        } else if (depth == 0) {
+            out.add(END_OF_LOG);
+            closeReader();
+            return true;
+        }
+        return false;
+    }
+
+    private void onEvent(List<Object> out) throws XMLStreamException {
+        eventWriter.close();
+        final String xml = eventXml.toString();
+        eventWriter = null;
+        eventXml = null;
+
+        try {
+            out.add(JaxbUtils.unmarshal(Event.class, xml));
+        } catch (Throwable t) {
+            // Only this event is lost, the following ones can still be read
+            LOG.error("Could not unmarshal the XML event record: {}", xml, t);
+        }
+    }
+
+    private void checkEventLength(ByteBuf in) throws XMLStreamException {
+        if (eventWriter == null) {
+            if (pending > maxEventLength) {
+                // A single tag, or the text in between, must not exceed the limit either
+                reset(in);
+                throw new TooLongFrameException("Markup exceeds " + maxEventLength + " bytes.");
+            }
+            return;
+        }
+        eventWriter.flush();
+        if (eventXml.getBuffer().length() + pending > maxEventLength) {
+            reset(in);
+            throw new TooLongFrameException("Event exceeds " + maxEventLength + " bytes.");
+        }
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        closeReader();
+    }
+
+    private void reset(ByteBuf in) {
+        in.skipBytes(in.readableBytes());
+        closeReader();
+    }
+
+    private void closeReader() {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                LOG.debug("Failed to close the XML parser.", e);
+            }
+        }
+        reader = null;
+        depth = 0;
+        inEvents = false;
+        pending = 0;
+        eventWriter = null;
+        eventXml = null;
+    }
+
+    private static String prefixOf(String prefix) {
+        return prefix == null ? "" : prefix;
+    }
+
+    private static String namespaceOf(String namespace) {
+        return namespace == null ? "" : namespace;
+    }
+}
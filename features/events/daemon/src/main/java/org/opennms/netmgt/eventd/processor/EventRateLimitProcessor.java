@@ -0,0 +1,290 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.events.api.EventProcessor;
+import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * EventProcessor that suppresses bursts of identical events.
+ *
+ * The events are rate limited with a token bucket keyed by their UEI, node,
+ * interface and reduction key. Events in excess of the limit are marked with
+ * the "suppress" log destination, so that they are neither persisted by the
+ * {@link EventWriter} nor broadcast to the other daemons, and are therefore
+ * expected to be placed after the EventExpander and before the EventWriter.
+ *
+ * The number of events suppressed for every key is periodically summarized
+ * in a {@link EventConstants#EVENTS_SUPPRESSED_UEI} event.
+ *
+ * The limiter is disabled unless a rate greater than 0 is set.
+ */
+public class EventRateLimitProcessor implements EventProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(EventRateLimitProcessor.class);
+
+    private static final String SOURCE = "eventd";
+
+    private final Meter suppressedMeter;
+
+    /**
+     * Maximum number of events per minute for every key, 0 to disable the limiter.
+     */
+    private int rate = 0;
+
+    /**
+     * Number of events that can be received at once before they are rate limited.
+     */
+    private int burst = 10;
+
+    /**
+     * Comma-separated list of the UEIs that are rate limited, prefixes end with '*'.
+     * All of the UEIs are rate limited when empty.
+     */
+    private String ueis;
+
+    private int maxKeys = 65536;
+
+    /**
+     * Interval (seconds) at which the suppressed events are summarized.
+     */
+    private int rollupInterval = 60;
+
+    private EventForwarder eventForwarder;
+
+    private Set<String> limitedUeis = new HashSet<>();
+
+    private List<String> limitedUeiPrefixes = new ArrayList<>();
+
+    private long origin;
+
+    private volatile RateLimitBuckets<Suppressed> buckets;
+
+    private ScheduledExecutorService rollupExecutor;
+
+    public EventRateLimitProcessor(MetricRegistry registry) {
+        suppressedMeter = Objects.requireNonNull(registry).meter("events.process.suppressed");
+    }
+
+    public synchronized void init() {
+        if (rate <= 0 || buckets != null) {
+            return;
+        }
+
+        limitedUeis = new HashSet<>();
+        limitedUeiPrefixes = new ArrayList<>();
+        if (ueis != null) {
+            for (final String uei : ueis.split(",")) {
+                final String trimmed = uei.trim();
+                if (trimmed.endsWith("*")) {
+                    limitedUeiPrefixes.add(trimmed.substring(0, trimmed.length() - 1));
+                } else if (!trimmed.isEmpty()) {
+                    limitedUeis.add(trimmed);
+                }
+            }
+        }
+
+        origin = System.nanoTime() - 1;
+        buckets = new RateLimitBuckets<>(maxKeys, TimeUnit.MINUTES.toNanos(1) / rate, burst);
+        LOG.info("Rate limiting events to {} per minute with bursts of {} for {} keys.", rate, burst, buckets.getCapacity());
+
+        if (rollupInterval > 0 && eventForwarder != null) {
+            rollupExecutor = Executors.newSingleThreadScheduledExecutor(new LogPreservingThreadFactory(EventRateLimitProcessor.class.getSimpleName(), 1));
+            rollupExecutor.scheduleWithFixedDelay(this::sendRollups, rollupInterval, rollupInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    public synchronized void destroy() {
+        if (rollupExecutor != null) {
+            rollupExecutor.shutdown();
+            rollupExecutor = null;
+        }
+        if (buckets != null) {
+            sendRollups();
+            buckets = null;
+        }
+    }
+
+    @Override
+    public void process(Log eventLog) throws EventProcessorException {
+        process(eventLog, false);
+    }
+
+    @Override
+    public void process(Log eventLog, boolean synchronous) throws EventProcessorException {
+        final RateLimitBuckets<Suppressed> buckets = this.buckets;
+        if (buckets == null || eventLog == null || eventLog.getEvents() == null || eventLog.getEvents().getEvent() == null) {
+            return;
+        }
+
+        final long now = System.nanoTime() - origin;
+        for (final Event event : eventLog.getEvents().getEvent()) {
+            if (!isLimited(event.getUei())) {
+                continue;
+            }
+
+            final String reductionKey = event.getAlarmData() == null ? null : event.getAlarmData().getReductionKey();
+            long hash = RateLimitBuckets.newHash();
+            hash = RateLimitBuckets.hash(hash, event.getUei());
+            hash = RateLimitBuckets.hash(hash, event.hasNodeid() ? event.getNodeid() : 0L);
+            hash = RateLimitBuckets.hash(hash, event.getInterface());
+            hash = RateLimitBuckets.hash(hash, reductionKey);
+
+            if (!buckets.tryAcquire(RateLimitBuckets.toKey(hash), () -> new Suppressed(event, reductionKey), now)) {
+                LOG.debug("process: suppressing event {} of node {} that exceeds the rate limit", event.getUei(), event.getNodeid());
+                if (event.getLogmsg() == null) {
+                    event.setLogmsg(new Logmsg());
+                }
+                event.getLogmsg().setDest(HibernateEventWriter.LOG_MSG_DEST_SUPRRESS);
+                suppressedMeter.mark();
+            }
+        }
+    }
+
+    private boolean isLimited(final String uei) {
+        if (uei == null || EventConstants.EVENTS_SUPPRESSED_UEI.equals(uei)) {
+            return false;
+        }
+        if (limitedUeis.isEmpty() && limitedUeiPrefixes.isEmpty()) {
+            return true;
+        }
+        if (limitedUeis.contains(uei)) {
+            return true;
+        }
+        for (final String prefix : limitedUeiPrefixes) {
+            if (uei.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void sendRollups() {
+        final RateLimitBuckets<Suppressed> buckets = this.buckets;
+        if (buckets == null || eventForwarder == null) {
+            return;
+        }
+        try {
+            buckets.drainSuppressed((suppressed, count) -> {
+                final EventBuilder eb = new EventBuilder(EventConstants.EVENTS_SUPPRESSED_UEI, SOURCE);
+                if (suppressed.nodeId > 0) {
+                    eb.setNodeid(suppressed.nodeId);
+                }
+                eb.addParam("suppressedUei", suppressed.uei);
+                eb.addParam("suppressedCount", count);
+                if (suppressed.reductionKey != null) {
+                    eb.addParam("reductionKey", suppressed.reductionKey);
+                }
+                final Event event = eb.getEvent();
+                event.setInterface(suppressed.iface);
+                eventForwarder.sendNow(event);
+            });
+        } catch (Throwable t) {
+            LOG.warn("Failed to send the summary of the suppressed events.", t);
+        }
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public String getUeis() {
+        return ueis;
+    }
+
+    public void setUeis(String ueis) {
+        this.ueis = ueis;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public int getRollupInterval() {
+        return rollupInterval;
+    }
+
+    public void setRollupInterval(int rollupInterval) {
+        this.rollupInterval = rollupInterval;
+    }
+
+    public EventForwarder getEventForwarder() {
+        return eventForwarder;
+    }
+
+    public void setEventForwarder(EventForwarder eventForwarder) {
+        this.eventForwarder = eventForwarder;
+    }
+
+    /**
+     * Identifies the events of a key in the summary of the suppressed events.
+     */
+    private static class Suppressed {
+        private final String uei;
+        private final long nodeId;
+        private final String iface;
+        private final String reductionKey;
+
+        private Suppressed(final Event event, final String reductionKey) {
+            this.uei = event.getUei();
+            this.nodeId = event.hasNodeid() ? event.getNodeid() : 0L;
+            this.iface = event.getInterface();
+            this.reductionKey = reductionKey;
+        }
+    }
+}
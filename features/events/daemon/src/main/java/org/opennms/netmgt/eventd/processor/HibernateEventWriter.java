@@ -25,9 +25,17 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
 import org.opennms.netmgt.dao.api.DistPollerDao;
 import org.opennms.netmgt.dao.api.EventDao;
 import org.opennms.netmgt.dao.api.MonitoringSystemDao;
@@ -57,6 +65,7 @@ import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.util.Assert;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
@@ -80,6 +89,14 @@ import com.codahale.metrics.Timer.Context;
  * @see org.opennms.netmgt.events.api.EventDatabaseConstants#DB_ATTRIB_DELIM
  * @see org.opennms.netmgt.events.api.EventDatabaseConstants#NAME_VAL_DELIM
  *
+ * When a batch size greater than 1 is configured, the event logs handed to
+ * {@link #process(Log)} by concurrent callers are grouped and committed
+ * together in a single transaction by a dedicated thread (group commit).
+ * Callers still block until their own events are stored, so the database ids
+ * are set on the events before they are broadcast. The nodes, hosts and systems
+ * of all of the events of a batch are looked up before any of them is inserted,
+ * and the inserts are then sent as JDBC batches by {@link EventDao#saveAll(List)}.
+ *
  * @author <A HREF="mailto:sowmya@opennms.org">Sowmya Nataraj </A>
  * @author <A HREF="http://www.opennms.org">OpenNMS.org </A>
  */
@@ -116,8 +133,81 @@ public class HibernateEventWriter implements EventWriter {
 
     private final Timer writeTimer;
 
+    private final Histogram batchSizeHistogram;
+
+    private final Timer batchCommitTimer;
+
+    /**
+     * Maximum number of events committed in a single transaction by the
+     * batch writer. Batching is disabled when this is 1 or less.
+     */
+    private int batchSize = 1;
+
+    /**
+     * Maximum amount of time, in milliseconds, the batch writer waits for
+     * additional events before committing a batch.
+     */
+    private long batchIntervalMs = 10;
+
+    /**
+     * Event logs waiting for the batch writer, or null if it is not running.
+     * Only accessed while holding the lock on this writer.
+     */
+    private BlockingQueue<PendingWrite> pendingWrites;
+
+    private ExecutorService batchWriterExecutor;
+
+    /**
+     * The events of an event log waiting to be written by the batch writer.
+     */
+    private static class PendingWrite {
+        private final Header header;
+        private final List<Event> events;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingWrite(Header header, List<Event> events) {
+            this.header = header;
+            this.events = events;
+        }
+    }
+
     public HibernateEventWriter(MetricRegistry registry) {
         writeTimer = Objects.requireNonNull(registry).timer("eventlogs.process.write");
+        batchSizeHistogram = registry.histogram("eventlogs.process.write.batch.size");
+        batchCommitTimer = registry.timer("eventlogs.process.write.batch.commit");
+    }
+
+    /**
+     * Starts the batch writer if batching is enabled.
+     */
+    public synchronized void init() {
+        if (batchSize <= 1 || batchWriterExecutor != null) {
+            return;
+        }
+        LOG.info("Writing events in batches of up to {} events every {}ms.", batchSize, batchIntervalMs);
+        final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+        pendingWrites = queue;
+        batchWriterExecutor = Executors.newSingleThreadExecutor(new LogPreservingThreadFactory(HibernateEventWriter.class.getSimpleName(), 1));
+        batchWriterExecutor.execute(() -> writeBatches(queue));
+    }
+
+    /**
+     * Stops the batch writer. Pending writes are failed, and the event logs
+     * processed afterwards are written by the calling thread.
+     */
+    public synchronized void destroy() {
+        if (batchWriterExecutor == null) {
+            return;
+        }
+        batchWriterExecutor.shutdownNow();
+        batchWriterExecutor = null;
+
+        final List<PendingWrite> remaining = new ArrayList<>();
+        pendingWrites.drainTo(remaining);
+        pendingWrites = null;
+        for (PendingWrite pendingWrite : remaining) {
+            pendingWrite.future.completeExceptionally(new EventProcessorException("The event writer was stopped before the events could be written."));
+        }
     }
 
     /**
@@ -174,27 +264,157 @@ public class HibernateEventWriter implements EventWriter {
                 return;
             }
 
+            final PendingWrite pendingWrite = enqueue(eventLog.getHeader(), eventsToPersist);
+            if (pendingWrite != null) {
+                awaitBatched(pendingWrite);
+                return;
+            }
+
             // Time the transaction and insertions
             try (Context context = writeTimer.time()) {
-                final AtomicReference<EventProcessorException> exception = new AtomicReference<>();
-
-                m_transactionManager.execute(new TransactionCallbackWithoutResult() {
-                    @Override
-                    protected void doInTransactionWithoutResult(TransactionStatus status) {
-                        for (Event eachEvent : eventsToPersist) {
-                            try {
-                                process(eventLog.getHeader(), eachEvent);
-                            } catch (EventProcessorException e) {
-                                exception.set(e);
-                                return;
-                            }
+                write(eventLog.getHeader(), eventsToPersist);
+            }
+        }
+    }
+
+    /**
+     * Write the given events in a single transaction.
+     */
+    private void write(final Header eventHeader, final List<Event> eventsToPersist) throws EventProcessorException {
+        final AtomicReference<EventProcessorException> exception = new AtomicReference<>();
+
+        m_transactionManager.execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                for (Event eachEvent : eventsToPersist) {
+                    try {
+                        process(eventHeader, eachEvent);
+                    } catch (EventProcessorException e) {
+                        exception.set(e);
+                        return;
+                    }
+                }
+            }
+        });
+
+        if (exception.get() != null) {
+            throw exception.get();
+        }
+    }
+
+    /**
+     * Hand the events over to the batch writer.
+     *
+     * @return the pending write, or null if the batch writer is not running
+     */
+    private synchronized PendingWrite enqueue(final Header eventHeader, final List<Event> eventsToPersist) {
+        if (pendingWrites == null) {
+            return null;
+        }
+        final PendingWrite pendingWrite = new PendingWrite(eventHeader, eventsToPersist);
+        pendingWrites.add(pendingWrite);
+        return pendingWrite;
+    }
+
+    /**
+     * Wait until the batch writer has written the events.
+     */
+    private void awaitBatched(final PendingWrite pendingWrite) throws EventProcessorException {
+        try (Context context = writeTimer.time()) {
+            pendingWrite.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventProcessorException("Interrupted while waiting for the events to be written.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EventProcessorException) {
+                throw (EventProcessorException)e.getCause();
+            }
+            throw new EventProcessorException("Unexpected exception while storing events.", e.getCause());
+        }
+    }
+
+    /**
+     * Loop run by the batch writer: gather the pending writes until the batch
+     * size is reached or the batch interval elapsed, and commit them at once.
+     */
+    private void writeBatches(final BlockingQueue<PendingWrite> pendingWrites) {
+        final List<PendingWrite> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(pendingWrites.take());
+                int numEvents = batch.get(0).events.size();
+
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchIntervalMs);
+                while (numEvents < batchSize) {
+                    final PendingWrite next = pendingWrites.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    numEvents += next.events.size();
+                }
+
+                batchSizeHistogram.update(numEvents);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (PendingWrite pendingWrite : batch) {
+                    pendingWrite.future.completeExceptionally(new EventProcessorException("Interrupted while writing events.", e));
+                }
+            } catch (Throwable t) {
+                LOG.error("Unexpected exception while writing a batch of events.", t);
+                for (PendingWrite pendingWrite : batch) {
+                    pendingWrite.future.completeExceptionally(t);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Commit all the pending writes in a single transaction. If that fails,
+     * each pending write is retried in a transaction of its own so that the
+     * failure is only reported to the caller that caused it.
+     */
+    private void commit(final List<PendingWrite> batch) {
+        try (Context context = batchCommitTimer.time()) {
+            m_transactionManager.execute(new TransactionCallbackWithoutResult() {
+                @Override
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    // Do all of the lookups first, they would otherwise flush the session between the inserts
+                    final List<Event> events = new ArrayList<>();
+                    final List<OnmsEvent> ovents = new ArrayList<>();
+                    for (PendingWrite pendingWrite : batch) {
+                        for (Event eachEvent : pendingWrite.events) {
+                            LOG.debug("HibernateEventWriter: processing {}, nodeid: {}, ipaddr: {}, serviceid: {}, time: {}", eachEvent.getUei(), eachEvent.getNodeid(), eachEvent.getInterface(), eachEvent.getService(), eachEvent.getTime());
+                            events.add(eachEvent);
+                            ovents.add(createOnmsEvent(pendingWrite.header, eachEvent));
                         }
                     }
-                });
 
-                if (exception.get() != null) {
-                    throw exception.get();
+                    eventDao.saveAll(ovents);
+
+                    for (int i = 0; i < events.size(); i++) {
+                        events.get(i).setDbid(ovents.get(i).getId());
+                    }
                 }
+            });
+
+            batch.forEach(pendingWrite -> pendingWrite.future.complete(null));
+            return;
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to write a batch of {} event logs, writing them one by one.", batch.size(), e);
+        }
+
+        for (PendingWrite pendingWrite : batch) {
+            try {
+                // The database ids assigned in the rolled back transaction are no longer valid
+                pendingWrite.events.forEach(e -> e.setDbid(null));
+                write(pendingWrite.header, pendingWrite.events);
+                pendingWrite.future.complete(null);
+            } catch (Throwable t) {
+                pendingWrite.future.completeExceptionally(t);
             }
         }
     }
@@ -405,4 +625,20 @@ public class HibernateEventWriter implements EventWriter {
     public void setTransactionManager(TransactionOperations transactionManager) {
         m_transactionManager = transactionManager;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchIntervalMs() {
+        return batchIntervalMs;
+    }
+
+    public void setBatchIntervalMs(long batchIntervalMs) {
+        this.batchIntervalMs = batchIntervalMs;
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A fixed-size, lock-free table of token buckets keyed by 64-bit hashes.
+ *
+ * Every bucket is stored as its "theoretical arrival time" (the generic cell
+ * rate algorithm), which behaves like a token bucket but is updated with a
+ * single compare-and-set. The table is open-addressed: a key is looked up in
+ * a few consecutive slots, and slots whose bucket has been full for longer
+ * than the expiry, with no pending suppressed count, are reused for new keys.
+ * When no slot can be found for a key, its events are let through.
+ *
+ * The table is approximate by design: a slot that is reused while a thread is
+ * still updating it for its previous key may be charged one extra token, and
+ * a new key seen by several threads at once may briefly use two slots.
+ *
+ * @param <T> the type of the sample kept for every key whose events are suppressed
+ */
+class RateLimitBuckets<T> {
+
+    private static final int PROBES = 8;
+
+    private static final long EMPTY = 0L;
+
+    private final int m_mask;
+
+    private final AtomicLongArray m_keys;
+
+    private final AtomicLongArray m_arrivals;
+
+    private final AtomicLongArray m_suppressed;
+
+    private final AtomicReferenceArray<T> m_samples;
+
+    private final long m_interval;
+
+    private final long m_tolerance;
+
+    private final long m_expiry;
+
+    /**
+     * @param maxKeys the number of keys that can be tracked, rounded up to a power of 2
+     * @param intervalNanos the time needed to refill a single token
+     * @param burst the size of each bucket
+     */
+    RateLimitBuckets(final int maxKeys, final long intervalNanos, final int burst) {
+        if (maxKeys < 1 || intervalNanos < 1 || burst < 1) {
+            throw new IllegalArgumentException("maxKeys, intervalNanos and burst must be greater than 0");
+        }
+        final int capacity = Integer.highestOneBit(Math.max(PROBES, maxKeys - 1)) << 1;
+        m_mask = capacity - 1;
+        m_keys = new AtomicLongArray(capacity);
+        m_arrivals = new AtomicLongArray(capacity);
+        m_suppressed = new AtomicLongArray(capacity);
+        m_samples = new AtomicReferenceArray<>(capacity);
+        m_interval = intervalNanos;
+        m_tolerance = intervalNanos * (burst - 1);
+        // Idle buckets are kept for as long as it takes to refill them
+        m_expiry = intervalNanos * burst;
+    }
+
+    /**
+     * Takes a token from the bucket of the given key.
+     *
+     * @param key the hash of the key, see {@link #hash(long, String)}
+     * @param sample called to create the sample of the key when its first event is suppressed
+     * @param now the current time in nanoseconds, must be positive and monotonic
+     * @return false if the event must be suppressed
+     */
+    boolean tryAcquire(final long key, final Supplier<T> sample, final long now) {
+        final int first = (int) (key ^ (key >>> 32)) & m_mask;
+        int free = -1;
+        long freeKey = EMPTY;
+        for (int i = 0; i < PROBES; i++) {
+            final int slot = (first + i) & m_mask;
+            final long k = m_keys.get(slot);
+            if (k == key) {
+                return tryAcquire(slot, sample, now);
+            }
+            if (free < 0 && (k == EMPTY || isExpired(slot, now))) {
+                free = slot;
+                freeKey = k;
+            }
+        }
+
+        if (free >= 0 && m_keys.compareAndSet(free, freeKey, key)) {
+            // The arrival time of an expired bucket is in the past, so it is full again
+            return tryAcquire(free, sample, now);
+        }
+        return true;
+    }
+
+    private boolean tryAcquire(final int slot, final Supplier<T> sample, final long now) {
+        while (true) {
+            final long arrival = m_arrivals.get(slot);
+            final long next = Math.max(arrival, now);
+            if (next - now > m_tolerance) {
+                if (m_suppressed.getAndIncrement(slot) == 0) {
+                    m_samples.set(slot, sample.get());
+                }
+                return false;
+            }
+            if (m_arrivals.compareAndSet(slot, arrival, next + m_interval)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isExpired(final int slot, final long now) {
+        return now - m_arrivals.get(slot) > m_expiry && m_suppressed.get(slot) == 0;
+    }
+
+    /**
+     * Passes the sample and the number of suppressed events of every key whose
+     * events were suppressed since the last call, and resets the counts.
+     */
+    void drainSuppressed(final ObjLongConsumer<T> consumer) {
+        for (int slot = 0; slot <= m_mask; slot++) {
+            if (m_suppressed.get(slot) == 0) {
+                continue;
+            }
+            final T sample = m_samples.getAndSet(slot, null);
+            final long count = m_suppressed.getAndSet(slot, 0);
+            if (sample != null && count > 0) {
+                consumer.accept(sample, count);
+            } else if (sample == null && count > 0) {
+                // The sample is being set, report these events on the next call
+                m_suppressed.addAndGet(slot, count);
+            }
+        }
+    }
+
+    int getCapacity() {
+        return m_mask + 1;
+    }
+
+    /**
+     * Combines the hash with the given value (64-bit FNV-1a).
+     */
+    static long hash(long hash, final String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+        // Separate the values so that "ab" + "c" and "a" + "bc" differ
+        hash ^= 0xff;
+        hash *= 0x100000001b3L;
+        return hash;
+    }
+
+    static long hash(long hash, final long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static long newHash() {
+        return 0xcbf29ce484222325L;
+    }
+
+    /**
+     * Ensures that the hash can be used as a key.
+     */
+    static long toKey(final long hash) {
+        return hash == EMPTY ? 1L : hash;
+    }
+}
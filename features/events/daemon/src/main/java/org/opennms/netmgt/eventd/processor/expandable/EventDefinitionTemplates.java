@@ -0,0 +1,109 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor.expandable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opennms.netmgt.eventd.EventUtil;
+import org.opennms.netmgt.xml.eventconf.Decode;
+import org.opennms.netmgt.xml.eventconf.Event;
+import org.opennms.netmgt.xml.eventconf.Varbindsdecode;
+
+/**
+ * The {@link EventTemplate}s and varbind decodes of an event definition, compiled once
+ * and reused for every event matching the definition.
+ *
+ * The templates are looked up by identity: a template is only returned for the very
+ * {@link String} instance that was copied from the event definition to the event,
+ * values supplied by the event itself must be expanded with
+ * {@link EventUtil#expandParms(String, org.opennms.netmgt.xml.event.Event, Map)}.
+ */
+public class EventDefinitionTemplates {
+
+    private final String[] sources;
+
+    private final EventTemplate[] templates;
+
+    private final Map<String, Map<String, String>> decode;
+
+    public EventDefinitionTemplates(Event definition, EventUtil eventUtil) {
+        Objects.requireNonNull(definition);
+        Objects.requireNonNull(eventUtil);
+
+        final List<String> sources = new ArrayList<>();
+        sources.add(definition.getDescr());
+        sources.add(definition.getLogmsg() != null ? definition.getLogmsg().getContent() : null);
+        sources.add(definition.getOperinstruct());
+        if (definition.getAlarmData() != null) {
+            sources.add(definition.getAlarmData().getReductionKey());
+            sources.add(definition.getAlarmData().getClearKey());
+        }
+        sources.removeIf(Objects::isNull);
+
+        this.sources = sources.toArray(new String[0]);
+        this.templates = new EventTemplate[this.sources.length];
+        for (int i = 0; i < this.sources.length; i++) {
+            this.templates[i] = new EventTemplate(this.sources[i], eventUtil);
+        }
+
+        if (definition.getVarbindsdecodes().isEmpty()) {
+            this.decode = Collections.emptyMap();
+        } else {
+            final Map<String, Map<String, String>> decode = new HashMap<>();
+            for (final Varbindsdecode element : definition.getVarbindsdecodes()) {
+                final Map<String, String> valueMap = new HashMap<>();
+                for (final Decode element2 : element.getDecodes()) {
+                    valueMap.put(element2.getVarbindvalue(), element2.getVarbinddecodedstring());
+                }
+                decode.put(element.getParmid(), Collections.unmodifiableMap(valueMap));
+            }
+            this.decode = Collections.unmodifiableMap(decode);
+        }
+    }
+
+    /**
+     * Returns the compiled template for the given value.
+     *
+     * @param value a value copied from the event definition
+     * @return the template, or null if the value does not originate from the event definition
+     */
+    public EventTemplate getTemplate(String value) {
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] == value) {
+                return templates[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the varbind decodes of the event definition, keyed by parameter
+     */
+    public Map<String, Map<String, String>> getDecode() {
+        return decode;
+    }
+}
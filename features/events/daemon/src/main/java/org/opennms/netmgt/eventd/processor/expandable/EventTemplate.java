@@ -21,25 +21,26 @@
  */
 package org.opennms.netmgt.eventd.processor.expandable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.opennms.netmgt.eventd.EventUtil;
 import org.opennms.netmgt.xml.event.Event;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Lists;
-
 /**
  * The {@link EventTemplate} represents the event input, containing place-holders, e.g. 'nodeLabel',
  * and support to expand the template.
  *
  * For each placeholder in the {@link EventTemplate#input} a {@link ExpandableToken} is created.
  * The expandable state of the {@link EventTemplate} is the expanded state of all tokens ({@link EventTemplate#tokens}.
+ *
+ * The input is only parsed once: adjacent constants are merged, each parameter is bound to its
+ * {@link ExpandableParameterResolver} and expanding the template is a walk over the resulting tokens.
  */
 public class EventTemplate implements ExpandableToken {
 
@@ -49,9 +50,24 @@ public class EventTemplate implements ExpandableToken {
 
     private static final Pattern WHITESPACE_PATTERN = Pattern.compile(".*\\s(?s).*");
 
+    /**
+     * Buffers larger than this are not kept around for the next expansion.
+     */
+    private static final int MAX_REUSABLE_BUFFER_CAPACITY = 16 * 1024;
+
+    /**
+     * The buffer of the current thread, or null while it is in use.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
     private final String input;
 
-    private final List<ExpandableToken> tokens = Lists.newArrayList();
+    private final ExpandableToken[] tokens;
+
+    /**
+     * The expanded value if the template has no parameters, null otherwise.
+     */
+    private final String constant;
 
     private final EventUtil eventUtil;
 
@@ -60,15 +76,29 @@ public class EventTemplate implements ExpandableToken {
     public EventTemplate(String input, EventUtil eventUtil) {
         this.input = Objects.requireNonNull(input);
         this.eventUtil = Objects.requireNonNull(eventUtil);
-        parse();
-        this.requiresTransaction = tokens.stream().filter(ExpandableToken::requiresTransaction).findAny().isPresent();
+
+        final List<ExpandableToken> parsed = new ArrayList<>();
+        final StringBuilder constant = new StringBuilder();
+        final boolean hasParameters = parse(parsed, constant);
+        this.tokens = parsed.toArray(new ExpandableToken[0]);
+        this.constant = hasParameters ? null : constant.toString();
+
+        boolean requiresTransaction = false;
+        for (final ExpandableToken token : tokens) {
+            requiresTransaction |= token.requiresTransaction();
+        }
+        this.requiresTransaction = requiresTransaction;
     }
 
     /**
      * Parses the input and creates {@link ExpandableToken} to expand it.
+     *
+     * @param tokens the list the tokens are added to
+     * @param constant holds the constant text that has not been added to the tokens yet
+     * @return true if the input contains any parameter, false otherwise
      */
-    private void parse() {
-        tokens.clear();
+    private boolean parse(List<ExpandableToken> tokens, StringBuilder constant) {
+        boolean hasParameters = false;
         String tempInp = input;
         int inpLen = input.length();
 
@@ -80,13 +110,13 @@ public class EventTemplate implements ExpandableToken {
 
             LOG.debug("checking input {}", tempInp);
             // copy till first %
-            tokens.add(new ExpandableConstant(tempInp.substring(0, index1)));
+            constant.append(tempInp, 0, index1);
             tempInp = tempInp.substring(index1);
 
             index2 = tempInp.indexOf(PERCENT, 1);
             // If another % character is the next value
             if (index2 == 1) {
-                tokens.add(new ExpandableConstant(PERCENT));
+                constant.append(PERCENT);
                 tempInp = tempInp.substring(index2 + 1);
                 LOG.debug("Escaped percent %% found in value");
                 continue;
@@ -98,13 +128,15 @@ public class EventTemplate implements ExpandableToken {
                 // If there's any whitespace in between the % signs, then do not try to
                 // expand it with a parameter value
                 if (WHITESPACE_PATTERN.matcher(parm).matches()) {
-                    tokens.add(new ExpandableConstant(PERCENT));
+                    constant.append(PERCENT);
                     tempInp = tempInp.substring(1);
                     LOG.debug("skipping parm: {} because whitespace found in value", parm);
                     continue;
                 }
 
+                flush(tokens, constant);
                 tokens.add(new ExpandableParameter(parm, eventUtil));
+                hasParameters = true;
 
                 if (index2 < (inpLen - 1)) {
                     tempInp = tempInp.substring(index2 + 1);
@@ -116,16 +148,56 @@ public class EventTemplate implements ExpandableToken {
             }
         }
         if ((index1 == -1 || index2 == -1) && (tempInp != null)) {
-            tokens.add(new ExpandableConstant(tempInp));
+            constant.append(tempInp);
+        }
+        if (hasParameters) {
+            flush(tokens, constant);
+        }
+        return hasParameters;
+    }
+
+    private static void flush(List<ExpandableToken> tokens, StringBuilder constant) {
+        if (constant.length() > 0) {
+            tokens.add(new ExpandableConstant(constant.toString()));
+            constant.setLength(0);
         }
     }
 
     @Override
     public String expand(Event event, Map<String, Map<String, String>> decode) {
-        final String collect = tokens.stream()
-                .map(t -> t.expand(event, decode))
-                .collect(Collectors.joining());
-        return collect;
+        if (constant != null) {
+            return constant;
+        }
+
+        // Templates may be expanded recursively by the resolvers, in which case the buffer is in use
+        StringBuilder buffer = BUFFER.get();
+        if (buffer == null) {
+            buffer = new StringBuilder(input.length() + 16);
+        } else {
+            BUFFER.set(null);
+            buffer.setLength(0);
+        }
+        try {
+            expand(event, decode, buffer);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() <= MAX_REUSABLE_BUFFER_CAPACITY) {
+                BUFFER.set(buffer);
+            } else {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    @Override
+    public void expand(Event event, Map<String, Map<String, String>> decode, StringBuilder buffer) {
+        if (constant != null) {
+            buffer.append(constant);
+            return;
+        }
+        for (final ExpandableToken token : tokens) {
+            token.expand(event, decode, buffer);
+        }
     }
 
     // If we find any token which requires a transaction, the template itself requires a transaction as well
@@ -47,6 +47,11 @@ public class ExpandableConstant implements ExpandableToken {
         return token;
     }
 
+    @Override
+    public void expand(Event event, Map<String, Map<String, String>> decode, StringBuilder buffer) {
+        buffer.append(token);
+    }
+
     @Override
     public boolean requiresTransaction() {
         return false; // no transaction for constants
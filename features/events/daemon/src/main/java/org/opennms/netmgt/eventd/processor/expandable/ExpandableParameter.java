@@ -59,22 +59,27 @@ public class ExpandableParameter implements ExpandableToken {
 
     @Override
     public String expand(Event event, Map<String, Map<String, String>> decode) {
+        final StringBuilder ret = new StringBuilder();
+        expand(event, decode, ret);
+        return ret.toString();
+    }
+
+    @Override
+    public void expand(Event event, Map<String, Map<String, String>> decode, StringBuilder buffer) {
         String value = resolver.getValue(token, parsedToken, event, eventUtil);
         LOG.debug("Value of token {}={}", token, value);
 
         if (value != null) {
-            if (decode != null && decode.containsKey(token) && decode.get(token).containsKey(value)) {
-                final StringBuilder ret = new StringBuilder();
-                ret.append(decode.get(token).get(value));
-                ret.append("(");
-                ret.append(value);
-                ret.append(")");
-                return ret.toString();
+            final Map<String, String> decodes = decode != null ? decode.get(token) : null;
+            if (decodes != null && decodes.containsKey(value)) {
+                buffer.append(decodes.get(value));
+                buffer.append("(");
+                buffer.append(value);
+                buffer.append(")");
             } else {
-                return WebSecurityUtils.sanitizeString(value);
+                buffer.append(WebSecurityUtils.sanitizeString(value));
             }
         }
-        return "";
     }
 
     @Override
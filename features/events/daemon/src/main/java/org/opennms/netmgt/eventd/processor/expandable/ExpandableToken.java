@@ -39,6 +39,17 @@ public interface ExpandableToken {
      */
     String expand(Event event, Map<String, Map<String, String>> decode);
 
+    /**
+     * Expands a token and appends the result to the given buffer.
+     *
+     * @param event An event, to expand the token from. May not be null.
+     * @param decode A Map, to help expanding the token. May be null.
+     * @param buffer The buffer the expanded token is appended to.
+     */
+    default void expand(Event event, Map<String, Map<String, String>> decode, StringBuilder buffer) {
+        buffer.append(expand(event, decode));
+    }
+
     /**
      * Defines if this {@link ExpandableToken} requires a transaction to be expanded.
      *
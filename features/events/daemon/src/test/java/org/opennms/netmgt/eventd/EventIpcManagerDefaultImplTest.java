@@ -35,9 +35,12 @@ import static org.opennms.core.utils.InetAddressUtils.addr;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
@@ -445,6 +448,29 @@ public class EventIpcManagerDefaultImplTest {
         });
     }
 
+    /**
+     * Verify that the cached UEI to listener resolutions are discarded
+     * when listeners subscribe or unsubscribe.
+     */
+    @Test
+    public void testBroadcastAfterListenerChanges() throws Exception {
+        EventBuilder bldr = new EventBuilder("uei.opennms.org/foo/bar", "testBroadcastAfterListenerChanges");
+        Event e = bldr.getEvent();
+
+        // Nobody is listening yet, but the resolution gets cached
+        m_manager.broadcastNow(e, true);
+        assertEquals(0, m_listener.getEvents().size());
+
+        m_manager.addEventListener(m_listener, "uei.opennms.org/foo/");
+        m_manager.broadcastNow(e, true);
+        assertTrue("could not remove broadcasted event--did it make it?",
+                   m_listener.getEvents().remove(ImmutableMapper.fromMutableEvent(e)));
+
+        m_manager.removeEventListener(m_listener, "uei.opennms.org/foo/");
+        m_manager.broadcastNow(e, true);
+        assertEquals(0, m_listener.getEvents().size());
+    }
+
     /**
      * This is the type of exception we want to catch.
      * 
@@ -523,6 +549,62 @@ public class EventIpcManagerDefaultImplTest {
         assertEquals(Thread.currentThread().getId(), threadRecordingEventHandler.getThreadId());
     }
 
+    @Test
+    public void testEventsOfANodeAreProcessedInOrderWithLanes() throws InterruptedException {
+        final int numNodes = 8;
+        final int numEventsPerNode = 50;
+        final Map<Long, List<String>> ueisByNode = new ConcurrentHashMap<>();
+        final Map<Long, Long> threadIdsByNode = new ConcurrentHashMap<>();
+        final AtomicInteger outOfLane = new AtomicInteger();
+
+        EventHandler handler = new EventHandler() {
+            @Override
+            public Runnable createRunnable(Log eventLog, boolean synchronous) {
+                return createRunnable(eventLog);
+            }
+
+            @Override
+            public Runnable createRunnable(Log eventLog) {
+                return () -> {
+                    final Event event = eventLog.getEvents().getEvent(0);
+                    if (!threadIdsByNode.computeIfAbsent(event.getNodeid(), n -> Thread.currentThread().getId()).equals(Thread.currentThread().getId())) {
+                        outOfLane.incrementAndGet();
+                    }
+                    ueisByNode.computeIfAbsent(event.getNodeid(), n -> Collections.synchronizedList(new ArrayList<>())).add(event.getUei());
+                };
+            }
+        };
+
+        EventIpcManagerDefaultImpl manager = new EventIpcManagerDefaultImpl(m_registry);
+        manager.setEventHandler(handler);
+        manager.setHandlerPoolSize(1);
+        manager.setHandlerLanes(4);
+        manager.afterPropertiesSet();
+
+        assertTrue(m_registry.getGauges().containsKey("eventlogs.queued.lane3"));
+
+        final List<String> expectedUeis = new ArrayList<>();
+        for (int i = 0; i < numEventsPerNode; i++) {
+            expectedUeis.add("uei.opennms.org/foo/" + i);
+            for (long nodeId = 1; nodeId <= numNodes; nodeId++) {
+                EventBuilder bldr = new EventBuilder("uei.opennms.org/foo/" + i, "testEventsOfANodeAreProcessedInOrderWithLanes");
+                bldr.setNodeid(nodeId);
+                manager.sendNow(bldr.getEvent());
+            }
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertEquals(numNodes, ueisByNode.size());
+            for (List<String> ueis : ueisByNode.values()) {
+                assertEquals(numEventsPerNode, ueis.size());
+            }
+        });
+        for (List<String> ueis : ueisByNode.values()) {
+            assertEquals(expectedUeis, ueis);
+        }
+        assertEquals(0, outOfLane.get());
+    }
+
     @Test
     public void testSlowEventHandlerCausesDiscards() throws InterruptedException {
         AtomicInteger counter = new AtomicInteger();
@@ -0,0 +1,92 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.events.proto.EventsProto;
+import org.opennms.netmgt.xml.event.Event;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+
+public class ProtobufEventProcessorTest {
+
+    private final EventForwarder eventForwarder = mock(EventForwarder.class);
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(TcpListener.newProtobufFrameDecoder(),
+            new ProtobufDecoder(EventsProto.Event.getDefaultInstance()),
+            new ProtobufEventProcessor(eventForwarder));
+
+    @Test
+    public void canForwardLengthPrefixedEvents() {
+        final ByteBuf frames = Unpooled.buffer();
+        writeFrame(frames, EventsProto.Event.newBuilder()
+                .setUei("uei.opennms.org/test/first")
+                .setSource("test")
+                .setIpAddress("192.168.1.2")
+                .build().toByteArray());
+        writeFrame(frames, EventsProto.Event.newBuilder()
+                .setUei("uei.opennms.org/test/second")
+                .setSource("test")
+                .build().toByteArray());
+
+        // Send the frames in small fragments
+        while (frames.isReadable()) {
+            channel.writeInbound(frames.readRetainedSlice(Math.min(5, frames.readableBytes())));
+        }
+        frames.release();
+
+        final ArgumentCaptor<Event> events = ArgumentCaptor.forClass(Event.class);
+        verify(eventForwarder, times(2)).sendNow(events.capture());
+        final List<Event> sent = events.getAllValues();
+        assertEquals("uei.opennms.org/test/first", sent.get(0).getUei());
+        assertEquals("192.168.1.2", sent.get(0).getInterface());
+        assertEquals("uei.opennms.org/test/second", sent.get(1).getUei());
+    }
+
+    @Test
+    public void canRejectMessagesThatAreTooLong() {
+        // Only the length is sent, the message must not be buffered
+        channel.writeInbound(Unpooled.buffer(4).writeInt(Integer.MAX_VALUE));
+
+        verifyNoInteractions(eventForwarder);
+        assertFalse(channel.isOpen());
+    }
+
+    private static void writeFrame(ByteBuf out, byte[] message) {
+        out.writeInt(message.length);
+        out.writeBytes(message);
+    }
+}
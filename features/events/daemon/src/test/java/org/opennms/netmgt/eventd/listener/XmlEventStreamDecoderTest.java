@@ -0,0 +1,147 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.opennms.netmgt.xml.event.Event;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+
+public class XmlEventStreamDecoderTest {
+
+    private static final String LOG_WITH_DEFAULT_NAMESPACE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<log xmlns=\"http://xmlns.opennms.org/xsd/event\">\n"
+            + "  <!-- </event> in a comment -->\n"
+            + "  <events>\n"
+            + "    <event uuid=\"1\"><uei>uei.opennms.org/test/first</uei><source>a > b</source></event>\n"
+            + "    <event uuid=\"2\"><uei>uei.opennms.org/test/second</uei><source>test</source>"
+            + "<descr><![CDATA[</event></events></log>]]></descr></event>\n"
+            + "  </events>\n"
+            + "</log>\n";
+
+    private static final String LOG_WITH_PREFIX = "<e:log xmlns:e=\"http://xmlns.opennms.org/xsd/event\">"
+            + "<e:events><e:event><e:uei>uei.opennms.org/test/third</e:uei><e:source>test</e:source></e:event></e:events>"
+            + "</e:log>";
+
+    private static final String LOG_WITHOUT_NAMESPACE = "<log><events>"
+            + "<event><uei>uei.opennms.org/test/fourth</uei><source>test</source></event>"
+            + "</events></log>";
+
+    @Test
+    public void canDecodeEventsAsTheyAreRead() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new XmlEventStreamDecoder(1024));
+
+        // Send the documents in small fragments
+        final byte[] bytes = (LOG_WITH_DEFAULT_NAMESPACE + LOG_WITH_PREFIX + LOG_WITHOUT_NAMESPACE).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 7) {
+            channel.writeInbound(Unpooled.wrappedBuffer(bytes, i, Math.min(7, bytes.length - i)));
+        }
+
+        Event event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/first", event.getUei());
+        assertEquals("a > b", event.getSource());
+        assertEquals("1", event.getUuid());
+        event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/second", event.getUei());
+        assertEquals("</event></events></log>", event.getDescr());
+        assertSame(XmlEventStreamDecoder.END_OF_LOG, channel.readInbound());
+
+        event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/third", event.getUei());
+        assertSame(XmlEventStreamDecoder.END_OF_LOG, channel.readInbound());
+
+        event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/fourth", event.getUei());
+        assertSame(XmlEventStreamDecoder.END_OF_LOG, channel.readInbound());
+
+        assertNull(channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    public void canDecodeAnEventBeforeTheEndOfTheDocument() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new XmlEventStreamDecoder(1024));
+
+        channel.writeInbound(Unpooled.copiedBuffer("<log><events><event><uei>uei.opennms.org/test/first</uei><source>test</source></event><event>", StandardCharsets.UTF_8));
+        Event event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/first", event.getUei());
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(Unpooled.copiedBuffer("<uei>uei.opennms.org/test/second</uei><source>test</source></event></events></log>", StandardCharsets.UTF_8));
+        event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/second", event.getUei());
+        assertSame(XmlEventStreamDecoder.END_OF_LOG, channel.readInbound());
+    }
+
+    @Test
+    public void canDecodeDocumentsWithADeclarationInTheSameRead() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new XmlEventStreamDecoder(1024));
+
+        // Both documents are received at once, the second one starts with an XML declaration
+        channel.writeInbound(Unpooled.copiedBuffer(LOG_WITHOUT_NAMESPACE + "\n" + LOG_WITH_DEFAULT_NAMESPACE, StandardCharsets.UTF_8));
+
+        Event event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/fourth", event.getUei());
+        assertSame(XmlEventStreamDecoder.END_OF_LOG, channel.readInbound());
+        event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/first", event.getUei());
+        event = channel.readInbound();
+        assertEquals("uei.opennms.org/test/second", event.getUei());
+        assertSame(XmlEventStreamDecoder.END_OF_LOG, channel.readInbound());
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void canRejectMalformedDocuments() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new XmlEventStreamDecoder(1024));
+
+        try {
+            channel.writeInbound(Unpooled.copiedBuffer("<log><events><event></log>", StandardCharsets.UTF_8));
+            fail("Expected a CorruptedFrameException");
+        } catch (CorruptedFrameException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void canRejectEventsThatAreTooLong() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new XmlEventStreamDecoder(64));
+
+        try {
+            channel.writeInbound(Unpooled.copiedBuffer("<log><events><event><uei>uei.opennms.org/test/a/very/long/uei/that/does/not/fit</uei>", StandardCharsets.UTF_8));
+            fail("Expected a TooLongFrameException");
+        } catch (TooLongFrameException e) {
+            // expected
+        }
+    }
+}
@@ -27,6 +27,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -47,10 +48,14 @@ import org.junit.Test;
 import org.opennms.netmgt.config.api.EventConfDao;
 import org.opennms.netmgt.eventd.EventExpander;
 import org.opennms.netmgt.eventd.EventUtil;
+import org.opennms.netmgt.eventd.ExpandableParameterResolverRegistry;
+import org.opennms.netmgt.eventd.processor.expandable.EventTemplate;
 import org.opennms.netmgt.model.events.EventBuilder;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.eventconf.AlarmData;
 import org.opennms.netmgt.xml.eventconf.EventOrdering;
+import org.opennms.netmgt.xml.eventconf.Logmsg;
 import org.opennms.netmgt.xml.eventconf.Mask;
 import org.opennms.netmgt.xml.eventconf.Maskelement;
 import org.opennms.netmgt.xml.eventconf.Varbind;
@@ -203,6 +208,56 @@ public class EventExpanderTest {
         verify(m_eventConfDao, times(14)).isSecureTag(anyString());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void canExpandWithCompiledTemplates() {
+        // build the event definition
+        org.opennms.netmgt.xml.eventconf.Event eventConfig = new org.opennms.netmgt.xml.eventconf.Event();
+        eventConfig.setUei("uei.opennms.org/test");
+        eventConfig.setDescr("<p>%uei% from %source%</p>");
+        Logmsg logmsg = new Logmsg();
+        logmsg.setContent("%source% is at 100%%");
+        eventConfig.setLogmsg(logmsg);
+        AlarmData alarmData = new AlarmData();
+        alarmData.setReductionKey("%uei%:%source%");
+        alarmData.setClearKey("%uei%:%source%:clear");
+        eventConfig.setAlarmData(alarmData);
+        eventConfig.initialize(new EventOrdering().next());
+
+        final ExpandableParameterResolverRegistry registry = new ExpandableParameterResolverRegistry();
+        when(m_eventUtil.getResolver(anyString())).thenAnswer(invocation -> registry.getResolver(invocation.getArgument(0)));
+        when(m_eventUtil.expandTemplate(any(EventTemplate.class), any(Event.class), nullable(Map.class)))
+                .thenAnswer(invocation -> ((EventTemplate)invocation.getArgument(0)).expand(invocation.getArgument(1), invocation.getArgument(2)));
+
+        EventExpander expander = new EventExpander(new MetricRegistry());
+        expander.setEventConfDao(m_eventConfDao);
+        expander.setEventUtil(m_eventUtil);
+        expander.afterPropertiesSet();
+        when(m_eventConfDao.findByEvent(any(Event.class))).thenReturn(eventConfig);
+        when(m_eventConfDao.isSecureTag(anyString())).thenReturn(true);
+
+        // the templates are compiled once for the event definition and reused
+        for (String source : new String[] { "first", "second" }) {
+            Event event = new EventBuilder("uei.opennms.org/test", source).getEvent();
+            expander.expandEvent(event);
+
+            assertEquals("<p>uei.opennms.org/test from " + source + "</p>", event.getDescr());
+            assertEquals(source + " is at 100%", event.getLogmsg().getContent());
+            assertEquals("uei.opennms.org/test:" + source, event.getAlarmData().getReductionKey());
+            assertEquals("uei.opennms.org/test:" + source + ":clear", event.getAlarmData().getClearKey());
+        }
+        verify(m_eventUtil, times(7)).getResolver(anyString());
+
+        // the templates are compiled again once invalidated
+        expander.invalidateTemplates();
+        expander.expandEvent(new EventBuilder("uei.opennms.org/test", "third").getEvent());
+        verify(m_eventUtil, times(14)).getResolver(anyString());
+
+        verify(m_eventUtil, times(12)).expandTemplate(any(EventTemplate.class), any(Event.class), nullable(Map.class));
+        verify(m_eventConfDao, times(3)).findByEvent(any(Event.class));
+        verify(m_eventConfDao, atLeastOnce()).isSecureTag(anyString());
+    }
+
     private void expand(Event event, org.opennms.netmgt.xml.eventconf.Event eventConfig) {
         EventExpander expander = new EventExpander(new MetricRegistry());
         expander.setEventConfDao(m_eventConfDao);
@@ -0,0 +1,144 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+
+import com.codahale.metrics.MetricRegistry;
+
+public class EventRateLimitProcessorTest {
+
+    private static final String FLAP_UEI = "uei.opennms.org/junit/linkFlap";
+
+    private EventRateLimitProcessor rateLimiter;
+
+    private EventForwarder eventForwarder;
+
+    @Before
+    public void setUp() {
+        eventForwarder = mock(EventForwarder.class);
+        rateLimiter = new EventRateLimitProcessor(new MetricRegistry());
+        rateLimiter.setRate(1);
+        rateLimiter.setBurst(3);
+        rateLimiter.setUeis("uei.opennms.org/junit/link*, uei.opennms.org/junit/other");
+        // Summaries are sent explicitly by the tests
+        rateLimiter.setRollupInterval(0);
+        rateLimiter.setEventForwarder(eventForwarder);
+        rateLimiter.init();
+    }
+
+    @After
+    public void tearDown() {
+        rateLimiter.setEventForwarder(null);
+        rateLimiter.destroy();
+    }
+
+    @Test
+    public void canSuppressEventsInExcessOfTheBurst() throws EventProcessorException {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(process(FLAP_UEI, 1));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertFalse("event " + i, isSuppressed(events.get(i)));
+        }
+        assertTrue(isSuppressed(events.get(3)));
+        assertTrue(isSuppressed(events.get(4)));
+
+        // The events of other nodes and UEIs are not affected
+        assertFalse(isSuppressed(process(FLAP_UEI, 2)));
+        assertFalse(isSuppressed(process("uei.opennms.org/junit/other", 1)));
+        for (int i = 0; i < 5; i++) {
+            assertFalse(isSuppressed(process("uei.opennms.org/junit/notLimited", 1)));
+        }
+    }
+
+    @Test
+    public void canSummarizeSuppressedEvents() throws EventProcessorException {
+        for (int i = 0; i < 10; i++) {
+            process(FLAP_UEI, 1);
+        }
+        rateLimiter.sendRollups();
+
+        final ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(eventForwarder, times(1)).sendNow(captor.capture());
+        final Event rollup = captor.getValue();
+        assertEquals(EventConstants.EVENTS_SUPPRESSED_UEI, rollup.getUei());
+        assertEquals(Long.valueOf(1), rollup.getNodeid());
+        assertEquals(FLAP_UEI, rollup.getParm("suppressedUei").getValue().getContent());
+        assertEquals("7", rollup.getParm("suppressedCount").getValue().getContent());
+
+        // The counts are reset once summarized
+        rateLimiter.sendRollups();
+        verify(eventForwarder, times(1)).sendNow(captor.capture());
+    }
+
+    @Test
+    public void canRefillBuckets() {
+        final RateLimitBuckets<String> buckets = new RateLimitBuckets<>(16, 100, 2);
+        final long key = RateLimitBuckets.toKey(RateLimitBuckets.hash(RateLimitBuckets.newHash(), "key"));
+
+        assertTrue(buckets.tryAcquire(key, () -> "key", 1000));
+        assertTrue(buckets.tryAcquire(key, () -> "key", 1000));
+        assertFalse(buckets.tryAcquire(key, () -> "key", 1000));
+
+        // A single token is available after the refill interval
+        assertTrue(buckets.tryAcquire(key, () -> "key", 1100));
+        assertFalse(buckets.tryAcquire(key, () -> "key", 1100));
+
+        final List<String> samples = new ArrayList<>();
+        buckets.drainSuppressed((sample, count) -> samples.add(sample + "=" + count));
+        assertEquals(1, samples.size());
+        assertEquals("key=2", samples.get(0));
+    }
+
+    private Event process(final String uei, final long nodeId) throws EventProcessorException {
+        final EventBuilder eb = new EventBuilder(uei, "JUnit");
+        eb.setNodeid(nodeId);
+        final Log log = eb.getLog();
+        rateLimiter.process(log);
+        return log.getEvents().getEvent(0);
+    }
+
+    private static boolean isSuppressed(final Event event) {
+        return event.getLogmsg() != null && HibernateEventWriter.LOG_MSG_DEST_SUPRRESS.equals(event.getLogmsg().getDest());
+    }
+}
@@ -21,20 +21,46 @@
  */
 package org.opennms.netmgt.eventd.processor;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
+import org.opennms.netmgt.dao.api.DistPollerDao;
+import org.opennms.netmgt.dao.api.EventDao;
+import org.opennms.netmgt.dao.api.MonitoringSystemDao;
+import org.opennms.netmgt.dao.api.NodeDao;
+import org.opennms.netmgt.dao.api.ServiceTypeDao;
+import org.opennms.netmgt.eventd.EventUtil;
 import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.model.OnmsEvent;
 import org.opennms.netmgt.model.events.EventBuilder;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.event.Events;
 import org.opennms.netmgt.xml.event.Log;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionOperations;
 
 import com.codahale.metrics.MetricRegistry;
@@ -109,4 +135,156 @@ public class HibernateEventWriterTest {
         eventWriter.process(log);
         verify(transactionManager, times(1)).execute(any());
     }
+
+    /**
+     * Verifies that the event logs of concurrent callers are committed
+     * in a single transaction when batching is enabled.
+     */
+    @Test
+    public void testBatchedTransaction() throws Exception {
+        eventWriter.setBatchSize(100);
+        eventWriter.setBatchIntervalMs(1000);
+        eventWriter.init();
+        try {
+            final int numCallers = 10;
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<CompletableFuture<Void>> callers = new ArrayList<>();
+            for (int i = 0; i < numCallers; i++) {
+                callers.add(CompletableFuture.runAsync(() -> {
+                    EventBuilder bldr = new EventBuilder("testUei", "testSource");
+                    bldr.setLogDest(HibernateEventWriter.LOG_MSG_DEST_LOG_AND_DISPLAY);
+                    try {
+                        start.await();
+                        eventWriter.process(bldr.getLog());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+            }
+            start.countDown();
+            CompletableFuture.allOf(callers.toArray(new CompletableFuture[0])).get();
+
+            verify(transactionManager, times(1)).execute(any());
+        } finally {
+            eventWriter.destroy();
+        }
+    }
+
+    /**
+     * Verifies that the event logs queued when the writer is stopped are
+     * failed, and that the event logs processed afterwards are still written.
+     */
+    @Test(timeout=30000)
+    public void testDestroyWhileBatching() throws Exception {
+        final CountDownLatch committing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(transactionManager.execute(any())).then(invocation -> {
+            committing.countDown();
+            release.await();
+            return null;
+        });
+
+        eventWriter.setBatchSize(100);
+        eventWriter.setBatchIntervalMs(0);
+        eventWriter.init();
+
+        // The first log is being committed by the batch writer...
+        final CompletableFuture<Void> first = process();
+        assertTrue(committing.await(10, TimeUnit.SECONDS));
+
+        // ...and the second one is waiting for the next batch
+        final CompletableFuture<Void> second = new CompletableFuture<>();
+        final Thread secondCaller = new Thread(() -> {
+            try {
+                eventWriter.process(createLog());
+                second.complete(null);
+            } catch (Throwable t) {
+                second.completeExceptionally(t);
+            }
+        });
+        secondCaller.start();
+        while (secondCaller.getState() != Thread.State.WAITING) {
+            Thread.sleep(10);
+        }
+
+        eventWriter.destroy();
+        try {
+            second.get();
+            fail("The queued event log should have been failed.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof EventProcessorException);
+        }
+
+        release.countDown();
+        first.handle((v, t) -> null).get();
+
+        // Logs processed once the writer is stopped are written by the caller
+        reset(transactionManager);
+        eventWriter.process(createLog());
+        verify(transactionManager, times(1)).execute(any());
+    }
+
+    /**
+     * Verifies that the nodes of all of the events of a batch are looked up
+     * before the events are inserted, and that they are inserted at once.
+     */
+    @Test(timeout=30000)
+    public void testBatchLooksUpBeforeInserting() throws Exception {
+        final NodeDao nodeDao = mock(NodeDao.class);
+        final EventDao eventDao = mock(EventDao.class);
+        ReflectionTestUtils.setField(eventWriter, "nodeDao", nodeDao);
+        ReflectionTestUtils.setField(eventWriter, "eventDao", eventDao);
+        ReflectionTestUtils.setField(eventWriter, "monitoringSystemDao", mock(MonitoringSystemDao.class));
+        ReflectionTestUtils.setField(eventWriter, "distPollerDao", mock(DistPollerDao.class));
+        ReflectionTestUtils.setField(eventWriter, "serviceTypeDao", mock(ServiceTypeDao.class));
+        ReflectionTestUtils.setField(eventWriter, "eventUtil", mock(EventUtil.class));
+        when(transactionManager.execute(any())).then(invocation -> invocation.getArgument(0, TransactionCallback.class)
+                .doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            final List<OnmsEvent> ovents = invocation.getArgument(0);
+            for (int i = 0; i < ovents.size(); i++) {
+                ovents.get(i).setId(100 + i);
+            }
+            return null;
+        }).when(eventDao).saveAll(anyList());
+
+        eventWriter.setBatchSize(2);
+        eventWriter.setBatchIntervalMs(10000);
+        eventWriter.init();
+        try {
+            final Log log = createLog();
+            final EventBuilder bldr = new EventBuilder("testUei", "testSource");
+            bldr.setLogDest(HibernateEventWriter.LOG_MSG_DEST_LOG_AND_DISPLAY);
+            bldr.setNodeid(2);
+            log.getEvents().addEvent(bldr.getEvent());
+            log.getEvents().getEvent(0).setNodeid(1L);
+
+            eventWriter.process(log);
+
+            final InOrder inOrder = inOrder(nodeDao, eventDao);
+            inOrder.verify(nodeDao, times(2)).get(anyInt());
+            inOrder.verify(eventDao).saveAll(anyList());
+            verify(eventDao, never()).save(any());
+            assertEquals(Integer.valueOf(100), log.getEvents().getEvent(0).getDbid());
+            assertEquals(Integer.valueOf(101), log.getEvents().getEvent(1).getDbid());
+        } finally {
+            eventWriter.destroy();
+        }
+    }
+
+    private CompletableFuture<Void> process() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                eventWriter.process(createLog());
+            } catch (EventProcessorException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static Log createLog() {
+        EventBuilder bldr = new EventBuilder("testUei", "testSource");
+        bldr.setLogDest(HibernateEventWriter.LOG_MSG_DEST_LOG_AND_DISPLAY);
+        return bldr.getLog();
+    }
 }
@@ -20,9 +20,9 @@
  * License.
  */
 // Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: kafka-consumer-events.proto
+// source: events.proto
 
-package org.opennms.features.kafka.consumer.events;
+package org.opennms.netmgt.events.proto;
 
 public final class EventsProto {
   private EventsProto() {}
@@ -167,7 +167,7 @@ public final class EventsProto {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return org.opennms.features.kafka.consumer.events.EventsProto.getDescriptor().getEnumTypes().get(0);
+      return org.opennms.netmgt.events.proto.EventsProto.getDescriptor().getEnumTypes().get(0);
     }
 
     private static final Severity[] VALUES = values();
@@ -252,15 +252,15 @@ public final class EventsProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_EventParameter_descriptor;
+      return org.opennms.netmgt.events.proto.EventsProto.internal_static_EventParameter_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_EventParameter_fieldAccessorTable
+      return org.opennms.netmgt.events.proto.EventsProto.internal_static_EventParameter_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.class, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder.class);
+              org.opennms.netmgt.events.proto.EventsProto.EventParameter.class, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder.class);
     }
 
     public static final int NAME_FIELD_NUMBER = 1;
@@ -384,10 +384,10 @@ public final class EventsProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.opennms.features.kafka.consumer.events.EventsProto.EventParameter)) {
+      if (!(obj instanceof org.opennms.netmgt.events.proto.EventsProto.EventParameter)) {
         return super.equals(obj);
       }
-      org.opennms.features.kafka.consumer.events.EventsProto.EventParameter other = (org.opennms.features.kafka.consumer.events.EventsProto.EventParameter) obj;
+      org.opennms.netmgt.events.proto.EventsProto.EventParameter other = (org.opennms.netmgt.events.proto.EventsProto.EventParameter) obj;
 
       if (!getName()
           .equals(other.getName())) return false;
@@ -413,69 +413,69 @@ public final class EventsProto {
       return hash;
     }
 
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(byte[] data)
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(java.io.InputStream input)
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseDelimitedFrom(java.io.InputStream input)
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseDelimitedFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -488,7 +488,7 @@ public final class EventsProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.opennms.features.kafka.consumer.events.EventsProto.EventParameter prototype) {
+    public static Builder newBuilder(org.opennms.netmgt.events.proto.EventsProto.EventParameter prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -509,21 +509,21 @@ public final class EventsProto {
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:EventParameter)
-        org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder {
+        org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_EventParameter_descriptor;
+        return org.opennms.netmgt.events.proto.EventsProto.internal_static_EventParameter_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_EventParameter_fieldAccessorTable
+        return org.opennms.netmgt.events.proto.EventsProto.internal_static_EventParameter_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.class, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder.class);
+                org.opennms.netmgt.events.proto.EventsProto.EventParameter.class, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder.class);
       }
 
-      // Construct using org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.newBuilder()
+      // Construct using org.opennms.netmgt.events.proto.EventsProto.EventParameter.newBuilder()
       private Builder() {
 
       }
@@ -546,17 +546,17 @@ public final class EventsProto {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_EventParameter_descriptor;
+        return org.opennms.netmgt.events.proto.EventsProto.internal_static_EventParameter_descriptor;
       }
 
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter getDefaultInstanceForType() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.getDefaultInstance();
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter getDefaultInstanceForType() {
+        return org.opennms.netmgt.events.proto.EventsProto.EventParameter.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter build() {
-        org.opennms.features.kafka.consumer.events.EventsProto.EventParameter result = buildPartial();
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter build() {
+        org.opennms.netmgt.events.proto.EventsProto.EventParameter result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -564,8 +564,8 @@ public final class EventsProto {
       }
 
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter buildPartial() {
-        org.opennms.features.kafka.consumer.events.EventsProto.EventParameter result = new org.opennms.features.kafka.consumer.events.EventsProto.EventParameter(this);
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter buildPartial() {
+        org.opennms.netmgt.events.proto.EventsProto.EventParameter result = new org.opennms.netmgt.events.proto.EventsProto.EventParameter(this);
         result.name_ = name_;
         result.value_ = value_;
         onBuilt();
@@ -606,16 +606,16 @@ public final class EventsProto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.opennms.features.kafka.consumer.events.EventsProto.EventParameter) {
-          return mergeFrom((org.opennms.features.kafka.consumer.events.EventsProto.EventParameter)other);
+        if (other instanceof org.opennms.netmgt.events.proto.EventsProto.EventParameter) {
+          return mergeFrom((org.opennms.netmgt.events.proto.EventsProto.EventParameter)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.opennms.features.kafka.consumer.events.EventsProto.EventParameter other) {
-        if (other == org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.opennms.netmgt.events.proto.EventsProto.EventParameter other) {
+        if (other == org.opennms.netmgt.events.proto.EventsProto.EventParameter.getDefaultInstance()) return this;
         if (!other.getName().isEmpty()) {
           name_ = other.name_;
           onChanged();
@@ -844,12 +844,12 @@ public final class EventsProto {
     }
 
     // @@protoc_insertion_point(class_scope:EventParameter)
-    private static final org.opennms.features.kafka.consumer.events.EventsProto.EventParameter DEFAULT_INSTANCE;
+    private static final org.opennms.netmgt.events.proto.EventsProto.EventParameter DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.opennms.features.kafka.consumer.events.EventsProto.EventParameter();
+      DEFAULT_INSTANCE = new org.opennms.netmgt.events.proto.EventsProto.EventParameter();
     }
 
-    public static org.opennms.features.kafka.consumer.events.EventsProto.EventParameter getDefaultInstance() {
+    public static org.opennms.netmgt.events.proto.EventsProto.EventParameter getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
@@ -885,7 +885,7 @@ public final class EventsProto {
     }
 
     @java.lang.Override
-    public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter getDefaultInstanceForType() {
+    public org.opennms.netmgt.events.proto.EventsProto.EventParameter getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -952,7 +952,7 @@ public final class EventsProto {
      * <code>.Severity severity = 3;</code>
      * @return The severity.
      */
-    org.opennms.features.kafka.consumer.events.EventsProto.Severity getSeverity();
+    org.opennms.netmgt.events.proto.EventsProto.Severity getSeverity();
 
     /**
      * <code>string host = 4;</code>
@@ -1053,12 +1053,12 @@ public final class EventsProto {
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
-    java.util.List<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter> 
+    java.util.List<org.opennms.netmgt.events.proto.EventsProto.EventParameter> 
         getParameterList();
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
-    org.opennms.features.kafka.consumer.events.EventsProto.EventParameter getParameter(int index);
+    org.opennms.netmgt.events.proto.EventsProto.EventParameter getParameter(int index);
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
@@ -1066,12 +1066,12 @@ public final class EventsProto {
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
-    java.util.List<? extends org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder> 
+    java.util.List<? extends org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder> 
         getParameterOrBuilderList();
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
-    org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder getParameterOrBuilder(
+    org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder getParameterOrBuilder(
         int index);
   }
   /**
@@ -1114,15 +1114,15 @@ public final class EventsProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_Event_descriptor;
+      return org.opennms.netmgt.events.proto.EventsProto.internal_static_Event_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_Event_fieldAccessorTable
+      return org.opennms.netmgt.events.proto.EventsProto.internal_static_Event_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.opennms.features.kafka.consumer.events.EventsProto.Event.class, org.opennms.features.kafka.consumer.events.EventsProto.Event.Builder.class);
+              org.opennms.netmgt.events.proto.EventsProto.Event.class, org.opennms.netmgt.events.proto.EventsProto.Event.Builder.class);
     }
 
     public static final int UEI_FIELD_NUMBER = 1;
@@ -1238,10 +1238,10 @@ public final class EventsProto {
      * <code>.Severity severity = 3;</code>
      * @return The severity.
      */
-    @java.lang.Override public org.opennms.features.kafka.consumer.events.EventsProto.Severity getSeverity() {
+    @java.lang.Override public org.opennms.netmgt.events.proto.EventsProto.Severity getSeverity() {
       @SuppressWarnings("deprecation")
-      org.opennms.features.kafka.consumer.events.EventsProto.Severity result = org.opennms.features.kafka.consumer.events.EventsProto.Severity.valueOf(severity_);
-      return result == null ? org.opennms.features.kafka.consumer.events.EventsProto.Severity.UNRECOGNIZED : result;
+      org.opennms.netmgt.events.proto.EventsProto.Severity result = org.opennms.netmgt.events.proto.EventsProto.Severity.valueOf(severity_);
+      return result == null ? org.opennms.netmgt.events.proto.EventsProto.Severity.UNRECOGNIZED : result;
     }
 
     public static final int HOST_FIELD_NUMBER = 4;
@@ -1533,19 +1533,19 @@ public final class EventsProto {
     }
 
     public static final int PARAMETER_FIELD_NUMBER = 13;
-    private java.util.List<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter> parameter_;
+    private java.util.List<org.opennms.netmgt.events.proto.EventsProto.EventParameter> parameter_;
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
     @java.lang.Override
-    public java.util.List<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter> getParameterList() {
+    public java.util.List<org.opennms.netmgt.events.proto.EventsProto.EventParameter> getParameterList() {
       return parameter_;
     }
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
     @java.lang.Override
-    public java.util.List<? extends org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder> 
+    public java.util.List<? extends org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder> 
         getParameterOrBuilderList() {
       return parameter_;
     }
@@ -1560,14 +1560,14 @@ public final class EventsProto {
      * <code>repeated .EventParameter parameter = 13;</code>
      */
     @java.lang.Override
-    public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter getParameter(int index) {
+    public org.opennms.netmgt.events.proto.EventsProto.EventParameter getParameter(int index) {
       return parameter_.get(index);
     }
     /**
      * <code>repeated .EventParameter parameter = 13;</code>
      */
     @java.lang.Override
-    public org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder getParameterOrBuilder(
+    public org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder getParameterOrBuilder(
         int index) {
       return parameter_.get(index);
     }
@@ -1592,7 +1592,7 @@ public final class EventsProto {
       if (!getSourceBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, source_);
       }
-      if (severity_ != org.opennms.features.kafka.consumer.events.EventsProto.Severity.INDETERMINATE.getNumber()) {
+      if (severity_ != org.opennms.netmgt.events.proto.EventsProto.Severity.INDETERMINATE.getNumber()) {
         output.writeEnum(3, severity_);
       }
       if (!getHostBytes().isEmpty()) {
@@ -1640,7 +1640,7 @@ public final class EventsProto {
       if (!getSourceBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, source_);
       }
-      if (severity_ != org.opennms.features.kafka.consumer.events.EventsProto.Severity.INDETERMINATE.getNumber()) {
+      if (severity_ != org.opennms.netmgt.events.proto.EventsProto.Severity.INDETERMINATE.getNumber()) {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(3, severity_);
       }
@@ -1687,10 +1687,10 @@ public final class EventsProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.opennms.features.kafka.consumer.events.EventsProto.Event)) {
+      if (!(obj instanceof org.opennms.netmgt.events.proto.EventsProto.Event)) {
         return super.equals(obj);
       }
-      org.opennms.features.kafka.consumer.events.EventsProto.Event other = (org.opennms.features.kafka.consumer.events.EventsProto.Event) obj;
+      org.opennms.netmgt.events.proto.EventsProto.Event other = (org.opennms.netmgt.events.proto.EventsProto.Event) obj;
 
       if (!getUei()
           .equals(other.getUei())) return false;
@@ -1761,69 +1761,69 @@ public final class EventsProto {
       return hash;
     }
 
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(byte[] data)
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(java.io.InputStream input)
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseDelimitedFrom(java.io.InputStream input)
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseDelimitedFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event parseFrom(
+    public static org.opennms.netmgt.events.proto.EventsProto.Event parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1836,7 +1836,7 @@ public final class EventsProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.opennms.features.kafka.consumer.events.EventsProto.Event prototype) {
+    public static Builder newBuilder(org.opennms.netmgt.events.proto.EventsProto.Event prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1857,21 +1857,21 @@ public final class EventsProto {
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:Event)
-        org.opennms.features.kafka.consumer.events.EventsProto.EventOrBuilder {
+        org.opennms.netmgt.events.proto.EventsProto.EventOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_Event_descriptor;
+        return org.opennms.netmgt.events.proto.EventsProto.internal_static_Event_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_Event_fieldAccessorTable
+        return org.opennms.netmgt.events.proto.EventsProto.internal_static_Event_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.opennms.features.kafka.consumer.events.EventsProto.Event.class, org.opennms.features.kafka.consumer.events.EventsProto.Event.Builder.class);
+                org.opennms.netmgt.events.proto.EventsProto.Event.class, org.opennms.netmgt.events.proto.EventsProto.Event.Builder.class);
       }
 
-      // Construct using org.opennms.features.kafka.consumer.events.EventsProto.Event.newBuilder()
+      // Construct using org.opennms.netmgt.events.proto.EventsProto.Event.newBuilder()
       private Builder() {
 
       }
@@ -1921,17 +1921,17 @@ public final class EventsProto {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.internal_static_Event_descriptor;
+        return org.opennms.netmgt.events.proto.EventsProto.internal_static_Event_descriptor;
       }
 
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.Event getDefaultInstanceForType() {
-        return org.opennms.features.kafka.consumer.events.EventsProto.Event.getDefaultInstance();
+      public org.opennms.netmgt.events.proto.EventsProto.Event getDefaultInstanceForType() {
+        return org.opennms.netmgt.events.proto.EventsProto.Event.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.Event build() {
-        org.opennms.features.kafka.consumer.events.EventsProto.Event result = buildPartial();
+      public org.opennms.netmgt.events.proto.EventsProto.Event build() {
+        org.opennms.netmgt.events.proto.EventsProto.Event result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1939,8 +1939,8 @@ public final class EventsProto {
       }
 
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.Event buildPartial() {
-        org.opennms.features.kafka.consumer.events.EventsProto.Event result = new org.opennms.features.kafka.consumer.events.EventsProto.Event(this);
+      public org.opennms.netmgt.events.proto.EventsProto.Event buildPartial() {
+        org.opennms.netmgt.events.proto.EventsProto.Event result = new org.opennms.netmgt.events.proto.EventsProto.Event(this);
         int from_bitField0_ = bitField0_;
         result.uei_ = uei_;
         result.source_ = source_;
@@ -2001,16 +2001,16 @@ public final class EventsProto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.opennms.features.kafka.consumer.events.EventsProto.Event) {
-          return mergeFrom((org.opennms.features.kafka.consumer.events.EventsProto.Event)other);
+        if (other instanceof org.opennms.netmgt.events.proto.EventsProto.Event) {
+          return mergeFrom((org.opennms.netmgt.events.proto.EventsProto.Event)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.opennms.features.kafka.consumer.events.EventsProto.Event other) {
-        if (other == org.opennms.features.kafka.consumer.events.EventsProto.Event.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.opennms.netmgt.events.proto.EventsProto.Event other) {
+        if (other == org.opennms.netmgt.events.proto.EventsProto.Event.getDefaultInstance()) return this;
         if (!other.getUei().isEmpty()) {
           uei_ = other.uei_;
           onChanged();
@@ -2169,9 +2169,9 @@ public final class EventsProto {
                 break;
               } // case 98
               case 106: {
-                org.opennms.features.kafka.consumer.events.EventsProto.EventParameter m =
+                org.opennms.netmgt.events.proto.EventsProto.EventParameter m =
                     input.readMessage(
-                        org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.parser(),
+                        org.opennms.netmgt.events.proto.EventsProto.EventParameter.parser(),
                         extensionRegistry);
                 if (parameterBuilder_ == null) {
                   ensureParameterIsMutable();
@@ -2426,10 +2426,10 @@ public final class EventsProto {
        * @return The severity.
        */
       @java.lang.Override
-      public org.opennms.features.kafka.consumer.events.EventsProto.Severity getSeverity() {
+      public org.opennms.netmgt.events.proto.EventsProto.Severity getSeverity() {
         @SuppressWarnings("deprecation")
-        org.opennms.features.kafka.consumer.events.EventsProto.Severity result = org.opennms.features.kafka.consumer.events.EventsProto.Severity.valueOf(severity_);
-        return result == null ? org.opennms.features.kafka.consumer.events.EventsProto.Severity.UNRECOGNIZED : result;
+        org.opennms.netmgt.events.proto.EventsProto.Severity result = org.opennms.netmgt.events.proto.EventsProto.Severity.valueOf(severity_);
+        return result == null ? org.opennms.netmgt.events.proto.EventsProto.Severity.UNRECOGNIZED : result;
       }
       /**
        * <pre>
@@ -2440,7 +2440,7 @@ public final class EventsProto {
        * @param value The severity to set.
        * @return This builder for chaining.
        */
-      public Builder setSeverity(org.opennms.features.kafka.consumer.events.EventsProto.Severity value) {
+      public Builder setSeverity(org.opennms.netmgt.events.proto.EventsProto.Severity value) {
         if (value == null) {
           throw new NullPointerException();
         }
@@ -3058,22 +3058,22 @@ public final class EventsProto {
         return this;
       }
 
-      private java.util.List<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter> parameter_ =
+      private java.util.List<org.opennms.netmgt.events.proto.EventsProto.EventParameter> parameter_ =
         java.util.Collections.emptyList();
       private void ensureParameterIsMutable() {
         if (!((bitField0_ & 0x00000001) != 0)) {
-          parameter_ = new java.util.ArrayList<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter>(parameter_);
+          parameter_ = new java.util.ArrayList<org.opennms.netmgt.events.proto.EventsProto.EventParameter>(parameter_);
           bitField0_ |= 0x00000001;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilderV3<
-          org.opennms.features.kafka.consumer.events.EventsProto.EventParameter, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder, org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder> parameterBuilder_;
+          org.opennms.netmgt.events.proto.EventsProto.EventParameter, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder, org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder> parameterBuilder_;
 
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public java.util.List<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter> getParameterList() {
+      public java.util.List<org.opennms.netmgt.events.proto.EventsProto.EventParameter> getParameterList() {
         if (parameterBuilder_ == null) {
           return java.util.Collections.unmodifiableList(parameter_);
         } else {
@@ -3093,7 +3093,7 @@ public final class EventsProto {
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter getParameter(int index) {
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter getParameter(int index) {
         if (parameterBuilder_ == null) {
           return parameter_.get(index);
         } else {
@@ -3104,7 +3104,7 @@ public final class EventsProto {
        * <code>repeated .EventParameter parameter = 13;</code>
        */
       public Builder setParameter(
-          int index, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter value) {
+          int index, org.opennms.netmgt.events.proto.EventsProto.EventParameter value) {
         if (parameterBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -3121,7 +3121,7 @@ public final class EventsProto {
        * <code>repeated .EventParameter parameter = 13;</code>
        */
       public Builder setParameter(
-          int index, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder builderForValue) {
+          int index, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder builderForValue) {
         if (parameterBuilder_ == null) {
           ensureParameterIsMutable();
           parameter_.set(index, builderForValue.build());
@@ -3134,7 +3134,7 @@ public final class EventsProto {
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public Builder addParameter(org.opennms.features.kafka.consumer.events.EventsProto.EventParameter value) {
+      public Builder addParameter(org.opennms.netmgt.events.proto.EventsProto.EventParameter value) {
         if (parameterBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -3151,7 +3151,7 @@ public final class EventsProto {
        * <code>repeated .EventParameter parameter = 13;</code>
        */
       public Builder addParameter(
-          int index, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter value) {
+          int index, org.opennms.netmgt.events.proto.EventsProto.EventParameter value) {
         if (parameterBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -3168,7 +3168,7 @@ public final class EventsProto {
        * <code>repeated .EventParameter parameter = 13;</code>
        */
       public Builder addParameter(
-          org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder builderForValue) {
+          org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder builderForValue) {
         if (parameterBuilder_ == null) {
           ensureParameterIsMutable();
           parameter_.add(builderForValue.build());
@@ -3182,7 +3182,7 @@ public final class EventsProto {
        * <code>repeated .EventParameter parameter = 13;</code>
        */
       public Builder addParameter(
-          int index, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder builderForValue) {
+          int index, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder builderForValue) {
         if (parameterBuilder_ == null) {
           ensureParameterIsMutable();
           parameter_.add(index, builderForValue.build());
@@ -3196,7 +3196,7 @@ public final class EventsProto {
        * <code>repeated .EventParameter parameter = 13;</code>
        */
       public Builder addAllParameter(
-          java.lang.Iterable<? extends org.opennms.features.kafka.consumer.events.EventsProto.EventParameter> values) {
+          java.lang.Iterable<? extends org.opennms.netmgt.events.proto.EventsProto.EventParameter> values) {
         if (parameterBuilder_ == null) {
           ensureParameterIsMutable();
           com.google.protobuf.AbstractMessageLite.Builder.addAll(
@@ -3236,14 +3236,14 @@ public final class EventsProto {
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder getParameterBuilder(
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder getParameterBuilder(
           int index) {
         return getParameterFieldBuilder().getBuilder(index);
       }
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder getParameterOrBuilder(
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder getParameterOrBuilder(
           int index) {
         if (parameterBuilder_ == null) {
           return parameter_.get(index);  } else {
@@ -3253,7 +3253,7 @@ public final class EventsProto {
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public java.util.List<? extends org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder> 
+      public java.util.List<? extends org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder> 
            getParameterOrBuilderList() {
         if (parameterBuilder_ != null) {
           return parameterBuilder_.getMessageOrBuilderList();
@@ -3264,31 +3264,31 @@ public final class EventsProto {
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder addParameterBuilder() {
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder addParameterBuilder() {
         return getParameterFieldBuilder().addBuilder(
-            org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.getDefaultInstance());
+            org.opennms.netmgt.events.proto.EventsProto.EventParameter.getDefaultInstance());
       }
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder addParameterBuilder(
+      public org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder addParameterBuilder(
           int index) {
         return getParameterFieldBuilder().addBuilder(
-            index, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.getDefaultInstance());
+            index, org.opennms.netmgt.events.proto.EventsProto.EventParameter.getDefaultInstance());
       }
       /**
        * <code>repeated .EventParameter parameter = 13;</code>
        */
-      public java.util.List<org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder> 
+      public java.util.List<org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder> 
            getParameterBuilderList() {
         return getParameterFieldBuilder().getBuilderList();
       }
       private com.google.protobuf.RepeatedFieldBuilderV3<
-          org.opennms.features.kafka.consumer.events.EventsProto.EventParameter, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder, org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder> 
+          org.opennms.netmgt.events.proto.EventsProto.EventParameter, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder, org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder> 
           getParameterFieldBuilder() {
         if (parameterBuilder_ == null) {
           parameterBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              org.opennms.features.kafka.consumer.events.EventsProto.EventParameter, org.opennms.features.kafka.consumer.events.EventsProto.EventParameter.Builder, org.opennms.features.kafka.consumer.events.EventsProto.EventParameterOrBuilder>(
+              org.opennms.netmgt.events.proto.EventsProto.EventParameter, org.opennms.netmgt.events.proto.EventsProto.EventParameter.Builder, org.opennms.netmgt.events.proto.EventsProto.EventParameterOrBuilder>(
                   parameter_,
                   ((bitField0_ & 0x00000001) != 0),
                   getParentForChildren(),
@@ -3314,12 +3314,12 @@ public final class EventsProto {
     }
 
     // @@protoc_insertion_point(class_scope:Event)
-    private static final org.opennms.features.kafka.consumer.events.EventsProto.Event DEFAULT_INSTANCE;
+    private static final org.opennms.netmgt.events.proto.EventsProto.Event DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.opennms.features.kafka.consumer.events.EventsProto.Event();
+      DEFAULT_INSTANCE = new org.opennms.netmgt.events.proto.EventsProto.Event();
     }
 
-    public static org.opennms.features.kafka.consumer.events.EventsProto.Event getDefaultInstance() {
+    public static org.opennms.netmgt.events.proto.EventsProto.Event getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
@@ -3355,7 +3355,7 @@ public final class EventsProto {
     }
 
     @java.lang.Override
-    public org.opennms.features.kafka.consumer.events.EventsProto.Event getDefaultInstanceForType() {
+    public org.opennms.netmgt.events.proto.EventsProto.Event getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -3380,20 +3380,19 @@ public final class EventsProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\033kafka-consumer-events.proto\"-\n\016EventPa" +
-      "rameter\022\014\n\004name\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\221\002\n" +
-      "\005Event\022\013\n\003uei\030\001 \001(\t\022\016\n\006source\030\002 \001(\t\022\033\n\010s" +
-      "everity\030\003 \001(\0162\t.Severity\022\014\n\004host\030\004 \001(\t\022\017" +
-      "\n\007node_id\030\005 \001(\r\022\022\n\nip_address\030\006 \001(\t\022\024\n\014s" +
-      "ervice_name\030\007 \001(\t\022\020\n\010if_index\030\010 \001(\r\022\023\n\013d" +
-      "escription\030\t \001(\t\022\023\n\013dist_poller\030\n \001(\t\022\020\n" +
-      "\010log_dest\030\013 \001(\t\022\023\n\013log_content\030\014 \001(\t\022\"\n\t" +
-      "parameter\030\r \003(\0132\017.EventParameter*g\n\010Seve" +
-      "rity\022\021\n\rINDETERMINATE\020\000\022\013\n\007CLEARED\020\001\022\n\n\006" +
-      "NORMAL\020\002\022\013\n\007WARNING\020\003\022\t\n\005MINOR\020\004\022\t\n\005MAJO" +
-      "R\020\005\022\014\n\010CRITICAL\020\006B9\n*org.opennms.feature" +
-      "s.kafka.consumer.eventsB\013EventsProtob\006pr" +
-      "oto3"
+      "\n\014events.proto\"-\n\016EventParameter\022\014\n\004name" +
+      "\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\221\002\n\005Event\022\013\n\003uei\030\001" +
+      " \001(\t\022\016\n\006source\030\002 \001(\t\022\033\n\010severity\030\003 \001(\0162\t" +
+      ".Severity\022\014\n\004host\030\004 \001(\t\022\017\n\007node_id\030\005 \001(\r" +
+      "\022\022\n\nip_address\030\006 \001(\t\022\024\n\014service_name\030\007 \001" +
+      "(\t\022\020\n\010if_index\030\010 \001(\r\022\023\n\013description\030\t \001(" +
+      "\t\022\023\n\013dist_poller\030\n \001(\t\022\020\n\010log_dest\030\013 \001(\t" +
+      "\022\023\n\013log_content\030\014 \001(\t\022\"\n\tparameter\030\r \003(\013" +
+      "2\017.EventParameter*g\n\010Severity\022\021\n\rINDETER" +
+      "MINATE\020\000\022\013\n\007CLEARED\020\001\022\n\n\006NORMAL\020\002\022\013\n\007WAR" +
+      "NING\020\003\022\t\n\005MINOR\020\004\022\t\n\005MAJOR\020\005\022\014\n\010CRITICAL" +
+      "\020\006B.\n\037org.opennms.netmgt.events.protoB\013E" +
+      "ventsProtob\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
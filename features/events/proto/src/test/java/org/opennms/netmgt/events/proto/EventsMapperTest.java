@@ -19,7 +19,7 @@
  * language governing permissions and limitations under the
  * License.
  */
-package org.opennms.features.kafka.consumer.events;
+package org.opennms.netmgt.events.proto;
 
 import java.util.ArrayList;
 import java.util.List;
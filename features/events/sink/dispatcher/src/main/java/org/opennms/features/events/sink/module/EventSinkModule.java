@@ -24,26 +24,44 @@
  */
 package org.opennms.features.events.sink.module;
 
+import java.util.Date;
 import java.util.Objects;
 
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
 import org.opennms.core.ipc.sink.api.AggregationPolicy;
 import org.opennms.core.ipc.sink.api.AsyncPolicy;
-import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.core.ipc.sink.xml.XmlSinkMarshaller;
 import org.opennms.netmgt.config.api.EventdConfig;
+import org.opennms.netmgt.xml.event.AlarmData;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+import org.opennms.netmgt.xml.event.Value;
+
+import com.google.protobuf.Parser;
 
 /**
+ * Sends events as protocol buffers, see event-sink.proto, or as XML.
+ *
+ * The schema covers the fields set on events before they are expanded by eventd.
+ * Event logs holding any other field are sent as XML.
+ *
  * @author Malatesh Sudarshan
  */
-public class EventSinkModule extends AbstractXmlSinkModule<Event, Log> {
+public class EventSinkModule extends AbstractProtobufSinkModule<Event, Log, EventSinkProto.EventLog> {
 
     public static final String MODULE_ID = "Events";
 
+    private static final int SCHEMA_VERSION = 1;
+
+    private static final XmlSinkMarshaller<Log> XML_MARSHALLER = new XmlSinkMarshaller<>(Log.class);
+
     private final EventdConfig m_config;
 
     public EventSinkModule(EventdConfig config) {
-        super(Log.class);
+        super(XML_MARSHALLER::marshal, XML_MARSHALLER::unmarshal);
         this.m_config = config;
     }
 
@@ -119,6 +137,367 @@ public class EventSinkModule extends AbstractXmlSinkModule<Event, Log> {
         return log.getEvents().getEvent(0);
     }
 
+    @Override
+    protected int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    protected boolean canWrite(Log log) {
+        if (log.getHeader() != null) {
+            return false;
+        }
+        if (log.getEvents() == null) {
+            return true;
+        }
+        for (Event event : log.getEvents().getEventCollection()) {
+            if (event.getMask() != null
+                    || event.getCorrelation() != null
+                    || event.getAutoactionCount() > 0
+                    || event.getOperactionCount() > 0
+                    || event.getAutoacknowledge() != null
+                    || event.getLoggroupCount() > 0
+                    || event.getTticket() != null
+                    || event.getForwardCount() > 0
+                    || event.getScriptCount() > 0) {
+                return false;
+            }
+            final AlarmData alarmData = event.getAlarmData();
+            if (alarmData != null && (alarmData.getUpdateFieldListCount() > 0 || alarmData.getManagedObject() != null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Parser<EventSinkProto.EventLog> getParser() {
+        return EventSinkProto.EventLog.parser();
+    }
+
+    @Override
+    protected EventSinkProto.EventLog toProto(Log log) {
+        final EventSinkProto.EventLog.Builder builder = EventSinkProto.EventLog.newBuilder();
+        if (log.getEvents() != null) {
+            for (Event event : log.getEvents().getEventCollection()) {
+                builder.addEvents(toProto(event));
+            }
+        }
+        return builder.build();
+    }
+
+    private static EventSinkProto.Event toProto(Event event) {
+        final EventSinkProto.Event.Builder builder = EventSinkProto.Event.newBuilder();
+        if (event.getUuid() != null) {
+            builder.setUuid(event.getUuid());
+        }
+        if (event.hasDbid()) {
+            builder.setDbid(event.getDbid());
+        }
+        if (event.getDistPoller() != null) {
+            builder.setDistPoller(event.getDistPoller());
+        }
+        if (event.getCreationTime() != null) {
+            builder.setCreationTime(event.getCreationTime().getTime());
+        }
+        if (event.getMasterStation() != null) {
+            builder.setMasterStation(event.getMasterStation());
+        }
+        if (event.getUei() != null) {
+            builder.setUei(event.getUei());
+        }
+        if (event.getSource() != null) {
+            builder.setSource(event.getSource());
+        }
+        if (event.hasNodeid()) {
+            builder.setNodeid(event.getNodeid());
+        }
+        if (event.getTime() != null) {
+            builder.setTime(event.getTime().getTime());
+        }
+        if (event.getHost() != null) {
+            builder.setHost(event.getHost());
+        }
+        if (event.getInterface() != null) {
+            builder.setInterface(event.getInterface());
+        }
+        if (event.getSnmphost() != null) {
+            builder.setSnmphost(event.getSnmphost());
+        }
+        if (event.getService() != null) {
+            builder.setService(event.getService());
+        }
+        final Snmp snmp = event.getSnmp();
+        if (snmp != null) {
+            final EventSinkProto.Snmp.Builder snmpBuilder = builder.getSnmpBuilder();
+            if (snmp.getId() != null) {
+                snmpBuilder.setId(snmp.getId());
+            }
+            if (snmp.getIdtext() != null) {
+                snmpBuilder.setIdtext(snmp.getIdtext());
+            }
+            if (snmp.getVersion() != null) {
+                snmpBuilder.setVersion(snmp.getVersion());
+            }
+            if (snmp.hasSpecific()) {
+                snmpBuilder.setSpecific(snmp.getSpecific());
+            }
+            if (snmp.hasGeneric()) {
+                snmpBuilder.setGeneric(snmp.getGeneric());
+            }
+            if (snmp.getCommunity() != null) {
+                snmpBuilder.setCommunity(snmp.getCommunity());
+            }
+            if (snmp.hasTimeStamp()) {
+                snmpBuilder.setTimeStamp(snmp.getTimeStamp());
+            }
+            if (snmp.getTrapOID() != null) {
+                snmpBuilder.setTrapOid(snmp.getTrapOID());
+            }
+        }
+        for (Parm parm : event.getParmCollection()) {
+            final EventSinkProto.Parm.Builder parmBuilder = builder.addParmsBuilder();
+            if (parm.getParmName() != null) {
+                parmBuilder.setName(parm.getParmName());
+            }
+            final Value value = parm.getValue();
+            if (value != null) {
+                if (value.getContent() != null) {
+                    parmBuilder.setValue(value.getContent());
+                }
+                if (value.getType() != null) {
+                    parmBuilder.setType(value.getType());
+                }
+                if (value.getEncoding() != null) {
+                    parmBuilder.setEncoding(value.getEncoding());
+                }
+                if (value.isExpand() != null) {
+                    parmBuilder.setExpand(value.isExpand());
+                }
+            }
+        }
+        if (event.getDescr() != null) {
+            builder.setDescr(event.getDescr());
+        }
+        final Logmsg logmsg = event.getLogmsg();
+        if (logmsg != null) {
+            final EventSinkProto.Logmsg.Builder logmsgBuilder = builder.getLogmsgBuilder();
+            if (logmsg.getContent() != null) {
+                logmsgBuilder.setContent(logmsg.getContent());
+            }
+            if (logmsg.getDest() != null) {
+                logmsgBuilder.setDest(logmsg.getDest());
+            }
+            if (logmsg.hasNotify()) {
+                logmsgBuilder.setNotify(logmsg.getNotify());
+            }
+        }
+        if (event.getSeverity() != null) {
+            builder.setSeverity(event.getSeverity());
+        }
+        if (event.getPathoutage() != null) {
+            builder.setPathoutage(event.getPathoutage());
+        }
+        if (event.getOperinstruct() != null) {
+            builder.setOperinstruct(event.getOperinstruct());
+        }
+        if (event.hasIfIndex()) {
+            builder.setIfIndex(event.getIfIndex());
+        }
+        if (event.getIfAlias() != null) {
+            builder.setIfAlias(event.getIfAlias());
+        }
+        if (event.getMouseovertext() != null) {
+            builder.setMouseovertext(event.getMouseovertext());
+        }
+        final AlarmData alarmData = event.getAlarmData();
+        if (alarmData != null) {
+            final EventSinkProto.AlarmData.Builder alarmDataBuilder = builder.getAlarmDataBuilder();
+            if (alarmData.getReductionKey() != null) {
+                alarmDataBuilder.setReductionKey(alarmData.getReductionKey());
+            }
+            if (alarmData.hasAlarmType()) {
+                alarmDataBuilder.setAlarmType(alarmData.getAlarmType());
+            }
+            if (alarmData.getClearKey() != null) {
+                alarmDataBuilder.setClearKey(alarmData.getClearKey());
+            }
+            if (alarmData.hasAutoClean()) {
+                alarmDataBuilder.setAutoClean(alarmData.getAutoClean());
+            }
+            if (alarmData.getX733AlarmType() != null) {
+                alarmDataBuilder.setX733AlarmType(alarmData.getX733AlarmType());
+            }
+            if (alarmData.hasX733ProbableCause()) {
+                alarmDataBuilder.setX733ProbableCause(alarmData.getX733ProbableCause());
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected Log fromProto(int schemaVersion, EventSinkProto.EventLog proto) {
+        final Log log = new Log();
+        for (EventSinkProto.Event event : proto.getEventsList()) {
+            log.addEvent(fromProto(event));
+        }
+        return log;
+    }
+
+    private static Event fromProto(EventSinkProto.Event proto) {
+        final Event event = new Event();
+        if (proto.hasUuid()) {
+            event.setUuid(proto.getUuid());
+        }
+        if (proto.hasDbid()) {
+            event.setDbid(proto.getDbid());
+        }
+        if (proto.hasDistPoller()) {
+            event.setDistPoller(proto.getDistPoller());
+        }
+        if (proto.hasCreationTime()) {
+            event.setCreationTime(new Date(proto.getCreationTime()));
+        }
+        if (proto.hasMasterStation()) {
+            event.setMasterStation(proto.getMasterStation());
+        }
+        if (proto.hasUei()) {
+            event.setUei(proto.getUei());
+        }
+        if (proto.hasSource()) {
+            event.setSource(proto.getSource());
+        }
+        if (proto.hasNodeid()) {
+            event.setNodeid(proto.getNodeid());
+        }
+        if (proto.hasTime()) {
+            event.setTime(new Date(proto.getTime()));
+        }
+        if (proto.hasHost()) {
+            event.setHost(proto.getHost());
+        }
+        if (proto.hasInterface()) {
+            event.setInterface(proto.getInterface());
+        }
+        if (proto.hasSnmphost()) {
+            event.setSnmphost(proto.getSnmphost());
+        }
+        if (proto.hasService()) {
+            event.setService(proto.getService());
+        }
+        if (proto.hasSnmp()) {
+            final EventSinkProto.Snmp protoSnmp = proto.getSnmp();
+            final Snmp snmp = new Snmp();
+            if (protoSnmp.hasId()) {
+                snmp.setId(protoSnmp.getId());
+            }
+            if (protoSnmp.hasIdtext()) {
+                snmp.setIdtext(protoSnmp.getIdtext());
+            }
+            if (protoSnmp.hasVersion()) {
+                snmp.setVersion(protoSnmp.getVersion());
+            }
+            if (protoSnmp.hasSpecific()) {
+                snmp.setSpecific(protoSnmp.getSpecific());
+            }
+            if (protoSnmp.hasGeneric()) {
+                snmp.setGeneric(protoSnmp.getGeneric());
+            }
+            if (protoSnmp.hasCommunity()) {
+                snmp.setCommunity(protoSnmp.getCommunity());
+            }
+            if (protoSnmp.hasTimeStamp()) {
+                snmp.setTimeStamp(protoSnmp.getTimeStamp());
+            }
+            if (protoSnmp.hasTrapOid()) {
+                snmp.setTrapOID(protoSnmp.getTrapOid());
+            }
+            event.setSnmp(snmp);
+        }
+        for (EventSinkProto.Parm protoParm : proto.getParmsList()) {
+            final Parm parm = new Parm();
+            if (protoParm.hasName()) {
+                parm.setParmName(protoParm.getName());
+            }
+            if (protoParm.hasValue() || protoParm.hasType() || protoParm.hasEncoding() || protoParm.hasExpand()) {
+                final Value value = new Value();
+                if (protoParm.hasValue()) {
+                    value.setContent(protoParm.getValue());
+                }
+                if (protoParm.hasType()) {
+                    value.setType(protoParm.getType());
+                }
+                if (protoParm.hasEncoding()) {
+                    value.setEncoding(protoParm.getEncoding());
+                }
+                if (protoParm.hasExpand()) {
+                    value.setExpand(protoParm.getExpand());
+                }
+                parm.setValue(value);
+            }
+            event.addParm(parm);
+        }
+        if (proto.hasDescr()) {
+            event.setDescr(proto.getDescr());
+        }
+        if (proto.hasLogmsg()) {
+            final EventSinkProto.Logmsg protoLogmsg = proto.getLogmsg();
+            final Logmsg logmsg = new Logmsg();
+            if (protoLogmsg.hasContent()) {
+                logmsg.setContent(protoLogmsg.getContent());
+            }
+            if (protoLogmsg.hasDest()) {
+                logmsg.setDest(protoLogmsg.getDest());
+            }
+            if (protoLogmsg.hasNotify()) {
+                logmsg.setNotify(protoLogmsg.getNotify());
+            }
+            event.setLogmsg(logmsg);
+        }
+        if (proto.hasSeverity()) {
+            event.setSeverity(proto.getSeverity());
+        }
+        if (proto.hasPathoutage()) {
+            event.setPathoutage(proto.getPathoutage());
+        }
+        if (proto.hasOperinstruct()) {
+            event.setOperinstruct(proto.getOperinstruct());
+        }
+        if (proto.hasIfIndex()) {
+            event.setIfIndex(proto.getIfIndex());
+        }
+        if (proto.hasIfAlias()) {
+            event.setIfAlias(proto.getIfAlias());
+        }
+        if (proto.hasMouseovertext()) {
+            event.setMouseovertext(proto.getMouseovertext());
+        }
+        if (proto.hasAlarmData()) {
+            final EventSinkProto.AlarmData protoAlarmData = proto.getAlarmData();
+            final AlarmData alarmData = new AlarmData();
+            if (protoAlarmData.hasReductionKey()) {
+                alarmData.setReductionKey(protoAlarmData.getReductionKey());
+            }
+            if (protoAlarmData.hasAlarmType()) {
+                alarmData.setAlarmType(protoAlarmData.getAlarmType());
+            }
+            if (protoAlarmData.hasClearKey()) {
+                alarmData.setClearKey(protoAlarmData.getClearKey());
+            }
+            if (protoAlarmData.hasAutoClean()) {
+                alarmData.setAutoClean(protoAlarmData.getAutoClean());
+            }
+            if (protoAlarmData.hasX733AlarmType()) {
+                alarmData.setX733AlarmType(protoAlarmData.getX733AlarmType());
+            }
+            if (protoAlarmData.hasX733ProbableCause()) {
+                alarmData.setX733ProbableCause(protoAlarmData.getX733ProbableCause());
+            }
+            event.setAlarmData(alarmData);
+        }
+        return event;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(MODULE_ID);
@@ -0,0 +1,10450 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: event-sink.proto
+
+package org.opennms.features.events.sink.module;
+
+public final class EventSinkProto {
+  private EventSinkProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface EventLogOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EventLog)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Event> 
+        getEventsList();
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.Event getEvents(int index);
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    int getEventsCount();
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder> 
+        getEventsOrBuilderList();
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder getEventsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code EventLog}
+   */
+  public static final class EventLog extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:EventLog)
+      EventLogOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EventLog.newBuilder() to construct.
+    private EventLog(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EventLog() {
+      events_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EventLog();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_EventLog_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_EventLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProto.EventLog.class, org.opennms.features.events.sink.module.EventSinkProto.EventLog.Builder.class);
+    }
+
+    public static final int EVENTS_FIELD_NUMBER = 1;
+    private java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Event> events_;
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Event> getEventsList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder> 
+        getEventsOrBuilderList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    @java.lang.Override
+    public int getEventsCount() {
+      return events_.size();
+    }
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Event getEvents(int index) {
+      return events_.get(index);
+    }
+    /**
+     * <code>repeated .Event events = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder getEventsOrBuilder(
+        int index) {
+      return events_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < events_.size(); i++) {
+        output.writeMessage(1, events_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < events_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, events_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProto.EventLog)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProto.EventLog other = (org.opennms.features.events.sink.module.EventSinkProto.EventLog) obj;
+
+      if (!getEventsList()
+          .equals(other.getEventsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEventsCount() > 0) {
+        hash = (37 * hash) + EVENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getEventsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProto.EventLog prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code EventLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:EventLog)
+        org.opennms.features.events.sink.module.EventSinkProto.EventLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_EventLog_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_EventLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProto.EventLog.class, org.opennms.features.events.sink.module.EventSinkProto.EventLog.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProto.EventLog.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+        } else {
+          events_ = null;
+          eventsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_EventLog_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.EventLog getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.EventLog.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.EventLog build() {
+        org.opennms.features.events.sink.module.EventSinkProto.EventLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.EventLog buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProto.EventLog result = new org.opennms.features.events.sink.module.EventSinkProto.EventLog(this);
+        int from_bitField0_ = bitField0_;
+        if (eventsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            events_ = java.util.Collections.unmodifiableList(events_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.events_ = events_;
+        } else {
+          result.events_ = eventsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProto.EventLog) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProto.EventLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProto.EventLog other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProto.EventLog.getDefaultInstance()) return this;
+        if (eventsBuilder_ == null) {
+          if (!other.events_.isEmpty()) {
+            if (events_.isEmpty()) {
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEventsIsMutable();
+              events_.addAll(other.events_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.events_.isEmpty()) {
+            if (eventsBuilder_.isEmpty()) {
+              eventsBuilder_.dispose();
+              eventsBuilder_ = null;
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              eventsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEventsFieldBuilder() : null;
+            } else {
+              eventsBuilder_.addAllMessages(other.events_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.opennms.features.events.sink.module.EventSinkProto.Event m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.EventSinkProto.Event.parser(),
+                        extensionRegistry);
+                if (eventsBuilder_ == null) {
+                  ensureEventsIsMutable();
+                  events_.add(m);
+                } else {
+                  eventsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Event> events_ =
+        java.util.Collections.emptyList();
+      private void ensureEventsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          events_ = new java.util.ArrayList<org.opennms.features.events.sink.module.EventSinkProto.Event>(events_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Event, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder, org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder> eventsBuilder_;
+
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Event> getEventsList() {
+        if (eventsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(events_);
+        } else {
+          return eventsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public int getEventsCount() {
+        if (eventsBuilder_ == null) {
+          return events_.size();
+        } else {
+          return eventsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Event getEvents(int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);
+        } else {
+          return eventsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder setEvents(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.set(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder setEvents(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder addEvents(org.opennms.features.events.sink.module.EventSinkProto.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder addEvents(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder addEvents(
+          org.opennms.features.events.sink.module.EventSinkProto.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder addEvents(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder addAllEvents(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.EventSinkProto.Event> values) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, events_);
+          onChanged();
+        } else {
+          eventsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder clearEvents() {
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          eventsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public Builder removeEvents(int index) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.remove(index);
+          onChanged();
+        } else {
+          eventsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Event.Builder getEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder getEventsOrBuilder(
+          int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);  } else {
+          return eventsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder> 
+           getEventsOrBuilderList() {
+        if (eventsBuilder_ != null) {
+          return eventsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(events_);
+        }
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Event.Builder addEventsBuilder() {
+        return getEventsFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.EventSinkProto.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Event.Builder addEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.EventSinkProto.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Event events = 1;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Event.Builder> 
+           getEventsBuilderList() {
+        return getEventsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Event, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder, org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder> 
+          getEventsFieldBuilder() {
+        if (eventsBuilder_ == null) {
+          eventsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProto.Event, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder, org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder>(
+                  events_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          events_ = null;
+        }
+        return eventsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:EventLog)
+    }
+
+    // @@protoc_insertion_point(class_scope:EventLog)
+    private static final org.opennms.features.events.sink.module.EventSinkProto.EventLog DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProto.EventLog();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.EventLog getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EventLog>
+        PARSER = new com.google.protobuf.AbstractParser<EventLog>() {
+      @java.lang.Override
+      public EventLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<EventLog> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EventLog> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.EventLog getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Event)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string uuid = 1;</code>
+     * @return Whether the uuid field is set.
+     */
+    boolean hasUuid();
+    /**
+     * <code>string uuid = 1;</code>
+     * @return The uuid.
+     */
+    java.lang.String getUuid();
+    /**
+     * <code>string uuid = 1;</code>
+     * @return The bytes for uuid.
+     */
+    com.google.protobuf.ByteString
+        getUuidBytes();
+
+    /**
+     * <code>int32 dbid = 2;</code>
+     * @return Whether the dbid field is set.
+     */
+    boolean hasDbid();
+    /**
+     * <code>int32 dbid = 2;</code>
+     * @return The dbid.
+     */
+    int getDbid();
+
+    /**
+     * <code>string dist_poller = 3;</code>
+     * @return Whether the distPoller field is set.
+     */
+    boolean hasDistPoller();
+    /**
+     * <code>string dist_poller = 3;</code>
+     * @return The distPoller.
+     */
+    java.lang.String getDistPoller();
+    /**
+     * <code>string dist_poller = 3;</code>
+     * @return The bytes for distPoller.
+     */
+    com.google.protobuf.ByteString
+        getDistPollerBytes();
+
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 creation_time = 4;</code>
+     * @return Whether the creationTime field is set.
+     */
+    boolean hasCreationTime();
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 creation_time = 4;</code>
+     * @return The creationTime.
+     */
+    long getCreationTime();
+
+    /**
+     * <code>string master_station = 5;</code>
+     * @return Whether the masterStation field is set.
+     */
+    boolean hasMasterStation();
+    /**
+     * <code>string master_station = 5;</code>
+     * @return The masterStation.
+     */
+    java.lang.String getMasterStation();
+    /**
+     * <code>string master_station = 5;</code>
+     * @return The bytes for masterStation.
+     */
+    com.google.protobuf.ByteString
+        getMasterStationBytes();
+
+    /**
+     * <code>string uei = 6;</code>
+     * @return Whether the uei field is set.
+     */
+    boolean hasUei();
+    /**
+     * <code>string uei = 6;</code>
+     * @return The uei.
+     */
+    java.lang.String getUei();
+    /**
+     * <code>string uei = 6;</code>
+     * @return The bytes for uei.
+     */
+    com.google.protobuf.ByteString
+        getUeiBytes();
+
+    /**
+     * <code>string source = 7;</code>
+     * @return Whether the source field is set.
+     */
+    boolean hasSource();
+    /**
+     * <code>string source = 7;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 7;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <code>int64 nodeid = 8;</code>
+     * @return Whether the nodeid field is set.
+     */
+    boolean hasNodeid();
+    /**
+     * <code>int64 nodeid = 8;</code>
+     * @return The nodeid.
+     */
+    long getNodeid();
+
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 time = 9;</code>
+     * @return Whether the time field is set.
+     */
+    boolean hasTime();
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 time = 9;</code>
+     * @return The time.
+     */
+    long getTime();
+
+    /**
+     * <code>string host = 10;</code>
+     * @return Whether the host field is set.
+     */
+    boolean hasHost();
+    /**
+     * <code>string host = 10;</code>
+     * @return The host.
+     */
+    java.lang.String getHost();
+    /**
+     * <code>string host = 10;</code>
+     * @return The bytes for host.
+     */
+    com.google.protobuf.ByteString
+        getHostBytes();
+
+    /**
+     * <code>string interface = 11;</code>
+     * @return Whether the interface field is set.
+     */
+    boolean hasInterface();
+    /**
+     * <code>string interface = 11;</code>
+     * @return The interface.
+     */
+    java.lang.String getInterface();
+    /**
+     * <code>string interface = 11;</code>
+     * @return The bytes for interface.
+     */
+    com.google.protobuf.ByteString
+        getInterfaceBytes();
+
+    /**
+     * <code>string snmphost = 12;</code>
+     * @return Whether the snmphost field is set.
+     */
+    boolean hasSnmphost();
+    /**
+     * <code>string snmphost = 12;</code>
+     * @return The snmphost.
+     */
+    java.lang.String getSnmphost();
+    /**
+     * <code>string snmphost = 12;</code>
+     * @return The bytes for snmphost.
+     */
+    com.google.protobuf.ByteString
+        getSnmphostBytes();
+
+    /**
+     * <code>string service = 13;</code>
+     * @return Whether the service field is set.
+     */
+    boolean hasService();
+    /**
+     * <code>string service = 13;</code>
+     * @return The service.
+     */
+    java.lang.String getService();
+    /**
+     * <code>string service = 13;</code>
+     * @return The bytes for service.
+     */
+    com.google.protobuf.ByteString
+        getServiceBytes();
+
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return Whether the snmp field is set.
+     */
+    boolean hasSnmp();
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return The snmp.
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.Snmp getSnmp();
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder getSnmpOrBuilder();
+
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Parm> 
+        getParmsList();
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.Parm getParms(int index);
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    int getParmsCount();
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder> 
+        getParmsOrBuilderList();
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder getParmsOrBuilder(
+        int index);
+
+    /**
+     * <code>string descr = 16;</code>
+     * @return Whether the descr field is set.
+     */
+    boolean hasDescr();
+    /**
+     * <code>string descr = 16;</code>
+     * @return The descr.
+     */
+    java.lang.String getDescr();
+    /**
+     * <code>string descr = 16;</code>
+     * @return The bytes for descr.
+     */
+    com.google.protobuf.ByteString
+        getDescrBytes();
+
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return Whether the logmsg field is set.
+     */
+    boolean hasLogmsg();
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return The logmsg.
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.Logmsg getLogmsg();
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder getLogmsgOrBuilder();
+
+    /**
+     * <code>string severity = 18;</code>
+     * @return Whether the severity field is set.
+     */
+    boolean hasSeverity();
+    /**
+     * <code>string severity = 18;</code>
+     * @return The severity.
+     */
+    java.lang.String getSeverity();
+    /**
+     * <code>string severity = 18;</code>
+     * @return The bytes for severity.
+     */
+    com.google.protobuf.ByteString
+        getSeverityBytes();
+
+    /**
+     * <code>string pathoutage = 19;</code>
+     * @return Whether the pathoutage field is set.
+     */
+    boolean hasPathoutage();
+    /**
+     * <code>string pathoutage = 19;</code>
+     * @return The pathoutage.
+     */
+    java.lang.String getPathoutage();
+    /**
+     * <code>string pathoutage = 19;</code>
+     * @return The bytes for pathoutage.
+     */
+    com.google.protobuf.ByteString
+        getPathoutageBytes();
+
+    /**
+     * <code>string operinstruct = 20;</code>
+     * @return Whether the operinstruct field is set.
+     */
+    boolean hasOperinstruct();
+    /**
+     * <code>string operinstruct = 20;</code>
+     * @return The operinstruct.
+     */
+    java.lang.String getOperinstruct();
+    /**
+     * <code>string operinstruct = 20;</code>
+     * @return The bytes for operinstruct.
+     */
+    com.google.protobuf.ByteString
+        getOperinstructBytes();
+
+    /**
+     * <code>int32 if_index = 21;</code>
+     * @return Whether the ifIndex field is set.
+     */
+    boolean hasIfIndex();
+    /**
+     * <code>int32 if_index = 21;</code>
+     * @return The ifIndex.
+     */
+    int getIfIndex();
+
+    /**
+     * <code>string if_alias = 22;</code>
+     * @return Whether the ifAlias field is set.
+     */
+    boolean hasIfAlias();
+    /**
+     * <code>string if_alias = 22;</code>
+     * @return The ifAlias.
+     */
+    java.lang.String getIfAlias();
+    /**
+     * <code>string if_alias = 22;</code>
+     * @return The bytes for ifAlias.
+     */
+    com.google.protobuf.ByteString
+        getIfAliasBytes();
+
+    /**
+     * <code>string mouseovertext = 23;</code>
+     * @return Whether the mouseovertext field is set.
+     */
+    boolean hasMouseovertext();
+    /**
+     * <code>string mouseovertext = 23;</code>
+     * @return The mouseovertext.
+     */
+    java.lang.String getMouseovertext();
+    /**
+     * <code>string mouseovertext = 23;</code>
+     * @return The bytes for mouseovertext.
+     */
+    com.google.protobuf.ByteString
+        getMouseovertextBytes();
+
+    /**
+     * <code>.AlarmData alarm_data = 24;</code>
+     * @return Whether the alarmData field is set.
+     */
+    boolean hasAlarmData();
+    /**
+     * <code>.AlarmData alarm_data = 24;</code>
+     * @return The alarmData.
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.AlarmData getAlarmData();
+    /**
+     * <code>.AlarmData alarm_data = 24;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder getAlarmDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code Event}
+   */
+  public static final class Event extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Event)
+      EventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Event.newBuilder() to construct.
+    private Event(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Event() {
+      uuid_ = "";
+      distPoller_ = "";
+      masterStation_ = "";
+      uei_ = "";
+      source_ = "";
+      host_ = "";
+      interface_ = "";
+      snmphost_ = "";
+      service_ = "";
+      parms_ = java.util.Collections.emptyList();
+      descr_ = "";
+      severity_ = "";
+      pathoutage_ = "";
+      operinstruct_ = "";
+      ifAlias_ = "";
+      mouseovertext_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Event();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Event_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Event_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProto.Event.class, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int UUID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object uuid_;
+    /**
+     * <code>string uuid = 1;</code>
+     * @return Whether the uuid field is set.
+     */
+    @java.lang.Override
+    public boolean hasUuid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string uuid = 1;</code>
+     * @return The uuid.
+     */
+    @java.lang.Override
+    public java.lang.String getUuid() {
+      java.lang.Object ref = uuid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uuid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string uuid = 1;</code>
+     * @return The bytes for uuid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUuidBytes() {
+      java.lang.Object ref = uuid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uuid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DBID_FIELD_NUMBER = 2;
+    private int dbid_;
+    /**
+     * <code>int32 dbid = 2;</code>
+     * @return Whether the dbid field is set.
+     */
+    @java.lang.Override
+    public boolean hasDbid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>int32 dbid = 2;</code>
+     * @return The dbid.
+     */
+    @java.lang.Override
+    public int getDbid() {
+      return dbid_;
+    }
+
+    public static final int DIST_POLLER_FIELD_NUMBER = 3;
+    private volatile java.lang.Object distPoller_;
+    /**
+     * <code>string dist_poller = 3;</code>
+     * @return Whether the distPoller field is set.
+     */
+    @java.lang.Override
+    public boolean hasDistPoller() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>string dist_poller = 3;</code>
+     * @return The distPoller.
+     */
+    @java.lang.Override
+    public java.lang.String getDistPoller() {
+      java.lang.Object ref = distPoller_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        distPoller_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dist_poller = 3;</code>
+     * @return The bytes for distPoller.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDistPollerBytes() {
+      java.lang.Object ref = distPoller_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        distPoller_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATION_TIME_FIELD_NUMBER = 4;
+    private long creationTime_;
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 creation_time = 4;</code>
+     * @return Whether the creationTime field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreationTime() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 creation_time = 4;</code>
+     * @return The creationTime.
+     */
+    @java.lang.Override
+    public long getCreationTime() {
+      return creationTime_;
+    }
+
+    public static final int MASTER_STATION_FIELD_NUMBER = 5;
+    private volatile java.lang.Object masterStation_;
+    /**
+     * <code>string master_station = 5;</code>
+     * @return Whether the masterStation field is set.
+     */
+    @java.lang.Override
+    public boolean hasMasterStation() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>string master_station = 5;</code>
+     * @return The masterStation.
+     */
+    @java.lang.Override
+    public java.lang.String getMasterStation() {
+      java.lang.Object ref = masterStation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        masterStation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string master_station = 5;</code>
+     * @return The bytes for masterStation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMasterStationBytes() {
+      java.lang.Object ref = masterStation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        masterStation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UEI_FIELD_NUMBER = 6;
+    private volatile java.lang.Object uei_;
+    /**
+     * <code>string uei = 6;</code>
+     * @return Whether the uei field is set.
+     */
+    @java.lang.Override
+    public boolean hasUei() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>string uei = 6;</code>
+     * @return The uei.
+     */
+    @java.lang.Override
+    public java.lang.String getUei() {
+      java.lang.Object ref = uei_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uei_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string uei = 6;</code>
+     * @return The bytes for uei.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUeiBytes() {
+      java.lang.Object ref = uei_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uei_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 7;
+    private volatile java.lang.Object source_;
+    /**
+     * <code>string source = 7;</code>
+     * @return Whether the source field is set.
+     */
+    @java.lang.Override
+    public boolean hasSource() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>string source = 7;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 7;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODEID_FIELD_NUMBER = 8;
+    private long nodeid_;
+    /**
+     * <code>int64 nodeid = 8;</code>
+     * @return Whether the nodeid field is set.
+     */
+    @java.lang.Override
+    public boolean hasNodeid() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>int64 nodeid = 8;</code>
+     * @return The nodeid.
+     */
+    @java.lang.Override
+    public long getNodeid() {
+      return nodeid_;
+    }
+
+    public static final int TIME_FIELD_NUMBER = 9;
+    private long time_;
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 time = 9;</code>
+     * @return Whether the time field is set.
+     */
+    @java.lang.Override
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <pre>
+     * milliseconds since the epoch
+     * </pre>
+     *
+     * <code>int64 time = 9;</code>
+     * @return The time.
+     */
+    @java.lang.Override
+    public long getTime() {
+      return time_;
+    }
+
+    public static final int HOST_FIELD_NUMBER = 10;
+    private volatile java.lang.Object host_;
+    /**
+     * <code>string host = 10;</code>
+     * @return Whether the host field is set.
+     */
+    @java.lang.Override
+    public boolean hasHost() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>string host = 10;</code>
+     * @return The host.
+     */
+    @java.lang.Override
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string host = 10;</code>
+     * @return The bytes for host.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INTERFACE_FIELD_NUMBER = 11;
+    private volatile java.lang.Object interface_;
+    /**
+     * <code>string interface = 11;</code>
+     * @return Whether the interface field is set.
+     */
+    @java.lang.Override
+    public boolean hasInterface() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>string interface = 11;</code>
+     * @return The interface.
+     */
+    @java.lang.Override
+    public java.lang.String getInterface() {
+      java.lang.Object ref = interface_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        interface_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string interface = 11;</code>
+     * @return The bytes for interface.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInterfaceBytes() {
+      java.lang.Object ref = interface_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interface_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SNMPHOST_FIELD_NUMBER = 12;
+    private volatile java.lang.Object snmphost_;
+    /**
+     * <code>string snmphost = 12;</code>
+     * @return Whether the snmphost field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnmphost() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <code>string snmphost = 12;</code>
+     * @return The snmphost.
+     */
+    @java.lang.Override
+    public java.lang.String getSnmphost() {
+      java.lang.Object ref = snmphost_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        snmphost_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string snmphost = 12;</code>
+     * @return The bytes for snmphost.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSnmphostBytes() {
+      java.lang.Object ref = snmphost_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        snmphost_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVICE_FIELD_NUMBER = 13;
+    private volatile java.lang.Object service_;
+    /**
+     * <code>string service = 13;</code>
+     * @return Whether the service field is set.
+     */
+    @java.lang.Override
+    public boolean hasService() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <code>string service = 13;</code>
+     * @return The service.
+     */
+    @java.lang.Override
+    public java.lang.String getService() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        service_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string service = 13;</code>
+     * @return The bytes for service.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServiceBytes() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        service_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SNMP_FIELD_NUMBER = 14;
+    private org.opennms.features.events.sink.module.EventSinkProto.Snmp snmp_;
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return Whether the snmp field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnmp() {
+      return snmp_ != null;
+    }
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return The snmp.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Snmp getSnmp() {
+      return snmp_ == null ? org.opennms.features.events.sink.module.EventSinkProto.Snmp.getDefaultInstance() : snmp_;
+    }
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder getSnmpOrBuilder() {
+      return getSnmp();
+    }
+
+    public static final int PARMS_FIELD_NUMBER = 15;
+    private java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Parm> parms_;
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Parm> getParmsList() {
+      return parms_;
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder> 
+        getParmsOrBuilderList() {
+      return parms_;
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public int getParmsCount() {
+      return parms_.size();
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Parm getParms(int index) {
+      return parms_.get(index);
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder getParmsOrBuilder(
+        int index) {
+      return parms_.get(index);
+    }
+
+    public static final int DESCR_FIELD_NUMBER = 16;
+    private volatile java.lang.Object descr_;
+    /**
+     * <code>string descr = 16;</code>
+     * @return Whether the descr field is set.
+     */
+    @java.lang.Override
+    public boolean hasDescr() {
+      return ((bitField0_ & 0x00002000) != 0);
+    }
+    /**
+     * <code>string descr = 16;</code>
+     * @return The descr.
+     */
+    @java.lang.Override
+    public java.lang.String getDescr() {
+      java.lang.Object ref = descr_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        descr_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string descr = 16;</code>
+     * @return The bytes for descr.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescrBytes() {
+      java.lang.Object ref = descr_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        descr_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOGMSG_FIELD_NUMBER = 17;
+    private org.opennms.features.events.sink.module.EventSinkProto.Logmsg logmsg_;
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return Whether the logmsg field is set.
+     */
+    @java.lang.Override
+    public boolean hasLogmsg() {
+      return logmsg_ != null;
+    }
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return The logmsg.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Logmsg getLogmsg() {
+      return logmsg_ == null ? org.opennms.features.events.sink.module.EventSinkProto.Logmsg.getDefaultInstance() : logmsg_;
+    }
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder getLogmsgOrBuilder() {
+      return getLogmsg();
+    }
+
+    public static final int SEVERITY_FIELD_NUMBER = 18;
+    private volatile java.lang.Object severity_;
+    /**
+     * <code>string severity = 18;</code>
+     * @return Whether the severity field is set.
+     */
+    @java.lang.Override
+    public boolean hasSeverity() {
+      return ((bitField0_ & 0x00004000) != 0);
+    }
+    /**
+     * <code>string severity = 18;</code>
+     * @return The severity.
+     */
+    @java.lang.Override
+    public java.lang.String getSeverity() {
+      java.lang.Object ref = severity_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        severity_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string severity = 18;</code>
+     * @return The bytes for severity.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSeverityBytes() {
+      java.lang.Object ref = severity_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        severity_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PATHOUTAGE_FIELD_NUMBER = 19;
+    private volatile java.lang.Object pathoutage_;
+    /**
+     * <code>string pathoutage = 19;</code>
+     * @return Whether the pathoutage field is set.
+     */
+    @java.lang.Override
+    public boolean hasPathoutage() {
+      return ((bitField0_ & 0x00008000) != 0);
+    }
+    /**
+     * <code>string pathoutage = 19;</code>
+     * @return The pathoutage.
+     */
+    @java.lang.Override
+    public java.lang.String getPathoutage() {
+      java.lang.Object ref = pathoutage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pathoutage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string pathoutage = 19;</code>
+     * @return The bytes for pathoutage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathoutageBytes() {
+      java.lang.Object ref = pathoutage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pathoutage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPERINSTRUCT_FIELD_NUMBER = 20;
+    private volatile java.lang.Object operinstruct_;
+    /**
+     * <code>string operinstruct = 20;</code>
+     * @return Whether the operinstruct field is set.
+     */
+    @java.lang.Override
+    public boolean hasOperinstruct() {
+      return ((bitField0_ & 0x00010000) != 0);
+    }
+    /**
+     * <code>string operinstruct = 20;</code>
+     * @return The operinstruct.
+     */
+    @java.lang.Override
+    public java.lang.String getOperinstruct() {
+      java.lang.Object ref = operinstruct_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        operinstruct_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string operinstruct = 20;</code>
+     * @return The bytes for operinstruct.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOperinstructBytes() {
+      java.lang.Object ref = operinstruct_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        operinstruct_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IF_INDEX_FIELD_NUMBER = 21;
+    private int ifIndex_;
+    /**
+     * <code>int32 if_index = 21;</code>
+     * @return Whether the ifIndex field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfIndex() {
+      return ((bitField0_ & 0x00020000) != 0);
+    }
+    /**
+     * <code>int32 if_index = 21;</code>
+     * @return The ifIndex.
+     */
+    @java.lang.Override
+    public int getIfIndex() {
+      return ifIndex_;
+    }
+
+    public static final int IF_ALIAS_FIELD_NUMBER = 22;
+    private volatile java.lang.Object ifAlias_;
+    /**
+     * <code>string if_alias = 22;</code>
+     * @return Whether the ifAlias field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfAlias() {
+      return ((bitField0_ & 0x00040000) != 0);
+    }
+    /**
+     * <code>string if_alias = 22;</code>
+     * @return The ifAlias.
+     */
+    @java.lang.Override
+    public java.lang.String getIfAlias() {
+      java.lang.Object ref = ifAlias_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ifAlias_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string if_alias = 22;</code>
+     * @return The bytes for ifAlias.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIfAliasBytes() {
+      java.lang.Object ref = ifAlias_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ifAlias_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MOUSEOVERTEXT_FIELD_NUMBER = 23;
+    private volatile java.lang.Object mouseovertext_;
+    /**
+     * <code>string mouseovertext = 23;</code>
+     * @return Whether the mouseovertext field is set.
+     */
+    @java.lang.Override
+    public boolean hasMouseovertext() {
+      return ((bitField0_ & 0x00080000) != 0);
+    }
+    /**
+     * <code>string mouseovertext = 23;</code>
+     * @return The mouseovertext.
+     */
+    @java.lang.Override
+    public java.lang.String getMouseovertext() {
+      java.lang.Object ref = mouseovertext_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        mouseovertext_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string mouseovertext = 23;</code>
+     * @return The bytes for mouseovertext.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMouseovertextBytes() {
+      java.lang.Object ref = mouseovertext_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        mouseovertext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ALARM_DATA_FIELD_NUMBER = 24;
+    private org.opennms.features.events.sink.module.EventSinkProto.AlarmData alarmData_;
+    /**
+     * <code>.AlarmData alarm_data = 24;</code>
+     * @return Whether the alarmData field is set.
+     */
+    @java.lang.Override
+    public boolean hasAlarmData() {
+      return alarmData_ != null;
+    }
+    /**
+     * <code>.AlarmData alarm_data = 24;</code>
+     * @return The alarmData.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.AlarmData getAlarmData() {
+      return alarmData_ == null ? org.opennms.features.events.sink.module.EventSinkProto.AlarmData.getDefaultInstance() : alarmData_;
+    }
+    /**
+     * <code>.AlarmData alarm_data = 24;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder getAlarmDataOrBuilder() {
+      return getAlarmData();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, dbid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, distPoller_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, creationTime_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, masterStation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, uei_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, source_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt64(8, nodeid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt64(9, time_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, host_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, interface_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 12, snmphost_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 13, service_);
+      }
+      if (snmp_ != null) {
+        output.writeMessage(14, getSnmp());
+      }
+      for (int i = 0; i < parms_.size(); i++) {
+        output.writeMessage(15, parms_.get(i));
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 16, descr_);
+      }
+      if (logmsg_ != null) {
+        output.writeMessage(17, getLogmsg());
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 18, severity_);
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 19, pathoutage_);
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 20, operinstruct_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        output.writeInt32(21, ifIndex_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 22, ifAlias_);
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 23, mouseovertext_);
+      }
+      if (alarmData_ != null) {
+        output.writeMessage(24, getAlarmData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, dbid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, distPoller_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, creationTime_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, masterStation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, uei_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, source_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, nodeid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, time_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, host_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, interface_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(12, snmphost_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, service_);
+      }
+      if (snmp_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, getSnmp());
+      }
+      for (int i = 0; i < parms_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, parms_.get(i));
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(16, descr_);
+      }
+      if (logmsg_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, getLogmsg());
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(18, severity_);
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(19, pathoutage_);
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(20, operinstruct_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(21, ifIndex_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(22, ifAlias_);
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(23, mouseovertext_);
+      }
+      if (alarmData_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(24, getAlarmData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProto.Event)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProto.Event other = (org.opennms.features.events.sink.module.EventSinkProto.Event) obj;
+
+      if (hasUuid() != other.hasUuid()) return false;
+      if (hasUuid()) {
+        if (!getUuid()
+            .equals(other.getUuid())) return false;
+      }
+      if (hasDbid() != other.hasDbid()) return false;
+      if (hasDbid()) {
+        if (getDbid()
+            != other.getDbid()) return false;
+      }
+      if (hasDistPoller() != other.hasDistPoller()) return false;
+      if (hasDistPoller()) {
+        if (!getDistPoller()
+            .equals(other.getDistPoller())) return false;
+      }
+      if (hasCreationTime() != other.hasCreationTime()) return false;
+      if (hasCreationTime()) {
+        if (getCreationTime()
+            != other.getCreationTime()) return false;
+      }
+      if (hasMasterStation() != other.hasMasterStation()) return false;
+      if (hasMasterStation()) {
+        if (!getMasterStation()
+            .equals(other.getMasterStation())) return false;
+      }
+      if (hasUei() != other.hasUei()) return false;
+      if (hasUei()) {
+        if (!getUei()
+            .equals(other.getUei())) return false;
+      }
+      if (hasSource() != other.hasSource()) return false;
+      if (hasSource()) {
+        if (!getSource()
+            .equals(other.getSource())) return false;
+      }
+      if (hasNodeid() != other.hasNodeid()) return false;
+      if (hasNodeid()) {
+        if (getNodeid()
+            != other.getNodeid()) return false;
+      }
+      if (hasTime() != other.hasTime()) return false;
+      if (hasTime()) {
+        if (getTime()
+            != other.getTime()) return false;
+      }
+      if (hasHost() != other.hasHost()) return false;
+      if (hasHost()) {
+        if (!getHost()
+            .equals(other.getHost())) return false;
+      }
+      if (hasInterface() != other.hasInterface()) return false;
+      if (hasInterface()) {
+        if (!getInterface()
+            .equals(other.getInterface())) return false;
+      }
+      if (hasSnmphost() != other.hasSnmphost()) return false;
+      if (hasSnmphost()) {
+        if (!getSnmphost()
+            .equals(other.getSnmphost())) return false;
+      }
+      if (hasService() != other.hasService()) return false;
+      if (hasService()) {
+        if (!getService()
+            .equals(other.getService())) return false;
+      }
+      if (hasSnmp() != other.hasSnmp()) return false;
+      if (hasSnmp()) {
+        if (!getSnmp()
+            .equals(other.getSnmp())) return false;
+      }
+      if (!getParmsList()
+          .equals(other.getParmsList())) return false;
+      if (hasDescr() != other.hasDescr()) return false;
+      if (hasDescr()) {
+        if (!getDescr()
+            .equals(other.getDescr())) return false;
+      }
+      if (hasLogmsg() != other.hasLogmsg()) return false;
+      if (hasLogmsg()) {
+        if (!getLogmsg()
+            .equals(other.getLogmsg())) return false;
+      }
+      if (hasSeverity() != other.hasSeverity()) return false;
+      if (hasSeverity()) {
+        if (!getSeverity()
+            .equals(other.getSeverity())) return false;
+      }
+      if (hasPathoutage() != other.hasPathoutage()) return false;
+      if (hasPathoutage()) {
+        if (!getPathoutage()
+            .equals(other.getPathoutage())) return false;
+      }
+      if (hasOperinstruct() != other.hasOperinstruct()) return false;
+      if (hasOperinstruct()) {
+        if (!getOperinstruct()
+            .equals(other.getOperinstruct())) return false;
+      }
+      if (hasIfIndex() != other.hasIfIndex()) return false;
+      if (hasIfIndex()) {
+        if (getIfIndex()
+            != other.getIfIndex()) return false;
+      }
+      if (hasIfAlias() != other.hasIfAlias()) return false;
+      if (hasIfAlias()) {
+        if (!getIfAlias()
+            .equals(other.getIfAlias())) return false;
+      }
+      if (hasMouseovertext() != other.hasMouseovertext()) return false;
+      if (hasMouseovertext()) {
+        if (!getMouseovertext()
+            .equals(other.getMouseovertext())) return false;
+      }
+      if (hasAlarmData() != other.hasAlarmData()) return false;
+      if (hasAlarmData()) {
+        if (!getAlarmData()
+            .equals(other.getAlarmData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasUuid()) {
+        hash = (37 * hash) + UUID_FIELD_NUMBER;
+        hash = (53 * hash) + getUuid().hashCode();
+      }
+      if (hasDbid()) {
+        hash = (37 * hash) + DBID_FIELD_NUMBER;
+        hash = (53 * hash) + getDbid();
+      }
+      if (hasDistPoller()) {
+        hash = (37 * hash) + DIST_POLLER_FIELD_NUMBER;
+        hash = (53 * hash) + getDistPoller().hashCode();
+      }
+      if (hasCreationTime()) {
+        hash = (37 * hash) + CREATION_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCreationTime());
+      }
+      if (hasMasterStation()) {
+        hash = (37 * hash) + MASTER_STATION_FIELD_NUMBER;
+        hash = (53 * hash) + getMasterStation().hashCode();
+      }
+      if (hasUei()) {
+        hash = (37 * hash) + UEI_FIELD_NUMBER;
+        hash = (53 * hash) + getUei().hashCode();
+      }
+      if (hasSource()) {
+        hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + getSource().hashCode();
+      }
+      if (hasNodeid()) {
+        hash = (37 * hash) + NODEID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getNodeid());
+      }
+      if (hasTime()) {
+        hash = (37 * hash) + TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTime());
+      }
+      if (hasHost()) {
+        hash = (37 * hash) + HOST_FIELD_NUMBER;
+        hash = (53 * hash) + getHost().hashCode();
+      }
+      if (hasInterface()) {
+        hash = (37 * hash) + INTERFACE_FIELD_NUMBER;
+        hash = (53 * hash) + getInterface().hashCode();
+      }
+      if (hasSnmphost()) {
+        hash = (37 * hash) + SNMPHOST_FIELD_NUMBER;
+        hash = (53 * hash) + getSnmphost().hashCode();
+      }
+      if (hasService()) {
+        hash = (37 * hash) + SERVICE_FIELD_NUMBER;
+        hash = (53 * hash) + getService().hashCode();
+      }
+      if (hasSnmp()) {
+        hash = (37 * hash) + SNMP_FIELD_NUMBER;
+        hash = (53 * hash) + getSnmp().hashCode();
+      }
+      if (getParmsCount() > 0) {
+        hash = (37 * hash) + PARMS_FIELD_NUMBER;
+        hash = (53 * hash) + getParmsList().hashCode();
+      }
+      if (hasDescr()) {
+        hash = (37 * hash) + DESCR_FIELD_NUMBER;
+        hash = (53 * hash) + getDescr().hashCode();
+      }
+      if (hasLogmsg()) {
+        hash = (37 * hash) + LOGMSG_FIELD_NUMBER;
+        hash = (53 * hash) + getLogmsg().hashCode();
+      }
+      if (hasSeverity()) {
+        hash = (37 * hash) + SEVERITY_FIELD_NUMBER;
+        hash = (53 * hash) + getSeverity().hashCode();
+      }
+      if (hasPathoutage()) {
+        hash = (37 * hash) + PATHOUTAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getPathoutage().hashCode();
+      }
+      if (hasOperinstruct()) {
+        hash = (37 * hash) + OPERINSTRUCT_FIELD_NUMBER;
+        hash = (53 * hash) + getOperinstruct().hashCode();
+      }
+      if (hasIfIndex()) {
+        hash = (37 * hash) + IF_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getIfIndex();
+      }
+      if (hasIfAlias()) {
+        hash = (37 * hash) + IF_ALIAS_FIELD_NUMBER;
+        hash = (53 * hash) + getIfAlias().hashCode();
+      }
+      if (hasMouseovertext()) {
+        hash = (37 * hash) + MOUSEOVERTEXT_FIELD_NUMBER;
+        hash = (53 * hash) + getMouseovertext().hashCode();
+      }
+      if (hasAlarmData()) {
+        hash = (37 * hash) + ALARM_DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getAlarmData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProto.Event prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Event}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Event)
+        org.opennms.features.events.sink.module.EventSinkProto.EventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Event_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Event_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProto.Event.class, org.opennms.features.events.sink.module.EventSinkProto.Event.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProto.Event.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        uuid_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dbid_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        distPoller_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        creationTime_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        masterStation_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        uei_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        source_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        nodeid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        time_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        host_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        interface_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        snmphost_ = "";
+        bitField0_ = (bitField0_ & ~0x00000800);
+        service_ = "";
+        bitField0_ = (bitField0_ & ~0x00001000);
+        if (snmpBuilder_ == null) {
+          snmp_ = null;
+        } else {
+          snmp_ = null;
+          snmpBuilder_ = null;
+        }
+        if (parmsBuilder_ == null) {
+          parms_ = java.util.Collections.emptyList();
+        } else {
+          parms_ = null;
+          parmsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00002000);
+        descr_ = "";
+        bitField0_ = (bitField0_ & ~0x00004000);
+        if (logmsgBuilder_ == null) {
+          logmsg_ = null;
+        } else {
+          logmsg_ = null;
+          logmsgBuilder_ = null;
+        }
+        severity_ = "";
+        bitField0_ = (bitField0_ & ~0x00008000);
+        pathoutage_ = "";
+        bitField0_ = (bitField0_ & ~0x00010000);
+        operinstruct_ = "";
+        bitField0_ = (bitField0_ & ~0x00020000);
+        ifIndex_ = 0;
+        bitField0_ = (bitField0_ & ~0x00040000);
+        ifAlias_ = "";
+        bitField0_ = (bitField0_ & ~0x00080000);
+        mouseovertext_ = "";
+        bitField0_ = (bitField0_ & ~0x00100000);
+        if (alarmDataBuilder_ == null) {
+          alarmData_ = null;
+        } else {
+          alarmData_ = null;
+          alarmDataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Event_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Event getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.Event.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Event build() {
+        org.opennms.features.events.sink.module.EventSinkProto.Event result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Event buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProto.Event result = new org.opennms.features.events.sink.module.EventSinkProto.Event(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.uuid_ = uuid_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dbid_ = dbid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.distPoller_ = distPoller_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.creationTime_ = creationTime_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.masterStation_ = masterStation_;
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.uei_ = uei_;
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.source_ = source_;
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.nodeid_ = nodeid_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.time_ = time_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.host_ = host_;
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.interface_ = interface_;
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.snmphost_ = snmphost_;
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.service_ = service_;
+        if (snmpBuilder_ == null) {
+          result.snmp_ = snmp_;
+        } else {
+          result.snmp_ = snmpBuilder_.build();
+        }
+        if (parmsBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) != 0)) {
+            parms_ = java.util.Collections.unmodifiableList(parms_);
+            bitField0_ = (bitField0_ & ~0x00002000);
+          }
+          result.parms_ = parms_;
+        } else {
+          result.parms_ = parmsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.descr_ = descr_;
+        if (logmsgBuilder_ == null) {
+          result.logmsg_ = logmsg_;
+        } else {
+          result.logmsg_ = logmsgBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.severity_ = severity_;
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.pathoutage_ = pathoutage_;
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        result.operinstruct_ = operinstruct_;
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          result.ifIndex_ = ifIndex_;
+          to_bitField0_ |= 0x00020000;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.ifAlias_ = ifAlias_;
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        result.mouseovertext_ = mouseovertext_;
+        if (alarmDataBuilder_ == null) {
+          result.alarmData_ = alarmData_;
+        } else {
+          result.alarmData_ = alarmDataBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProto.Event) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProto.Event)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProto.Event other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProto.Event.getDefaultInstance()) return this;
+        if (other.hasUuid()) {
+          bitField0_ |= 0x00000001;
+          uuid_ = other.uuid_;
+          onChanged();
+        }
+        if (other.hasDbid()) {
+          setDbid(other.getDbid());
+        }
+        if (other.hasDistPoller()) {
+          bitField0_ |= 0x00000004;
+          distPoller_ = other.distPoller_;
+          onChanged();
+        }
+        if (other.hasCreationTime()) {
+          setCreationTime(other.getCreationTime());
+        }
+        if (other.hasMasterStation()) {
+          bitField0_ |= 0x00000010;
+          masterStation_ = other.masterStation_;
+          onChanged();
+        }
+        if (other.hasUei()) {
+          bitField0_ |= 0x00000020;
+          uei_ = other.uei_;
+          onChanged();
+        }
+        if (other.hasSource()) {
+          bitField0_ |= 0x00000040;
+          source_ = other.source_;
+          onChanged();
+        }
+        if (other.hasNodeid()) {
+          setNodeid(other.getNodeid());
+        }
+        if (other.hasTime()) {
+          setTime(other.getTime());
+        }
+        if (other.hasHost()) {
+          bitField0_ |= 0x00000200;
+          host_ = other.host_;
+          onChanged();
+        }
+        if (other.hasInterface()) {
+          bitField0_ |= 0x00000400;
+          interface_ = other.interface_;
+          onChanged();
+        }
+        if (other.hasSnmphost()) {
+          bitField0_ |= 0x00000800;
+          snmphost_ = other.snmphost_;
+          onChanged();
+        }
+        if (other.hasService()) {
+          bitField0_ |= 0x00001000;
+          service_ = other.service_;
+          onChanged();
+        }
+        if (other.hasSnmp()) {
+          mergeSnmp(other.getSnmp());
+        }
+        if (parmsBuilder_ == null) {
+          if (!other.parms_.isEmpty()) {
+            if (parms_.isEmpty()) {
+              parms_ = other.parms_;
+              bitField0_ = (bitField0_ & ~0x00002000);
+            } else {
+              ensureParmsIsMutable();
+              parms_.addAll(other.parms_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parms_.isEmpty()) {
+            if (parmsBuilder_.isEmpty()) {
+              parmsBuilder_.dispose();
+              parmsBuilder_ = null;
+              parms_ = other.parms_;
+              bitField0_ = (bitField0_ & ~0x00002000);
+              parmsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getParmsFieldBuilder() : null;
+            } else {
+              parmsBuilder_.addAllMessages(other.parms_);
+            }
+          }
+        }
+        if (other.hasDescr()) {
+          bitField0_ |= 0x00004000;
+          descr_ = other.descr_;
+          onChanged();
+        }
+        if (other.hasLogmsg()) {
+          mergeLogmsg(other.getLogmsg());
+        }
+        if (other.hasSeverity()) {
+          bitField0_ |= 0x00008000;
+          severity_ = other.severity_;
+          onChanged();
+        }
+        if (other.hasPathoutage()) {
+          bitField0_ |= 0x00010000;
+          pathoutage_ = other.pathoutage_;
+          onChanged();
+        }
+        if (other.hasOperinstruct()) {
+          bitField0_ |= 0x00020000;
+          operinstruct_ = other.operinstruct_;
+          onChanged();
+        }
+        if (other.hasIfIndex()) {
+          setIfIndex(other.getIfIndex());
+        }
+        if (other.hasIfAlias()) {
+          bitField0_ |= 0x00080000;
+          ifAlias_ = other.ifAlias_;
+          onChanged();
+        }
+        if (other.hasMouseovertext()) {
+          bitField0_ |= 0x00100000;
+          mouseovertext_ = other.mouseovertext_;
+          onChanged();
+        }
+        if (other.hasAlarmData()) {
+          mergeAlarmData(other.getAlarmData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                uuid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                dbid_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                distPoller_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                creationTime_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                masterStation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                uei_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                nodeid_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                time_ = input.readInt64();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 82: {
+                host_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                interface_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                snmphost_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                service_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 114: {
+                input.readMessage(
+                    getSnmpFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 114
+              case 122: {
+                org.opennms.features.events.sink.module.EventSinkProto.Parm m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.EventSinkProto.Parm.parser(),
+                        extensionRegistry);
+                if (parmsBuilder_ == null) {
+                  ensureParmsIsMutable();
+                  parms_.add(m);
+                } else {
+                  parmsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 122
+              case 130: {
+                descr_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 130
+              case 138: {
+                input.readMessage(
+                    getLogmsgFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 138
+              case 146: {
+                severity_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 146
+              case 154: {
+                pathoutage_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 154
+              case 162: {
+                operinstruct_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 162
+              case 168: {
+                ifIndex_ = input.readInt32();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 168
+              case 178: {
+                ifAlias_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 178
+              case 186: {
+                mouseovertext_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 186
+              case 194: {
+                input.readMessage(
+                    getAlarmDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 194
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object uuid_ = "";
+      /**
+       * <code>string uuid = 1;</code>
+       * @return Whether the uuid field is set.
+       */
+      public boolean hasUuid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string uuid = 1;</code>
+       * @return The uuid.
+       */
+      public java.lang.String getUuid() {
+        java.lang.Object ref = uuid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uuid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string uuid = 1;</code>
+       * @return The bytes for uuid.
+       */
+      public com.google.protobuf.ByteString
+          getUuidBytes() {
+        java.lang.Object ref = uuid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uuid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string uuid = 1;</code>
+       * @param value The uuid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUuid(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        uuid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string uuid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUuid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        uuid_ = getDefaultInstance().getUuid();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string uuid = 1;</code>
+       * @param value The bytes for uuid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUuidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        uuid_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int dbid_ ;
+      /**
+       * <code>int32 dbid = 2;</code>
+       * @return Whether the dbid field is set.
+       */
+      @java.lang.Override
+      public boolean hasDbid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>int32 dbid = 2;</code>
+       * @return The dbid.
+       */
+      @java.lang.Override
+      public int getDbid() {
+        return dbid_;
+      }
+      /**
+       * <code>int32 dbid = 2;</code>
+       * @param value The dbid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDbid(int value) {
+        bitField0_ |= 0x00000002;
+        dbid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 dbid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDbid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        dbid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object distPoller_ = "";
+      /**
+       * <code>string dist_poller = 3;</code>
+       * @return Whether the distPoller field is set.
+       */
+      public boolean hasDistPoller() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>string dist_poller = 3;</code>
+       * @return The distPoller.
+       */
+      public java.lang.String getDistPoller() {
+        java.lang.Object ref = distPoller_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          distPoller_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dist_poller = 3;</code>
+       * @return The bytes for distPoller.
+       */
+      public com.google.protobuf.ByteString
+          getDistPollerBytes() {
+        java.lang.Object ref = distPoller_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          distPoller_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dist_poller = 3;</code>
+       * @param value The distPoller to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDistPoller(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        distPoller_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dist_poller = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDistPoller() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        distPoller_ = getDefaultInstance().getDistPoller();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dist_poller = 3;</code>
+       * @param value The bytes for distPoller to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDistPollerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000004;
+        distPoller_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long creationTime_ ;
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 creation_time = 4;</code>
+       * @return Whether the creationTime field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreationTime() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 creation_time = 4;</code>
+       * @return The creationTime.
+       */
+      @java.lang.Override
+      public long getCreationTime() {
+        return creationTime_;
+      }
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 creation_time = 4;</code>
+       * @param value The creationTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreationTime(long value) {
+        bitField0_ |= 0x00000008;
+        creationTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 creation_time = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreationTime() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        creationTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object masterStation_ = "";
+      /**
+       * <code>string master_station = 5;</code>
+       * @return Whether the masterStation field is set.
+       */
+      public boolean hasMasterStation() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>string master_station = 5;</code>
+       * @return The masterStation.
+       */
+      public java.lang.String getMasterStation() {
+        java.lang.Object ref = masterStation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          masterStation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string master_station = 5;</code>
+       * @return The bytes for masterStation.
+       */
+      public com.google.protobuf.ByteString
+          getMasterStationBytes() {
+        java.lang.Object ref = masterStation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          masterStation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string master_station = 5;</code>
+       * @param value The masterStation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMasterStation(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        masterStation_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string master_station = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMasterStation() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        masterStation_ = getDefaultInstance().getMasterStation();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string master_station = 5;</code>
+       * @param value The bytes for masterStation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMasterStationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000010;
+        masterStation_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object uei_ = "";
+      /**
+       * <code>string uei = 6;</code>
+       * @return Whether the uei field is set.
+       */
+      public boolean hasUei() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>string uei = 6;</code>
+       * @return The uei.
+       */
+      public java.lang.String getUei() {
+        java.lang.Object ref = uei_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uei_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string uei = 6;</code>
+       * @return The bytes for uei.
+       */
+      public com.google.protobuf.ByteString
+          getUeiBytes() {
+        java.lang.Object ref = uei_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uei_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string uei = 6;</code>
+       * @param value The uei to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUei(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        uei_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string uei = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUei() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        uei_ = getDefaultInstance().getUei();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string uei = 6;</code>
+       * @param value The bytes for uei to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUeiBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000020;
+        uei_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 7;</code>
+       * @return Whether the source field is set.
+       */
+      public boolean hasSource() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>string source = 7;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 7;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 7;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        source_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        source_ = getDefaultInstance().getSource();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 7;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000040;
+        source_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long nodeid_ ;
+      /**
+       * <code>int64 nodeid = 8;</code>
+       * @return Whether the nodeid field is set.
+       */
+      @java.lang.Override
+      public boolean hasNodeid() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>int64 nodeid = 8;</code>
+       * @return The nodeid.
+       */
+      @java.lang.Override
+      public long getNodeid() {
+        return nodeid_;
+      }
+      /**
+       * <code>int64 nodeid = 8;</code>
+       * @param value The nodeid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeid(long value) {
+        bitField0_ |= 0x00000080;
+        nodeid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 nodeid = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeid() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        nodeid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long time_ ;
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 time = 9;</code>
+       * @return Whether the time field is set.
+       */
+      @java.lang.Override
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 time = 9;</code>
+       * @return The time.
+       */
+      @java.lang.Override
+      public long getTime() {
+        return time_;
+      }
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 time = 9;</code>
+       * @param value The time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTime(long value) {
+        bitField0_ |= 0x00000100;
+        time_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * milliseconds since the epoch
+       * </pre>
+       *
+       * <code>int64 time = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        time_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object host_ = "";
+      /**
+       * <code>string host = 10;</code>
+       * @return Whether the host field is set.
+       */
+      public boolean hasHost() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>string host = 10;</code>
+       * @return The host.
+       */
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          host_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string host = 10;</code>
+       * @return The bytes for host.
+       */
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string host = 10;</code>
+       * @param value The host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHost(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        host_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string host = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHost() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        host_ = getDefaultInstance().getHost();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string host = 10;</code>
+       * @param value The bytes for host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000200;
+        host_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object interface_ = "";
+      /**
+       * <code>string interface = 11;</code>
+       * @return Whether the interface field is set.
+       */
+      public boolean hasInterface() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <code>string interface = 11;</code>
+       * @return The interface.
+       */
+      public java.lang.String getInterface() {
+        java.lang.Object ref = interface_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          interface_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string interface = 11;</code>
+       * @return The bytes for interface.
+       */
+      public com.google.protobuf.ByteString
+          getInterfaceBytes() {
+        java.lang.Object ref = interface_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interface_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string interface = 11;</code>
+       * @param value The interface to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterface(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        interface_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interface = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterface() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        interface_ = getDefaultInstance().getInterface();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interface = 11;</code>
+       * @param value The bytes for interface to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000400;
+        interface_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object snmphost_ = "";
+      /**
+       * <code>string snmphost = 12;</code>
+       * @return Whether the snmphost field is set.
+       */
+      public boolean hasSnmphost() {
+        return ((bitField0_ & 0x00000800) != 0);
+      }
+      /**
+       * <code>string snmphost = 12;</code>
+       * @return The snmphost.
+       */
+      public java.lang.String getSnmphost() {
+        java.lang.Object ref = snmphost_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          snmphost_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string snmphost = 12;</code>
+       * @return The bytes for snmphost.
+       */
+      public com.google.protobuf.ByteString
+          getSnmphostBytes() {
+        java.lang.Object ref = snmphost_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          snmphost_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string snmphost = 12;</code>
+       * @param value The snmphost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnmphost(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        snmphost_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string snmphost = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnmphost() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        snmphost_ = getDefaultInstance().getSnmphost();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string snmphost = 12;</code>
+       * @param value The bytes for snmphost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnmphostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000800;
+        snmphost_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object service_ = "";
+      /**
+       * <code>string service = 13;</code>
+       * @return Whether the service field is set.
+       */
+      public boolean hasService() {
+        return ((bitField0_ & 0x00001000) != 0);
+      }
+      /**
+       * <code>string service = 13;</code>
+       * @return The service.
+       */
+      public java.lang.String getService() {
+        java.lang.Object ref = service_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          service_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string service = 13;</code>
+       * @return The bytes for service.
+       */
+      public com.google.protobuf.ByteString
+          getServiceBytes() {
+        java.lang.Object ref = service_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          service_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string service = 13;</code>
+       * @param value The service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setService(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
+        service_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string service = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearService() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        service_ = getDefaultInstance().getService();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string service = 13;</code>
+       * @param value The bytes for service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServiceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00001000;
+        service_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProto.Snmp snmp_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Snmp, org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder, org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder> snmpBuilder_;
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       * @return Whether the snmp field is set.
+       */
+      public boolean hasSnmp() {
+        return snmpBuilder_ != null || snmp_ != null;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       * @return The snmp.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Snmp getSnmp() {
+        if (snmpBuilder_ == null) {
+          return snmp_ == null ? org.opennms.features.events.sink.module.EventSinkProto.Snmp.getDefaultInstance() : snmp_;
+        } else {
+          return snmpBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder setSnmp(org.opennms.features.events.sink.module.EventSinkProto.Snmp value) {
+        if (snmpBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          snmp_ = value;
+          onChanged();
+        } else {
+          snmpBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder setSnmp(
+          org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder builderForValue) {
+        if (snmpBuilder_ == null) {
+          snmp_ = builderForValue.build();
+          onChanged();
+        } else {
+          snmpBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder mergeSnmp(org.opennms.features.events.sink.module.EventSinkProto.Snmp value) {
+        if (snmpBuilder_ == null) {
+          if (snmp_ != null) {
+            snmp_ =
+              org.opennms.features.events.sink.module.EventSinkProto.Snmp.newBuilder(snmp_).mergeFrom(value).buildPartial();
+          } else {
+            snmp_ = value;
+          }
+          onChanged();
+        } else {
+          snmpBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder clearSnmp() {
+        if (snmpBuilder_ == null) {
+          snmp_ = null;
+          onChanged();
+        } else {
+          snmp_ = null;
+          snmpBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder getSnmpBuilder() {
+        
+        onChanged();
+        return getSnmpFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder getSnmpOrBuilder() {
+        if (snmpBuilder_ != null) {
+          return snmpBuilder_.getMessageOrBuilder();
+        } else {
+          return snmp_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProto.Snmp.getDefaultInstance() : snmp_;
+        }
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Snmp, org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder, org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder> 
+          getSnmpFieldBuilder() {
+        if (snmpBuilder_ == null) {
+          snmpBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProto.Snmp, org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder, org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder>(
+                  getSnmp(),
+                  getParentForChildren(),
+                  isClean());
+          snmp_ = null;
+        }
+        return snmpBuilder_;
+      }
+
+      private java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Parm> parms_ =
+        java.util.Collections.emptyList();
+      private void ensureParmsIsMutable() {
+        if (!((bitField0_ & 0x00002000) != 0)) {
+          parms_ = new java.util.ArrayList<org.opennms.features.events.sink.module.EventSinkProto.Parm>(parms_);
+          bitField0_ |= 0x00002000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Parm, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder, org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder> parmsBuilder_;
+
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Parm> getParmsList() {
+        if (parmsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parms_);
+        } else {
+          return parmsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public int getParmsCount() {
+        if (parmsBuilder_ == null) {
+          return parms_.size();
+        } else {
+          return parmsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm getParms(int index) {
+        if (parmsBuilder_ == null) {
+          return parms_.get(index);
+        } else {
+          return parmsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder setParms(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Parm value) {
+        if (parmsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmsIsMutable();
+          parms_.set(index, value);
+          onChanged();
+        } else {
+          parmsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder setParms(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder builderForValue) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          parmsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(org.opennms.features.events.sink.module.EventSinkProto.Parm value) {
+        if (parmsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmsIsMutable();
+          parms_.add(value);
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Parm value) {
+        if (parmsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmsIsMutable();
+          parms_.add(index, value);
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(
+          org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder builderForValue) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.add(builderForValue.build());
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(
+          int index, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder builderForValue) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addAllParms(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.EventSinkProto.Parm> values) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parms_);
+          onChanged();
+        } else {
+          parmsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder clearParms() {
+        if (parmsBuilder_ == null) {
+          parms_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00002000);
+          onChanged();
+        } else {
+          parmsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder removeParms(int index) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.remove(index);
+          onChanged();
+        } else {
+          parmsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder getParmsBuilder(
+          int index) {
+        return getParmsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder getParmsOrBuilder(
+          int index) {
+        if (parmsBuilder_ == null) {
+          return parms_.get(index);  } else {
+          return parmsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder> 
+           getParmsOrBuilderList() {
+        if (parmsBuilder_ != null) {
+          return parmsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parms_);
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder addParmsBuilder() {
+        return getParmsFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.EventSinkProto.Parm.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder addParmsBuilder(
+          int index) {
+        return getParmsFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.EventSinkProto.Parm.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder> 
+           getParmsBuilderList() {
+        return getParmsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Parm, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder, org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder> 
+          getParmsFieldBuilder() {
+        if (parmsBuilder_ == null) {
+          parmsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProto.Parm, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder, org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder>(
+                  parms_,
+                  ((bitField0_ & 0x00002000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          parms_ = null;
+        }
+        return parmsBuilder_;
+      }
+
+      private java.lang.Object descr_ = "";
+      /**
+       * <code>string descr = 16;</code>
+       * @return Whether the descr field is set.
+       */
+      public boolean hasDescr() {
+        return ((bitField0_ & 0x00004000) != 0);
+      }
+      /**
+       * <code>string descr = 16;</code>
+       * @return The descr.
+       */
+      public java.lang.String getDescr() {
+        java.lang.Object ref = descr_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          descr_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string descr = 16;</code>
+       * @return The bytes for descr.
+       */
+      public com.google.protobuf.ByteString
+          getDescrBytes() {
+        java.lang.Object ref = descr_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          descr_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string descr = 16;</code>
+       * @param value The descr to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescr(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00004000;
+        descr_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string descr = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescr() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        descr_ = getDefaultInstance().getDescr();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string descr = 16;</code>
+       * @param value The bytes for descr to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00004000;
+        descr_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProto.Logmsg logmsg_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Logmsg, org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder, org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder> logmsgBuilder_;
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       * @return Whether the logmsg field is set.
+       */
+      public boolean hasLogmsg() {
+        return logmsgBuilder_ != null || logmsg_ != null;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       * @return The logmsg.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Logmsg getLogmsg() {
+        if (logmsgBuilder_ == null) {
+          return logmsg_ == null ? org.opennms.features.events.sink.module.EventSinkProto.Logmsg.getDefaultInstance() : logmsg_;
+        } else {
+          return logmsgBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder setLogmsg(org.opennms.features.events.sink.module.EventSinkProto.Logmsg value) {
+        if (logmsgBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          logmsg_ = value;
+          onChanged();
+        } else {
+          logmsgBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder setLogmsg(
+          org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder builderForValue) {
+        if (logmsgBuilder_ == null) {
+          logmsg_ = builderForValue.build();
+          onChanged();
+        } else {
+          logmsgBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder mergeLogmsg(org.opennms.features.events.sink.module.EventSinkProto.Logmsg value) {
+        if (logmsgBuilder_ == null) {
+          if (logmsg_ != null) {
+            logmsg_ =
+              org.opennms.features.events.sink.module.EventSinkProto.Logmsg.newBuilder(logmsg_).mergeFrom(value).buildPartial();
+          } else {
+            logmsg_ = value;
+          }
+          onChanged();
+        } else {
+          logmsgBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder clearLogmsg() {
+        if (logmsgBuilder_ == null) {
+          logmsg_ = null;
+          onChanged();
+        } else {
+          logmsg_ = null;
+          logmsgBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder getLogmsgBuilder() {
+        
+        onChanged();
+        return getLogmsgFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder getLogmsgOrBuilder() {
+        if (logmsgBuilder_ != null) {
+          return logmsgBuilder_.getMessageOrBuilder();
+        } else {
+          return logmsg_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProto.Logmsg.getDefaultInstance() : logmsg_;
+        }
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.Logmsg, org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder, org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder> 
+          getLogmsgFieldBuilder() {
+        if (logmsgBuilder_ == null) {
+          logmsgBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProto.Logmsg, org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder, org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder>(
+                  getLogmsg(),
+                  getParentForChildren(),
+                  isClean());
+          logmsg_ = null;
+        }
+        return logmsgBuilder_;
+      }
+
+      private java.lang.Object severity_ = "";
+      /**
+       * <code>string severity = 18;</code>
+       * @return Whether the severity field is set.
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00008000) != 0);
+      }
+      /**
+       * <code>string severity = 18;</code>
+       * @return The severity.
+       */
+      public java.lang.String getSeverity() {
+        java.lang.Object ref = severity_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          severity_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string severity = 18;</code>
+       * @return The bytes for severity.
+       */
+      public com.google.protobuf.ByteString
+          getSeverityBytes() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          severity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string severity = 18;</code>
+       * @param value The severity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeverity(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00008000;
+        severity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string severity = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeverity() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        severity_ = getDefaultInstance().getSeverity();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string severity = 18;</code>
+       * @param value The bytes for severity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeverityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00008000;
+        severity_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pathoutage_ = "";
+      /**
+       * <code>string pathoutage = 19;</code>
+       * @return Whether the pathoutage field is set.
+       */
+      public boolean hasPathoutage() {
+        return ((bitField0_ & 0x00010000) != 0);
+      }
+      /**
+       * <code>string pathoutage = 19;</code>
+       * @return The pathoutage.
+       */
+      public java.lang.String getPathoutage() {
+        java.lang.Object ref = pathoutage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pathoutage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string pathoutage = 19;</code>
+       * @return The bytes for pathoutage.
+       */
+      public com.google.protobuf.ByteString
+          getPathoutageBytes() {
+        java.lang.Object ref = pathoutage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pathoutage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string pathoutage = 19;</code>
+       * @param value The pathoutage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathoutage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00010000;
+        pathoutage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string pathoutage = 19;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPathoutage() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        pathoutage_ = getDefaultInstance().getPathoutage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string pathoutage = 19;</code>
+       * @param value The bytes for pathoutage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathoutageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00010000;
+        pathoutage_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object operinstruct_ = "";
+      /**
+       * <code>string operinstruct = 20;</code>
+       * @return Whether the operinstruct field is set.
+       */
+      public boolean hasOperinstruct() {
+        return ((bitField0_ & 0x00020000) != 0);
+      }
+      /**
+       * <code>string operinstruct = 20;</code>
+       * @return The operinstruct.
+       */
+      public java.lang.String getOperinstruct() {
+        java.lang.Object ref = operinstruct_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          operinstruct_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string operinstruct = 20;</code>
+       * @return The bytes for operinstruct.
+       */
+      public com.google.protobuf.ByteString
+          getOperinstructBytes() {
+        java.lang.Object ref = operinstruct_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          operinstruct_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string operinstruct = 20;</code>
+       * @param value The operinstruct to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperinstruct(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        operinstruct_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string operinstruct = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOperinstruct() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        operinstruct_ = getDefaultInstance().getOperinstruct();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string operinstruct = 20;</code>
+       * @param value The bytes for operinstruct to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperinstructBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00020000;
+        operinstruct_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int ifIndex_ ;
+      /**
+       * <code>int32 if_index = 21;</code>
+       * @return Whether the ifIndex field is set.
+       */
+      @java.lang.Override
+      public boolean hasIfIndex() {
+        return ((bitField0_ & 0x00040000) != 0);
+      }
+      /**
+       * <code>int32 if_index = 21;</code>
+       * @return The ifIndex.
+       */
+      @java.lang.Override
+      public int getIfIndex() {
+        return ifIndex_;
+      }
+      /**
+       * <code>int32 if_index = 21;</code>
+       * @param value The ifIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfIndex(int value) {
+        bitField0_ |= 0x00040000;
+        ifIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 if_index = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfIndex() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        ifIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object ifAlias_ = "";
+      /**
+       * <code>string if_alias = 22;</code>
+       * @return Whether the ifAlias field is set.
+       */
+      public boolean hasIfAlias() {
+        return ((bitField0_ & 0x00080000) != 0);
+      }
+      /**
+       * <code>string if_alias = 22;</code>
+       * @return The ifAlias.
+       */
+      public java.lang.String getIfAlias() {
+        java.lang.Object ref = ifAlias_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ifAlias_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string if_alias = 22;</code>
+       * @return The bytes for ifAlias.
+       */
+      public com.google.protobuf.ByteString
+          getIfAliasBytes() {
+        java.lang.Object ref = ifAlias_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ifAlias_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string if_alias = 22;</code>
+       * @param value The ifAlias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfAlias(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00080000;
+        ifAlias_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string if_alias = 22;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfAlias() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        ifAlias_ = getDefaultInstance().getIfAlias();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string if_alias = 22;</code>
+       * @param value The bytes for ifAlias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfAliasBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00080000;
+        ifAlias_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object mouseovertext_ = "";
+      /**
+       * <code>string mouseovertext = 23;</code>
+       * @return Whether the mouseovertext field is set.
+       */
+      public boolean hasMouseovertext() {
+        return ((bitField0_ & 0x00100000) != 0);
+      }
+      /**
+       * <code>string mouseovertext = 23;</code>
+       * @return The mouseovertext.
+       */
+      public java.lang.String getMouseovertext() {
+        java.lang.Object ref = mouseovertext_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mouseovertext_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string mouseovertext = 23;</code>
+       * @return The bytes for mouseovertext.
+       */
+      public com.google.protobuf.ByteString
+          getMouseovertextBytes() {
+        java.lang.Object ref = mouseovertext_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mouseovertext_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string mouseovertext = 23;</code>
+       * @param value The mouseovertext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMouseovertext(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00100000;
+        mouseovertext_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string mouseovertext = 23;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMouseovertext() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        mouseovertext_ = getDefaultInstance().getMouseovertext();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string mouseovertext = 23;</code>
+       * @param value The bytes for mouseovertext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMouseovertextBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00100000;
+        mouseovertext_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProto.AlarmData alarmData_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.AlarmData, org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder, org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder> alarmDataBuilder_;
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       * @return Whether the alarmData field is set.
+       */
+      public boolean hasAlarmData() {
+        return alarmDataBuilder_ != null || alarmData_ != null;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       * @return The alarmData.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.AlarmData getAlarmData() {
+        if (alarmDataBuilder_ == null) {
+          return alarmData_ == null ? org.opennms.features.events.sink.module.EventSinkProto.AlarmData.getDefaultInstance() : alarmData_;
+        } else {
+          return alarmDataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      public Builder setAlarmData(org.opennms.features.events.sink.module.EventSinkProto.AlarmData value) {
+        if (alarmDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          alarmData_ = value;
+          onChanged();
+        } else {
+          alarmDataBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      public Builder setAlarmData(
+          org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder builderForValue) {
+        if (alarmDataBuilder_ == null) {
+          alarmData_ = builderForValue.build();
+          onChanged();
+        } else {
+          alarmDataBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      public Builder mergeAlarmData(org.opennms.features.events.sink.module.EventSinkProto.AlarmData value) {
+        if (alarmDataBuilder_ == null) {
+          if (alarmData_ != null) {
+            alarmData_ =
+              org.opennms.features.events.sink.module.EventSinkProto.AlarmData.newBuilder(alarmData_).mergeFrom(value).buildPartial();
+          } else {
+            alarmData_ = value;
+          }
+          onChanged();
+        } else {
+          alarmDataBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      public Builder clearAlarmData() {
+        if (alarmDataBuilder_ == null) {
+          alarmData_ = null;
+          onChanged();
+        } else {
+          alarmData_ = null;
+          alarmDataBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder getAlarmDataBuilder() {
+        
+        onChanged();
+        return getAlarmDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder getAlarmDataOrBuilder() {
+        if (alarmDataBuilder_ != null) {
+          return alarmDataBuilder_.getMessageOrBuilder();
+        } else {
+          return alarmData_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProto.AlarmData.getDefaultInstance() : alarmData_;
+        }
+      }
+      /**
+       * <code>.AlarmData alarm_data = 24;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProto.AlarmData, org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder, org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder> 
+          getAlarmDataFieldBuilder() {
+        if (alarmDataBuilder_ == null) {
+          alarmDataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProto.AlarmData, org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder, org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder>(
+                  getAlarmData(),
+                  getParentForChildren(),
+                  isClean());
+          alarmData_ = null;
+        }
+        return alarmDataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Event)
+    }
+
+    // @@protoc_insertion_point(class_scope:Event)
+    private static final org.opennms.features.events.sink.module.EventSinkProto.Event DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProto.Event();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Event getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Event>
+        PARSER = new com.google.protobuf.AbstractParser<Event>() {
+      @java.lang.Override
+      public Event parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Event> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Event> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Event getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Snmp)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    boolean hasId();
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>string idtext = 2;</code>
+     * @return Whether the idtext field is set.
+     */
+    boolean hasIdtext();
+    /**
+     * <code>string idtext = 2;</code>
+     * @return The idtext.
+     */
+    java.lang.String getIdtext();
+    /**
+     * <code>string idtext = 2;</code>
+     * @return The bytes for idtext.
+     */
+    com.google.protobuf.ByteString
+        getIdtextBytes();
+
+    /**
+     * <code>string version = 3;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>int32 specific = 4;</code>
+     * @return Whether the specific field is set.
+     */
+    boolean hasSpecific();
+    /**
+     * <code>int32 specific = 4;</code>
+     * @return The specific.
+     */
+    int getSpecific();
+
+    /**
+     * <code>int32 generic = 5;</code>
+     * @return Whether the generic field is set.
+     */
+    boolean hasGeneric();
+    /**
+     * <code>int32 generic = 5;</code>
+     * @return The generic.
+     */
+    int getGeneric();
+
+    /**
+     * <code>string community = 6;</code>
+     * @return Whether the community field is set.
+     */
+    boolean hasCommunity();
+    /**
+     * <code>string community = 6;</code>
+     * @return The community.
+     */
+    java.lang.String getCommunity();
+    /**
+     * <code>string community = 6;</code>
+     * @return The bytes for community.
+     */
+    com.google.protobuf.ByteString
+        getCommunityBytes();
+
+    /**
+     * <code>int64 time_stamp = 7;</code>
+     * @return Whether the timeStamp field is set.
+     */
+    boolean hasTimeStamp();
+    /**
+     * <code>int64 time_stamp = 7;</code>
+     * @return The timeStamp.
+     */
+    long getTimeStamp();
+
+    /**
+     * <code>string trap_oid = 8;</code>
+     * @return Whether the trapOid field is set.
+     */
+    boolean hasTrapOid();
+    /**
+     * <code>string trap_oid = 8;</code>
+     * @return The trapOid.
+     */
+    java.lang.String getTrapOid();
+    /**
+     * <code>string trap_oid = 8;</code>
+     * @return The bytes for trapOid.
+     */
+    com.google.protobuf.ByteString
+        getTrapOidBytes();
+  }
+  /**
+   * Protobuf type {@code Snmp}
+   */
+  public static final class Snmp extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Snmp)
+      SnmpOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Snmp.newBuilder() to construct.
+    private Snmp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Snmp() {
+      id_ = "";
+      idtext_ = "";
+      version_ = "";
+      community_ = "";
+      trapOid_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Snmp();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Snmp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Snmp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProto.Snmp.class, org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>string id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    @java.lang.Override
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IDTEXT_FIELD_NUMBER = 2;
+    private volatile java.lang.Object idtext_;
+    /**
+     * <code>string idtext = 2;</code>
+     * @return Whether the idtext field is set.
+     */
+    @java.lang.Override
+    public boolean hasIdtext() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>string idtext = 2;</code>
+     * @return The idtext.
+     */
+    @java.lang.Override
+    public java.lang.String getIdtext() {
+      java.lang.Object ref = idtext_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        idtext_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string idtext = 2;</code>
+     * @return The bytes for idtext.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdtextBytes() {
+      java.lang.Object ref = idtext_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        idtext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    private volatile java.lang.Object version_;
+    /**
+     * <code>string version = 3;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SPECIFIC_FIELD_NUMBER = 4;
+    private int specific_;
+    /**
+     * <code>int32 specific = 4;</code>
+     * @return Whether the specific field is set.
+     */
+    @java.lang.Override
+    public boolean hasSpecific() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>int32 specific = 4;</code>
+     * @return The specific.
+     */
+    @java.lang.Override
+    public int getSpecific() {
+      return specific_;
+    }
+
+    public static final int GENERIC_FIELD_NUMBER = 5;
+    private int generic_;
+    /**
+     * <code>int32 generic = 5;</code>
+     * @return Whether the generic field is set.
+     */
+    @java.lang.Override
+    public boolean hasGeneric() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>int32 generic = 5;</code>
+     * @return The generic.
+     */
+    @java.lang.Override
+    public int getGeneric() {
+      return generic_;
+    }
+
+    public static final int COMMUNITY_FIELD_NUMBER = 6;
+    private volatile java.lang.Object community_;
+    /**
+     * <code>string community = 6;</code>
+     * @return Whether the community field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommunity() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>string community = 6;</code>
+     * @return The community.
+     */
+    @java.lang.Override
+    public java.lang.String getCommunity() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        community_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string community = 6;</code>
+     * @return The bytes for community.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCommunityBytes() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        community_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIME_STAMP_FIELD_NUMBER = 7;
+    private long timeStamp_;
+    /**
+     * <code>int64 time_stamp = 7;</code>
+     * @return Whether the timeStamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeStamp() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>int64 time_stamp = 7;</code>
+     * @return The timeStamp.
+     */
+    @java.lang.Override
+    public long getTimeStamp() {
+      return timeStamp_;
+    }
+
+    public static final int TRAP_OID_FIELD_NUMBER = 8;
+    private volatile java.lang.Object trapOid_;
+    /**
+     * <code>string trap_oid = 8;</code>
+     * @return Whether the trapOid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapOid() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>string trap_oid = 8;</code>
+     * @return The trapOid.
+     */
+    @java.lang.Override
+    public java.lang.String getTrapOid() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        trapOid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string trap_oid = 8;</code>
+     * @return The bytes for trapOid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTrapOidBytes() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        trapOid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, idtext_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, version_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, specific_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, generic_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, community_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt64(7, timeStamp_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, trapOid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, idtext_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, version_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, specific_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, generic_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, community_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, timeStamp_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, trapOid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProto.Snmp)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProto.Snmp other = (org.opennms.features.events.sink.module.EventSinkProto.Snmp) obj;
+
+      if (hasId() != other.hasId()) return false;
+      if (hasId()) {
+        if (!getId()
+            .equals(other.getId())) return false;
+      }
+      if (hasIdtext() != other.hasIdtext()) return false;
+      if (hasIdtext()) {
+        if (!getIdtext()
+            .equals(other.getIdtext())) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (!getVersion()
+            .equals(other.getVersion())) return false;
+      }
+      if (hasSpecific() != other.hasSpecific()) return false;
+      if (hasSpecific()) {
+        if (getSpecific()
+            != other.getSpecific()) return false;
+      }
+      if (hasGeneric() != other.hasGeneric()) return false;
+      if (hasGeneric()) {
+        if (getGeneric()
+            != other.getGeneric()) return false;
+      }
+      if (hasCommunity() != other.hasCommunity()) return false;
+      if (hasCommunity()) {
+        if (!getCommunity()
+            .equals(other.getCommunity())) return false;
+      }
+      if (hasTimeStamp() != other.hasTimeStamp()) return false;
+      if (hasTimeStamp()) {
+        if (getTimeStamp()
+            != other.getTimeStamp()) return false;
+      }
+      if (hasTrapOid() != other.hasTrapOid()) return false;
+      if (hasTrapOid()) {
+        if (!getTrapOid()
+            .equals(other.getTrapOid())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasId()) {
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getId().hashCode();
+      }
+      if (hasIdtext()) {
+        hash = (37 * hash) + IDTEXT_FIELD_NUMBER;
+        hash = (53 * hash) + getIdtext().hashCode();
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion().hashCode();
+      }
+      if (hasSpecific()) {
+        hash = (37 * hash) + SPECIFIC_FIELD_NUMBER;
+        hash = (53 * hash) + getSpecific();
+      }
+      if (hasGeneric()) {
+        hash = (37 * hash) + GENERIC_FIELD_NUMBER;
+        hash = (53 * hash) + getGeneric();
+      }
+      if (hasCommunity()) {
+        hash = (37 * hash) + COMMUNITY_FIELD_NUMBER;
+        hash = (53 * hash) + getCommunity().hashCode();
+      }
+      if (hasTimeStamp()) {
+        hash = (37 * hash) + TIME_STAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimeStamp());
+      }
+      if (hasTrapOid()) {
+        hash = (37 * hash) + TRAP_OID_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapOid().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProto.Snmp prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Snmp}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Snmp)
+        org.opennms.features.events.sink.module.EventSinkProto.SnmpOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Snmp_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Snmp_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProto.Snmp.class, org.opennms.features.events.sink.module.EventSinkProto.Snmp.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProto.Snmp.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        idtext_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        version_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        specific_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        generic_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        community_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        timeStamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        trapOid_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Snmp_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Snmp getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.Snmp.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Snmp build() {
+        org.opennms.features.events.sink.module.EventSinkProto.Snmp result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Snmp buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProto.Snmp result = new org.opennms.features.events.sink.module.EventSinkProto.Snmp(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.id_ = id_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.idtext_ = idtext_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.version_ = version_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.specific_ = specific_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.generic_ = generic_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.community_ = community_;
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.timeStamp_ = timeStamp_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.trapOid_ = trapOid_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProto.Snmp) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProto.Snmp)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProto.Snmp other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProto.Snmp.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          bitField0_ |= 0x00000001;
+          id_ = other.id_;
+          onChanged();
+        }
+        if (other.hasIdtext()) {
+          bitField0_ |= 0x00000002;
+          idtext_ = other.idtext_;
+          onChanged();
+        }
+        if (other.hasVersion()) {
+          bitField0_ |= 0x00000004;
+          version_ = other.version_;
+          onChanged();
+        }
+        if (other.hasSpecific()) {
+          setSpecific(other.getSpecific());
+        }
+        if (other.hasGeneric()) {
+          setGeneric(other.getGeneric());
+        }
+        if (other.hasCommunity()) {
+          bitField0_ |= 0x00000020;
+          community_ = other.community_;
+          onChanged();
+        }
+        if (other.hasTimeStamp()) {
+          setTimeStamp(other.getTimeStamp());
+        }
+        if (other.hasTrapOid()) {
+          bitField0_ |= 0x00000080;
+          trapOid_ = other.trapOid_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                idtext_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                specific_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                generic_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                community_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 56: {
+                timeStamp_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 66: {
+                trapOid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>string id = 1;</code>
+       * @return Whether the id field is set.
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object idtext_ = "";
+      /**
+       * <code>string idtext = 2;</code>
+       * @return Whether the idtext field is set.
+       */
+      public boolean hasIdtext() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>string idtext = 2;</code>
+       * @return The idtext.
+       */
+      public java.lang.String getIdtext() {
+        java.lang.Object ref = idtext_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          idtext_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string idtext = 2;</code>
+       * @return The bytes for idtext.
+       */
+      public com.google.protobuf.ByteString
+          getIdtextBytes() {
+        java.lang.Object ref = idtext_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          idtext_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string idtext = 2;</code>
+       * @param value The idtext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdtext(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        idtext_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string idtext = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdtext() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        idtext_ = getDefaultInstance().getIdtext();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string idtext = 2;</code>
+       * @param value The bytes for idtext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdtextBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        idtext_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>string version = 3;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        version_ = getDefaultInstance().getVersion();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000004;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int specific_ ;
+      /**
+       * <code>int32 specific = 4;</code>
+       * @return Whether the specific field is set.
+       */
+      @java.lang.Override
+      public boolean hasSpecific() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>int32 specific = 4;</code>
+       * @return The specific.
+       */
+      @java.lang.Override
+      public int getSpecific() {
+        return specific_;
+      }
+      /**
+       * <code>int32 specific = 4;</code>
+       * @param value The specific to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecific(int value) {
+        bitField0_ |= 0x00000008;
+        specific_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 specific = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecific() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        specific_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int generic_ ;
+      /**
+       * <code>int32 generic = 5;</code>
+       * @return Whether the generic field is set.
+       */
+      @java.lang.Override
+      public boolean hasGeneric() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>int32 generic = 5;</code>
+       * @return The generic.
+       */
+      @java.lang.Override
+      public int getGeneric() {
+        return generic_;
+      }
+      /**
+       * <code>int32 generic = 5;</code>
+       * @param value The generic to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneric(int value) {
+        bitField0_ |= 0x00000010;
+        generic_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 generic = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneric() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        generic_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object community_ = "";
+      /**
+       * <code>string community = 6;</code>
+       * @return Whether the community field is set.
+       */
+      public boolean hasCommunity() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>string community = 6;</code>
+       * @return The community.
+       */
+      public java.lang.String getCommunity() {
+        java.lang.Object ref = community_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          community_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string community = 6;</code>
+       * @return The bytes for community.
+       */
+      public com.google.protobuf.ByteString
+          getCommunityBytes() {
+        java.lang.Object ref = community_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          community_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string community = 6;</code>
+       * @param value The community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunity(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        community_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string community = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommunity() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        community_ = getDefaultInstance().getCommunity();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string community = 6;</code>
+       * @param value The bytes for community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000020;
+        community_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long timeStamp_ ;
+      /**
+       * <code>int64 time_stamp = 7;</code>
+       * @return Whether the timeStamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeStamp() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>int64 time_stamp = 7;</code>
+       * @return The timeStamp.
+       */
+      @java.lang.Override
+      public long getTimeStamp() {
+        return timeStamp_;
+      }
+      /**
+       * <code>int64 time_stamp = 7;</code>
+       * @param value The timeStamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeStamp(long value) {
+        bitField0_ |= 0x00000040;
+        timeStamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 time_stamp = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeStamp() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        timeStamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object trapOid_ = "";
+      /**
+       * <code>string trap_oid = 8;</code>
+       * @return Whether the trapOid field is set.
+       */
+      public boolean hasTrapOid() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>string trap_oid = 8;</code>
+       * @return The trapOid.
+       */
+      public java.lang.String getTrapOid() {
+        java.lang.Object ref = trapOid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          trapOid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string trap_oid = 8;</code>
+       * @return The bytes for trapOid.
+       */
+      public com.google.protobuf.ByteString
+          getTrapOidBytes() {
+        java.lang.Object ref = trapOid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          trapOid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string trap_oid = 8;</code>
+       * @param value The trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOid(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        trapOid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string trap_oid = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapOid() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        trapOid_ = getDefaultInstance().getTrapOid();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string trap_oid = 8;</code>
+       * @param value The bytes for trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000080;
+        trapOid_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Snmp)
+    }
+
+    // @@protoc_insertion_point(class_scope:Snmp)
+    private static final org.opennms.features.events.sink.module.EventSinkProto.Snmp DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProto.Snmp();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Snmp getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Snmp>
+        PARSER = new com.google.protobuf.AbstractParser<Snmp>() {
+      @java.lang.Override
+      public Snmp parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Snmp> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Snmp> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Snmp getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ParmOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Parm)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>string value = 2;</code>
+     * @return The value.
+     */
+    java.lang.String getValue();
+    /**
+     * <code>string value = 2;</code>
+     * @return The bytes for value.
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+
+    /**
+     * <code>string type = 3;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>string type = 3;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>string type = 3;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>string encoding = 4;</code>
+     * @return Whether the encoding field is set.
+     */
+    boolean hasEncoding();
+    /**
+     * <code>string encoding = 4;</code>
+     * @return The encoding.
+     */
+    java.lang.String getEncoding();
+    /**
+     * <code>string encoding = 4;</code>
+     * @return The bytes for encoding.
+     */
+    com.google.protobuf.ByteString
+        getEncodingBytes();
+
+    /**
+     * <code>bool expand = 5;</code>
+     * @return Whether the expand field is set.
+     */
+    boolean hasExpand();
+    /**
+     * <code>bool expand = 5;</code>
+     * @return The expand.
+     */
+    boolean getExpand();
+  }
+  /**
+   * Protobuf type {@code Parm}
+   */
+  public static final class Parm extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Parm)
+      ParmOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Parm.newBuilder() to construct.
+    private Parm(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Parm() {
+      name_ = "";
+      value_ = "";
+      type_ = "";
+      encoding_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Parm();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Parm_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Parm_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProto.Parm.class, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    @java.lang.Override
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object value_;
+    /**
+     * <code>string value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>string value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        value_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string value = 2;</code>
+     * @return The bytes for value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object type_;
+    /**
+     * <code>string type = 3;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>string type = 3;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string type = 3;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ENCODING_FIELD_NUMBER = 4;
+    private volatile java.lang.Object encoding_;
+    /**
+     * <code>string encoding = 4;</code>
+     * @return Whether the encoding field is set.
+     */
+    @java.lang.Override
+    public boolean hasEncoding() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>string encoding = 4;</code>
+     * @return The encoding.
+     */
+    @java.lang.Override
+    public java.lang.String getEncoding() {
+      java.lang.Object ref = encoding_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        encoding_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string encoding = 4;</code>
+     * @return The bytes for encoding.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEncodingBytes() {
+      java.lang.Object ref = encoding_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        encoding_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXPAND_FIELD_NUMBER = 5;
+    private boolean expand_;
+    /**
+     * <code>bool expand = 5;</code>
+     * @return Whether the expand field is set.
+     */
+    @java.lang.Override
+    public boolean hasExpand() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>bool expand = 5;</code>
+     * @return The expand.
+     */
+    @java.lang.Override
+    public boolean getExpand() {
+      return expand_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, type_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, encoding_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeBool(5, expand_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, type_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, encoding_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, expand_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProto.Parm)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProto.Parm other = (org.opennms.features.events.sink.module.EventSinkProto.Parm) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (!getType()
+            .equals(other.getType())) return false;
+      }
+      if (hasEncoding() != other.hasEncoding()) return false;
+      if (hasEncoding()) {
+        if (!getEncoding()
+            .equals(other.getEncoding())) return false;
+      }
+      if (hasExpand() != other.hasExpand()) return false;
+      if (hasExpand()) {
+        if (getExpand()
+            != other.getExpand()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+      }
+      if (hasEncoding()) {
+        hash = (37 * hash) + ENCODING_FIELD_NUMBER;
+        hash = (53 * hash) + getEncoding().hashCode();
+      }
+      if (hasExpand()) {
+        hash = (37 * hash) + EXPAND_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getExpand());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProto.Parm prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Parm}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Parm)
+        org.opennms.features.events.sink.module.EventSinkProto.ParmOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Parm_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Parm_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProto.Parm.class, org.opennms.features.events.sink.module.EventSinkProto.Parm.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProto.Parm.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        encoding_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        expand_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Parm_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.Parm.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm build() {
+        org.opennms.features.events.sink.module.EventSinkProto.Parm result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Parm buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProto.Parm result = new org.opennms.features.events.sink.module.EventSinkProto.Parm(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.encoding_ = encoding_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.expand_ = expand_;
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProto.Parm) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProto.Parm)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProto.Parm other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProto.Parm.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          bitField0_ |= 0x00000002;
+          value_ = other.value_;
+          onChanged();
+        }
+        if (other.hasType()) {
+          bitField0_ |= 0x00000004;
+          type_ = other.type_;
+          onChanged();
+        }
+        if (other.hasEncoding()) {
+          bitField0_ |= 0x00000008;
+          encoding_ = other.encoding_;
+          onChanged();
+        }
+        if (other.hasExpand()) {
+          setExpand(other.getExpand());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                value_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                encoding_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                expand_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <code>string value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @return The value.
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @return The bytes for value.
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @param value The bytes for value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>string type = 3;</code>
+       * @return Whether the type field is set.
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>string type = 3;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string type = 3;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string type = 3;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        type_ = getDefaultInstance().getType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 3;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000004;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object encoding_ = "";
+      /**
+       * <code>string encoding = 4;</code>
+       * @return Whether the encoding field is set.
+       */
+      public boolean hasEncoding() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>string encoding = 4;</code>
+       * @return The encoding.
+       */
+      public java.lang.String getEncoding() {
+        java.lang.Object ref = encoding_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          encoding_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string encoding = 4;</code>
+       * @return The bytes for encoding.
+       */
+      public com.google.protobuf.ByteString
+          getEncodingBytes() {
+        java.lang.Object ref = encoding_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          encoding_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string encoding = 4;</code>
+       * @param value The encoding to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEncoding(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        encoding_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string encoding = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEncoding() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        encoding_ = getDefaultInstance().getEncoding();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string encoding = 4;</code>
+       * @param value The bytes for encoding to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEncodingBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000008;
+        encoding_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean expand_ ;
+      /**
+       * <code>bool expand = 5;</code>
+       * @return Whether the expand field is set.
+       */
+      @java.lang.Override
+      public boolean hasExpand() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>bool expand = 5;</code>
+       * @return The expand.
+       */
+      @java.lang.Override
+      public boolean getExpand() {
+        return expand_;
+      }
+      /**
+       * <code>bool expand = 5;</code>
+       * @param value The expand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setExpand(boolean value) {
+        bitField0_ |= 0x00000010;
+        expand_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool expand = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearExpand() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        expand_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Parm)
+    }
+
+    // @@protoc_insertion_point(class_scope:Parm)
+    private static final org.opennms.features.events.sink.module.EventSinkProto.Parm DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProto.Parm();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Parm getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Parm>
+        PARSER = new com.google.protobuf.AbstractParser<Parm>() {
+      @java.lang.Override
+      public Parm parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Parm> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Parm> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Parm getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LogmsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Logmsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>string content = 1;</code>
+     * @return The content.
+     */
+    java.lang.String getContent();
+    /**
+     * <code>string content = 1;</code>
+     * @return The bytes for content.
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>string dest = 2;</code>
+     * @return Whether the dest field is set.
+     */
+    boolean hasDest();
+    /**
+     * <code>string dest = 2;</code>
+     * @return The dest.
+     */
+    java.lang.String getDest();
+    /**
+     * <code>string dest = 2;</code>
+     * @return The bytes for dest.
+     */
+    com.google.protobuf.ByteString
+        getDestBytes();
+
+    /**
+     * <code>bool notify = 3;</code>
+     * @return Whether the notify field is set.
+     */
+    boolean hasNotify();
+    /**
+     * <code>bool notify = 3;</code>
+     * @return The notify.
+     */
+    boolean getNotify();
+  }
+  /**
+   * Protobuf type {@code Logmsg}
+   */
+  public static final class Logmsg extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Logmsg)
+      LogmsgOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Logmsg.newBuilder() to construct.
+    private Logmsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Logmsg() {
+      content_ = "";
+      dest_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Logmsg();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Logmsg_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Logmsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProto.Logmsg.class, org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    private volatile java.lang.Object content_;
+    /**
+     * <code>string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string content = 1;</code>
+     * @return The bytes for content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DEST_FIELD_NUMBER = 2;
+    private volatile java.lang.Object dest_;
+    /**
+     * <code>string dest = 2;</code>
+     * @return Whether the dest field is set.
+     */
+    @java.lang.Override
+    public boolean hasDest() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>string dest = 2;</code>
+     * @return The dest.
+     */
+    @java.lang.Override
+    public java.lang.String getDest() {
+      java.lang.Object ref = dest_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dest_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dest = 2;</code>
+     * @return The bytes for dest.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestBytes() {
+      java.lang.Object ref = dest_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dest_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NOTIFY_FIELD_NUMBER = 3;
+    private boolean notify_;
+    /**
+     * <code>bool notify = 3;</code>
+     * @return Whether the notify field is set.
+     */
+    @java.lang.Override
+    public boolean hasNotify() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>bool notify = 3;</code>
+     * @return The notify.
+     */
+    @java.lang.Override
+    public boolean getNotify() {
+      return notify_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dest_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeBool(3, notify_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, dest_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, notify_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProto.Logmsg)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProto.Logmsg other = (org.opennms.features.events.sink.module.EventSinkProto.Logmsg) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasDest() != other.hasDest()) return false;
+      if (hasDest()) {
+        if (!getDest()
+            .equals(other.getDest())) return false;
+      }
+      if (hasNotify() != other.hasNotify()) return false;
+      if (hasNotify()) {
+        if (getNotify()
+            != other.getNotify()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasDest()) {
+        hash = (37 * hash) + DEST_FIELD_NUMBER;
+        hash = (53 * hash) + getDest().hashCode();
+      }
+      if (hasNotify()) {
+        hash = (37 * hash) + NOTIFY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getNotify());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProto.Logmsg prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Logmsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Logmsg)
+        org.opennms.features.events.sink.module.EventSinkProto.LogmsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Logmsg_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Logmsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProto.Logmsg.class, org.opennms.features.events.sink.module.EventSinkProto.Logmsg.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProto.Logmsg.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        content_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dest_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        notify_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_Logmsg_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Logmsg getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.Logmsg.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Logmsg build() {
+        org.opennms.features.events.sink.module.EventSinkProto.Logmsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.Logmsg buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProto.Logmsg result = new org.opennms.features.events.sink.module.EventSinkProto.Logmsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.content_ = content_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.dest_ = dest_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.notify_ = notify_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProto.Logmsg) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProto.Logmsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProto.Logmsg other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProto.Logmsg.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          bitField0_ |= 0x00000001;
+          content_ = other.content_;
+          onChanged();
+        }
+        if (other.hasDest()) {
+          bitField0_ |= 0x00000002;
+          dest_ = other.dest_;
+          onChanged();
+        }
+        if (other.hasNotify()) {
+          setNotify(other.getNotify());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                dest_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                notify_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>string content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string content = 1;</code>
+       * @return The content.
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string content = 1;</code>
+       * @return The bytes for content.
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        content_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        content_ = getDefaultInstance().getContent();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string content = 1;</code>
+       * @param value The bytes for content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        content_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dest_ = "";
+      /**
+       * <code>string dest = 2;</code>
+       * @return Whether the dest field is set.
+       */
+      public boolean hasDest() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>string dest = 2;</code>
+       * @return The dest.
+       */
+      public java.lang.String getDest() {
+        java.lang.Object ref = dest_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dest_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dest = 2;</code>
+       * @return The bytes for dest.
+       */
+      public com.google.protobuf.ByteString
+          getDestBytes() {
+        java.lang.Object ref = dest_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dest_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dest = 2;</code>
+       * @param value The dest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDest(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        dest_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dest = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDest() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        dest_ = getDefaultInstance().getDest();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dest = 2;</code>
+       * @param value The bytes for dest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        dest_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean notify_ ;
+      /**
+       * <code>bool notify = 3;</code>
+       * @return Whether the notify field is set.
+       */
+      @java.lang.Override
+      public boolean hasNotify() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>bool notify = 3;</code>
+       * @return The notify.
+       */
+      @java.lang.Override
+      public boolean getNotify() {
+        return notify_;
+      }
+      /**
+       * <code>bool notify = 3;</code>
+       * @param value The notify to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNotify(boolean value) {
+        bitField0_ |= 0x00000004;
+        notify_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool notify = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNotify() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        notify_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Logmsg)
+    }
+
+    // @@protoc_insertion_point(class_scope:Logmsg)
+    private static final org.opennms.features.events.sink.module.EventSinkProto.Logmsg DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProto.Logmsg();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.Logmsg getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Logmsg>
+        PARSER = new com.google.protobuf.AbstractParser<Logmsg>() {
+      @java.lang.Override
+      public Logmsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Logmsg> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Logmsg> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.Logmsg getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AlarmDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AlarmData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string reduction_key = 1;</code>
+     * @return Whether the reductionKey field is set.
+     */
+    boolean hasReductionKey();
+    /**
+     * <code>string reduction_key = 1;</code>
+     * @return The reductionKey.
+     */
+    java.lang.String getReductionKey();
+    /**
+     * <code>string reduction_key = 1;</code>
+     * @return The bytes for reductionKey.
+     */
+    com.google.protobuf.ByteString
+        getReductionKeyBytes();
+
+    /**
+     * <code>int32 alarm_type = 2;</code>
+     * @return Whether the alarmType field is set.
+     */
+    boolean hasAlarmType();
+    /**
+     * <code>int32 alarm_type = 2;</code>
+     * @return The alarmType.
+     */
+    int getAlarmType();
+
+    /**
+     * <code>string clear_key = 3;</code>
+     * @return Whether the clearKey field is set.
+     */
+    boolean hasClearKey();
+    /**
+     * <code>string clear_key = 3;</code>
+     * @return The clearKey.
+     */
+    java.lang.String getClearKey();
+    /**
+     * <code>string clear_key = 3;</code>
+     * @return The bytes for clearKey.
+     */
+    com.google.protobuf.ByteString
+        getClearKeyBytes();
+
+    /**
+     * <code>bool auto_clean = 4;</code>
+     * @return Whether the autoClean field is set.
+     */
+    boolean hasAutoClean();
+    /**
+     * <code>bool auto_clean = 4;</code>
+     * @return The autoClean.
+     */
+    boolean getAutoClean();
+
+    /**
+     * <code>string x733_alarm_type = 5;</code>
+     * @return Whether the x733AlarmType field is set.
+     */
+    boolean hasX733AlarmType();
+    /**
+     * <code>string x733_alarm_type = 5;</code>
+     * @return The x733AlarmType.
+     */
+    java.lang.String getX733AlarmType();
+    /**
+     * <code>string x733_alarm_type = 5;</code>
+     * @return The bytes for x733AlarmType.
+     */
+    com.google.protobuf.ByteString
+        getX733AlarmTypeBytes();
+
+    /**
+     * <code>int32 x733_probable_cause = 6;</code>
+     * @return Whether the x733ProbableCause field is set.
+     */
+    boolean hasX733ProbableCause();
+    /**
+     * <code>int32 x733_probable_cause = 6;</code>
+     * @return The x733ProbableCause.
+     */
+    int getX733ProbableCause();
+  }
+  /**
+   * Protobuf type {@code AlarmData}
+   */
+  public static final class AlarmData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:AlarmData)
+      AlarmDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AlarmData.newBuilder() to construct.
+    private AlarmData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AlarmData() {
+      reductionKey_ = "";
+      clearKey_ = "";
+      x733AlarmType_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AlarmData();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_AlarmData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProto.internal_static_AlarmData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProto.AlarmData.class, org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int REDUCTION_KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object reductionKey_;
+    /**
+     * <code>string reduction_key = 1;</code>
+     * @return Whether the reductionKey field is set.
+     */
+    @java.lang.Override
+    public boolean hasReductionKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string reduction_key = 1;</code>
+     * @return The reductionKey.
+     */
+    @java.lang.Override
+    public java.lang.String getReductionKey() {
+      java.lang.Object ref = reductionKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        reductionKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string reduction_key = 1;</code>
+     * @return The bytes for reductionKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getReductionKeyBytes() {
+      java.lang.Object ref = reductionKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reductionKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ALARM_TYPE_FIELD_NUMBER = 2;
+    private int alarmType_;
+    /**
+     * <code>int32 alarm_type = 2;</code>
+     * @return Whether the alarmType field is set.
+     */
+    @java.lang.Override
+    public boolean hasAlarmType() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>int32 alarm_type = 2;</code>
+     * @return The alarmType.
+     */
+    @java.lang.Override
+    public int getAlarmType() {
+      return alarmType_;
+    }
+
+    public static final int CLEAR_KEY_FIELD_NUMBER = 3;
+    private volatile java.lang.Object clearKey_;
+    /**
+     * <code>string clear_key = 3;</code>
+     * @return Whether the clearKey field is set.
+     */
+    @java.lang.Override
+    public boolean hasClearKey() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>string clear_key = 3;</code>
+     * @return The clearKey.
+     */
+    @java.lang.Override
+    public java.lang.String getClearKey() {
+      java.lang.Object ref = clearKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        clearKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string clear_key = 3;</code>
+     * @return The bytes for clearKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getClearKeyBytes() {
+      java.lang.Object ref = clearKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clearKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AUTO_CLEAN_FIELD_NUMBER = 4;
+    private boolean autoClean_;
+    /**
+     * <code>bool auto_clean = 4;</code>
+     * @return Whether the autoClean field is set.
+     */
+    @java.lang.Override
+    public boolean hasAutoClean() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>bool auto_clean = 4;</code>
+     * @return The autoClean.
+     */
+    @java.lang.Override
+    public boolean getAutoClean() {
+      return autoClean_;
+    }
+
+    public static final int X733_ALARM_TYPE_FIELD_NUMBER = 5;
+    private volatile java.lang.Object x733AlarmType_;
+    /**
+     * <code>string x733_alarm_type = 5;</code>
+     * @return Whether the x733AlarmType field is set.
+     */
+    @java.lang.Override
+    public boolean hasX733AlarmType() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>string x733_alarm_type = 5;</code>
+     * @return The x733AlarmType.
+     */
+    @java.lang.Override
+    public java.lang.String getX733AlarmType() {
+      java.lang.Object ref = x733AlarmType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        x733AlarmType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string x733_alarm_type = 5;</code>
+     * @return The bytes for x733AlarmType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getX733AlarmTypeBytes() {
+      java.lang.Object ref = x733AlarmType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        x733AlarmType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int X733_PROBABLE_CAUSE_FIELD_NUMBER = 6;
+    private int x733ProbableCause_;
+    /**
+     * <code>int32 x733_probable_cause = 6;</code>
+     * @return Whether the x733ProbableCause field is set.
+     */
+    @java.lang.Override
+    public boolean hasX733ProbableCause() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>int32 x733_probable_cause = 6;</code>
+     * @return The x733ProbableCause.
+     */
+    @java.lang.Override
+    public int getX733ProbableCause() {
+      return x733ProbableCause_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, reductionKey_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, alarmType_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, clearKey_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(4, autoClean_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, x733AlarmType_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt32(6, x733ProbableCause_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, reductionKey_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, alarmType_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, clearKey_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, autoClean_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, x733AlarmType_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, x733ProbableCause_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProto.AlarmData)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProto.AlarmData other = (org.opennms.features.events.sink.module.EventSinkProto.AlarmData) obj;
+
+      if (hasReductionKey() != other.hasReductionKey()) return false;
+      if (hasReductionKey()) {
+        if (!getReductionKey()
+            .equals(other.getReductionKey())) return false;
+      }
+      if (hasAlarmType() != other.hasAlarmType()) return false;
+      if (hasAlarmType()) {
+        if (getAlarmType()
+            != other.getAlarmType()) return false;
+      }
+      if (hasClearKey() != other.hasClearKey()) return false;
+      if (hasClearKey()) {
+        if (!getClearKey()
+            .equals(other.getClearKey())) return false;
+      }
+      if (hasAutoClean() != other.hasAutoClean()) return false;
+      if (hasAutoClean()) {
+        if (getAutoClean()
+            != other.getAutoClean()) return false;
+      }
+      if (hasX733AlarmType() != other.hasX733AlarmType()) return false;
+      if (hasX733AlarmType()) {
+        if (!getX733AlarmType()
+            .equals(other.getX733AlarmType())) return false;
+      }
+      if (hasX733ProbableCause() != other.hasX733ProbableCause()) return false;
+      if (hasX733ProbableCause()) {
+        if (getX733ProbableCause()
+            != other.getX733ProbableCause()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasReductionKey()) {
+        hash = (37 * hash) + REDUCTION_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getReductionKey().hashCode();
+      }
+      if (hasAlarmType()) {
+        hash = (37 * hash) + ALARM_TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getAlarmType();
+      }
+      if (hasClearKey()) {
+        hash = (37 * hash) + CLEAR_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getClearKey().hashCode();
+      }
+      if (hasAutoClean()) {
+        hash = (37 * hash) + AUTO_CLEAN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getAutoClean());
+      }
+      if (hasX733AlarmType()) {
+        hash = (37 * hash) + X733_ALARM_TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getX733AlarmType().hashCode();
+      }
+      if (hasX733ProbableCause()) {
+        hash = (37 * hash) + X733_PROBABLE_CAUSE_FIELD_NUMBER;
+        hash = (53 * hash) + getX733ProbableCause();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProto.AlarmData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AlarmData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AlarmData)
+        org.opennms.features.events.sink.module.EventSinkProto.AlarmDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_AlarmData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_AlarmData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProto.AlarmData.class, org.opennms.features.events.sink.module.EventSinkProto.AlarmData.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProto.AlarmData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        reductionKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        alarmType_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        clearKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        autoClean_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        x733AlarmType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        x733ProbableCause_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.internal_static_AlarmData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.AlarmData getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProto.AlarmData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.AlarmData build() {
+        org.opennms.features.events.sink.module.EventSinkProto.AlarmData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProto.AlarmData buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProto.AlarmData result = new org.opennms.features.events.sink.module.EventSinkProto.AlarmData(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.reductionKey_ = reductionKey_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.alarmType_ = alarmType_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.clearKey_ = clearKey_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.autoClean_ = autoClean_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.x733AlarmType_ = x733AlarmType_;
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.x733ProbableCause_ = x733ProbableCause_;
+          to_bitField0_ |= 0x00000020;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProto.AlarmData) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProto.AlarmData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProto.AlarmData other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProto.AlarmData.getDefaultInstance()) return this;
+        if (other.hasReductionKey()) {
+          bitField0_ |= 0x00000001;
+          reductionKey_ = other.reductionKey_;
+          onChanged();
+        }
+        if (other.hasAlarmType()) {
+          setAlarmType(other.getAlarmType());
+        }
+        if (other.hasClearKey()) {
+          bitField0_ |= 0x00000004;
+          clearKey_ = other.clearKey_;
+          onChanged();
+        }
+        if (other.hasAutoClean()) {
+          setAutoClean(other.getAutoClean());
+        }
+        if (other.hasX733AlarmType()) {
+          bitField0_ |= 0x00000010;
+          x733AlarmType_ = other.x733AlarmType_;
+          onChanged();
+        }
+        if (other.hasX733ProbableCause()) {
+          setX733ProbableCause(other.getX733ProbableCause());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                reductionKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                alarmType_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                clearKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                autoClean_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                x733AlarmType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 48: {
+                x733ProbableCause_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object reductionKey_ = "";
+      /**
+       * <code>string reduction_key = 1;</code>
+       * @return Whether the reductionKey field is set.
+       */
+      public boolean hasReductionKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string reduction_key = 1;</code>
+       * @return The reductionKey.
+       */
+      public java.lang.String getReductionKey() {
+        java.lang.Object ref = reductionKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reductionKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string reduction_key = 1;</code>
+       * @return The bytes for reductionKey.
+       */
+      public com.google.protobuf.ByteString
+          getReductionKeyBytes() {
+        java.lang.Object ref = reductionKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reductionKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string reduction_key = 1;</code>
+       * @param value The reductionKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReductionKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        reductionKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reduction_key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReductionKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        reductionKey_ = getDefaultInstance().getReductionKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reduction_key = 1;</code>
+       * @param value The bytes for reductionKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReductionKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        reductionKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int alarmType_ ;
+      /**
+       * <code>int32 alarm_type = 2;</code>
+       * @return Whether the alarmType field is set.
+       */
+      @java.lang.Override
+      public boolean hasAlarmType() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>int32 alarm_type = 2;</code>
+       * @return The alarmType.
+       */
+      @java.lang.Override
+      public int getAlarmType() {
+        return alarmType_;
+      }
+      /**
+       * <code>int32 alarm_type = 2;</code>
+       * @param value The alarmType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAlarmType(int value) {
+        bitField0_ |= 0x00000002;
+        alarmType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 alarm_type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAlarmType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        alarmType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object clearKey_ = "";
+      /**
+       * <code>string clear_key = 3;</code>
+       * @return Whether the clearKey field is set.
+       */
+      public boolean hasClearKey() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>string clear_key = 3;</code>
+       * @return The clearKey.
+       */
+      public java.lang.String getClearKey() {
+        java.lang.Object ref = clearKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          clearKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string clear_key = 3;</code>
+       * @return The bytes for clearKey.
+       */
+      public com.google.protobuf.ByteString
+          getClearKeyBytes() {
+        java.lang.Object ref = clearKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clearKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string clear_key = 3;</code>
+       * @param value The clearKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClearKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        clearKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string clear_key = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClearKey() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        clearKey_ = getDefaultInstance().getClearKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string clear_key = 3;</code>
+       * @param value The bytes for clearKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClearKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000004;
+        clearKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean autoClean_ ;
+      /**
+       * <code>bool auto_clean = 4;</code>
+       * @return Whether the autoClean field is set.
+       */
+      @java.lang.Override
+      public boolean hasAutoClean() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>bool auto_clean = 4;</code>
+       * @return The autoClean.
+       */
+      @java.lang.Override
+      public boolean getAutoClean() {
+        return autoClean_;
+      }
+      /**
+       * <code>bool auto_clean = 4;</code>
+       * @param value The autoClean to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAutoClean(boolean value) {
+        bitField0_ |= 0x00000008;
+        autoClean_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool auto_clean = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAutoClean() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        autoClean_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object x733AlarmType_ = "";
+      /**
+       * <code>string x733_alarm_type = 5;</code>
+       * @return Whether the x733AlarmType field is set.
+       */
+      public boolean hasX733AlarmType() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>string x733_alarm_type = 5;</code>
+       * @return The x733AlarmType.
+       */
+      public java.lang.String getX733AlarmType() {
+        java.lang.Object ref = x733AlarmType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          x733AlarmType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string x733_alarm_type = 5;</code>
+       * @return The bytes for x733AlarmType.
+       */
+      public com.google.protobuf.ByteString
+          getX733AlarmTypeBytes() {
+        java.lang.Object ref = x733AlarmType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          x733AlarmType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string x733_alarm_type = 5;</code>
+       * @param value The x733AlarmType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX733AlarmType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        x733AlarmType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string x733_alarm_type = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX733AlarmType() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        x733AlarmType_ = getDefaultInstance().getX733AlarmType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string x733_alarm_type = 5;</code>
+       * @param value The bytes for x733AlarmType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX733AlarmTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000010;
+        x733AlarmType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int x733ProbableCause_ ;
+      /**
+       * <code>int32 x733_probable_cause = 6;</code>
+       * @return Whether the x733ProbableCause field is set.
+       */
+      @java.lang.Override
+      public boolean hasX733ProbableCause() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>int32 x733_probable_cause = 6;</code>
+       * @return The x733ProbableCause.
+       */
+      @java.lang.Override
+      public int getX733ProbableCause() {
+        return x733ProbableCause_;
+      }
+      /**
+       * <code>int32 x733_probable_cause = 6;</code>
+       * @param value The x733ProbableCause to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX733ProbableCause(int value) {
+        bitField0_ |= 0x00000020;
+        x733ProbableCause_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 x733_probable_cause = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX733ProbableCause() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        x733ProbableCause_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AlarmData)
+    }
+
+    // @@protoc_insertion_point(class_scope:AlarmData)
+    private static final org.opennms.features.events.sink.module.EventSinkProto.AlarmData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProto.AlarmData();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProto.AlarmData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AlarmData>
+        PARSER = new com.google.protobuf.AbstractParser<AlarmData>() {
+      @java.lang.Override
+      public AlarmData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<AlarmData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AlarmData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProto.AlarmData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EventLog_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EventLog_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Event_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Event_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Snmp_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Snmp_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Parm_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Parm_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Logmsg_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Logmsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AlarmData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AlarmData_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020event-sink.proto\"\"\n\010EventLog\022\026\n\006events" +
+      "\030\001 \003(\0132\006.Event\"\265\006\n\005Event\022\021\n\004uuid\030\001 \001(\tH\000" +
+      "\210\001\001\022\021\n\004dbid\030\002 \001(\005H\001\210\001\001\022\030\n\013dist_poller\030\003 " +
+      "\001(\tH\002\210\001\001\022\032\n\rcreation_time\030\004 \001(\003H\003\210\001\001\022\033\n\016" +
+      "master_station\030\005 \001(\tH\004\210\001\001\022\020\n\003uei\030\006 \001(\tH\005" +
+      "\210\001\001\022\023\n\006source\030\007 \001(\tH\006\210\001\001\022\023\n\006nodeid\030\010 \001(\003" +
+      "H\007\210\001\001\022\021\n\004time\030\t \001(\003H\010\210\001\001\022\021\n\004host\030\n \001(\tH\t" +
+      "\210\001\001\022\026\n\tinterface\030\013 \001(\tH\n\210\001\001\022\025\n\010snmphost\030" +
+      "\014 \001(\tH\013\210\001\001\022\024\n\007service\030\r \001(\tH\014\210\001\001\022\023\n\004snmp" +
+      "\030\016 \001(\0132\005.Snmp\022\024\n\005parms\030\017 \003(\0132\005.Parm\022\022\n\005d" +
+      "escr\030\020 \001(\tH\r\210\001\001\022\027\n\006logmsg\030\021 \001(\0132\007.Logmsg" +
+      "\022\025\n\010severity\030\022 \001(\tH\016\210\001\001\022\027\n\npathoutage\030\023 " +
+      "\001(\tH\017\210\001\001\022\031\n\014operinstruct\030\024 \001(\tH\020\210\001\001\022\025\n\010i" +
+      "f_index\030\025 \001(\005H\021\210\001\001\022\025\n\010if_alias\030\026 \001(\tH\022\210\001" +
+      "\001\022\032\n\rmouseovertext\030\027 \001(\tH\023\210\001\001\022\036\n\nalarm_d" +
+      "ata\030\030 \001(\0132\n.AlarmDataB\007\n\005_uuidB\007\n\005_dbidB" +
+      "\016\n\014_dist_pollerB\020\n\016_creation_timeB\021\n\017_ma" +
+      "ster_stationB\006\n\004_ueiB\t\n\007_sourceB\t\n\007_node" +
+      "idB\007\n\005_timeB\007\n\005_hostB\014\n\n_interfaceB\013\n\t_s" +
+      "nmphostB\n\n\010_serviceB\010\n\006_descrB\013\n\t_severi" +
+      "tyB\r\n\013_pathoutageB\017\n\r_operinstructB\013\n\t_i" +
+      "f_indexB\013\n\t_if_aliasB\020\n\016_mouseovertext\"\230" +
+      "\002\n\004Snmp\022\017\n\002id\030\001 \001(\tH\000\210\001\001\022\023\n\006idtext\030\002 \001(\t" +
+      "H\001\210\001\001\022\024\n\007version\030\003 \001(\tH\002\210\001\001\022\025\n\010specific\030" +
+      "\004 \001(\005H\003\210\001\001\022\024\n\007generic\030\005 \001(\005H\004\210\001\001\022\026\n\tcomm" +
+      "unity\030\006 \001(\tH\005\210\001\001\022\027\n\ntime_stamp\030\007 \001(\003H\006\210\001" +
+      "\001\022\025\n\010trap_oid\030\010 \001(\tH\007\210\001\001B\005\n\003_idB\t\n\007_idte" +
+      "xtB\n\n\010_versionB\013\n\t_specificB\n\n\010_genericB" +
+      "\014\n\n_communityB\r\n\013_time_stampB\013\n\t_trap_oi" +
+      "d\"\240\001\n\004Parm\022\021\n\004name\030\001 \001(\tH\000\210\001\001\022\022\n\005value\030\002" +
+      " \001(\tH\001\210\001\001\022\021\n\004type\030\003 \001(\tH\002\210\001\001\022\025\n\010encoding" +
+      "\030\004 \001(\tH\003\210\001\001\022\023\n\006expand\030\005 \001(\010H\004\210\001\001B\007\n\005_nam" +
+      "eB\010\n\006_valueB\007\n\005_typeB\013\n\t_encodingB\t\n\007_ex" +
+      "pand\"f\n\006Logmsg\022\024\n\007content\030\001 \001(\tH\000\210\001\001\022\021\n\004" +
+      "dest\030\002 \001(\tH\001\210\001\001\022\023\n\006notify\030\003 \001(\010H\002\210\001\001B\n\n\010" +
+      "_contentB\007\n\005_destB\t\n\007_notify\"\233\002\n\tAlarmDa" +
+      "ta\022\032\n\rreduction_key\030\001 \001(\tH\000\210\001\001\022\027\n\nalarm_" +
+      "type\030\002 \001(\005H\001\210\001\001\022\026\n\tclear_key\030\003 \001(\tH\002\210\001\001\022" +
+      "\027\n\nauto_clean\030\004 \001(\010H\003\210\001\001\022\034\n\017x733_alarm_t" +
+      "ype\030\005 \001(\tH\004\210\001\001\022 \n\023x733_probable_cause\030\006 " +
+      "\001(\005H\005\210\001\001B\020\n\016_reduction_keyB\r\n\013_alarm_typ" +
+      "eB\014\n\n_clear_keyB\r\n\013_auto_cleanB\022\n\020_x733_" +
+      "alarm_typeB\026\n\024_x733_probable_causeB9\n\'or" +
+      "g.opennms.features.events.sink.moduleB\016E" +
+      "ventSinkProtob\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_EventLog_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_EventLog_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EventLog_descriptor,
+        new java.lang.String[] { "Events", });
+    internal_static_Event_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Event_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Event_descriptor,
+        new java.lang.String[] { "Uuid", "Dbid", "DistPoller", "CreationTime", "MasterStation", "Uei", "Source", "Nodeid", "Time", "Host", "Interface", "Snmphost", "Service", "Snmp", "Parms", "Descr", "Logmsg", "Severity", "Pathoutage", "Operinstruct", "IfIndex", "IfAlias", "Mouseovertext", "AlarmData", "Uuid", "Dbid", "DistPoller", "CreationTime", "MasterStation", "Uei", "Source", "Nodeid", "Time", "Host", "Interface", "Snmphost", "Service", "Descr", "Severity", "Pathoutage", "Operinstruct", "IfIndex", "IfAlias", "Mouseovertext", });
+    internal_static_Snmp_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_Snmp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Snmp_descriptor,
+        new java.lang.String[] { "Id", "Idtext", "Version", "Specific", "Generic", "Community", "TimeStamp", "TrapOid", "Id", "Idtext", "Version", "Specific", "Generic", "Community", "TimeStamp", "TrapOid", });
+    internal_static_Parm_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Parm_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Parm_descriptor,
+        new java.lang.String[] { "Name", "Value", "Type", "Encoding", "Expand", "Name", "Value", "Type", "Encoding", "Expand", });
+    internal_static_Logmsg_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_Logmsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Logmsg_descriptor,
+        new java.lang.String[] { "Content", "Dest", "Notify", "Content", "Dest", "Notify", });
+    internal_static_AlarmData_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_AlarmData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AlarmData_descriptor,
+        new java.lang.String[] { "ReductionKey", "AlarmType", "ClearKey", "AutoClean", "X733AlarmType", "X733ProbableCause", "ReductionKey", "AlarmType", "ClearKey", "AutoClean", "X733AlarmType", "X733ProbableCause", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
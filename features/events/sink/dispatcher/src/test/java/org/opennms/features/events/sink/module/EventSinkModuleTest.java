@@ -0,0 +1,148 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.events.sink.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
+import org.opennms.core.xml.JaxbUtils;
+import org.opennms.netmgt.config.api.EventdConfig;
+import org.opennms.netmgt.xml.event.AlarmData;
+import org.opennms.netmgt.xml.event.Autoaction;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+
+public class EventSinkModuleTest {
+
+    private EventSinkModule module;
+
+    @Before
+    public void setUp() {
+        module = new EventSinkModule(mock(EventdConfig.class));
+        module.setEncoding(Encoding.PROTOBUF);
+    }
+
+    @Test
+    public void canMarshalAndUnmarshalEventsAsProtobuf() {
+        final Log log = new Log();
+        log.addEvent(createEvent());
+        final Event minimal = new Event();
+        minimal.setUei("uei.opennms.org/test/minimal");
+        log.addEvent(minimal);
+
+        final byte[] bytes = module.marshal(log);
+        assertTrue(AbstractProtobufSinkModule.isProtobuf(bytes));
+
+        final Log unmarshalled = module.unmarshal(bytes);
+        assertEquals(JaxbUtils.marshal(log), JaxbUtils.marshal(unmarshalled));
+        final Event event = unmarshalled.getEvents().getEvent(1);
+        assertNull(event.getSource());
+        assertNull(event.getSnmp());
+        assertNull(event.getAlarmData());
+    }
+
+    @Test
+    public void canSendEventsWithFieldsMissingFromTheSchemaAsXml() {
+        final Event event = createEvent();
+        final Autoaction autoaction = new Autoaction();
+        autoaction.setContent("echo test");
+        autoaction.setState("on");
+        event.addAutoaction(autoaction);
+        final Log log = new Log();
+        log.addEvent(event);
+
+        final byte[] bytes = module.marshal(log);
+        assertFalse(AbstractProtobufSinkModule.isProtobuf(bytes));
+
+        final Log unmarshalled = module.unmarshal(bytes);
+        assertEquals(JaxbUtils.marshal(log), JaxbUtils.marshal(unmarshalled));
+        assertEquals("echo test", unmarshalled.getEvents().getEvent(0).getAutoaction(0).getContent());
+    }
+
+    @Test
+    public void canUnmarshalXmlWithTheProtobufEncoding() {
+        final EventSinkModule xmlModule = new EventSinkModule(mock(EventdConfig.class));
+        xmlModule.setEncoding(Encoding.XML);
+        final Log log = new Log();
+        log.addEvent(createEvent());
+
+        final byte[] xml = xmlModule.marshal(log);
+        assertFalse(AbstractProtobufSinkModule.isProtobuf(xml));
+        assertEquals(JaxbUtils.marshal(log), JaxbUtils.marshal(module.unmarshal(xml)));
+        assertTrue(module.marshal(log).length < xml.length);
+    }
+
+    private static Event createEvent() {
+        final Event event = new Event();
+        event.setUuid("d1a2b3c4-0000-4000-8000-000000000001");
+        event.setUei("uei.opennms.org/test/event");
+        event.setSource("EventSinkModuleTest");
+        event.setCreationTime(new Date(1500000000000L));
+        event.setTime(new Date(1500000001000L));
+        event.setNodeid(42L);
+        event.setInterface("192.168.0.1");
+        event.setService("ICMP");
+        event.setIfIndex(3);
+        event.setSeverity("Major");
+        event.setDescr("");
+
+        final Snmp snmp = new Snmp();
+        snmp.setId(".1.3.6.1.4.1.5813");
+        snmp.setVersion("v2c");
+        snmp.setGeneric(6);
+        snmp.setSpecific(1);
+        snmp.setCommunity("public");
+        snmp.setTimeStamp(1234L);
+        event.setSnmp(snmp);
+
+        final Parm parm = new Parm("name", "value");
+        parm.getValue().setType("string");
+        parm.getValue().setEncoding("text");
+        event.addParm(parm);
+        event.addParm(new Parm("empty", ""));
+
+        final Logmsg logmsg = new Logmsg();
+        logmsg.setContent("Test event");
+        logmsg.setDest("logndisplay");
+        logmsg.setNotify(true);
+        event.setLogmsg(logmsg);
+
+        final AlarmData alarmData = new AlarmData();
+        alarmData.setReductionKey("%uei%:%nodeid%");
+        alarmData.setAlarmType(1);
+        alarmData.setAutoClean(false);
+        event.setAlarmData(alarmData);
+        return event;
+    }
+}
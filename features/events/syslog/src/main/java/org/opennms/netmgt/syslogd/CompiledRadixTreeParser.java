@@ -0,0 +1,183 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.opennms.core.collections.RadixTreeNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>A {@link RadixTreeParser} compiled into a flat table of {@link ParserStage}
+ * objects. The nodes of the tree are numbered breadth first, so that the children
+ * of every node are stored next to each other and the whole tree is described by
+ * the stage, the index of the first child and the number of children of every node.</p>
+ * 
+ * <p>Instead of chaining a {@link CompletableFuture} and copying the {@link ParserState}
+ * for every stage, the stages are applied in place: they all consume the same buffer
+ * and write straight into the same {@link SyslogMessage}. The position of the buffer
+ * and the content of the message are only saved at the nodes that have several
+ * children, and restored before the next child is tried.</p>
+ * 
+ * <p>The branches are tried in the order in which they were taught and the first
+ * one that matches wins, so the results are the same as with the {@link RadixTreeParser}.</p>
+ */
+public class CompiledRadixTreeParser implements ByteBufferParser<SyslogMessage> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(CompiledRadixTreeParser.class);
+
+	/**
+	 * The stage of every node, null for the root.
+	 */
+	private final ParserStage[] m_stages;
+
+	private final int[] m_firstChild;
+
+	private final int[] m_childCount;
+
+	/**
+	 * The maximum number of nodes with several children on the path to a leaf,
+	 * ie. the number of messages needed to save the state of a parse.
+	 */
+	private final int m_branchDepth;
+
+	private final ThreadLocal<SyslogMessage[]> m_snapshots;
+
+	/**
+	 * The tree must not be modified afterwards since its stages are shared.
+	 * 
+	 * @see RadixTreeParser#compile()
+	 */
+	public CompiledRadixTreeParser(RadixTreeNode<ParserStage> root) {
+		final List<RadixTreeNode<ParserStage>> nodes = new ArrayList<>();
+		nodes.add(root);
+		for (int i = 0; i < nodes.size(); i++) {
+			nodes.addAll(nodes.get(i).getChildren());
+		}
+
+		m_stages = new ParserStage[nodes.size()];
+		m_firstChild = new int[nodes.size()];
+		m_childCount = new int[nodes.size()];
+		int next = 1;
+		for (int i = 0; i < nodes.size(); i++) {
+			final RadixTreeNode<ParserStage> node = nodes.get(i);
+			m_stages[i] = node.getContent();
+			m_firstChild[i] = next;
+			m_childCount[i] = node.getChildren() == null ? 0 : node.getChildren().size();
+			next += m_childCount[i];
+		}
+
+		m_branchDepth = getBranchDepth(0);
+		m_snapshots = ThreadLocal.withInitial(() -> {
+			final SyslogMessage[] snapshots = new SyslogMessage[m_branchDepth];
+			for (int i = 0; i < snapshots.length; i++) {
+				snapshots[i] = new SyslogMessage();
+			}
+			return snapshots;
+		});
+	}
+
+	/**
+	 * @return The number of stages in the table.
+	 */
+	public int size() {
+		return m_stages.length - 1;
+	}
+
+	/**
+	 * Parse the message into a new {@link SyslogMessage}.
+	 * 
+	 * The message is owned by the caller: it is handed out through the future,
+	 * and {@link RadixTreeSyslogParser#parse()} returns it to callers that add
+	 * parameters to it and keep it while the event is built. It can thus not be
+	 * reused for the next parse. Callers that own a message they are done with
+	 * can use {@link #parse(ByteBuffer, SyslogMessage)} instead.
+	 */
+	@Override
+	public CompletableFuture<SyslogMessage> parse(ByteBuffer incoming) {
+		final SyslogMessage message = new SyslogMessage();
+		return CompletableFuture.completedFuture(parse(incoming, message) ? message : null);
+	}
+
+	/**
+	 * Parse the message and write its fields into the given {@link SyslogMessage}.
+	 * The position of the incoming buffer is left unchanged.
+	 * 
+	 * @return true if the message was parsed, the content of the {@link SyslogMessage}
+	 * is undefined otherwise
+	 */
+	public boolean parse(ByteBuffer incoming, SyslogMessage message) {
+		final ParserState state = new ParserState(incoming.duplicate(), message);
+		return match(0, state, m_snapshots.get(), 0);
+	}
+
+	private boolean match(final int node, final ParserState state, final SyslogMessage[] snapshots, final int depth) {
+		final ParserStage stage = m_stages[node];
+		if (stage != null) {
+			try {
+				if (!stage.applyInPlace(state)) {
+					return false;
+				}
+			} catch (Exception e) {
+				// Only this branch fails, as it does in the RadixTreeParser
+				LOG.trace("Parse failed on stage: {}", stage, e);
+				return false;
+			}
+		}
+
+		final int first = m_firstChild[node];
+		switch (m_childCount[node]) {
+		case 0:
+			return true;
+		case 1:
+			return match(first, state, snapshots, depth);
+		default:
+			final ByteBuffer buffer = state.getSharedBuffer();
+			final int position = buffer.position();
+			final SyslogMessage snapshot = snapshots[depth];
+			snapshot.copyFrom(state.message);
+
+			for (int child = first; child < first + m_childCount[node]; child++) {
+				if (child > first) {
+					buffer.position(position);
+					state.message.copyFrom(snapshot);
+				}
+				if (match(child, state, snapshots, depth + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private int getBranchDepth(final int node) {
+		int depth = 0;
+		for (int child = m_firstChild[node]; child < m_firstChild[node] + m_childCount[node]; child++) {
+			depth = Math.max(depth, getBranchDepth(child));
+		}
+		return m_childCount[node] > 1 ? depth + 1 : depth;
+	}
+}
@@ -70,4 +70,15 @@ public interface ParserStage {
 	 * that the next stage can continue processing.
 	 */
 	ParserState apply(ParserState state);
+
+	/**
+	 * Process the stage in place: consume the characters from the shared
+	 * buffer of the state and write the finished tokens straight into its
+	 * message. Unlike {@link #apply(ParserState)}, neither the state nor
+	 * its message are copied, so the caller must restore them if the
+	 * stage does not match.
+	 * 
+	 * @return true if the stage matched
+	 */
+	boolean applyInPlace(ParserState state);
 }
\ No newline at end of file
@@ -30,7 +30,6 @@ import java.util.EmptyStackException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Stack;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -80,10 +79,10 @@ public class ParserStageSequenceBuilder {
 	 * The state of an individual {@link ParserStage} operation.
 	 */
 	private static class ParserStageState {
-		public final ByteBuffer buffer;
+		public ByteBuffer buffer;
 
 		private StringBuilder accumulatedValue = null;
-		private AtomicInteger accumulatedSize = null;
+		private int accumulatedSize = 0;
 
 		// Only used by MatchMonth
 		public RadixTreeNode<CharacterWithValue> currentNode = null; 
@@ -92,13 +91,30 @@ public class ParserStageSequenceBuilder {
 			buffer = input;
 		}
 
+		/**
+		 * Clear the state so that it can be used by another stage.
+		 */
+		public void reuse(ByteBuffer input) {
+			buffer = input;
+			if (accumulatedValue != null) {
+				accumulatedValue.setLength(0);
+			}
+			accumulatedSize = 0;
+			currentNode = null;
+		}
+
 		public void accumulate(char c) {
 			accessAccumulatedValue().append(c);
-			accessAccumulatedSize().incrementAndGet();
+			accumulatedSize++;
 		}
 
 		public int getAccumulatedSize() {
-			return accessAccumulatedSize().get();
+			return accumulatedSize;
+		}
+
+		public String getAccumulatedValue() {
+			// A reused state keeps its builder, so check the size instead
+			return accumulatedSize == 0 ? null : accumulatedValue.toString();
 		}
 
 		private final StringBuilder accessAccumulatedValue() {
@@ -108,18 +124,11 @@ public class ParserStageSequenceBuilder {
 			return accumulatedValue;
 		}
 
-		private final AtomicInteger accessAccumulatedSize() {
-			if (accumulatedSize == null) {
-				accumulatedSize = new AtomicInteger();
-			}
-			return accumulatedSize;
-		}
-
 		@Override
 		public String toString() {
 			return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
 				.append("accumulatedValue", accumulatedValue == null ? "null" : accumulatedValue.toString())
-				.append("accumulatedSize", accumulatedSize == null ? 0 : accumulatedSize.get())
+				.append("accumulatedSize", accumulatedSize)
 				.toString();
 		}
 	}
@@ -290,6 +299,8 @@ public class ParserStageSequenceBuilder {
 	 */
 	private static abstract class AbstractParserStage<R> implements ParserStage {
 
+		private static final ThreadLocal<ParserStageState> IN_PLACE_STATE = ThreadLocal.withInitial(() -> new ParserStageState(null));
+
 		private boolean m_optional = false;
 		private boolean m_terminal = false;
 		protected final BiConsumer<ParserState, R> m_resultConsumer;
@@ -345,6 +356,31 @@ public class ParserStageSequenceBuilder {
 //			ParserStageState stageState = new ParserStageState(state.getBuffer().duplicate()); 
 			ParserStageState stageState = new ParserStageState(state.getBuffer()); 
 
+			if (match(state, stageState)) {
+				return new ParserState(stageState.buffer, state.message);
+			} else {
+				return null;
+			}
+		}
+
+		@Override
+		public final boolean applyInPlace(final ParserState state) {
+			LOG.trace("Starting stage in place: {}", this);
+
+			// Stages are applied one after the other, so a single stage
+			// state can be reused by all of the stages of the thread
+			final ParserStageState stageState = IN_PLACE_STATE.get();
+			stageState.reuse(state.getSharedBuffer());
+			return match(state, stageState);
+		}
+
+		/**
+		 * Consume characters from the buffer of the stage state until the stage
+		 * completes or fails, and pass its value to the consumer.
+		 * 
+		 * @return true if the stage matched
+		 */
+		private boolean match(final ParserState state, final ParserStageState stageState) {
 			while(true) {
 				stageState.buffer.mark();
 
@@ -361,7 +397,7 @@ public class ParserStageSequenceBuilder {
 //						reset(stageState);
 
 						LOG.trace("End of buffer with terminal match");
-						return new ParserState(stageState.buffer, state.message);
+						return true;
 					} else if (m_optional) {
 //						// TODO: Should we reset the buffer here? It probably
 //						// doesn't matter since we're at the end of the buffer.
@@ -371,11 +407,11 @@ public class ParserStageSequenceBuilder {
 //						reset(stageState);
 
 						LOG.trace("End of buffer with optional match");
-						return new ParserState(stageState.buffer, state.message);
+						return true;
 					} else {
 						// Reached end of buffer, match failed
 						LOG.trace("Parse failed due to buffer underflow: " + this);
-						return null;
+						return false;
 					}
 				}
 
@@ -389,14 +425,14 @@ public class ParserStageSequenceBuilder {
 							} catch (Exception e) {
 								// Conversion to value failed
 								LOG.trace("Parse failed on result consumer: {}", stageState, e);
-								return null;
+								return false;
 							}
 						}
 
 //						// Reset any local state if necessary
 //						reset(stageState);
 
-						return new ParserState(stageState.buffer, state.message);
+						return true;
 					case COMPLETE_WITHOUT_CONSUMING:
 						if (m_resultConsumer != null) {
 							try {
@@ -404,7 +440,7 @@ public class ParserStageSequenceBuilder {
 							} catch (Exception e) {
 								// Conversion to value failed
 								LOG.trace("Parse failed on result consumer: {}", stageState, e);
-								return null;
+								return false;
 							}
 						}
 
@@ -414,7 +450,7 @@ public class ParserStageSequenceBuilder {
 						// Move the mark back before the current character
 						stageState.buffer.reset();
 
-						return new ParserState(stageState.buffer, state.message);
+						return true;
 					case CANCEL:
 						if (m_optional) {
 							stageState.buffer.reset();
@@ -422,11 +458,11 @@ public class ParserStageSequenceBuilder {
 							// Reset any local state if necessary
 							reset(stageState);
 
-							return new ParserState(stageState.buffer, state.message);
+							return true;
 						} else {
 							// Match failed
 							LOG.trace("Parse failed: {}", this);
-							return null;
+							return false;
 						}
 				}
 			}
@@ -445,12 +481,7 @@ public class ParserStageSequenceBuilder {
 		}
 
 		protected static String getAccumulatedValue(ParserStageState state) {
-			final StringBuilder accumulatedValue = state.accumulatedValue;
-			if (accumulatedValue == null) {
-				return null;
-			} else {
-				return accumulatedValue.toString();
-			}
+			return state.getAccumulatedValue();
 		}
 
 		protected R getValue(ParserStageState state) {
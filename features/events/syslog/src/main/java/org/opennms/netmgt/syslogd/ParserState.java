@@ -55,6 +55,14 @@ public class ParserState implements Cloneable {
 		return buffer.asReadOnlyBuffer();
 	}
 
+	/**
+	 * @return the buffer itself, whose position is advanced by the
+	 * stages that are applied in place
+	 */
+	ByteBuffer getSharedBuffer() {
+		return buffer;
+	}
+
 	@Override
 	public String toString() {
 		return new ToStringBuilder(this)
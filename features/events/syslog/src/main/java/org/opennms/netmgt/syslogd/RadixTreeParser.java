@@ -105,6 +105,14 @@ public class RadixTreeParser implements ByteBufferParser<SyslogMessage> {
 		tree.addChildren(stages);
 	}
 
+	/**
+	 * Compile the current tree into a {@link CompiledRadixTreeParser}. Sequences
+	 * that are taught to this parser afterwards are not part of the compiled parser.
+	 */
+	public CompiledRadixTreeParser compile() {
+		return new CompiledRadixTreeParser(tree);
+	}
+
 	public void performEdgeCompression() {
 		for (RadixTreeNode<ParserStage> child : tree.getChildren()) {
 			compressNode(child);
@@ -153,6 +161,16 @@ public class RadixTreeParser implements ByteBufferParser<SyslogMessage> {
 			return currentState;
 		}
 
+		@Override
+		public boolean applyInPlace(ParserState state) {
+			for (ParserStage member : members) {
+				if (!member.applyInPlace(state)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 		@Override
 		public void setOptional(boolean optional) {
 			throw new UnsupportedOperationException();
@@ -51,8 +51,18 @@ public class RadixTreeSyslogParser extends SyslogParser {
 
 	private static final Pattern STRUCTURED_DATA = Pattern.compile("^(?:\\[.*?\\])*(?: \uFEFF?(.*?))?$");
 
+	/**
+	 * Set this system property to false to interpret the {@link RadixTreeParser}
+	 * instead of using a {@link CompiledRadixTreeParser}.
+	 */
+	public static final String COMPILE_PARSER_PROPERTY = "org.opennms.netmgt.syslogd.radixTree.compile";
+
+	private static final boolean COMPILE_PARSER = Boolean.parseBoolean(System.getProperty(COMPILE_PARSER_PROPERTY, "true"));
+
 	private static RadixTreeParser radixParser = new RadixTreeParser();
 
+	private static ByteBufferParser<SyslogMessage> parser;
+
 	static {
 		try {
 			File configFile = ConfigFileConstants.getFile(ConfigFileConstants.SYSLOGD_GROK_PATTERNS_FILE_NAME);
@@ -85,6 +95,11 @@ public class RadixTreeSyslogParser extends SyslogParser {
 		// After we have taught all of the patterns to the parser, perform
 		// edge compression to optimize the tree
 		radixParser.performEdgeCompression();
+		parser = compile(radixParser);
+	}
+
+	private static ByteBufferParser<SyslogMessage> compile(RadixTreeParser radixParser) {
+		return COMPILE_PARSER ? radixParser.compile() : radixParser;
 	}
 
 	private static final void teachDefaultPatterns() {
@@ -107,6 +122,7 @@ public class RadixTreeSyslogParser extends SyslogParser {
 
 	public static void setRadixParser(RadixTreeParser radixParser) {
 		RadixTreeSyslogParser.radixParser = radixParser;
+		RadixTreeSyslogParser.parser = compile(radixParser);
 	}
 
 	/**
@@ -120,7 +136,7 @@ public class RadixTreeSyslogParser extends SyslogParser {
 
 	@Override
 	public SyslogMessage parse() {
-		SyslogMessage retval = radixParser.parse(getText()).join();
+		SyslogMessage retval = parser.parse(getText()).join();
 
 		if (retval != null) {
 			// Trim off the RFC 5424 structured data to emulate the behavior of the legacy parser (for now)
@@ -0,0 +1,480 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.opennms.core.utils.InetAddressUtils.str;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.config.syslogd.HideMatch;
+import org.opennms.netmgt.config.syslogd.Match;
+import org.opennms.netmgt.config.syslogd.ParameterAssignment;
+import org.opennms.netmgt.config.syslogd.UeiMatch;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code <ueiMatch>} and {@code <hideMatch>} rules of the syslogd configuration,
+ * compiled once so that they can be applied to every message received.
+ *
+ * All of the regular expressions are compiled up front. The rules that can apply to
+ * each facility and severity are looked up in a table instead of being filtered for
+ * every message, and a regular expression is only evaluated when the message contains
+ * the literal text that it requires. The host address of the message is only resolved
+ * when a rule with a {@code <hostaddr-match>} has to be evaluated.
+ *
+ * The rules are applied in the order in which they are configured and give the same
+ * results as evaluating the configuration directly.
+ */
+public class SyslogEventRules {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyslogEventRules.class);
+
+    private static final int SEVERITIES = SyslogSeverity.values().length;
+
+    private static final String[] GROUP_NAMES = new String[16];
+    static {
+        for (int i = 0; i < GROUP_NAMES.length; i++) {
+            GROUP_NAMES[i] = "group" + i;
+        }
+    }
+
+    private static final AtomicReference<SyslogEventRules> LAST_COMPILED = new AtomicReference<>();
+
+    private final List<UeiMatch> m_ueiMatches;
+
+    private final List<HideMatch> m_hideMatches;
+
+    private final String m_discardUei;
+
+    // The UEI rules, in order, that apply to each combination of facility and severity
+    private final UeiRule[][] m_ueiRules;
+
+    private final TextMatch[] m_hideRules;
+
+    /**
+     * Returns the rules of the given configuration.
+     *
+     * The rules are only compiled again when the configuration has been reloaded
+     * since the previous call, that is when it returns different lists of matches.
+     * Changes made to the lists themselves are not detected.
+     *
+     * @param config the Syslogd configuration
+     * @return the compiled rules
+     */
+    public static SyslogEventRules forConfig(final SyslogdConfig config) {
+        final List<UeiMatch> ueiList = config.getUeiList();
+        final List<UeiMatch> ueiMatches = ueiList == null ? Collections.emptyList() : ueiList;
+        final List<HideMatch> hideList = config.getHideMessages();
+        final List<HideMatch> hideMatches = hideList == null ? Collections.emptyList() : hideList;
+        final String discardUei = config.getDiscardUei();
+
+        final SyslogEventRules rules = LAST_COMPILED.get();
+        if (rules != null && rules.m_ueiMatches == ueiMatches && rules.m_hideMatches == hideMatches && Objects.equals(rules.m_discardUei, discardUei)) {
+            return rules;
+        }
+
+        final SyslogEventRules compiled = new SyslogEventRules(ueiMatches, hideMatches, discardUei);
+        LAST_COMPILED.set(compiled);
+        return compiled;
+    }
+
+    public SyslogEventRules(final List<UeiMatch> ueiMatches, final List<HideMatch> hideMatches, final String discardUei) {
+        m_ueiMatches = Objects.requireNonNull(ueiMatches);
+        m_hideMatches = Objects.requireNonNull(hideMatches);
+        m_discardUei = discardUei;
+
+        final List<UeiRule> ueiRules = new ArrayList<>(ueiMatches.size());
+        for (final UeiMatch ueiMatch : ueiMatches) {
+            final UeiRule rule = UeiRule.compile(ueiMatch, discardUei);
+            if (rule != null) {
+                ueiRules.add(rule);
+            }
+        }
+
+        m_ueiRules = new UeiRule[SyslogFacility.values().length * SEVERITIES][];
+        for (final SyslogFacility facility : SyslogFacility.values()) {
+            for (final SyslogSeverity severity : SyslogSeverity.values()) {
+                m_ueiRules[index(facility, severity)] = ueiRules.stream()
+                        .filter(rule -> rule.appliesTo(facility, severity))
+                        .toArray(UeiRule[]::new);
+            }
+        }
+
+        final List<TextMatch> hideRules = new ArrayList<>(hideMatches.size());
+        for (final HideMatch hideMatch : hideMatches) {
+            final Match match = hideMatch.getMatch();
+            final TextMatch rule;
+            if ("substr".equals(match.getType())) {
+                rule = TextMatch.substring(match.getExpression());
+            } else if ("regex".equals(match.getType())) {
+                rule = TextMatch.regex(match.getExpression(), "hide-match");
+            } else {
+                rule = null;
+            }
+            if (rule != null) {
+                hideRules.add(rule);
+            }
+        }
+        m_hideRules = hideRules.toArray(new TextMatch[0]);
+    }
+
+    /**
+     * Sets the UEI and the parameters of the event according to the first
+     * {@code <ueiMatch>} that matches the message, and hides the message
+     * if any of the {@code <hideMatch>} matches it.
+     *
+     * @param message the syslog message
+     * @param bldr the builder of the event created for the message
+     * @return true if the message must be hidden
+     * @throws MessageDiscardedException if the message matches the discard UEI
+     */
+    public boolean apply(final SyslogMessage message, final EventBuilder bldr) throws MessageDiscardedException {
+        final String text = message.getMessage();
+
+        String hostAddress = null;
+        boolean hostAddressResolved = false;
+        for (final UeiRule rule : m_ueiRules[index(message.getFacility(), message.getSeverity())]) {
+            if (rule.m_processMatch != null && !rule.m_processMatch.find(message.getProcessName())) {
+                continue;
+            }
+            if (rule.m_hostnameMatch != null && !rule.m_hostnameMatch.find(message.getHostName())) {
+                continue;
+            }
+            if (rule.m_hostaddrMatch != null) {
+                if (!hostAddressResolved) {
+                    hostAddress = str(message.getHostAddress());
+                    hostAddressResolved = true;
+                }
+                if (!rule.m_hostaddrMatch.find(hostAddress)) {
+                    continue;
+                }
+            }
+            if (rule.apply(text, bldr)) {
+                break;
+            }
+        }
+
+        if (m_hideRules.length > 0) {
+            // Match against the full text of the message
+            final String fullText = message.asRfc3164Message();
+            for (final TextMatch rule : m_hideRules) {
+                if (rule.find(fullText)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int index(final SyslogFacility facility, final SyslogSeverity severity) {
+        return facility.ordinal() * SEVERITIES + severity.ordinal();
+    }
+
+    /**
+     * Escaped letters that stand for a class of characters or a boundary on their own.
+     */
+    private static final String SINGLE_CHARACTER_ESCAPES = "dDsSwWhHvVbBAzZGRX";
+
+    /**
+     * Returns the longest run of literal characters that any match of the given
+     * regular expression must contain, or null if there is no such run or the
+     * expression is too complex to tell.
+     *
+     * Only escaped metacharacters are taken as literals. Expressions holding any
+     * other escape, apart from the predefined character classes and boundaries,
+     * are too complex to tell.
+     */
+    protected static String getRequiredLiteral(final String regex) {
+        if (regex.contains("\\Q")) {
+            return null;
+        }
+
+        String longest = null;
+        final StringBuilder run = new StringBuilder();
+        int depth = 0;
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            char literal = 0;
+            switch (c) {
+                case '\\':
+                    if (i + 1 >= regex.length()) {
+                        return null;
+                    }
+                    final char escaped = regex.charAt(++i);
+                    if (!Character.isLetterOrDigit(escaped)) {
+                        literal = escaped;
+                    } else if (SINGLE_CHARACTER_ESCAPES.indexOf(escaped) < 0) {
+                        // Hexadecimal, octal, control character, back reference and property
+                        // escapes are followed by characters that are not literals
+                        return null;
+                    }
+                    break;
+                case '[':
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    break;
+                case '(':
+                    if (i + 2 < regex.length() && regex.charAt(i + 1) == '?' && ":=!<>".indexOf(regex.charAt(i + 2)) < 0) {
+                        // Inline flags, e.g. (?i), change the meaning of the literals
+                        return null;
+                    }
+                    depth++;
+                    break;
+                case ')':
+                    depth--;
+                    break;
+                case '|':
+                    if (depth == 0) {
+                        return null;
+                    }
+                    break;
+                case '?':
+                case '*':
+                case '{':
+                    // The preceding character is optional
+                    if (run.length() > 0 && isLiteral(regex, i - 1)) {
+                        run.setLength(run.length() - 1);
+                    }
+                    if (c == '{') {
+                        i = regex.indexOf('}', i);
+                        if (i < 0) {
+                            return null;
+                        }
+                    }
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    break;
+                default:
+                    literal = c;
+            }
+
+            if (literal != 0 && depth == 0) {
+                run.append(literal);
+            } else {
+                if (longest == null || run.length() > longest.length()) {
+                    longest = run.toString();
+                }
+                run.setLength(0);
+            }
+        }
+        if (longest == null || run.length() > longest.length()) {
+            longest = run.toString();
+        }
+        return longest.length() < 2 ? null : longest;
+    }
+
+    private static boolean isLiteral(final String regex, final int i) {
+        return ".^$*+?{}[]()|".indexOf(regex.charAt(i)) < 0 || (i > 0 && regex.charAt(i - 1) == '\\');
+    }
+
+    private static int skipCharacterClass(final String regex, final int start) {
+        int nesting = 0;
+        for (int i = start; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                nesting++;
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                    // A leading ']' is part of the class
+                    i++;
+                } else if (i + 2 < regex.length() && regex.charAt(i + 1) == '^' && regex.charAt(i + 2) == ']') {
+                    i += 2;
+                }
+            } else if (c == ']' && --nesting == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A substring or a regular expression, matched anywhere in the text.
+     */
+    private static class TextMatch {
+        private final String m_literal;
+        private final Pattern m_pattern;
+
+        private TextMatch(final String literal, final Pattern pattern) {
+            m_literal = literal;
+            m_pattern = pattern;
+        }
+
+        private static TextMatch substring(final String expression) {
+            return new TextMatch(expression, null);
+        }
+
+        private static TextMatch regex(final String expression, final String context) {
+            try {
+                return new TextMatch(getRequiredLiteral(expression), Pattern.compile(expression, Pattern.MULTILINE));
+            } catch (final PatternSyntaxException e) {
+                LOG.warn("Failed to compile {} regex pattern '{}'", context, expression, e);
+                return null;
+            }
+        }
+
+        private static final Pattern NO_GROUPS = Pattern.compile("");
+
+        private boolean find(final String text) {
+            return text != null && matcher(text) != null;
+        }
+
+        /**
+         * Returns the matcher positioned on the first match, or null if the text does
+         * not match. For substrings, the returned matcher is that of an empty pattern.
+         */
+        private Matcher matcher(final String text) {
+            if (m_literal != null && !text.contains(m_literal)) {
+                return null;
+            }
+            if (m_pattern == null) {
+                return NO_GROUPS.matcher("");
+            }
+            final Matcher matcher = m_pattern.matcher(text);
+            return matcher.find() ? matcher : null;
+        }
+    }
+
+    private static class UeiRule {
+        private final String m_uei;
+        private final boolean m_discard;
+        private final List<String> m_facilities;
+        private final List<String> m_severities;
+        private final TextMatch m_processMatch;
+        private final TextMatch m_hostnameMatch;
+        private final TextMatch m_hostaddrMatch;
+        private final TextMatch m_match;
+        // Parameter assignments are only performed for regular expressions
+        private final boolean m_regex;
+        private final boolean m_defaultParameterMapping;
+        private final String[] m_parameterNames;
+        private final int[] m_matchingGroups;
+
+        private UeiRule(final UeiMatch ueiMatch, final String discardUei, final TextMatch processMatch, final TextMatch hostnameMatch, final TextMatch hostaddrMatch, final TextMatch match, final boolean regex) {
+            m_uei = ueiMatch.getUei();
+            m_discard = Objects.equals(discardUei, ueiMatch.getUei());
+            m_facilities = ueiMatch.getFacilities();
+            m_severities = ueiMatch.getSeverities();
+            m_processMatch = processMatch;
+            m_hostnameMatch = hostnameMatch;
+            m_hostaddrMatch = hostaddrMatch;
+            m_match = match;
+            m_regex = regex;
+            m_defaultParameterMapping = ueiMatch.getMatch().getDefaultParameterMapping();
+
+            final List<ParameterAssignment> assignments = ueiMatch.getParameterAssignments();
+            m_parameterNames = new String[assignments.size()];
+            m_matchingGroups = new int[assignments.size()];
+            for (int i = 0; i < assignments.size(); i++) {
+                m_parameterNames[i] = assignments.get(i).getParameterName();
+                m_matchingGroups[i] = assignments.get(i).getMatchingGroup();
+            }
+        }
+
+        /**
+         * Compiles the given {@code <ueiMatch>}, or returns null if it can never match.
+         */
+        private static UeiRule compile(final UeiMatch ueiMatch, final String discardUei) {
+            final TextMatch processMatch = ueiMatch.getProcessMatch().map(m -> TextMatch.regex(m.getExpression(), "process-match")).orElse(null);
+            final TextMatch hostnameMatch = ueiMatch.getHostnameMatch().map(m -> TextMatch.regex(m.getExpression(), "hostname-match")).orElse(null);
+            final TextMatch hostaddrMatch = ueiMatch.getHostaddrMatch().map(m -> TextMatch.regex(m.getExpression(), "hostaddr-match")).orElse(null);
+            if ((ueiMatch.getProcessMatch().isPresent() && processMatch == null)
+                    || (ueiMatch.getHostnameMatch().isPresent() && hostnameMatch == null)
+                    || (ueiMatch.getHostaddrMatch().isPresent() && hostaddrMatch == null)) {
+                return null;
+            }
+
+            final Match match = ueiMatch.getMatch();
+            if ("substr".equals(match.getType())) {
+                return new UeiRule(ueiMatch, discardUei, processMatch, hostnameMatch, hostaddrMatch, TextMatch.substring(match.getExpression()), false);
+            } else if (match.getType().startsWith("regex")) {
+                final TextMatch regex = TextMatch.regex(match.getExpression(), "uei-match");
+                return regex == null ? null : new UeiRule(ueiMatch, discardUei, processMatch, hostnameMatch, hostaddrMatch, regex, true);
+            }
+            return null;
+        }
+
+        private boolean appliesTo(final SyslogFacility facility, final SyslogSeverity severity) {
+            return containsIgnoreCase(m_facilities, facility.toString()) && containsIgnoreCase(m_severities, severity.toString());
+        }
+
+        private static boolean containsIgnoreCase(final List<String> collection, final String match) {
+            if (collection.isEmpty()) {
+                return true;
+            }
+            for (final String string : collection) {
+                if (string.equalsIgnoreCase(match)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Updates the event if the text matches.
+         *
+         * @return true if the text matches
+         * @throws MessageDiscardedException if the text matches and the UEI is the discard UEI
+         */
+        private boolean apply(final String text, final EventBuilder bldr) throws MessageDiscardedException {
+            final Matcher matcher = m_match.matcher(text);
+            if (matcher == null) {
+                return false;
+            }
+
+            if (m_discard) {
+                LOG.trace("Specified UEI '{}' is same as discard-uei, discarding this message.", m_uei);
+                throw new MessageDiscardedException();
+            }
+            LOG.trace("Changed the UEI of a Syslogd event to: {}", m_uei);
+            bldr.setUei(m_uei);
+
+            if (m_regex && matcher.groupCount() > 0) {
+                if (m_defaultParameterMapping) {
+                    for (int groupNum = 1; groupNum <= matcher.groupCount(); groupNum++) {
+                        bldr.addParam(groupNum < GROUP_NAMES.length ? GROUP_NAMES[groupNum] : "group" + groupNum, matcher.group(groupNum));
+                    }
+                }
+                for (int i = 0; i < m_parameterNames.length; i++) {
+                    final String value = matcher.group(m_matchingGroups[i]);
+                    bldr.addParam(m_parameterNames[i], value == null ? "" : value);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+
+/**
+ * Splits a stream of syslog messages received over TCP into frames, as described
+ * in RFC 6587.
+ *
+ * Each frame may either use octet-counting, where the message is preceded by its
+ * length in bytes and a space, or non-transparent framing, where the message is
+ * terminated by a LF (optionally preceded by a CR) or a NUL character. The framing
+ * is detected for every message, since some senders mix both. Frames are passed on
+ * as retained slices of the received buffer, without the length or the trailer.
+ */
+public class SyslogFrameDecoder extends ByteToMessageDecoder {
+
+    private final int maxFrameLength;
+
+    // Number of bytes, past the reader index, already searched for a trailer
+    private int scanned;
+
+    public SyslogFrameDecoder(int maxFrameLength) {
+        if (maxFrameLength <= 0) {
+            throw new IllegalArgumentException("maxFrameLength must be a positive integer: " + maxFrameLength);
+        }
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        while (in.isReadable()) {
+            final ByteBuf frame = isDigit(in.getByte(in.readerIndex())) ? decodeOctetCounted(in) : decodeNonTransparent(in);
+            if (frame == null) {
+                return;
+            }
+            if (frame.isReadable()) {
+                out.add(frame);
+            } else {
+                // Empty lines between messages
+                frame.release();
+            }
+        }
+    }
+
+    private ByteBuf decodeOctetCounted(ByteBuf in) {
+        final int start = in.readerIndex();
+        final int limit = in.writerIndex();
+        long length = 0;
+        int i = start;
+        for (; i < limit; i++) {
+            final byte b = in.getByte(i);
+            if (b == ' ') {
+                break;
+            }
+            if (!isDigit(b)) {
+                in.skipBytes(in.readableBytes());
+                throw new CorruptedFrameException("Invalid octet count in syslog frame");
+            }
+            length = length * 10 + (b - '0');
+            if (length > maxFrameLength) {
+                in.skipBytes(in.readableBytes());
+                throw new TooLongFrameException("Syslog frame exceeds " + maxFrameLength + " bytes.");
+            }
+        }
+        if (i >= limit || i + 1 + length > limit) {
+            // Wait for the rest of the frame
+            return null;
+        }
+        in.readerIndex(i + 1);
+        return in.readRetainedSlice((int) length);
+    }
+
+    private ByteBuf decodeNonTransparent(ByteBuf in) {
+        final int start = in.readerIndex();
+        int end = -1;
+        for (int i = start + scanned; i < in.writerIndex(); i++) {
+            final byte b = in.getByte(i);
+            if (b == '\n' || b == 0) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            scanned = in.readableBytes();
+            if (scanned > maxFrameLength) {
+                scanned = 0;
+                in.skipBytes(in.readableBytes());
+                throw new TooLongFrameException("Syslog frame exceeds " + maxFrameLength + " bytes.");
+            }
+            return null;
+        }
+        scanned = 0;
+
+        int length = end - start;
+        if (length > 0 && in.getByte(end - 1) == '\r') {
+            length--;
+        }
+        if (length > maxFrameLength) {
+            in.readerIndex(end + 1);
+            throw new TooLongFrameException("Syslog frame exceeds " + maxFrameLength + " bytes.");
+        }
+        final ByteBuf frame = in.retainedSlice(start, length);
+        in.readerIndex(end + 1);
+        return frame;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
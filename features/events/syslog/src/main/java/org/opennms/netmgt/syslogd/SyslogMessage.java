@@ -390,6 +390,37 @@ public class SyslogMessage implements Cloneable {
         throw new UnsupportedOperationException(String.format("Cannot process param %s -> %d, setting arbitrary params is not supported yet", key, value));
     }
 
+    /**
+     * Overwrites all of the fields of this message with the ones of the given
+     * message, so that a message can be reused instead of being cloned.
+     */
+    void copyFrom(final SyslogMessage other) {
+        m_parserClass = other.m_parserClass;
+        m_facility = other.m_facility;
+        m_severity = other.m_severity;
+        m_version = other.m_version;
+        m_date = other.m_date;
+        m_year = other.m_year;
+        m_month = other.m_month;
+        m_dayOfMonth = other.m_dayOfMonth;
+        m_hourOfDay = other.m_hourOfDay;
+        m_minute = other.m_minute;
+        m_second = other.m_second;
+        m_millisecond = other.m_millisecond;
+        m_zoneId = other.m_zoneId;
+        m_hostname = other.m_hostname;
+        m_processName = other.m_processName;
+        m_processId = other.m_processId;
+        m_messageId = other.m_messageId;
+        m_message = other.m_message;
+        if (!m_parameters.isEmpty()) {
+            m_parameters.clear();
+        }
+        if (!other.m_parameters.isEmpty()) {
+            m_parameters.putAll(other.m_parameters);
+        }
+    }
+
     @Override
     public SyslogMessage clone() {
         return new SyslogMessage(
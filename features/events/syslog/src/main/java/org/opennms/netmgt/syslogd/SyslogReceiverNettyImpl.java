@@ -0,0 +1,240 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.opennms.core.utils.InetAddressUtils.addr;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+
+/**
+ * Receives syslog messages over UDP with Netty and dispatches them to the Sink API.
+ *
+ * When the native epoll transport is available, i.e. on Linux, several sockets are
+ * bound to the same address and port with {@code SO_REUSEPORT}, each of them served
+ * by its own event loop, so that the kernel spreads the datagrams over all of them.
+ * Otherwise a single socket is bound with the NIO transport.
+ *
+ * Datagrams are read into pooled direct buffers, which are copied once into a buffer
+ * of the exact size of the message before being dispatched: the Sink API may hold on
+ * to the messages until long after they were sent, so the pooled buffers are released
+ * right away.
+ */
+public class SyslogReceiverNettyImpl extends SinkDispatchingSyslogReceiver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyslogReceiverNettyImpl.class);
+
+    /**
+     * The largest payload of a UDP datagram.
+     */
+    private static final int MAX_DATAGRAM_SIZE = 65535;
+
+    private final SyslogdConfig m_config;
+
+    private final MetricRegistry m_metrics;
+
+    private InetAddress m_host;
+
+    private int m_port;
+
+    private int m_numSockets = 0;
+
+    private EventLoopGroup m_group;
+
+    private final List<Channel> m_channels = new ArrayList<>();
+
+    public SyslogReceiverNettyImpl(final SyslogdConfig config) {
+        this(config, new MetricRegistry());
+    }
+
+    public SyslogReceiverNettyImpl(final SyslogdConfig config, final MetricRegistry metrics) {
+        super(config);
+        m_config = config;
+        m_metrics = Objects.requireNonNull(metrics);
+        setHostAndPort();
+    }
+
+    @Override
+    public String getName() {
+        String listenAddress = m_config.getListenAddress() == null? "0.0.0.0" : m_config.getListenAddress();
+        return getClass().getSimpleName() + " [" + listenAddress + ":" + m_config.getSyslogPort() + "]";
+    }
+
+    /**
+     * Sets the number of sockets bound when {@code SO_REUSEPORT} is available.
+     *
+     * @param numSockets the number of sockets, or 0 to use one socket per available processor
+     */
+    public void setNumSockets(final int numSockets) {
+        m_numSockets = numSockets;
+    }
+
+    public int getNumSockets() {
+        return m_numSockets > 0 ? m_numSockets : Runtime.getRuntime().availableProcessors();
+    }
+
+    public MetricRegistry getMetrics() {
+        return m_metrics;
+    }
+
+    public synchronized boolean isStarted() {
+        return !m_channels.isEmpty();
+    }
+
+    /**
+     * The execution context.
+     */
+    @Override
+    public void run() {
+        // Setup logging and create the dispatcher
+        super.run();
+
+        final boolean reusePort = Epoll.isAvailable();
+        final int numSockets = reusePort ? getNumSockets() : 1;
+        if (!reusePort) {
+            LOG.info("The native epoll transport is not available, binding a single socket: {}", Epoll.unavailabilityCause().getMessage());
+        }
+
+        synchronized (this) {
+            m_group = reusePort ? new EpollEventLoopGroup(numSockets) : new NioEventLoopGroup(1);
+            try {
+                for (int i = 0; i < numSockets; i++) {
+                    final Bootstrap bootstrap = new Bootstrap()
+                            .group(m_group)
+                            .channel(reusePort ? EpollDatagramChannel.class : NioDatagramChannel.class)
+                            .option(ChannelOption.SO_REUSEADDR, true)
+                            .option(ChannelOption.SO_RCVBUF, Integer.MAX_VALUE)
+                            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                            .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(MAX_DATAGRAM_SIZE))
+                            .handler(new SyslogDatagramHandler(i));
+                    if (reusePort) {
+                        bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+                    }
+                    m_channels.add(bootstrap.bind(m_host, m_port).sync().channel());
+                }
+                LOG.info("Listening for syslog messages on {}:{} with {} socket(s)", m_host, m_port, numSockets);
+            } catch (Throwable e) {
+                LOG.error("Could not bind the syslog receiver to {}:{}", m_host, m_port, e);
+                closeChannels();
+            }
+        }
+    }
+
+    /**
+     * stop the current receiver
+     * @throws InterruptedException
+     */
+    @Override
+    public void stop() throws InterruptedException {
+        closeChannels();
+        super.stop();
+    }
+
+    private synchronized void closeChannels() {
+        for (final Channel channel : m_channels) {
+            channel.close().awaitUninterruptibly();
+        }
+        m_channels.clear();
+        if (m_group != null) {
+            m_group.shutdownGracefully().awaitUninterruptibly();
+            m_group = null;
+        }
+    }
+
+    private void setHostAndPort() {
+        m_host = addr(m_config.getListenAddress() == null? "0.0.0.0" : m_config.getListenAddress());
+        m_port = m_config.getSyslogPort();
+    }
+
+    @Override
+    public void reload() throws IOException {
+        m_config.reload();
+        setHostAndPort();
+    }
+
+    /**
+     * Dispatches the datagrams received on one of the sockets.
+     */
+    private class SyslogDatagramHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+
+        private final Meter m_received;
+
+        private final Counter m_dropped;
+
+        private SyslogDatagramHandler(final int socket) {
+            m_received = m_metrics.meter(MetricRegistry.name("socket" + socket, "received"));
+            m_dropped = m_metrics.counter(MetricRegistry.name("socket" + socket, "dropped"));
+        }
+
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final DatagramPacket packet) {
+            m_received.mark();
+
+            final ByteBuf content = packet.content();
+            final ByteBuffer buffer = ByteBuffer.allocate(content.readableBytes());
+            content.getBytes(content.readerIndex(), buffer);
+            buffer.flip();
+
+            m_dispatcher.send(new SyslogConnection(packet.sender(), buffer)).whenComplete((r, e) -> {
+                if (e != null) {
+                    m_dropped.inc();
+                    LOG.debug("Dropped syslog message from {}", packet.sender(), e);
+                }
+            });
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            LOG.warn("Error while receiving syslog messages", cause);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.opennms.core.utils.InetAddressUtils.addr;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.security.KeyStore;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.KeyManagerFactory;
+
+import org.opennms.core.ipc.sink.api.AsyncDispatcher;
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.util.concurrent.GlobalEventExecutor;
+
+/**
+ * Receives syslog messages over TCP, optionally secured with TLS, and dispatches
+ * them to the Sink API.
+ *
+ * Messages are framed as described in RFC 6587 by the {@link SyslogFrameDecoder}.
+ * The connections are served by a small number of event loops. When the dispatch
+ * queue becomes full, the receiver stops reading from the connections, so that the
+ * senders buffer the messages instead of them being dropped, and resumes once the
+ * dispatcher reports that the queue has room again.
+ */
+public class SyslogReceiverTcpImpl extends SinkDispatchingSyslogReceiver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyslogReceiverTcpImpl.class);
+
+    /**
+     * Fired on the pipeline of every connection when the dispatch queue becomes full or has room again.
+     */
+    private static final Object QUEUE_STATE_CHANGED = new Object();
+
+    private final SyslogdConfig m_config;
+
+    private final MetricRegistry m_metrics;
+
+    private final Meter m_received;
+
+    private final Counter m_paused;
+
+    private final AtomicInteger m_connections = new AtomicInteger();
+
+    private final ChannelGroup m_channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+
+    private final AsyncDispatcher.QueueStateListener m_queueStateListener =
+            () -> m_channels.forEach(channel -> channel.pipeline().fireUserEventTriggered(QUEUE_STATE_CHANGED));
+
+    private InetAddress m_host;
+
+    private int m_port;
+
+    private int m_numEventLoops = 0;
+
+    private int m_maxMessageSize = 65536;
+
+    private String m_keyStore;
+
+    private String m_keyStorePassword;
+
+    private String m_keyStoreType = KeyStore.getDefaultType();
+
+    private EventLoopGroup m_bossGroup;
+
+    private EventLoopGroup m_workerGroup;
+
+    private Channel m_channel;
+
+    public SyslogReceiverTcpImpl(final SyslogdConfig config) {
+        this(config, new MetricRegistry());
+    }
+
+    public SyslogReceiverTcpImpl(final SyslogdConfig config, final MetricRegistry metrics) {
+        super(config);
+        m_config = config;
+        m_metrics = Objects.requireNonNull(metrics);
+        m_received = m_metrics.meter("received");
+        m_paused = m_metrics.counter("paused");
+        m_metrics.register("connections", (Gauge<Integer>) m_connections::get);
+        setHostAndPort();
+    }
+
+    @Override
+    public String getName() {
+        String listenAddress = m_config.getListenAddress() == null? "0.0.0.0" : m_config.getListenAddress();
+        return getClass().getSimpleName() + " [" + listenAddress + ":" + m_config.getSyslogPort() + "]";
+    }
+
+    /**
+     * @param numEventLoops the number of event loops serving the connections, or 0 to use one per available processor
+     */
+    public void setNumEventLoops(final int numEventLoops) {
+        m_numEventLoops = numEventLoops;
+    }
+
+    public void setMaxMessageSize(final int maxMessageSize) {
+        m_maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * Enables TLS with the key and certificate of the given key store.
+     *
+     * @param keyStore the path of the key store, or null or empty to accept plain text connections
+     */
+    public void setKeyStore(final String keyStore) {
+        m_keyStore = keyStore;
+    }
+
+    public void setKeyStorePassword(final String keyStorePassword) {
+        m_keyStorePassword = keyStorePassword;
+    }
+
+    public void setKeyStoreType(final String keyStoreType) {
+        m_keyStoreType = keyStoreType;
+    }
+
+    public MetricRegistry getMetrics() {
+        return m_metrics;
+    }
+
+    public synchronized boolean isStarted() {
+        return m_channel != null;
+    }
+
+    /**
+     * The execution context.
+     */
+    @Override
+    public void run() {
+        // Setup logging and create the dispatcher
+        super.run();
+
+        synchronized (this) {
+            try {
+                m_dispatcher.addQueueStateListener(m_queueStateListener);
+                final SslContext sslContext = createSslContext();
+                m_bossGroup = new NioEventLoopGroup(1);
+                // Netty would default to twice the number of processors
+                m_workerGroup = new NioEventLoopGroup(m_numEventLoops > 0 ? m_numEventLoops : Runtime.getRuntime().availableProcessors());
+                final ServerBootstrap bootstrap = new ServerBootstrap()
+                        .group(m_bossGroup, m_workerGroup)
+                        .channel(NioServerSocketChannel.class)
+                        .option(ChannelOption.SO_REUSEADDR, true)
+                        .option(ChannelOption.SO_BACKLOG, 1024)
+                        .childHandler(new ChannelInitializer<SocketChannel>() {
+                            @Override
+                            protected void initChannel(final SocketChannel ch) {
+                                if (sslContext != null) {
+                                    ch.pipeline().addLast(sslContext.newHandler(ch.alloc()));
+                                }
+                                ch.pipeline().addLast(new SyslogFrameDecoder(m_maxMessageSize));
+                                ch.pipeline().addLast(new SyslogConnectionHandler());
+                            }
+                        });
+                m_channel = bootstrap.bind(m_host, m_port).sync().channel();
+                LOG.info("Listening for syslog messages on {}:{} over {}", m_host, m_port, sslContext != null ? "TLS" : "TCP");
+            } catch (Throwable e) {
+                LOG.error("Could not bind the syslog receiver to {}:{}", m_host, m_port, e);
+                close();
+            }
+        }
+    }
+
+    private SslContext createSslContext() throws Exception {
+        if (m_keyStore == null || m_keyStore.isEmpty()) {
+            return null;
+        }
+        final char[] password = m_keyStorePassword == null ? null : m_keyStorePassword.toCharArray();
+        final KeyStore keyStore = KeyStore.getInstance(m_keyStoreType);
+        try (InputStream is = new FileInputStream(m_keyStore)) {
+            keyStore.load(is, password);
+        }
+        final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, password);
+        return SslContextBuilder.forServer(keyManagerFactory).build();
+    }
+
+    /**
+     * stop the current receiver
+     * @throws InterruptedException
+     */
+    @Override
+    public void stop() throws InterruptedException {
+        close();
+        super.stop();
+    }
+
+    private synchronized void close() {
+        if (m_dispatcher != null) {
+            m_dispatcher.removeQueueStateListener(m_queueStateListener);
+        }
+        if (m_channel != null) {
+            m_channel.close().awaitUninterruptibly();
+            m_channel = null;
+        }
+        if (m_bossGroup != null) {
+            m_bossGroup.shutdownGracefully().awaitUninterruptibly();
+            m_bossGroup = null;
+        }
+        if (m_workerGroup != null) {
+            m_workerGroup.shutdownGracefully().awaitUninterruptibly();
+            m_workerGroup = null;
+        }
+    }
+
+    private void setHostAndPort() {
+        m_host = addr(m_config.getListenAddress() == null? "0.0.0.0" : m_config.getListenAddress());
+        m_port = m_config.getSyslogPort();
+    }
+
+    @Override
+    public void reload() throws IOException {
+        m_config.reload();
+        setHostAndPort();
+    }
+
+    /**
+     * Dispatches the messages received on a connection.
+     *
+     * All of the methods are invoked on the event loop of the connection.
+     */
+    private class SyslogConnectionHandler extends ChannelInboundHandlerAdapter {
+
+        // Messages received while the dispatch queue was full
+        private final Deque<SyslogConnection> m_backlog = new ArrayDeque<>();
+
+        @Override
+        public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+            m_connections.incrementAndGet();
+            m_channels.add(ctx.channel());
+            drain(ctx);
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            m_connections.decrementAndGet();
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            final ByteBuf frame = (ByteBuf) msg;
+            final ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.allocate(frame.readableBytes());
+                frame.getBytes(frame.readerIndex(), buffer);
+                buffer.flip();
+            } finally {
+                frame.release();
+            }
+            m_received.mark();
+            m_backlog.add(new SyslogConnection((InetSocketAddress) ctx.channel().remoteAddress(), buffer));
+            drain(ctx);
+        }
+
+        @Override
+        public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) throws Exception {
+            if (evt == QUEUE_STATE_CHANGED) {
+                if (ctx.channel().isActive()) {
+                    drain(ctx);
+                }
+            } else {
+                super.userEventTriggered(ctx, evt);
+            }
+        }
+
+        /**
+         * Dispatches the pending messages while the dispatch queue has room, and reads from
+         * the connection only when it does. The dispatcher fires {@link #QUEUE_STATE_CHANGED}
+         * once the queue has room again, which is handled after this on the same event loop.
+         */
+        private void drain(final ChannelHandlerContext ctx) {
+            final AsyncDispatcher<SyslogConnection> dispatcher = m_dispatcher;
+            if (dispatcher == null) {
+                // Stopped
+                m_backlog.clear();
+                return;
+            }
+            boolean full = dispatcher.isQueueFull();
+            while (!full && !m_backlog.isEmpty()) {
+                // The queue has room, so this only blocks the event loop if other connections
+                // filled the remaining room in the meantime, until a message is dispatched
+                dispatcher.send(m_backlog.poll());
+                full = dispatcher.isQueueFull();
+            }
+            if (full) {
+                if (ctx.channel().config().isAutoRead()) {
+                    LOG.debug("The dispatch queue is full, pausing reading from {}", ctx.channel().remoteAddress());
+                    ctx.channel().config().setAutoRead(false);
+                    m_paused.inc();
+                }
+            } else if (!ctx.channel().config().isAutoRead()) {
+                LOG.debug("Resuming reading from {}", ctx.channel().remoteAddress());
+                ctx.channel().config().setAutoRead(true);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            if (cause instanceof DecoderException) {
+                LOG.warn("Invalid syslog frame received from {}, closing the connection", ctx.channel().remoteAddress(), cause);
+            } else {
+                LOG.warn("Error while receiving syslog messages from {}, closing the connection", ctx.channel().remoteAddress(), cause);
+            }
+            ctx.close();
+        }
+    }
+}
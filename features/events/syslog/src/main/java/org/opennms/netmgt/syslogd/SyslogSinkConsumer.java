@@ -23,8 +23,13 @@ package org.opennms.netmgt.syslogd;
 
 import static org.opennms.core.utils.InetAddressUtils.addr;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.codahale.metrics.Gauge;
 import com.google.common.cache.Cache;
@@ -40,6 +45,7 @@ import org.opennms.netmgt.dao.api.DistPollerDao;
 import org.opennms.netmgt.events.api.EventConstants;
 import org.opennms.netmgt.events.api.EventForwarder;
 import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.provision.LocationAwareDnsLookupCache;
 import org.opennms.netmgt.provision.LocationAwareDnsLookupClient;
 import org.opennms.netmgt.syslogd.api.SyslogConnection;
 import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
@@ -64,6 +70,13 @@ public class SyslogSinkConsumer implements MessageConsumer<SyslogConnection, Sys
 
     private static final String defaultCacheConfig = "maximumSize=1000,expireAfterWrite=8h";
     private static final String dnsCacheConfigProperty = "org.opennms.netmgt.syslogd.dnscache.config";
+    /**
+     * When set, the events of messages whose host name is not cached are forwarded once
+     * the host name has been resolved, instead of waiting for the lookup.
+     */
+    private static final String dnsLookupNonBlockingProperty = "org.opennms.netmgt.syslogd.dnscache.nonBlocking";
+    private static final String dnsLookupTimeoutProperty = "org.opennms.netmgt.syslogd.dnscache.timeoutMs";
+    private static final long defaultDnsLookupTimeoutMs = 30000;
     @Autowired
     private MessageConsumerManager messageConsumerManager;
 
@@ -79,8 +92,14 @@ public class SyslogSinkConsumer implements MessageConsumer<SyslogConnection, Sys
     @Autowired
     private LocationAwareDnsLookupClient m_locationAwareDnsLookupClient;
 
+    @Autowired(required = false)
+    private LocationAwareDnsLookupCache m_dnsLookupCache;
+
     private Cache<HostNameWithLocationKey, String> dnsCache;
 
+    private final boolean dnsLookupNonBlocking;
+    private final long dnsLookupTimeoutMs;
+
     private final String localAddr;
     private final Timer consumerTimer;
     private final Timer toEventTimer;
@@ -94,6 +113,8 @@ public class SyslogSinkConsumer implements MessageConsumer<SyslogConnection, Sys
         dnsCache = CacheBuilder.from(cacheConfig).recordStats().build();
         registry.register("dnsCacheSize", (Gauge<Long>) () -> dnsCache.size());
         registry.register("dnsCacheHitRate", (Gauge<Double>) () -> dnsCache.stats().hitRate());
+        dnsLookupNonBlocking = Boolean.getBoolean(dnsLookupNonBlockingProperty);
+        dnsLookupTimeoutMs = SystemProperties.getLong(dnsLookupTimeoutProperty, defaultDnsLookupTimeoutMs);
         localAddr = InetAddressUtils.getLocalHostName();
     }
 
@@ -108,35 +129,67 @@ public class SyslogSinkConsumer implements MessageConsumer<SyslogConnection, Sys
             try (MDCCloseable mdc = Logging.withPrefixCloseable(Syslogd.LOG4J_CATEGORY)) {
                 // Convert the Syslog UDP messages to Events
                 final Log eventLog;
+                final List<ConvertToEvent> deferred = dnsLookupNonBlocking ? new ArrayList<>() : null;
                 try (Context toEventCtx = toEventTimer.time()) {
-                    eventLog = toEventLog(syslogDTO);
+                    eventLog = toEventLog(syslogDTO, deferred);
                 }
                 // Broadcast the Events to the event bus
                 try (Context broadCastCtx = broadcastTimer.time()) {
                     broadcast(eventLog);
                 }
+                if (deferred != null) {
+                    deferred.forEach(re -> broadcastWhenResolved(syslogDTO.getLocation(), re));
+                }
             }
         }
     }
 
     public Log toEventLog(SyslogMessageLogDTO messageLog) {
+        return toEventLog(messageLog, null);
+    }
+
+    /**
+     * @param deferred collects the events whose host name is still being resolved,
+     *                 or null to wait for the lookups
+     */
+    private Log toEventLog(SyslogMessageLogDTO messageLog, List<ConvertToEvent> deferred) {
         final Log elog = new Log();
         final Events events = new Events();
         elog.setEvents(events);
         for (SyslogMessageDTO message : messageLog.getMessages()) {
             try {
                 LOG.debug("Converting syslog message into event.");
-                ConvertToEvent re = new ConvertToEvent(
-                        messageLog.getSystemId(),
-                        messageLog.getLocation(),
-                        messageLog.getSourceAddress(),
-                        messageLog.getSourcePort(),
-                        message.getBytes(),
-                        message.getTimestamp(),
-                        syslogdConfig,
-                        m_locationAwareDnsLookupClient,
-                        dnsCache);
-                events.addEvent(re.getEvent());
+                final ConvertToEvent re;
+                if (m_dnsLookupCache != null) {
+                    re = new ConvertToEvent(
+                            messageLog.getSystemId(),
+                            messageLog.getLocation(),
+                            messageLog.getSourceAddress(),
+                            messageLog.getSourcePort(),
+                            message.getBytes(),
+                            message.getTimestamp(),
+                            syslogdConfig,
+                            m_dnsLookupCache);
+                } else {
+                    re = new ConvertToEvent(
+                            messageLog.getSystemId(),
+                            messageLog.getLocation(),
+                            messageLog.getSourceAddress(),
+                            messageLog.getSourcePort(),
+                            message.getBytes(),
+                            message.getTimestamp(),
+                            syslogdConfig,
+                            m_locationAwareDnsLookupClient,
+                            dnsCache);
+                }
+                if (re.getPendingHostAddress() == null) {
+                    events.addEvent(re.getEvent());
+                } else if (deferred != null) {
+                    deferred.add(re);
+                } else {
+                    ConvertToEvent.setHostAddress(re.getEvent(), messageLog.getLocation(), awaitHostAddress(re.getPendingHostAddress()));
+                    events.addEvent(re.getEvent());
+                }
             } catch (final MessageDiscardedException e) {
                 LOG.info("Message discarded, returning without enqueueing event.", e);
             } catch (final Throwable e) {
@@ -146,6 +199,37 @@ public class SyslogSinkConsumer implements MessageConsumer<SyslogConnection, Sys
         return elog;
     }
 
+    private String awaitHostAddress(CompletableFuture<String> hostAddress) {
+        try {
+            return hostAddress.get(dnsLookupTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.warn("Failed to resolve the host name of the syslog message: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void broadcastWhenResolved(String location, ConvertToEvent re) {
+        re.getPendingHostAddress()
+                .completeOnTimeout(null, dnsLookupTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenCompleteAsync((hostAddress, ex) -> {
+                    try (MDCCloseable mdc = Logging.withPrefixCloseable(Syslogd.LOG4J_CATEGORY)) {
+                        if (ex != null) {
+                            LOG.warn("Failed to resolve the host name of the syslog message: {}", ex.getMessage());
+                        }
+                        ConvertToEvent.setHostAddress(re.getEvent(), location, ex == null ? hostAddress : null);
+                        final Log eventLog = new Log();
+                        final Events events = new Events();
+                        events.addEvent(re.getEvent());
+                        eventLog.setEvents(events);
+                        broadcast(eventLog);
+                    } catch (final Throwable e) {
+                        LOG.error("Unexpected exception while forwarding syslog event", e);
+                    }
+                });
+    }
+
     private void broadcast(Log eventLog)  {
         if (LOG.isTraceEnabled())  {
             for (Event event : eventLog.getEvents().getEventCollection()) {
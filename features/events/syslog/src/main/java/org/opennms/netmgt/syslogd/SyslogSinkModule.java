@@ -21,27 +21,43 @@
  */
 package org.opennms.netmgt.syslogd;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.Date;
 import java.util.Objects;
 
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
 import org.opennms.core.ipc.sink.api.AggregationPolicy;
 import org.opennms.core.ipc.sink.api.AsyncPolicy;
-import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.core.ipc.sink.xml.XmlSinkMarshaller;
 import org.opennms.netmgt.config.SyslogdConfig;
 import org.opennms.netmgt.dao.api.DistPollerDao;
 import org.opennms.netmgt.syslogd.api.SyslogConnection;
 import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
 import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
 
-public class SyslogSinkModule extends AbstractXmlSinkModule<SyslogConnection, SyslogMessageLogDTO> {
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Parser;
+
+/**
+ * Sends the syslog messages received by Minions as protocol buffers, see syslog-sink.proto,
+ * or as XML.
+ */
+public class SyslogSinkModule extends AbstractProtobufSinkModule<SyslogConnection, SyslogMessageLogDTO, SyslogSinkProto.SyslogMessageLog> {
 
     public static final String MODULE_ID = "Syslog";
 
+    private static final int SCHEMA_VERSION = 1;
+
+    private static final XmlSinkMarshaller<SyslogMessageLogDTO> XML_MARSHALLER = new XmlSinkMarshaller<>(SyslogMessageLogDTO.class);
+
     private final SyslogdConfig config;
     private final DistPollerDao distPollerDao;
 
     public SyslogSinkModule(SyslogdConfig config, DistPollerDao distPollerDao) {
-        super(SyslogMessageLogDTO.class);
+        super(XML_MARSHALLER::marshal, XML_MARSHALLER::unmarshal);
         this.config = Objects.requireNonNull(config);
         this.distPollerDao = Objects.requireNonNull(distPollerDao);
     }
@@ -121,6 +137,71 @@ public class SyslogSinkModule extends AbstractXmlSinkModule<SyslogConnection, Sy
         return new SyslogConnection(inetSocketAddress, syslogMessageDTO.getBytes());
     }
 
+    @Override
+    protected int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    protected Parser<SyslogSinkProto.SyslogMessageLog> getParser() {
+        return SyslogSinkProto.SyslogMessageLog.parser();
+    }
+
+    @Override
+    protected SyslogSinkProto.SyslogMessageLog toProto(SyslogMessageLogDTO messageLog) {
+        final SyslogSinkProto.SyslogMessageLog.Builder builder = SyslogSinkProto.SyslogMessageLog.newBuilder()
+                .setSourcePort(messageLog.getSourcePort());
+        if (messageLog.getSourceAddress() != null) {
+            builder.setSourceAddress(ByteString.copyFrom(messageLog.getSourceAddress().getAddress()));
+        }
+        if (messageLog.getSystemId() != null) {
+            builder.setSystemId(messageLog.getSystemId());
+        }
+        if (messageLog.getLocation() != null) {
+            builder.setLocation(messageLog.getLocation());
+        }
+        for (SyslogMessageDTO message : messageLog.getMessages()) {
+            final SyslogSinkProto.SyslogMessage.Builder messageBuilder = builder.addMessagesBuilder();
+            if (message.getTimestamp() != null) {
+                messageBuilder.setTimestamp(message.getTimestamp().getTime());
+            }
+            if (message.getBytes() != null) {
+                messageBuilder.setContent(ByteString.copyFrom(message.getBytes().duplicate()));
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected SyslogMessageLogDTO fromProto(int schemaVersion, SyslogSinkProto.SyslogMessageLog proto) {
+        final SyslogMessageLogDTO messageLog = new SyslogMessageLogDTO();
+        if (proto.hasSourceAddress()) {
+            try {
+                messageLog.setSourceAddress(InetAddress.getByAddress(proto.getSourceAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Invalid source address in message for module " + getId(), e);
+            }
+        }
+        messageLog.setSourcePort(proto.getSourcePort());
+        if (proto.hasSystemId()) {
+            messageLog.setSystemId(proto.getSystemId());
+        }
+        if (proto.hasLocation()) {
+            messageLog.setLocation(proto.getLocation());
+        }
+        for (SyslogSinkProto.SyslogMessage protoMessage : proto.getMessagesList()) {
+            final SyslogMessageDTO message = new SyslogMessageDTO();
+            if (protoMessage.hasTimestamp()) {
+                message.setTimestamp(new Date(protoMessage.getTimestamp()));
+            }
+            if (protoMessage.hasContent()) {
+                message.setBytes(ByteBuffer.wrap(protoMessage.getContent().toByteArray()));
+            }
+            messageLog.getMessages().add(message);
+        }
+        return messageLog;
+    }
+
     /**
      * Used for testing.
      */
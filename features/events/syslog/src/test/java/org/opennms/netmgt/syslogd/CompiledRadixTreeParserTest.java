@@ -0,0 +1,144 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.opennms.netmgt.syslogd.ParserStageSequenceBuilder.MatchChar;
+
+public class CompiledRadixTreeParserTest {
+
+    @Test
+    public void canParseLikeTheRadixTreeParser() throws Exception {
+        final RadixTreeParser radixParser = new RadixTreeParser();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/org/opennms/netmgt/syslogd/grok-patterns.txt"), StandardCharsets.UTF_8))) {
+            for (final String pattern : reader.lines().collect(Collectors.toList())) {
+                if (pattern.trim().length() == 0 || pattern.trim().startsWith("#")) {
+                    continue;
+                }
+                radixParser.teach(GrokParserStageSequenceBuilder.parseGrok(pattern).toArray(new ParserStage[0]));
+            }
+        }
+        radixParser.performEdgeCompression();
+        final CompiledRadixTreeParser compiledParser = radixParser.compile();
+
+        final List<String> messages = Files.readAllLines(Paths.get("src/test/resources/syslogMessages.txt"), StandardCharsets.UTF_8);
+        int parsed = 0;
+        for (String message : messages) {
+            if (message.trim().length() == 0 || message.trim().startsWith("#")) {
+                continue;
+            }
+            message = message.replaceAll("\\\\u0000", "\u0000").replaceAll("\\\\uFEFF", "\uFEFF");
+
+            final SyslogMessage expected = radixParser.parse(toByteBuffer(message)).join();
+            final SyslogMessage actual = compiledParser.parse(toByteBuffer(message)).join();
+            assertEquals(message, fieldsOf(expected), fieldsOf(actual));
+            if (actual != null) {
+                parsed++;
+            }
+        }
+        assertTrue("No message was parsed", parsed > 0);
+    }
+
+    @Test
+    public void canRestoreTheMessageWhenBranchFails() {
+        final RadixTreeParser radixParser = new RadixTreeParser();
+        radixParser.teach(GrokParserStageSequenceBuilder.parseGrok("%{INT:year}-%{INT:month} %{STRING:message}").toArray(new ParserStage[0]));
+        radixParser.teach(GrokParserStageSequenceBuilder.parseGrok("%{INT:day} %{STRING:message}").toArray(new ParserStage[0]));
+        radixParser.teach(GrokParserStageSequenceBuilder.parseGrok("%{STRING:hostname}").toArray(new ParserStage[0]));
+        final CompiledRadixTreeParser compiledParser = radixParser.compile();
+
+        final ByteBuffer buffer = toByteBuffer("2018 hello world");
+        final SyslogMessage message = compiledParser.parse(buffer).join();
+        assertNotNull(message);
+        assertNull(message.getYear());
+        assertEquals(Integer.valueOf(2018), message.getDayOfMonth());
+        assertEquals("hello world", message.getMessage());
+        // The incoming buffer is left untouched
+        assertEquals(0, buffer.position());
+
+        final SyslogMessage other = compiledParser.parse(toByteBuffer("2018-10 hello")).join();
+        assertEquals(Integer.valueOf(2018), other.getYear());
+        assertEquals(Integer.valueOf(10), other.getMonth());
+        assertNull(other.getDayOfMonth());
+
+        // Every parse returns a new message, the previous one is left untouched
+        assertNotSame(message, other);
+        assertNull(message.getYear());
+        assertEquals(Integer.valueOf(2018), message.getDayOfMonth());
+        assertEquals("hello world", message.getMessage());
+    }
+
+    @Test
+    public void canParseCompressedStages() {
+        final ParserStage a = new MatchChar('a');
+        final ParserStage b = new MatchChar('b');
+        final ParserStage c = new MatchChar('c');
+        final ParserStage d = new MatchChar('d');
+        c.setTerminal(true);
+        d.setTerminal(true);
+
+        final RadixTreeParser radixParser = new RadixTreeParser();
+        radixParser.teach(new ParserStage[] { a });
+        radixParser.teach(new ParserStage[] { b, c });
+        radixParser.teach(new ParserStage[] { b, a, d });
+        radixParser.teach(new ParserStage[] { b, d });
+        radixParser.teach(new ParserStage[] { c });
+
+        assertNotNull(radixParser.compile().parse(toByteBuffer("bad")).join());
+        assertNull(radixParser.compile().parse(toByteBuffer("bbd")).join());
+
+        radixParser.performEdgeCompression();
+        final CompiledRadixTreeParser compiledParser = radixParser.compile();
+        assertNotNull(compiledParser.parse(toByteBuffer("bad")).join());
+        assertNull(compiledParser.parse(toByteBuffer("bbd")).join());
+    }
+
+    private static ByteBuffer toByteBuffer(final String message) {
+        return ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the fields of the message, without its identity
+     */
+    private static String fieldsOf(final SyslogMessage message) {
+        if (message == null) {
+            return null;
+        }
+        final String value = message.toString();
+        return value.substring(value.indexOf('['));
+    }
+}
@@ -23,6 +23,10 @@ package org.opennms.netmgt.syslogd;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
 import java.util.Date;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
@@ -31,6 +35,7 @@ import org.mockito.Mockito;
 import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.netmgt.config.SyslogdConfig;
 import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.provision.LocationAwareDnsLookupCache;
 import org.opennms.netmgt.provision.LocationAwareDnsLookupClient;
 import org.opennms.netmgt.xml.event.Event;
 
@@ -69,6 +74,46 @@ public class DnsCacheTest {
     }
 
 
+    @Test
+    public void testDnsLookupCache() throws Exception {
+        final LocationAwareDnsLookupCache dnsLookupCache = Mockito.mock(LocationAwareDnsLookupCache.class);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        Mockito.when(dnsLookupCache.lookup("NotAHost", "MINION", MockDistPollerDao.DEFAULT_DIST_POLLER_ID)).thenReturn(pending);
+        Mockito.when(dnsLookupCache.lookup("CachedHost", "MINION", MockDistPollerDao.DEFAULT_DIST_POLLER_ID))
+                .thenReturn(CompletableFuture.completedFuture("10.0.0.2"));
+
+        // The event is completed once the host name has been resolved
+        ConvertToEvent convert = convertSyslog(radixConfig, "<34>1 2010-08-19T22:14:15.000Z NotAHost - - - - \uFEFFfoo0: load test 0 on tty1\0", dnsLookupCache);
+        assertNotNull(convert.getPendingHostAddress());
+        assertNull(convert.getEvent().getInterface());
+        pending.complete("10.0.0.1");
+        ConvertToEvent.setHostAddress(convert.getEvent(), "MINION", convert.getPendingHostAddress().get());
+        assertEquals("10.0.0.1", convert.getEvent().getInterface());
+
+        // Cached host names are used right away
+        convert = convertSyslog(radixConfig, "<34>1 2010-08-19T22:14:15.000Z CachedHost - - - - \uFEFFfoo0: load test 0 on tty1\0", dnsLookupCache);
+        assertNull(convert.getPendingHostAddress());
+        assertEquals("10.0.0.2", convert.getEvent().getInterface());
+
+        // And so are addresses, without a lookup
+        convert = convertSyslog(radixConfig, "<34>1 2010-08-19T22:14:15.000Z 10.0.0.3 - - - - \uFEFFfoo0: load test 0 on tty1\0", dnsLookupCache);
+        assertNull(convert.getPendingHostAddress());
+        assertEquals("10.0.0.3", convert.getEvent().getInterface());
+        Mockito.verify(dnsLookupCache, Mockito.times(2)).lookup(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    private ConvertToEvent convertSyslog(final SyslogdConfig config, final String syslog, final LocationAwareDnsLookupCache dnsLookupCache) throws MessageDiscardedException {
+        return new ConvertToEvent(
+                MockDistPollerDao.DEFAULT_DIST_POLLER_ID,
+                "MINION",
+                InetAddressUtils.ONE_TWENTY_SEVEN,
+                9999,
+                SyslogdTestUtils.toByteBuffer(syslog),
+                new Date(),
+                config,
+                dnsLookupCache);
+    }
+
     private Event parseSyslog(final String name, final SyslogdConfig config, final String syslog, Date receivedTimestamp, Cache<HostNameWithLocationKey, String> cache) {
         try {
             ConvertToEvent convert = new ConvertToEvent(
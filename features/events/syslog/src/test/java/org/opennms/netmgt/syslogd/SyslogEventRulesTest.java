@@ -0,0 +1,208 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.opennms.netmgt.config.syslogd.HideMatch;
+import org.opennms.netmgt.config.syslogd.Match;
+import org.opennms.netmgt.config.syslogd.ParameterAssignment;
+import org.opennms.netmgt.config.syslogd.ProcessMatch;
+import org.opennms.netmgt.config.syslogd.UeiMatch;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+
+public class SyslogEventRulesTest {
+
+    private static final String DISCARD_UEI = "DISCARD-MATCHING-MESSAGES";
+
+    @Test
+    public void canExtractRequiredLiterals() {
+        assertEquals("Killed process ", SyslogEventRules.getRequiredLiteral("^(?:(.*):\\s*)?Killed process (\\d+) \\((.*)\\).*$"));
+        assertEquals("Warning: DocumentRoot [", SyslogEventRules.getRequiredLiteral("^.*Warning: DocumentRoot \\[(.*)\\] does not exist.*$"));
+        assertEquals("httpd", SyslogEventRules.getRequiredLiteral("^httpd$"));
+        assertEquals("colo", SyslogEventRules.getRequiredLiteral("colou?r"));
+        assertEquals(" logged", SyslogEventRules.getRequiredLiteral("user [a-z]{2,8} logged"));
+        assertEquals(" logged in", SyslogEventRules.getRequiredLiteral("user [a-z]+ logged in"));
+
+        // Alternations and inline flags change the meaning of the literals
+        assertNull(SyslogEventRules.getRequiredLiteral("^foo|bar$"));
+        assertNull(SyslogEventRules.getRequiredLiteral("(?i)foo"));
+        assertNull(SyslogEventRules.getRequiredLiteral("\\Qfoo\\E"));
+        assertNull(SyslogEventRules.getRequiredLiteral("^(.*)$"));
+    }
+
+    @Test
+    public void canIgnoreEscapesThatAreNotLiterals() {
+        assertEquals("a.b", SyslogEventRules.getRequiredLiteral("a\\.b"));
+        assertEquals(" port ", SyslogEventRules.getRequiredLiteral("\\d+ port \\w+"));
+
+        // The characters following these escapes are not literals of the expression
+        assertNull(SyslogEventRules.getRequiredLiteral("user\\x41dmin"));
+        assertNull(SyslogEventRules.getRequiredLiteral("user\\u0041dmin"));
+        assertNull(SyslogEventRules.getRequiredLiteral("user\\0101dmin"));
+        assertNull(SyslogEventRules.getRequiredLiteral("ctrl\\cMfoo"));
+        assertNull(SyslogEventRules.getRequiredLiteral("(?<word>\\w+) \\k<word>"));
+        assertNull(SyslogEventRules.getRequiredLiteral("\\p{Lu}pper"));
+        assertNull(SyslogEventRules.getRequiredLiteral("(ab)\\1cd"));
+    }
+
+    @Test
+    public void canApplyRulesWithEscapes() throws Exception {
+        final String[] expressions = {
+                "user \\x41dmin logged in",
+                "user \\u0041dmin logged in",
+                "user \\0101dmin logged in",
+                "^(?<user>\\w+) logged in as \\k<user>$",
+                "user\\tadmin",
+        };
+        final String[] messages = {
+                "user Admin logged in",
+                "user Admin logged in",
+                "user Admin logged in",
+                "root logged in as root",
+                "user\tadmin",
+        };
+        for (int i = 0; i < expressions.length; i++) {
+            final SyslogEventRules rules = new SyslogEventRules(
+                    Collections.singletonList(ueiMatch("uei.opennms.org/test/escape", "regex", expressions[i], null)),
+                    Collections.emptyList(), DISCARD_UEI);
+            assertEquals(expressions[i], "uei.opennms.org/test/escape", apply(rules, message(SyslogFacility.USER, messages[i])).getUei());
+        }
+    }
+
+    @Test
+    public void canApplyFirstMatchingRule() throws Exception {
+        final List<UeiMatch> ueiMatches = new ArrayList<>();
+        ueiMatches.add(ueiMatch("uei.opennms.org/test/local0", "substr", "foo", "local0"));
+        ueiMatches.add(ueiMatch("uei.opennms.org/test/regex", "regex", "^foo (\\w+) bar (\\w+)$", null));
+        ueiMatches.get(1).getMatch().setDefaultParameterMapping(false);
+        final ParameterAssignment assignment = new ParameterAssignment();
+        assignment.setMatchingGroup(2);
+        assignment.setParameterName("second");
+        ueiMatches.get(1).addParameterAssignment(assignment);
+        ueiMatches.add(ueiMatch("uei.opennms.org/test/substr", "substr", "foo", null));
+
+        final SyslogEventRules rules = new SyslogEventRules(ueiMatches, Collections.emptyList(), DISCARD_UEI);
+
+        // The first rule only applies to local0
+        Event event = apply(rules, message(SyslogFacility.LOCAL0, "foo x bar y"));
+        assertEquals("uei.opennms.org/test/local0", event.getUei());
+
+        event = apply(rules, message(SyslogFacility.USER, "foo x bar y"));
+        assertEquals("uei.opennms.org/test/regex", event.getUei());
+        assertNull(event.getParm("group1"));
+        assertEquals("y", event.getParm("second").getValue().getContent());
+
+        event = apply(rules, message(SyslogFacility.USER, "foo x"));
+        assertEquals("uei.opennms.org/test/substr", event.getUei());
+
+        event = apply(rules, message(SyslogFacility.USER, "bar"));
+        assertEquals("uei.opennms.org/syslogd/user/Notice", event.getUei());
+    }
+
+    @Test
+    public void canMatchProcessAndDiscard() throws Exception {
+        final UeiMatch discard = ueiMatch(DISCARD_UEI, "regex", "^Accepted (\\w+)", null);
+        final ProcessMatch processMatch = new ProcessMatch();
+        processMatch.setExpression("^sshd$");
+        discard.setProcessMatch(processMatch);
+
+        final SyslogEventRules rules = new SyslogEventRules(Collections.singletonList(discard), Collections.emptyList(), DISCARD_UEI);
+
+        final SyslogMessage message = message(SyslogFacility.AUTH, "Accepted publickey");
+        message.setProcessName("cron");
+        assertEquals("uei.opennms.org/syslogd/auth/Notice", apply(rules, message).getUei());
+
+        message.setProcessName("sshd");
+        try {
+            apply(rules, message);
+            fail("The message should have been discarded");
+        } catch (MessageDiscardedException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void canHideMessages() throws Exception {
+        final HideMatch hideMatch = new HideMatch();
+        final Match match = new Match();
+        match.setType("regex");
+        match.setExpression("password=\\S+");
+        hideMatch.setMatch(match);
+
+        final SyslogEventRules rules = new SyslogEventRules(Collections.emptyList(), Collections.singletonList(hideMatch), DISCARD_UEI);
+        assertTrue(rules.apply(message(SyslogFacility.USER, "login password=secret"), new EventBuilder()));
+        assertFalse(rules.apply(message(SyslogFacility.USER, "login"), new EventBuilder()));
+    }
+
+    @Test
+    public void canCompileOncePerConfiguration() throws Exception {
+        final SyslogConfigBean config = new SyslogConfigBean();
+        config.setDiscardUei(DISCARD_UEI);
+
+        final SyslogEventRules rules = SyslogEventRules.forConfig(config);
+        assertSame(rules, SyslogEventRules.forConfig(config));
+
+        config.setDiscardUei("uei.opennms.org/test/discard");
+        assertNotSame(rules, SyslogEventRules.forConfig(config));
+    }
+
+    private static Event apply(final SyslogEventRules rules, final SyslogMessage message) throws MessageDiscardedException {
+        final EventBuilder bldr = ConvertToEvent.toEventBuilder(message, "00000000-0000-0000-0000-000000000000", "Default");
+        rules.apply(message, bldr);
+        return bldr.getEvent();
+    }
+
+    private static SyslogMessage message(final SyslogFacility facility, final String text) {
+        final SyslogMessage message = new SyslogMessage();
+        message.setFacility(facility);
+        message.setSeverity(SyslogSeverity.NOTICE);
+        message.setHostName("127.0.0.1");
+        message.setMessage(text);
+        return message;
+    }
+
+    private static UeiMatch ueiMatch(final String uei, final String type, final String expression, final String facility) {
+        final UeiMatch ueiMatch = new UeiMatch();
+        ueiMatch.setUei(uei);
+        final Match match = new Match();
+        match.setType(type);
+        match.setExpression(expression);
+        ueiMatch.setMatch(match);
+        if (facility != null) {
+            ueiMatch.addFacility(facility);
+        }
+        return ueiMatch;
+    }
+}
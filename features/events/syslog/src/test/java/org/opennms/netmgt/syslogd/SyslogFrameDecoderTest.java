@@ -0,0 +1,115 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.TooLongFrameException;
+
+public class SyslogFrameDecoderTest {
+
+    private static final String MESSAGE1 = "<34>Oct 11 22:14:15 mymachine su: 'su root' failed for lonvick on /dev/pts/8";
+
+    private static final String MESSAGE2 = "<13>Feb  5 17:32:18 10.0.0.99 Use the BFG!";
+
+    @Test
+    public void canDecodeOctetCountedFrames() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new SyslogFrameDecoder(1024));
+        final String stream = MESSAGE1.length() + " " + MESSAGE1 + MESSAGE2.length() + " " + MESSAGE2;
+
+        // Split the frames at an arbitrary position
+        channel.writeInbound(buffer(stream.substring(0, 20)));
+        assertNull(channel.readInbound());
+        channel.writeInbound(buffer(stream.substring(20)));
+
+        assertFrame(MESSAGE1, channel.readInbound());
+        assertFrame(MESSAGE2, channel.readInbound());
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void canDecodeNonTransparentFrames() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new SyslogFrameDecoder(1024));
+        channel.writeInbound(buffer(MESSAGE1 + "\r\n" + MESSAGE2.substring(0, 10)));
+        assertFrame(MESSAGE1, channel.readInbound());
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(buffer(MESSAGE2.substring(10) + "\n\n" + MESSAGE1 + "\0"));
+        assertFrame(MESSAGE2, channel.readInbound());
+        assertFrame(MESSAGE1, channel.readInbound());
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void canDecodeMixedFraming() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new SyslogFrameDecoder(1024));
+        channel.writeInbound(buffer(MESSAGE1 + "\n" + MESSAGE2.length() + " " + MESSAGE2 + MESSAGE1 + "\n"));
+        assertFrame(MESSAGE1, channel.readInbound());
+        assertFrame(MESSAGE2, channel.readInbound());
+        assertFrame(MESSAGE1, channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void canRejectFramesThatAreTooLong() {
+        EmbeddedChannel channel = new EmbeddedChannel(new SyslogFrameDecoder(16));
+        try {
+            channel.writeInbound(buffer("1024 " + MESSAGE1));
+            fail("Expected a TooLongFrameException");
+        } catch (TooLongFrameException e) {
+            // expected
+        }
+        channel.finishAndReleaseAll();
+
+        channel = new EmbeddedChannel(new SyslogFrameDecoder(16));
+        try {
+            channel.writeInbound(buffer(MESSAGE1));
+            fail("Expected a TooLongFrameException");
+        } catch (TooLongFrameException e) {
+            // expected
+        }
+        channel.finishAndReleaseAll();
+    }
+
+    private static ByteBuf buffer(final String text) {
+        return Unpooled.copiedBuffer(text, StandardCharsets.US_ASCII);
+    }
+
+    private static void assertFrame(final String expected, final ByteBuf frame) {
+        try {
+            assertEquals(expected, frame.toString(StandardCharsets.US_ASCII));
+        } finally {
+            frame.release();
+        }
+    }
+}
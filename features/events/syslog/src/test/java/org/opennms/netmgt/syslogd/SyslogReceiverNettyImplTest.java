@@ -0,0 +1,108 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.AsyncDispatcher;
+import org.opennms.core.ipc.sink.api.AsyncDispatcher.DispatchStatus;
+import org.opennms.core.ipc.sink.api.MessageDispatcherFactory;
+import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+
+import com.codahale.metrics.Meter;
+
+public class SyslogReceiverNettyImplTest {
+
+    private final List<SyslogConnection> m_dispatched = new CopyOnWriteArrayList<>();
+
+    private SyslogReceiverNettyImpl m_receiver;
+
+    private int m_port;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        try (final DatagramSocket socket = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            m_port = socket.getLocalPort();
+        }
+
+        final SyslogConfigBean config = new SyslogConfigBean();
+        config.setListenAddress("127.0.0.1");
+        config.setSyslogPort(m_port);
+
+        final AsyncDispatcher<SyslogConnection> dispatcher = mock(AsyncDispatcher.class);
+        when(dispatcher.send(any())).thenAnswer(invocation -> {
+            m_dispatched.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(DispatchStatus.DISPATCHED);
+        });
+        final MessageDispatcherFactory messageDispatcherFactory = mock(MessageDispatcherFactory.class);
+        when(messageDispatcherFactory.createAsyncDispatcher(any(SyslogSinkModule.class))).thenReturn(dispatcher);
+
+        m_receiver = new SyslogReceiverNettyImpl(config);
+        m_receiver.setNumSockets(2);
+        m_receiver.setDistPollerDao(new MockDistPollerDao());
+        m_receiver.setMessageDispatcherFactory(messageDispatcherFactory);
+        m_receiver.run();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        m_receiver.stop();
+    }
+
+    @Test
+    public void canReceiveAndDispatchMessages() throws Exception {
+        final String message = "<31>main: 2010-08-19 localhost foo0: load test 0 on tty1";
+        final byte[] bytes = message.getBytes(StandardCharsets.US_ASCII);
+        try (final DatagramSocket socket = new DatagramSocket()) {
+            for (int i = 0; i < 10; i++) {
+                socket.send(new DatagramPacket(bytes, bytes.length, InetAddress.getLoopbackAddress(), m_port));
+            }
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).until(m_dispatched::size, equalTo(10));
+        for (final SyslogConnection connection : m_dispatched) {
+            assertEquals(message, StandardCharsets.US_ASCII.decode(connection.getBuffer()).toString());
+        }
+
+        final long received = m_receiver.getMetrics().getMeters().values().stream().mapToLong(Meter::getCount).sum();
+        assertEquals(10, received);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.AsyncDispatcher;
+import org.opennms.core.ipc.sink.api.MessageDispatcherFactory;
+import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+
+public class SyslogReceiverTcpImplTest {
+
+    private static final String MESSAGE = "<31>main: 2010-08-19 localhost foo0: load test 0 on tty1";
+
+    private final FakeDispatcher m_dispatcher = new FakeDispatcher();
+
+    private SyslogReceiverTcpImpl m_receiver;
+
+    private int m_port;
+
+    @Before
+    public void setUp() throws Exception {
+        try (final ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            m_port = socket.getLocalPort();
+        }
+
+        final SyslogConfigBean config = new SyslogConfigBean();
+        config.setListenAddress("127.0.0.1");
+        config.setSyslogPort(m_port);
+        config.setQueueSize(10);
+
+        final MessageDispatcherFactory messageDispatcherFactory = mock(MessageDispatcherFactory.class);
+        when(messageDispatcherFactory.createAsyncDispatcher(any(SyslogSinkModule.class))).thenReturn(m_dispatcher);
+
+        m_receiver = new SyslogReceiverTcpImpl(config);
+        m_receiver.setNumEventLoops(1);
+        m_receiver.setDistPollerDao(new MockDistPollerDao());
+        m_receiver.setMessageDispatcherFactory(messageDispatcherFactory);
+        m_receiver.run();
+        assertTrue(m_receiver.isStarted());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        m_receiver.stop();
+    }
+
+    @Test
+    public void canReceiveAndDispatchFramedMessages() throws Exception {
+        final byte[] bytes = MESSAGE.getBytes(StandardCharsets.US_ASCII);
+        try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(), m_port)) {
+            final OutputStream out = socket.getOutputStream();
+            for (int i = 0; i < 5; i++) {
+                // Octet-counting
+                out.write((bytes.length + " ").getBytes(StandardCharsets.US_ASCII));
+                out.write(bytes);
+                // Non-transparent framing
+                out.write(bytes);
+                out.write('\n');
+            }
+            out.flush();
+
+            await().atMost(10, TimeUnit.SECONDS).until(m_dispatcher.m_dispatched::size, equalTo(10));
+        }
+        for (final SyslogConnection connection : m_dispatcher.m_dispatched) {
+            assertEquals(MESSAGE, StandardCharsets.US_ASCII.decode(connection.getBuffer()).toString());
+        }
+        assertEquals(10, m_receiver.getMetrics().meter("received").getCount());
+    }
+
+    @Test
+    public void canPauseReadingWhileTheDispatchQueueIsFull() throws Exception {
+        m_dispatcher.setFull(true);
+
+        final byte[] bytes = (MESSAGE + "\n").getBytes(StandardCharsets.US_ASCII);
+        try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(), m_port)) {
+            final OutputStream out = socket.getOutputStream();
+            for (int i = 0; i < 10; i++) {
+                out.write(bytes);
+            }
+            out.flush();
+
+            // Nothing is dispatched, and the connection is not read from, until the queue has room
+            await().atMost(10, TimeUnit.SECONDS).until(() -> m_receiver.getMetrics().counter("paused").getCount(), equalTo(1L));
+            Thread.sleep(200);
+            assertEquals(0, m_dispatcher.m_dispatched.size());
+
+            m_dispatcher.setFull(false);
+            await().atMost(10, TimeUnit.SECONDS).until(m_dispatcher.m_dispatched::size, equalTo(10));
+
+            // Reading is paused again once the queue is full
+            m_dispatcher.setFull(true);
+            out.write(bytes);
+            out.flush();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> m_receiver.getMetrics().counter("paused").getCount(), equalTo(2L));
+            assertEquals(10, m_dispatcher.m_dispatched.size());
+
+            m_dispatcher.setFull(false);
+            await().atMost(10, TimeUnit.SECONDS).until(m_dispatcher.m_dispatched::size, equalTo(11));
+        }
+    }
+
+    /**
+     * Dispatches the messages immediately and reports the queue as full on demand.
+     */
+    private static class FakeDispatcher implements AsyncDispatcher<SyslogConnection> {
+        private final List<SyslogConnection> m_dispatched = new CopyOnWriteArrayList<>();
+
+        private final List<QueueStateListener> m_listeners = new CopyOnWriteArrayList<>();
+
+        private volatile boolean m_full;
+
+        private void setFull(final boolean full) {
+            m_full = full;
+            m_listeners.forEach(QueueStateListener::queueStateChanged);
+        }
+
+        @Override
+        public CompletableFuture<DispatchStatus> send(final SyslogConnection message) {
+            m_dispatched.add(message);
+            return CompletableFuture.completedFuture(DispatchStatus.DISPATCHED);
+        }
+
+        @Override
+        public int getQueueSize() {
+            return 0;
+        }
+
+        @Override
+        public boolean isQueueFull() {
+            return m_full;
+        }
+
+        @Override
+        public void addQueueStateListener(final QueueStateListener listener) {
+            m_listeners.add(listener);
+        }
+
+        @Override
+        public void removeQueueStateListener(final QueueStateListener listener) {
+            m_listeners.remove(listener);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
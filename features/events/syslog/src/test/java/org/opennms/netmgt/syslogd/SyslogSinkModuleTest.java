@@ -0,0 +1,66 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.dao.mock.MockDistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+
+public class SyslogSinkModuleTest {
+
+    @Test
+    public void canMarshalAndUnmarshalWithBothEncodings() throws Exception {
+        final SyslogSinkModule xmlModule = new SyslogSinkModule(mock(SyslogdConfig.class), new MockDistPollerDao());
+        xmlModule.setEncoding(Encoding.XML);
+        final SyslogSinkModule protobufModule = new SyslogSinkModule(mock(SyslogdConfig.class), new MockDistPollerDao());
+        protobufModule.setEncoding(Encoding.PROTOBUF);
+
+        final InetSocketAddress source = new InetSocketAddress(InetAddress.getByName("192.168.0.1"), 514);
+        final SyslogMessageLogDTO messageLog = protobufModule.toMessageLog(
+                new SyslogConnection(source, ByteBuffer.wrap("<31>main: 2010-08-19 localhost foo0: load test 0 on tty1".getBytes(StandardCharsets.US_ASCII))),
+                new SyslogConnection(source, ByteBuffer.wrap("<31>main: 2010-08-19 localhost foo1: load test 1 on tty1".getBytes(StandardCharsets.US_ASCII))));
+
+        final byte[] protobuf = protobufModule.marshal(messageLog);
+        assertTrue(AbstractProtobufSinkModule.isProtobuf(protobuf));
+        assertEquals(messageLog, protobufModule.unmarshal(protobuf));
+
+        // XML is still accepted by consumers using the protobuf encoding
+        final byte[] xml = xmlModule.marshal(messageLog);
+        assertFalse(AbstractProtobufSinkModule.isProtobuf(xml));
+        assertEquals(messageLog, protobufModule.unmarshal(xml));
+        assertTrue(protobuf.length < xml.length);
+    }
+}
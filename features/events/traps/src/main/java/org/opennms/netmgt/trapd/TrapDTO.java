@@ -62,23 +62,18 @@ public class TrapDTO implements Message {
 	private byte[] rawMessage;
 	@XmlElement(name = "trap-identity")
 	private TrapIdentityDTO trapIdentity;
-	@XmlElementWrapper(name = "results")
-	@XmlElement(name = "result")
 	private List<SnmpResult> results = new ArrayList<>();
 
+	// The variable bindings as encoded by the Minion, the results are only decoded from them when requested
+	private List<TrapSinkProto.SnmpResult> encodedResults;
+
 	// No-arg constructor for JAXB
 	public TrapDTO() {
 
 	}
 
 	public TrapDTO(TrapInformation trapInfo) {
-		setAgentAddress(trapInfo.getAgentAddress());
-		setCommunity(trapInfo.getCommunity());
-		setVersion(trapInfo.getVersion());
-		setTimestamp(trapInfo.getTimeStamp());
-		setPduLength(trapInfo.getPduLength());
-		setCreationTime(trapInfo.getCreationTime());
-		setTrapIdentity(new TrapIdentityDTO(trapInfo.getTrapIdentity()));
+		this(trapInfo, null);
 
 		// Map variable bindings
 		final List<SnmpResult> results = new ArrayList<>();
@@ -92,8 +87,27 @@ public class TrapDTO implements Message {
 		setResults(results);
 	}
 
-	private void setResults(List<SnmpResult> results) {
+	/**
+	 * Used by the {@link TrapSinkModule} to skip the mapping of the variable bindings
+	 * when it encodes them itself.
+	 */
+	TrapDTO(TrapInformation trapInfo, List<TrapSinkProto.SnmpResult> encodedResults) {
+		setAgentAddress(trapInfo.getAgentAddress());
+		setCommunity(trapInfo.getCommunity());
+		setVersion(trapInfo.getVersion());
+		setTimestamp(trapInfo.getTimeStamp());
+		setPduLength(trapInfo.getPduLength());
+		setCreationTime(trapInfo.getCreationTime());
+		setTrapIdentity(new TrapIdentityDTO(trapInfo.getTrapIdentity()));
+		if (encodedResults != null) {
+			this.results = null;
+			this.encodedResults = encodedResults;
+		}
+	}
+
+	public void setResults(List<SnmpResult> results) {
 		this.results = new ArrayList<>(results);
+		this.encodedResults = null;
 	}
 
 	public void setAgentAddress(InetAddress agentAddress) {
@@ -152,10 +166,19 @@ public class TrapDTO implements Message {
 		return trapIdentity;
 	}
 
+	@XmlElementWrapper(name = "results")
+	@XmlElement(name = "result")
 	public List<SnmpResult> getResults() {
+		if (results == null) {
+			results = TrapSinkModule.fromProto(encodedResults);
+		}
 		return results;
 	}
 
+	List<TrapSinkProto.SnmpResult> getEncodedResults() {
+		return encodedResults;
+	}
+
 	public byte[] getRawMessage() {
 		return rawMessage;
 	}
@@ -166,7 +189,7 @@ public class TrapDTO implements Message {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(community, version, timestamp, pduLength, creationTime, rawMessage, trapIdentity, results, agentAddress);
+		return Objects.hash(community, version, timestamp, pduLength, creationTime, rawMessage, trapIdentity, getResults(), agentAddress);
 	}
 
 	@Override
@@ -182,7 +205,7 @@ public class TrapDTO implements Message {
 				&& Objects.equals(creationTime, other.creationTime)
 				&& Objects.equals(rawMessage, other.rawMessage)
 				&& Objects.equals(trapIdentity, other.trapIdentity)
-				&& Objects.equals(results, other.results)
+				&& Objects.equals(getResults(), other.getResults())
 				&& Objects.equals(agentAddress, other.agentAddress);
 		return equals;
 	}
@@ -23,7 +23,13 @@ package org.opennms.netmgt.trapd;
 
 import static org.opennms.core.utils.InetAddressUtils.addr;
 
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.opennms.core.ipc.sink.api.MessageConsumer;
 import org.opennms.core.ipc.sink.api.MessageConsumerManager;
@@ -36,10 +42,13 @@ import org.opennms.netmgt.dao.api.DistPollerDao;
 import org.opennms.netmgt.dao.api.InterfaceToNodeCache;
 import org.opennms.netmgt.events.api.EventForwarder;
 import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.provision.LocationAwareDnsLookupCache;
+import org.opennms.netmgt.snmp.SnmpObjId;
 import org.opennms.netmgt.trapd.jmx.TrapdInstrumentation;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.event.Events;
 import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Parm;
 import org.opennms.netmgt.xml.eventconf.LogDestType;
 import org.opennms.netmgt.xml.eventconf.Logmsg;
 import org.slf4j.Logger;
@@ -58,6 +67,31 @@ public class TrapSinkConsumer implements MessageConsumer<TrapInformationWrapper,
 	 */
 	private static final String LOCALHOST_ADDRESS = InetAddressUtils.getLocalHostName();
 
+	/**
+	 * When set, the host name of the agent is added to the events as the
+	 * "hostname" parameter once it has been resolved. Traps are never held back
+	 * by the lookup, the events of the traps received before the host name of
+	 * their agent is cached are forwarded without it.
+	 */
+	private static final boolean RESOLVE_HOST_NAMES = Boolean.getBoolean("org.opennms.netmgt.trapd.resolveHostNames");
+
+	/**
+	 * Identical traps received within this many milliseconds of each other are collapsed
+	 * into a single event, see {@link TrapStormAggregator}. Disabled when 0. Traps
+	 * discarded by their event definition are never aggregated.
+	 */
+	private static final String AGGREGATION_WINDOW_MS_PROPERTY = "org.opennms.netmgt.trapd.aggregation.windowMs";
+	private static final String AGGREGATION_MAX_WINDOWS_PROPERTY = "org.opennms.netmgt.trapd.aggregation.maxWindows";
+	/**
+	 * Comma-separated OIDs of the varbinds that tell traps apart, all of them by default.
+	 */
+	private static final String AGGREGATION_KEY_VARBINDS_PROPERTY = "org.opennms.netmgt.trapd.aggregation.keyVarbinds";
+
+	/**
+	 * The parameter holding the number of traps an aggregated event stands for.
+	 */
+	public static final String AGGREGATED_COUNT_PARM = "aggregatedTrapCount";
+
 	@Autowired
 	private MessageConsumerManager messageConsumerManager;
 
@@ -77,12 +111,40 @@ public class TrapSinkConsumer implements MessageConsumer<TrapInformationWrapper,
 	@Autowired
 	private DistPollerDao distPollerDao;
 
+	@Autowired(required = false)
+	private LocationAwareDnsLookupCache dnsLookupCache;
+
 	private EventCreator eventCreator;
 
+	private TrapStormAggregator trapStormAggregator;
+
 	@PostConstruct
 	public void init() throws Exception {
-		messageConsumerManager.registerConsumer(this);
 		eventCreator = new EventCreator(interfaceToNodeCache, eventConfDao);
+
+		final long aggregationWindowMs = Long.getLong(AGGREGATION_WINDOW_MS_PROPERTY, 0L);
+		if (aggregationWindowMs > 0) {
+			final List<SnmpObjId> keyVarbinds = new ArrayList<>();
+			for (final String oid : System.getProperty(AGGREGATION_KEY_VARBINDS_PROPERTY, "").split(",")) {
+				if (!oid.trim().isEmpty()) {
+					keyVarbinds.add(SnmpObjId.get(oid.trim()));
+				}
+			}
+			trapStormAggregator = new TrapStormAggregator(aggregationWindowMs,
+					Integer.getInteger(AGGREGATION_MAX_WINDOWS_PROPERTY, 10000),
+					keyVarbinds, this::sendAggregatedTrap);
+			trapStormAggregator.start();
+			LOG.info("Aggregating identical traps received within {}ms.", aggregationWindowMs);
+		}
+
+		messageConsumerManager.registerConsumer(this);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (trapStormAggregator != null) {
+			trapStormAggregator.close();
+		}
 	}
 
 	@Override
@@ -121,15 +183,25 @@ public class TrapSinkConsumer implements MessageConsumer<TrapInformationWrapper,
 						messageLog.getSystemId(),
 						messageLog.getLocation(),
 						messageLog.getTrapAddress());
-				if (!shouldDiscard(event)) {
-					if (event.getSnmp() != null) {
-						trapdInstrumentation.incTrapsReceivedCount(event.getSnmp().getVersion());
-					}
-					events.addEvent(event);
-				} else {
+				if (shouldDiscard(event)) {
+					// Discarded traps never open an aggregation window
 					LOG.debug("Trap discarded due to matching event having logmsg dest == discardtraps");
 					trapdInstrumentation.incDiscardCount();
+					continue;
 				}
+				if (event.getSnmp() != null) {
+					trapdInstrumentation.incTrapsReceivedCount(event.getSnmp().getVersion());
+				}
+				if (trapStormAggregator != null && !trapStormAggregator.offer(eachMessage,
+						messageLog.getSystemId(), messageLog.getLocation(), messageLog.getTrapAddress())) {
+					// Identical to a trap processed within the aggregation window
+					trapdInstrumentation.incAggregatedCount();
+					continue;
+				}
+				if (RESOLVE_HOST_NAMES && dnsLookupCache != null) {
+					addHostName(event, messageLog.getSystemId(), messageLog.getLocation());
+				}
+				events.addEvent(event);
 			} catch (Throwable e) {
 				LOG.error("Unexpected error processing trap: {}", eachMessage, e);
 				trapdInstrumentation.incErrorCount();
@@ -138,6 +210,42 @@ public class TrapSinkConsumer implements MessageConsumer<TrapInformationWrapper,
 		return log;
 	}
 
+	private void sendAggregatedTrap(TrapStormAggregator.AggregatedTrap aggregatedTrap) {
+		try (Logging.MDCCloseable mdc = Logging.withPrefixCloseable(Trapd.LOG4J_CATEGORY)) {
+			final Event event = eventCreator.createEventFrom(
+					aggregatedTrap.getTrap(),
+					aggregatedTrap.getSystemId(),
+					aggregatedTrap.getLocation(),
+					aggregatedTrap.getTrapAddress());
+			if (shouldDiscard(event)) {
+				return;
+			}
+			if (RESOLVE_HOST_NAMES && dnsLookupCache != null) {
+				addHostName(event, aggregatedTrap.getSystemId(), aggregatedTrap.getLocation());
+			}
+			event.addParm(new Parm(AGGREGATED_COUNT_PARM, Integer.toString(aggregatedTrap.getCount())));
+			eventForwarder.sendNow(event);
+		} catch (Throwable e) {
+			LOG.error("Unexpected error processing aggregated trap: {}", aggregatedTrap.getTrap(), e);
+			trapdInstrumentation.incErrorCount();
+		}
+	}
+
+	private void addHostName(Event event, String systemId, String location) {
+		final InetAddress agentAddress = event.getInterfaceAddress();
+		if (agentAddress == null) {
+			return;
+		}
+		final CompletableFuture<String> hostName = dnsLookupCache.reverseLookup(agentAddress, location, systemId);
+		// Otherwise the lookup completes in the background, for the next traps of the agent
+		if (hostName.isDone() && !hostName.isCompletedExceptionally()) {
+			final String value = hostName.join();
+			if (value != null && !value.equals(event.getInterface())) {
+				event.addParm(new Parm("hostname", value));
+			}
+		}
+	}
+
 	private void sendNewSuspectEvent(String trapInterface, String distPoller) {
 		// construct event with 'trapd' as source
 		EventBuilder bldr = new EventBuilder(org.opennms.netmgt.events.api.EventConstants.NEW_SUSPECT_INTERFACE_EVENT_UEI, "trapd");
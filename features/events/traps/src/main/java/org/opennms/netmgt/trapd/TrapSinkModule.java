@@ -22,31 +22,52 @@
 package org.opennms.netmgt.trapd;
 
 import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
 import org.opennms.core.ipc.sink.api.AggregationPolicy;
 import org.opennms.core.ipc.sink.api.AsyncPolicy;
-import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.core.ipc.sink.xml.XmlSinkMarshaller;
 import org.opennms.netmgt.config.TrapdConfig;
 import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.SnmpInstId;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+import org.opennms.netmgt.snmp.SnmpValue;
 import org.opennms.netmgt.snmp.TrapInformation;
 import org.opennms.netmgt.snmp.snmp4j.Snmp4JStrategy;
 import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
 import org.opennms.netmgt.snmp.snmp4j.Snmp4JUtils;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.snmp4j.PDU;
+import org.snmp4j.smi.VariableBinding;
 
-public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper, TrapLogDTO> {
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+
+public class TrapSinkModule extends AbstractProtobufSinkModule<TrapInformationWrapper, TrapLogDTO, TrapSinkProto.TrapLog> {
 
     private static final Logger LOG = LoggerFactory.getLogger(TrapSinkModule.class);
 
+    private static final int SCHEMA_VERSION = 1;
+
+    private static final XmlSinkMarshaller<TrapLogDTO> XML_MARSHALLER = new XmlSinkMarshaller<>(TrapLogDTO.class);
+
     private final TrapdConfig config;
 
     private OnmsDistPoller distPoller;
 
     public TrapSinkModule(TrapdConfig trapdConfig, OnmsDistPoller distPoller) {
-        super(TrapLogDTO.class);
+        super(XML_MARSHALLER::marshal, XML_MARSHALLER::unmarshal);
         this.config = Objects.requireNonNull(trapdConfig);
         this.distPoller = Objects.requireNonNull(distPoller);
     }
@@ -107,12 +128,15 @@ public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper
 
 
     private TrapDTO transformTrapInfo(TrapInformation trapInfo) {
-        final TrapDTO trapDTO = new TrapDTO(trapInfo);
+        // When the traps are sent as protobuf, the variable bindings are encoded straight from the PDU
+        final TrapDTO trapDTO = getEncoding() == Encoding.PROTOBUF && isSnmp4J(trapInfo)
+                ? new TrapDTO(trapInfo, encodeVarbinds(trapInfo))
+                : new TrapDTO(trapInfo);
         // include the raw message, if configured
         if (config.isIncludeRawMessage()) {
             byte[] rawMessage = convertToRawMessage(trapInfo);
             if (rawMessage != null) {
-                trapDTO.setRawMessage(convertToRawMessage(trapInfo));
+                trapDTO.setRawMessage(rawMessage);
             }
         }
         return trapDTO;
@@ -127,6 +151,196 @@ public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper
     }
 
 
+    @Override
+    protected int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    protected Parser<TrapSinkProto.TrapLog> getParser() {
+        return TrapSinkProto.TrapLog.parser();
+    }
+
+    @Override
+    protected TrapSinkProto.TrapLog toProto(TrapLogDTO trapLog) {
+        final TrapSinkProto.TrapLog.Builder builder = TrapSinkProto.TrapLog.newBuilder();
+        if (trapLog.getSystemId() != null) {
+            builder.setSystemId(trapLog.getSystemId());
+        }
+        if (trapLog.getLocation() != null) {
+            builder.setLocation(trapLog.getLocation());
+        }
+        if (trapLog.getTrapAddress() != null) {
+            builder.setTrapAddress(ByteString.copyFrom(trapLog.getTrapAddress().getAddress()));
+        }
+        for (TrapDTO trap : trapLog.getMessages()) {
+            builder.addMessages(toProto(trap));
+        }
+        return builder.build();
+    }
+
+    private static TrapSinkProto.Trap toProto(TrapDTO trap) {
+        final TrapSinkProto.Trap.Builder builder = TrapSinkProto.Trap.newBuilder()
+                .setTimestamp(trap.getTimestamp())
+                .setPduLength(trap.getPduLength())
+                .setCreationTime(trap.getCreationTime());
+        if (trap.getAgentAddress() != null) {
+            builder.setAgentAddress(ByteString.copyFrom(trap.getAgentAddress().getAddress()));
+        }
+        if (trap.getCommunity() != null) {
+            builder.setCommunity(trap.getCommunity());
+        }
+        if (trap.getVersion() != null) {
+            builder.setVersion(trap.getVersion());
+        }
+        if (trap.getRawMessage() != null) {
+            builder.setRawMessage(ByteString.copyFrom(trap.getRawMessage()));
+        }
+        final TrapIdentityDTO trapIdentity = trap.getTrapIdentity();
+        if (trapIdentity != null) {
+            final TrapSinkProto.TrapIdentity.Builder identityBuilder = builder.getTrapIdentityBuilder()
+                    .setGeneric(trapIdentity.getGeneric())
+                    .setSpecific(trapIdentity.getSpecific());
+            if (trapIdentity.getEnterpriseId() != null) {
+                identityBuilder.setEnterpriseId(trapIdentity.getEnterpriseId());
+            }
+            if (trapIdentity.getTrapOID() != null) {
+                identityBuilder.setTrapOid(trapIdentity.getTrapOID());
+            }
+        }
+        if (trap.getEncodedResults() != null) {
+            builder.addAllResults(trap.getEncodedResults());
+            return builder.build();
+        }
+        for (SnmpResult result : trap.getResults()) {
+            final TrapSinkProto.SnmpResult.Builder resultBuilder = builder.addResultsBuilder();
+            if (result.getBase() != null) {
+                for (int id : result.getBase().getIds()) {
+                    resultBuilder.addBase(id);
+                }
+            }
+            if (result.getInstance() != null) {
+                for (int id : result.getInstance().getIds()) {
+                    resultBuilder.addInstance(id);
+                }
+            }
+            final SnmpValue value = result.getValue();
+            if (value != null) {
+                resultBuilder.setType(value.getType());
+                resultBuilder.setValue(ByteString.copyFrom(value.getBytes()));
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected TrapLogDTO fromProto(int schemaVersion, TrapSinkProto.TrapLog proto) {
+        final TrapLogDTO trapLog = new TrapLogDTO();
+        if (proto.hasSystemId()) {
+            trapLog.setSystemId(proto.getSystemId());
+        }
+        if (proto.hasLocation()) {
+            trapLog.setLocation(proto.getLocation());
+        }
+        if (proto.hasTrapAddress()) {
+            trapLog.setTrapAddress(toInetAddress(proto.getTrapAddress()));
+        }
+        for (TrapSinkProto.Trap trap : proto.getMessagesList()) {
+            trapLog.addMessage(fromProto(trap));
+        }
+        return trapLog;
+    }
+
+    private static TrapDTO fromProto(TrapSinkProto.Trap proto) {
+        final TrapDTO trap = new TrapDTO();
+        if (proto.hasAgentAddress()) {
+            trap.setAgentAddress(toInetAddress(proto.getAgentAddress()));
+        }
+        if (proto.hasCommunity()) {
+            trap.setCommunity(proto.getCommunity());
+        }
+        if (proto.hasVersion()) {
+            trap.setVersion(proto.getVersion());
+        }
+        trap.setTimestamp(proto.getTimestamp());
+        trap.setPduLength(proto.getPduLength());
+        trap.setCreationTime(proto.getCreationTime());
+        if (proto.hasRawMessage()) {
+            trap.setRawMessage(proto.getRawMessage().toByteArray());
+        }
+        if (proto.hasTrapIdentity()) {
+            final TrapSinkProto.TrapIdentity protoIdentity = proto.getTrapIdentity();
+            final TrapIdentityDTO trapIdentity = new TrapIdentityDTO();
+            trapIdentity.setGeneric(protoIdentity.getGeneric());
+            trapIdentity.setSpecific(protoIdentity.getSpecific());
+            if (protoIdentity.hasEnterpriseId()) {
+                trapIdentity.setEnterpriseId(protoIdentity.getEnterpriseId());
+            }
+            if (protoIdentity.hasTrapOid()) {
+                trapIdentity.setTrapOID(protoIdentity.getTrapOid());
+            }
+            trap.setTrapIdentity(trapIdentity);
+        }
+        trap.setResults(fromProto(proto.getResultsList()));
+        return trap;
+    }
+
+    static List<SnmpResult> fromProto(List<TrapSinkProto.SnmpResult> protoResults) {
+        final List<SnmpResult> results = new ArrayList<>(protoResults.size());
+        for (TrapSinkProto.SnmpResult protoResult : protoResults) {
+            final SnmpObjId base = protoResult.getBaseCount() == 0 ? null : SnmpObjId.get(toIds(protoResult.getBaseList()));
+            final SnmpInstId instance = protoResult.getInstanceCount() == 0 ? null : new SnmpInstId(toIds(protoResult.getInstanceList()));
+            final SnmpValue value = protoResult.hasValue()
+                    ? SnmpUtils.getValueFactory().getValue(protoResult.getType(), protoResult.getValue().toByteArray())
+                    : null;
+            results.add(new SnmpResult(base, instance, value));
+        }
+        return results;
+    }
+
+    /**
+     * Encodes the variable bindings of the received PDU as they would be encoded once mapped
+     * by {@link TrapDTO}, without creating the {@link SnmpResult}s and their ids first.
+     * Like the {@link TrapInformation} of SNMPv2 and v3 traps, the sysUpTime and snmpTrapOID
+     * variable bindings are left out.
+     *
+     * The values wrap the bytes returned by {@link Snmp4JValue#getBytes()}, which are those of
+     * the received PDU for octet strings. The PDU is not modified once received.
+     */
+    private static List<TrapSinkProto.SnmpResult> encodeVarbinds(TrapInformation trapInfo) {
+        final PDU pdu = extractPDU(trapInfo);
+        final int first = trapInfo instanceof Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation ? 2 : 0;
+        final List<TrapSinkProto.SnmpResult> results = new ArrayList<>(Math.max(0, pdu.size() - first));
+        for (int i = first; i < pdu.size(); i++) {
+            final VariableBinding varbind = pdu.get(i);
+            final TrapSinkProto.SnmpResult.Builder builder = TrapSinkProto.SnmpResult.newBuilder();
+            for (int id : varbind.getOid().getValue()) {
+                builder.addBase(id);
+            }
+            final SnmpValue value = new Snmp4JValue(varbind.getVariable());
+            builder.setType(value.getType());
+            builder.setValue(UnsafeByteOperations.unsafeWrap(value.getBytes()));
+            results.add(builder.build());
+        }
+        return results;
+    }
+
+    private static int[] toIds(List<Integer> values) {
+        final int[] ids = new int[values.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = values.get(i);
+        }
+        return ids;
+    }
+
+    private static InetAddress toInetAddress(ByteString address) {
+        try {
+            return InetAddress.getByAddress(address.toByteArray());
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Invalid address: " + address, e);
+        }
+    }
+
     @Override
     public AsyncPolicy getAsyncPolicy() {
         return new AsyncPolicy() {
@@ -147,6 +361,15 @@ public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper
         };
     }
 
+    @Override
+    public Optional<String> getRoutingKey(TrapLogDTO message) {
+        // Keep the traps sent by the same agent in order, the logs are aggregated by trap address
+        if (message.getTrapAddress() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(String.format("%s@%s", message.getLocation(), message.getTrapAddress().getHostAddress()));
+    }
+
     /**
      * Converts the {@link TrapInformation} to a raw message.
      * This is only supported for Snmp4J {@link TrapInformation} implementations.
@@ -156,8 +379,7 @@ public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper
      */
     private static byte[] convertToRawMessage(TrapInformation trapInfo) {
         // Raw message conversion is not implemented for JoeSnmp, as the usage of that strategy is deprecated
-        if (!(trapInfo instanceof Snmp4JTrapNotifier.Snmp4JV1TrapInformation)
-                && !(trapInfo instanceof Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation)) {
+        if (!isSnmp4J(trapInfo)) {
             LOG.warn("Unable to convert TrapInformation of type {} to raw message. " +
                             "Please use {} as snmp strategy to include raw messages",
                     trapInfo.getClass(), Snmp4JStrategy.class);
@@ -176,6 +398,11 @@ public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper
         return null;
     }
 
+    private static boolean isSnmp4J(TrapInformation trapInfo) {
+        return trapInfo instanceof Snmp4JTrapNotifier.Snmp4JV1TrapInformation
+                || trapInfo instanceof Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation;
+    }
+
     /**
      * Retreive PDU from SNMP4j {@link TrapInformation}.
      */
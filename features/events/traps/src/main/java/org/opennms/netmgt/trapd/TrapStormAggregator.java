@@ -0,0 +1,331 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.io.Closeable;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collapses storms of identical traps.
+ *
+ * Traps are identical when they were sent by the same agent at the same location, have the same
+ * identity and the same key varbinds. By default, all of the varbinds but sysUpTime and snmpTrapOID
+ * are key varbinds.
+ *
+ * The first trap of a kind opens a window and is processed as usual. The identical traps received
+ * until the window closes are only counted, and the last one of them is passed on together with
+ * their count when it closes. At most {@code maxWindows} windows are open at any given time, the
+ * traps that would open another one are processed as usual.
+ */
+public class TrapStormAggregator implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrapStormAggregator.class);
+
+    private static final SnmpObjId SYS_UP_TIME = SnmpObjId.get(".1.3.6.1.2.1.1.3.0");
+
+    private static final SnmpObjId SNMP_TRAP_OID = SnmpObjId.get(".1.3.6.1.6.3.1.1.4.1.0");
+
+    private final long windowMs;
+
+    private final int maxWindows;
+
+    private final List<SnmpObjId> keyVarbinds;
+
+    private final Consumer<AggregatedTrap> onWindowClosed;
+
+    private final LongSupplier clock;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param windowMs the length of the windows
+     * @param maxWindows the maximum number of open windows
+     * @param keyVarbinds the prefixes of the key varbinds, or an empty list for all of them
+     * @param onWindowClosed called with the aggregated traps of the windows that close
+     */
+    public TrapStormAggregator(long windowMs, int maxWindows, List<SnmpObjId> keyVarbinds, Consumer<AggregatedTrap> onWindowClosed) {
+        this(windowMs, maxWindows, keyVarbinds, onWindowClosed, System::currentTimeMillis);
+    }
+
+    protected TrapStormAggregator(long windowMs, int maxWindows, List<SnmpObjId> keyVarbinds, Consumer<AggregatedTrap> onWindowClosed, LongSupplier clock) {
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("windowMs must be greater than 0");
+        }
+        if (maxWindows < 1) {
+            throw new IllegalArgumentException("maxWindows must be greater than 0");
+        }
+        this.windowMs = windowMs;
+        this.maxWindows = maxWindows;
+        this.keyVarbinds = keyVarbinds == null ? Collections.emptyList() : new ArrayList<>(keyVarbinds);
+        this.onWindowClosed = Objects.requireNonNull(onWindowClosed);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        final long period = Math.max(10, windowMs / 4);
+        scheduler = Executors.newSingleThreadScheduledExecutor(new LogPreservingThreadFactory(TrapStormAggregator.class.getSimpleName(), 1));
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                closeExpiredWindows();
+            } catch (Throwable t) {
+                LOG.error("Failed to close the expired aggregation windows.", t);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes all of the windows, passing on the traps they aggregated.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+        windows.forEach(this::closeWindow);
+    }
+
+    /**
+     * Offers a trap to the aggregator.
+     *
+     * @return true if the trap must be processed, false if it was aggregated
+     */
+    public boolean offer(TrapDTO trap, String systemId, String location, InetAddress trapAddress) {
+        final Key key = new Key(trap, location, trapAddress, keyVarbinds);
+        while (true) {
+            final long now = clock.getAsLong();
+            Window window = windows.get(key);
+            if (window == null) {
+                if (windows.size() >= maxWindows) {
+                    overflowCount.incrementAndGet();
+                    return true;
+                }
+                window = windows.putIfAbsent(key, new Window(now));
+                if (window == null) {
+                    // First of its kind
+                    return true;
+                }
+            }
+            if (window.add(trap, systemId, location, trapAddress, now)) {
+                return false;
+            }
+            // The window expired, but was not closed yet
+            closeWindow(key, window);
+        }
+    }
+
+    /**
+     * @return the number of traps that were processed as usual since there were too many open windows
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    public int getWindowCount() {
+        return windows.size();
+    }
+
+    protected void closeExpiredWindows() {
+        final long now = clock.getAsLong();
+        windows.forEach((key, window) -> {
+            if (window.isExpired(now)) {
+                closeWindow(key, window);
+            }
+        });
+    }
+
+    private void closeWindow(Key key, Window window) {
+        if (!windows.remove(key, window)) {
+            return;
+        }
+        final AggregatedTrap aggregatedTrap = window.close();
+        if (aggregatedTrap != null) {
+            onWindowClosed.accept(aggregatedTrap);
+        }
+    }
+
+    private class Window {
+
+        private final long start;
+
+        private boolean closed;
+
+        private int count;
+
+        private AggregatedTrap last;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private synchronized boolean add(TrapDTO trap, String systemId, String location, InetAddress trapAddress, long now) {
+            if (closed || isExpired(now)) {
+                return false;
+            }
+            count++;
+            last = new AggregatedTrap(trap, systemId, location, trapAddress, count);
+            return true;
+        }
+
+        private boolean isExpired(long now) {
+            return now - start >= windowMs;
+        }
+
+        private synchronized AggregatedTrap close() {
+            closed = true;
+            return last;
+        }
+    }
+
+    /**
+     * The last trap aggregated by a window, with the number of traps aggregated by the window.
+     */
+    public static class AggregatedTrap {
+
+        private final TrapDTO trap;
+
+        private final String systemId;
+
+        private final String location;
+
+        private final InetAddress trapAddress;
+
+        private final int count;
+
+        private AggregatedTrap(TrapDTO trap, String systemId, String location, InetAddress trapAddress, int count) {
+            this.trap = trap;
+            this.systemId = systemId;
+            this.location = location;
+            this.trapAddress = trapAddress;
+            this.count = count;
+        }
+
+        public TrapDTO getTrap() {
+            return trap;
+        }
+
+        public String getSystemId() {
+            return systemId;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public InetAddress getTrapAddress() {
+            return trapAddress;
+        }
+
+        /**
+         * @return the number of traps aggregated, not including the one that opened the window
+         */
+        public int getCount() {
+            return count;
+        }
+    }
+
+    private static class Key {
+
+        private final String location;
+
+        private final InetAddress trapAddress;
+
+        private final TrapIdentityDTO trapIdentity;
+
+        private final List<Object> varbinds = new ArrayList<>();
+
+        private final int hashCode;
+
+        private Key(TrapDTO trap, String location, InetAddress trapAddress, List<SnmpObjId> keyVarbinds) {
+            this.location = location;
+            this.trapAddress = trapAddress;
+            this.trapIdentity = trap.getTrapIdentity();
+            for (final SnmpResult result : trap.getResults()) {
+                // The varbinds of traps have no instance
+                final SnmpObjId oid = result.getInstance() == null ? result.getBase() : result.getAbsoluteInstance();
+                if (isKeyVarbind(oid, keyVarbinds)) {
+                    final SnmpValue value = result.getValue();
+                    varbinds.add(oid);
+                    varbinds.add(value == null ? null : value.getType());
+                    varbinds.add(value == null || value.getBytes() == null ? null : ByteBuffer.wrap(value.getBytes()));
+                }
+            }
+            this.hashCode = Objects.hash(location, trapAddress, trapIdentity, varbinds);
+        }
+
+        private static boolean isKeyVarbind(SnmpObjId oid, List<SnmpObjId> keyVarbinds) {
+            if (keyVarbinds.isEmpty()) {
+                return !SYS_UP_TIME.equals(oid) && !SNMP_TRAP_OID.equals(oid);
+            }
+            for (final SnmpObjId keyVarbind : keyVarbinds) {
+                if (keyVarbind.isPrefixOf(oid)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key that = (Key) o;
+            return hashCode == that.hashCode
+                    && Objects.equals(location, that.location)
+                    && Objects.equals(trapAddress, that.trapAddress)
+                    && Objects.equals(trapIdentity, that.trapIdentity)
+                    && Objects.equals(varbinds, that.varbinds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class TrapdInstrumentation {
     private final AtomicLong vUnknownTrapsReceived = new AtomicLong();
     private final AtomicLong trapsDiscarded = new AtomicLong();
     private final AtomicLong trapsErrored = new AtomicLong();
+    private final AtomicLong trapsAggregated = new AtomicLong();
 
     public void incTrapsReceivedCount(String version) {
         trapsReceived.incrementAndGet();
@@ -60,6 +61,10 @@ public class TrapdInstrumentation {
         trapsErrored.incrementAndGet();
     }
 
+    public void incAggregatedCount() {
+        trapsAggregated.incrementAndGet();
+    }
+
     public long getV1TrapsReceived() {
         return v1TrapsReceived.get();
     }
@@ -84,6 +89,10 @@ public class TrapdInstrumentation {
         return trapsErrored.get();
     }
 
+    public long getTrapsAggregated() {
+        return trapsAggregated.get();
+    }
+
     public long getTrapsReceived() {
         return trapsReceived.get();
     }
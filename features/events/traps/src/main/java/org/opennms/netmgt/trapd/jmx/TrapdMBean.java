@@ -50,4 +50,7 @@ public interface TrapdMBean extends BaseOnmsMBean {
     
     /** @return The number of traps not processed due to errors since Trapd was last started */
     public long getTrapsErrored();
+
+    /** @return The number of traps collapsed into the events of identical traps since Trapd was last started */
+    public long getTrapsAggregated();
 }
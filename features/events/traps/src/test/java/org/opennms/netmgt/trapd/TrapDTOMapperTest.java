@@ -27,9 +27,15 @@ import static org.junit.Assert.assertTrue;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Date;
+import java.util.List;
 
 import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
 import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
 import org.opennms.netmgt.snmp.TrapInformation;
 import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
 import org.snmp4j.PDU;
@@ -141,4 +147,39 @@ public class TrapDTOMapperTest {
 		// Make sure that the message was created after the start of the test
 		assertTrue(trapDto.getCreationTime() >= testStartTime);
 	}
+
+	@Test
+	public void canMapVarbinds() throws UnknownHostException {
+		PDU snmp4JV2cTrapPdu = new PDU();
+		snmp4JV2cTrapPdu.setType(PDU.TRAP);
+		snmp4JV2cTrapPdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000)));
+		snmp4JV2cTrapPdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(".1.3.6.1.4.1.5813.0.1")));
+		snmp4JV2cTrapPdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.1"), new OctetString("Trap Msg")));
+		snmp4JV2cTrapPdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.2"), new Integer32(42)));
+
+		TrapInformation snmp4JV2cTrap = new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(
+			InetAddressUtils.ONE_TWENTY_SEVEN,
+			"public",
+			snmp4JV2cTrapPdu
+		);
+
+		TrapDTO trapDto = new TrapDTO(snmp4JV2cTrap);
+		List<SnmpResult> results = trapDto.getResults();
+		// sysUpTime and snmpTrapOID are not mapped
+		assertEquals(2, results.size());
+		assertEquals(SnmpObjId.get(".1.3.6.1.4.1.5813.1.1"), results.get(0).getBase());
+		assertEquals("Trap Msg", results.get(0).getValue().toDisplayString());
+		assertEquals(42, results.get(1).getValue().toInt());
+
+		// The varbinds are sent the same way with either encoding
+		final TrapLogDTO trapLog = new TrapLogDTO("systemId", "location", InetAddressUtils.ONE_TWENTY_SEVEN);
+		trapLog.addMessage(new TrapDTO(snmp4JV2cTrap));
+		for (Encoding encoding : Encoding.values()) {
+			final TrapSinkModule module = new TrapSinkModule(new TrapdConfigBean(), Mockito.mock(OnmsDistPoller.class));
+			module.setEncoding(encoding);
+			final TrapLogDTO received = module.unmarshal(module.marshal(trapLog));
+			assertEquals(results, received.getMessages().get(0).getResults());
+			assertEquals(trapLog, received);
+		}
+	}
 }
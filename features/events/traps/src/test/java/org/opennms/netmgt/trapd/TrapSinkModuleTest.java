@@ -21,13 +21,38 @@
  */
 package org.opennms.netmgt.trapd;
 
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule;
+import org.opennms.core.ipc.sink.api.AbstractProtobufSinkModule.Encoding;
 import org.opennms.core.ipc.sink.api.Message;
 import org.opennms.core.ipc.sink.api.SinkModule;
 import org.opennms.netmgt.config.TrapdConfig;
 import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+import org.opennms.netmgt.snmp.TrapInformation;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
+import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Opaque;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
 
 public class TrapSinkModuleTest {
 
@@ -50,4 +75,113 @@ public class TrapSinkModuleTest {
         Assert.assertNotEquals(module, mockModule);
         Assert.assertNotEquals(module.hashCode(), mockModule.hashCode());
     }
+
+    @Test
+    public void canRouteByTrapAddress() throws Exception {
+        final TrapSinkModule module = new TrapSinkModule(new TrapdConfigBean(), Mockito.mock(OnmsDistPoller.class));
+        final TrapLogDTO trapLog = new TrapLogDTO("systemId", "location", InetAddress.getByName("192.168.0.1"));
+        Assert.assertEquals(Optional.of("location@192.168.0.1"), module.getRoutingKey(trapLog));
+        Assert.assertEquals(Optional.empty(), module.getRoutingKey(new TrapLogDTO()));
+    }
+
+    @Test
+    public void canMarshalAndUnmarshalWithBothEncodings() throws Exception {
+        final TrapLogDTO trapLog = new TrapLogDTO("systemId", "location", InetAddress.getByName("192.168.0.1"));
+        final TrapDTO trap = new TrapDTO();
+        trap.setAgentAddress(InetAddress.getByName("192.168.0.2"));
+        trap.setCommunity("public");
+        trap.setVersion("v2");
+        trap.setTimestamp(5000);
+        trap.setPduLength(2);
+        trap.setCreationTime(1500000000000L);
+        final TrapIdentityDTO trapIdentity = new TrapIdentityDTO();
+        trapIdentity.setGeneric(6);
+        trapIdentity.setSpecific(1);
+        trapIdentity.setEnterpriseId(".1.3.6.1.4.1.5813");
+        trapIdentity.setTrapOID(".1.3.6.1.4.1.5813.0.1");
+        trap.setTrapIdentity(trapIdentity);
+        trap.setResults(Arrays.asList(
+                new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.1.3.0"), null, SnmpUtils.getValueFactory().getTimeTicks(5000)),
+                new SnmpResult(SnmpObjId.get(".1.3.6.1.4.1.5813.1.1"), null, SnmpUtils.getValueFactory().getOctetString("test".getBytes()))));
+        trapLog.addMessage(trap);
+
+        final TrapSinkModule xmlModule = new TrapSinkModule(new TrapdConfigBean(), Mockito.mock(OnmsDistPoller.class));
+        xmlModule.setEncoding(Encoding.XML);
+        final TrapSinkModule protobufModule = new TrapSinkModule(new TrapdConfigBean(), Mockito.mock(OnmsDistPoller.class));
+        protobufModule.setEncoding(Encoding.PROTOBUF);
+
+        final byte[] protobuf = protobufModule.marshal(trapLog);
+        Assert.assertTrue(AbstractProtobufSinkModule.isProtobuf(protobuf));
+        Assert.assertEquals(trapLog, protobufModule.unmarshal(protobuf));
+        Assert.assertEquals(trapLog, xmlModule.unmarshal(protobuf));
+
+        // XML is still accepted by consumers using the protobuf encoding
+        final byte[] xml = xmlModule.marshal(trapLog);
+        Assert.assertFalse(AbstractProtobufSinkModule.isProtobuf(xml));
+        Assert.assertEquals(trapLog, protobufModule.unmarshal(xml));
+        Assert.assertTrue(protobuf.length < xml.length);
+
+        // The buffers reused between messages must not leak into the next ones
+        final TrapLogDTO emptyLog = new TrapLogDTO("systemId", "location", InetAddress.getByName("192.168.0.1"));
+        final byte[] empty = protobufModule.marshal(emptyLog);
+        Assert.assertEquals(emptyLog, protobufModule.unmarshal(empty));
+        Assert.assertArrayEquals(protobuf, protobufModule.marshal(trapLog));
+        Assert.assertArrayEquals(empty, protobufModule.marshal(emptyLog));
+    }
+
+    @Test
+    public void encodesVarbindsStraightFromThePdu() throws Exception {
+        final VariableBinding[] varbinds = {
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.1"), new Integer32(-42)),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.2"), new OctetString(new byte[]{0, (byte) 0xff, 'a'})),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.3"), new Counter32(4000000000L)),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.4"), new Counter64(-1L)),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.5"), new Gauge32(7)),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.6"), new TimeTicks(5000)),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.7"), new IpAddress("192.168.0.2")),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.8"), new OID(".1.3.6.1.4.1.5813")),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.9"), new Opaque(new byte[]{1, 2, 3})),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.10"), new Null()),
+                new VariableBinding(new OID(".1.3.6.1.4.1.5813.1.11"), Null.noSuchObject)
+        };
+
+        final PDUv1 v1Pdu = new PDUv1();
+        v1Pdu.setType(PDU.V1TRAP);
+        v1Pdu.setEnterprise(new OID(".1.3.6.1.4.1.5813"));
+        v1Pdu.setGenericTrap(6);
+        v1Pdu.setSpecificTrap(1);
+        v1Pdu.setTimestamp(5000);
+        v1Pdu.addAll(varbinds);
+
+        final PDU v2Pdu = new PDU();
+        v2Pdu.setType(PDU.TRAP);
+        v2Pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000)));
+        v2Pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(".1.3.6.1.4.1.5813.0.1")));
+        v2Pdu.addAll(varbinds);
+
+        final OnmsDistPoller distPoller = new OnmsDistPoller("00000000-0000-0000-0000-000000000000");
+        distPoller.setLocation("location");
+        final TrapSinkModule xmlModule = new TrapSinkModule(new TrapdConfigBean(), distPoller);
+        xmlModule.setEncoding(Encoding.XML);
+        final TrapSinkModule protobufModule = new TrapSinkModule(new TrapdConfigBean(), distPoller);
+        protobufModule.setEncoding(Encoding.PROTOBUF);
+
+        for (TrapInformation trapInfo : Arrays.asList(
+                new Snmp4JTrapNotifier.Snmp4JV1TrapInformation(InetAddress.getByName("192.168.0.1"), "public", v1Pdu),
+                new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(InetAddress.getByName("192.168.0.1"), "public", v2Pdu))) {
+            final TrapLogDTO mapped = xmlModule.getAggregationPolicy().aggregate(null, new TrapInformationWrapper(trapInfo));
+            final TrapLogDTO encoded = protobufModule.getAggregationPolicy().aggregate(null, new TrapInformationWrapper(trapInfo));
+            Assert.assertNull(mapped.getMessages().get(0).getEncodedResults());
+            Assert.assertEquals(varbinds.length, encoded.getMessages().get(0).getEncodedResults().size());
+
+            // Same bytes as when the varbinds are mapped to SnmpResults first
+            final byte[] protobuf = protobufModule.marshal(encoded);
+            Assert.assertArrayEquals(protobufModule.marshal(mapped), protobuf);
+            Assert.assertEquals(mapped, protobufModule.unmarshal(protobuf));
+
+            // The results are still available, e.g. to the XML encoding
+            Assert.assertEquals(mapped, xmlModule.unmarshal(xmlModule.marshal(encoded)));
+            Assert.assertEquals(mapped.getMessages().get(0).getResults(), encoded.getMessages().get(0).getResults());
+        }
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+
+public class TrapStormAggregatorTest {
+
+    private final AtomicLong now = new AtomicLong(1000L);
+
+    private final List<TrapStormAggregator.AggregatedTrap> closed = new ArrayList<>();
+
+    @Test
+    public void canAggregateIdenticalTraps() throws Exception {
+        final TrapStormAggregator aggregator = new TrapStormAggregator(1000, 10, Collections.emptyList(), closed::add, now::get);
+        final InetAddress trapAddress = InetAddress.getByName("192.168.0.1");
+
+        // The first trap is processed as usual
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "linkDown"), "systemId", "Default", trapAddress));
+
+        // The identical ones are aggregated, even though their sysUpTime differs
+        for (int i = 1; i <= 3; i++) {
+            now.addAndGet(100);
+            Assert.assertFalse(aggregator.offer(createTrap(5000 + i, "linkDown"), "systemId", "Default", trapAddress));
+        }
+        Assert.assertEquals(1, aggregator.getWindowCount());
+
+        aggregator.closeExpiredWindows();
+        Assert.assertEquals(0, closed.size());
+
+        now.addAndGet(1000);
+        aggregator.closeExpiredWindows();
+        Assert.assertEquals(1, closed.size());
+        Assert.assertEquals(3, closed.get(0).getCount());
+        Assert.assertEquals(5003, closed.get(0).getTrap().getTimestamp());
+        Assert.assertEquals(trapAddress, closed.get(0).getTrapAddress());
+        Assert.assertEquals(0, aggregator.getWindowCount());
+
+        // A new window is opened by the next trap
+        Assert.assertTrue(aggregator.offer(createTrap(6000, "linkDown"), "systemId", "Default", trapAddress));
+    }
+
+    @Test
+    public void canDistinguishTraps() throws Exception {
+        final TrapStormAggregator aggregator = new TrapStormAggregator(1000, 10, Collections.emptyList(), closed::add, now::get);
+        final InetAddress trapAddress = InetAddress.getByName("192.168.0.1");
+
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "linkDown"), "systemId", "Default", trapAddress));
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "linkUp"), "systemId", "Default", trapAddress));
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "linkDown"), "systemId", "Other", trapAddress));
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "linkDown"), "systemId", "Default", InetAddress.getByName("192.168.0.2")));
+        Assert.assertEquals(4, aggregator.getWindowCount());
+
+        // Windows without any aggregated trap close silently
+        aggregator.close();
+        Assert.assertEquals(0, closed.size());
+        Assert.assertEquals(0, aggregator.getWindowCount());
+    }
+
+    @Test
+    public void canLimitKeyVarbinds() throws Exception {
+        final TrapStormAggregator aggregator = new TrapStormAggregator(1000, 10,
+                Collections.singletonList(SnmpObjId.get(".1.3.6.1.4.1.5813.1.2")), closed::add, now::get);
+        final InetAddress trapAddress = InetAddress.getByName("192.168.0.1");
+
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "linkDown"), "systemId", "Default", trapAddress));
+        Assert.assertFalse(aggregator.offer(createTrap(5000, "linkUp"), "systemId", "Default", trapAddress));
+
+        aggregator.close();
+        Assert.assertEquals(1, closed.size());
+        Assert.assertEquals(1, closed.get(0).getCount());
+    }
+
+    @Test
+    public void canFailOpenWhenThereAreTooManyWindows() throws Exception {
+        final TrapStormAggregator aggregator = new TrapStormAggregator(1000, 2, Collections.emptyList(), closed::add, now::get);
+        final InetAddress trapAddress = InetAddress.getByName("192.168.0.1");
+
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "a"), "systemId", "Default", trapAddress));
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "b"), "systemId", "Default", trapAddress));
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "c"), "systemId", "Default", trapAddress));
+        Assert.assertTrue(aggregator.offer(createTrap(5000, "c"), "systemId", "Default", trapAddress));
+        Assert.assertEquals(2, aggregator.getOverflowCount());
+        Assert.assertEquals(2, aggregator.getWindowCount());
+
+        // Traps of the open windows are still aggregated
+        Assert.assertFalse(aggregator.offer(createTrap(5000, "a"), "systemId", "Default", trapAddress));
+    }
+
+    private static TrapDTO createTrap(long timestamp, String ifDescr) {
+        final TrapDTO trap = new TrapDTO();
+        trap.setAgentAddress(InetAddress.getLoopbackAddress());
+        trap.setCommunity("public");
+        trap.setVersion("v2");
+        trap.setTimestamp(timestamp);
+        final TrapIdentityDTO trapIdentity = new TrapIdentityDTO();
+        trapIdentity.setGeneric(6);
+        trapIdentity.setSpecific(1);
+        trapIdentity.setEnterpriseId(".1.3.6.1.4.1.5813");
+        trapIdentity.setTrapOID(".1.3.6.1.4.1.5813.0.1");
+        trap.setTrapIdentity(trapIdentity);
+        trap.setResults(Arrays.asList(
+                new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.1.3.0"), null, SnmpUtils.getValueFactory().getTimeTicks(timestamp)),
+                new SnmpResult(SnmpObjId.get(".1.3.6.1.4.1.5813.1.1"), null, SnmpUtils.getValueFactory().getOctetString(ifDescr.getBytes())),
+                new SnmpResult(SnmpObjId.get(".1.3.6.1.4.1.5813.1.2"), null, SnmpUtils.getValueFactory().getInt32(2))));
+        return trap;
+    }
+}
@@ -41,9 +41,9 @@ import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.opennms.core.ipc.common.kafka.Utils;
 import org.opennms.core.utils.SystemInfoUtils;
-import org.opennms.features.kafka.consumer.events.EventsMapper;
-import org.opennms.features.kafka.consumer.events.EventsProto;
 import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.events.proto.EventsMapper;
+import org.opennms.netmgt.events.proto.EventsProto;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.event.Log;
 import org.osgi.service.cm.ConfigurationAdmin;
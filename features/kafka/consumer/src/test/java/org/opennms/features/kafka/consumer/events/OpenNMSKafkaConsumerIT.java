@@ -48,6 +48,7 @@ import org.opennms.core.test.kafka.JUnitKafkaServer;
 import org.opennms.features.kafka.consumer.OpenNMSKafkaConsumer;
 import org.opennms.netmgt.dao.mock.MockEventIpcManager;
 import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.proto.EventsProto;
 import org.opennms.netmgt.model.events.EventBuilder;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.test.JUnitConfigurationEnvironment;
@@ -0,0 +1,81 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.plugins.elasticsearch.rest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adapts the number of events sent with a single bulk request to the latency of the bulk requests.
+ * <p>
+ * The batch size grows additively while the bulk requests complete within the target latency, and is
+ * halved as soon as one doesn't, or fails. This keeps the bulk requests as large as Elasticsearch can
+ * handle in a timely fashion, and backs off quickly when it slows down.
+ */
+class AdaptiveBatchSize {
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final long targetLatencyMs;
+	private final int increment;
+	private final AtomicInteger batchSize;
+
+	/**
+	 * @param targetLatencyMs the latency above which the batch size is reduced, or 0 to always use the
+	 *                        maximum batch size
+	 */
+	AdaptiveBatchSize(int minBatchSize, int maxBatchSize, long targetLatencyMs) {
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+		}
+		this.maxBatchSize = maxBatchSize;
+		this.minBatchSize = Math.max(1, Math.min(minBatchSize, maxBatchSize));
+		this.targetLatencyMs = targetLatencyMs;
+		this.increment = Math.max(1, maxBatchSize / 10);
+		this.batchSize = new AtomicInteger(maxBatchSize);
+	}
+
+	int get() {
+		return batchSize.get();
+	}
+
+	void onSuccess(long latencyMs) {
+		if (targetLatencyMs <= 0) {
+			return;
+		}
+		if (latencyMs > targetLatencyMs) {
+			decrease();
+		} else {
+			batchSize.updateAndGet(size -> Math.min(maxBatchSize, size + increment));
+		}
+	}
+
+	void onFailure() {
+		if (targetLatencyMs <= 0) {
+			return;
+		}
+		decrease();
+	}
+
+	private void decrease() {
+		batchSize.updateAndGet(size -> Math.max(minBatchSize, size / 2));
+	}
+}
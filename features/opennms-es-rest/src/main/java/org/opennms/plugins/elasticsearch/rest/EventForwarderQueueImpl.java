@@ -21,14 +21,31 @@
  */
 package org.opennms.plugins.elasticsearch.rest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
-import org.opennms.core.ipc.sink.aggregation.AggregatingMessageProducer;
-import org.opennms.core.ipc.sink.aggregation.ArrayListAggregationPolicy;
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+import org.opennms.core.ipc.sink.offheap.QueueFileOffHeapDispatchQueue;
+import org.opennms.core.ipc.sink.offheap.QueueFileOffHeapDispatchQueueFactory;
+import org.opennms.core.xml.JaxbUtils;
 import org.opennms.features.jest.client.ConnectionPoolShutdownException;
+import org.opennms.features.jest.client.bulk.BulkException;
 import org.opennms.features.jest.client.template.TemplateInitializer;
 import org.opennms.netmgt.events.api.EventForwarder;
 import org.opennms.netmgt.xml.event.Event;
@@ -36,9 +53,28 @@ import org.opennms.netmgt.xml.event.Log;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.swrve.ratelimitedlogger.RateLimitedLog;
+
 /**
  * Queues events received from OpenNMS for forwarding to Elasticsearch.
- * 
+ * <p>
+ * Events are queued in memory and, once the in-memory queue is full, on disk. A bulk request
+ * is sent as soon as enough events are queued to fill it, or once the batch interval elapsed.
+ * Up to one bulk request per thread of the {@link EventToIndex} is in flight at once, and the
+ * number of events per bulk request is adapted to the latency of the previous ones, see
+ * {@link AdaptiveBatchSize}.
+ * <p>
+ * Events are handed over to the queue without blocking the caller. When Elasticsearch slows down,
+ * the events accumulate in the queue instead of being dropped. They are only dropped once the queue
+ * is full, or when Elasticsearch rejects them. A bulk request that fails because Elasticsearch
+ * cannot be reached is queued again. On {@link #close()}, the events that are not on disk are sent
+ * before returning. The ones on disk are left in the queue file, and are sent once the forwarder is
+ * started again.
+ *
  * @author cgallen
  * @author Seth
  */
@@ -46,19 +82,108 @@ public class EventForwarderQueueImpl implements EventForwarder, AutoCloseable {
 
 	private static final Logger LOG = LoggerFactory.getLogger(EventForwarderQueueImpl.class);
 
+	private static final RateLimitedLog RATE_LIMITED_LOG = RateLimitedLog
+			.withRateLimit(LOG)
+			.maxRate(5).every(Duration.ofSeconds(30))
+			.build();
+
+	private static final String QUEUE_NAME = "elasticsearch-events";
+
+	// How long the enqueue thread takes at most to notice that it should stop
+	private static final long STOP_CHECK_INTERVAL_MS = 100;
+
 	private final EventToIndex eventToIndex;
 	private final TemplateInitializer elasticSearchInitializer;
-	private AggregatingMessageProducer<Event,List<Event>> producer;
+	private final int batchSize;
+	private final int batchInterval;
+	private final MetricRegistry metrics;
+
+	private int queueSize = 10000;
+	private int minBatchSize = 10;
+	private long targetBulkLatency = 1000;
+	private String overflowDirectory;
+	private String overflowSize = "100MB";
+
+	private QueueFileOffHeapDispatchQueue<Event> queue;
+	private BlockingQueue<Event> incoming;
+	private BlockingQueue<Event> pending;
+	// Batches to send again before the queued events, the number of bulk requests in flight bounds their number
+	private final Queue<List<Event>> retries = new ConcurrentLinkedQueue<>();
+	// Event taken from the queue by the dequeue thread when it stopped, if any
+	private volatile Event dequeued;
+	private AdaptiveBatchSize adaptiveBatchSize;
+	private Semaphore bulkRequests;
+	private int maxBulkRequests;
+	private Thread enqueueThread;
+	private Thread dequeueThread;
+	private Thread dispatchThread;
+	private volatile boolean running;
+
+	private Meter eventsDropped;
+	private Meter eventsForwarded;
+	private Meter eventsFailed;
+	private Timer bulkLatency;
 
 	public EventForwarderQueueImpl(EventToIndex eventToIndex, TemplateInitializer initializer, int batchSize, int batchInterval) {
+		this(eventToIndex, initializer, batchSize, batchInterval, new MetricRegistry());
+	}
+
+	public EventForwarderQueueImpl(EventToIndex eventToIndex, TemplateInitializer initializer, int batchSize, int batchInterval, MetricRegistry metrics) {
 		this.elasticSearchInitializer = Objects.requireNonNull(initializer);
 		this.eventToIndex = Objects.requireNonNull(eventToIndex);
-		this.producer = new EventIndexProducer(batchSize, batchInterval);
+		this.metrics = Objects.requireNonNull(metrics);
+		this.batchSize = Math.max(1, batchSize);
+		this.batchInterval = Math.max(1, batchInterval);
 	}
 
+	public void init() throws IOException {
+		// The in-memory part of the queue is filled in chunks of the maximum batch size
+		final int inMemoryQueueSize = Math.max(1, (queueSize + batchSize - 1) / batchSize) * batchSize;
+		final long maxFileSize = QueueFileOffHeapDispatchQueueFactory.convertToBytes(overflowSize);
+		final Path overflowPath = overflowDirectory == null || overflowDirectory.isEmpty()
+				? Paths.get(System.getProperty("karaf.data", System.getProperty("java.io.tmpdir")))
+				: Paths.get(overflowDirectory);
+		queue = new QueueFileOffHeapDispatchQueue<>(
+				event -> JaxbUtils.marshal(event).getBytes(StandardCharsets.UTF_8),
+				bytes -> JaxbUtils.unmarshal(Event.class, new String(bytes, StandardCharsets.UTF_8)),
+				QUEUE_NAME, overflowPath, inMemoryQueueSize, batchSize, maxFileSize);
+		incoming = new ArrayBlockingQueue<>(batchSize);
+		pending = new ArrayBlockingQueue<>(batchSize);
+		adaptiveBatchSize = new AdaptiveBatchSize(minBatchSize, batchSize, targetBulkLatency);
+		maxBulkRequests = Math.max(1, eventToIndex.getThreads());
+		bulkRequests = new Semaphore(maxBulkRequests);
+
+		eventsDropped = metrics.meter("events.dropped");
+		eventsForwarded = metrics.meter("events.forwarded");
+		eventsFailed = metrics.meter("events.failed");
+		bulkLatency = metrics.timer("bulk.latency");
+		metrics.register("queue.size", (Gauge<Integer>) () -> incoming.size() + queue.getSize() + pending.size());
+		metrics.register("batch.size", (Gauge<Integer>) adaptiveBatchSize::get);
+		metrics.register("bulk.inflight", (Gauge<Integer>) () -> maxBulkRequests - bulkRequests.availablePermits());
+
+		running = true;
+		// The queue blocks both when it is full and when it is empty, so the events are handed over
+		// through two small queues which can be offered to, and polled with a timeout
+		enqueueThread = new LogPreservingThreadFactory(getClass().getSimpleName() + "-Enqueue", 1).newThread(this::enqueueEvents);
+		dequeueThread = new LogPreservingThreadFactory(getClass().getSimpleName() + "-Dequeue", 1).newThread(this::dequeueEvents);
+		dispatchThread = new LogPreservingThreadFactory(getClass().getSimpleName() + "-Dispatch", 1).newThread(this::dispatchEvents);
+		enqueueThread.start();
+		dequeueThread.start();
+		dispatchThread.start();
+
+		LOG.info("Forwarding events with bulk requests of {} to {} events, at most {} in flight, queueing up to {} events in memory and {} bytes in {}.",
+				Math.min(minBatchSize, batchSize), batchSize, maxBulkRequests, inMemoryQueueSize, maxFileSize, overflowPath);
+	}
+
+	/**
+	 * Queues the event without blocking, dropping it if the queue cannot keep up.
+	 */
 	@Override
 	public void sendNow(Event event) {
-		producer.send(event);
+		if (!running || !incoming.offer(event)) {
+			eventsDropped.mark();
+			RATE_LIMITED_LOG.warn("The queue is full, dropping event with uei {}.", event.getUei());
+		}
 	}
 
 	@Override
@@ -71,60 +196,251 @@ public class EventForwarderQueueImpl implements EventForwarder, AutoCloseable {
 	}
 
 	/**
-	 * Call {@link AggregatingMessageProducer#dispatch(Object)} to synchronously
-	 * dispatch the event.
+	 * Forwards the event right away, bypassing the queue.
 	 */
 	@Override
 	public void sendNowSync(Event event) {
-		producer.dispatch(Collections.singletonList(event));
+		dispatch(Collections.singletonList(event));
 	}
 
 	/**
-	 * Call {@link AggregatingMessageProducer#dispatch(Object)} to synchronously
-	 * dispatch the events.
+	 * Forwards the events right away, bypassing the queue.
 	 */
 	@Override
 	public void sendNowSync(Log eventLog) {
 		if (eventLog != null && eventLog.getEvents() != null) {
-			producer.dispatch(Arrays.asList(eventLog.getEvents().getEvent()));
+			dispatch(Arrays.asList(eventLog.getEvents().getEvent()));
 		}
 	}
 
 	@Override
 	public void close() throws Exception {
-		if (producer != null) {
-			producer.close();
-			producer = null;
+		if (!running) {
+			return;
+		}
+		running = false;
+		// The enqueue thread is only interrupted if it is stuck on a full queue, since the event it is
+		// enqueueing may be lost when interrupted
+		enqueueThread.join(TimeUnit.SECONDS.toMillis(5));
+		for (Thread thread : Arrays.asList(enqueueThread, dequeueThread, dispatchThread)) {
+			thread.interrupt();
+			thread.join(TimeUnit.SECONDS.toMillis(5));
+		}
+		// Give the bulk requests in flight a chance to complete, or to be queued again
+		if (!bulkRequests.tryAcquire(maxBulkRequests, 30, TimeUnit.SECONDS)) {
+			LOG.warn("Bulk requests still in flight after 30 seconds, giving up on them.");
+		}
+		flush();
+		for (String name : Arrays.asList("events.dropped", "events.forwarded", "events.failed", "bulk.latency", "queue.size", "batch.size", "bulk.inflight")) {
+			metrics.remove(name);
 		}
 	}
 
 	/**
-	 * This {@link AggregatingMessageProducer} aggregates using a single
-	 * bucket for all received events.
+	 * Sends the events that would otherwise be lost, i.e. the ones which are not in the queue file,
+	 * without reading the queue file. Stops at the first failure.
 	 */
-	private class EventIndexProducer extends AggregatingMessageProducer<Event, List<Event>> {
-
-		public EventIndexProducer(int batchSize, int batchInterval) {
-			super(
-				EventIndexProducer.class.getName(), new ArrayListAggregationPolicy<>(batchSize, batchInterval, e -> "event")
-			);
+	private void flush() {
+		final List<Event> events = new ArrayList<>();
+		List<Event> retry;
+		while ((retry = retries.poll()) != null) {
+			events.addAll(retry);
 		}
-
-		/**
-		 * Send events to the index processor.
-		 */
-		@Override
-		public void dispatch(List<Event> events) {
+		pending.drainTo(events);
+		if (dequeued != null) {
+			events.add(dequeued);
+			dequeued = null;
+		}
+		queue.drainInMemory().forEach(entry -> events.add(entry.getValue()));
+		incoming.drainTo(events);
+		for (int from = 0; from < events.size(); from += batchSize) {
+			final List<Event> batch = events.subList(from, Math.min(from + batchSize, events.size()));
 			try {
-				// Ensure we are initialized correctly.
-				if (!elasticSearchInitializer.isInitialized()) {
-					elasticSearchInitializer.initialize(); // blocks until initialized properly
+				if (!ensureInitialized(batch)) {
+					return;
 				}
-			} catch (ConnectionPoolShutdownException ex) { // Connection Pool is gone, nothing we can do
-				ExceptionUtils.handle(getClass(), ex, events);
+				eventToIndex.index(batch);
+				eventsForwarded.mark(batch.size());
+			} catch (IOException e) {
+				final int dropped = events.size() - from;
+				eventsFailed.mark(dropped);
+				LOG.error("Could not send the queued events while closing, dropping {} events.", dropped, e);
 				return;
 			}
+		}
+	}
+
+	private void enqueueEvents() {
+		try {
+			while (running) {
+				final Event event = incoming.poll(STOP_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+				if (event == null) {
+					continue;
+				}
+				try {
+					queue.enqueue(event, QUEUE_NAME);
+				} catch (WriteFailedException e) {
+					eventsDropped.mark();
+					RATE_LIMITED_LOG.warn("Could not queue event with uei {}, dropping it.", event.getUei(), e);
+				}
+			}
+		} catch (InterruptedException e) {
+			LOG.debug("Interrupted while enqueueing events, stopping.");
+		}
+	}
+
+	private void dequeueEvents() {
+		Event event = null;
+		try {
+			while (running) {
+				if (event == null) {
+					event = queue.dequeue().getValue();
+				}
+				if (pending.offer(event, batchInterval, TimeUnit.MILLISECONDS)) {
+					event = null;
+				}
+			}
+		} catch (InterruptedException e) {
+			LOG.debug("Interrupted while dequeueing events, stopping.");
+		} finally {
+			dequeued = event;
+		}
+	}
+
+	private void dispatchEvents() {
+		List<Event> batch = null;
+		try {
+			while (running) {
+				// Blocks while the maximum number of bulk requests are in flight
+				bulkRequests.acquire();
+				boolean sent = false;
+				try {
+					batch = retries.poll();
+					if (batch != null) {
+						// Give Elasticsearch some time to recover before trying again
+						Thread.sleep(batchInterval);
+					} else {
+						batch = new ArrayList<>(adaptiveBatchSize.get());
+						fillBatch(batch);
+					}
+					sent = !batch.isEmpty() && send(batch);
+					batch = null;
+				} finally {
+					if (!sent) {
+						bulkRequests.release();
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			LOG.debug("Interrupted while dispatching events, stopping.");
+			if (batch != null && !batch.isEmpty()) {
+				retries.add(batch);
+			}
+		}
+	}
+
+	/**
+	 * Waits up to the batch interval for a first event, then up to the batch interval for the batch to fill up.
+	 * The batch is filled in place so that its events can be recovered when interrupted.
+	 */
+	private void fillBatch(List<Event> batch) throws InterruptedException {
+		final int size = adaptiveBatchSize.get();
+		final Event first = pending.poll(batchInterval, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			return;
+		}
+		batch.add(first);
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchInterval);
+		while (batch.size() < size) {
+			final Event event = pending.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			if (event == null) {
+				break;
+			}
+			batch.add(event);
+		}
+	}
+
+	/**
+	 * @return true if a bulk request was sent, in which case its permit is released once it completes
+	 */
+	private boolean send(List<Event> events) {
+		if (!ensureInitialized(events)) {
+			return false;
+		}
+		final Timer.Context context = bulkLatency.time();
+		final CompletableFuture<Void> future;
+		try {
+			future = eventToIndex.forwardEventsAsync(events);
+		} catch (RuntimeException e) {
+			LOG.error("Could not forward {} events.", events.size(), e);
+			eventsFailed.mark(events.size());
+			return false;
+		}
+		future.whenComplete((result, ex) -> {
+			final long latency = TimeUnit.NANOSECONDS.toMillis(context.stop());
+			bulkRequests.release();
+			if (ex == null) {
+				eventsForwarded.mark(events.size());
+				adaptiveBatchSize.onSuccess(latency);
+			} else if (isUnreachable(ex.getCause())) {
+				// Elasticsearch did not answer, send the events again before the queued ones
+				adaptiveBatchSize.onFailure();
+				retries.add(events);
+			} else {
+				// The failure has already been logged by the EventToIndex
+				eventsFailed.mark(events.size());
+				adaptiveBatchSize.onFailure();
+				if (ex.getCause() instanceof ConnectionPoolShutdownException) {
+					ExceptionUtils.handle(getClass(), (ConnectionPoolShutdownException) ex.getCause(), events);
+				}
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * @return true if the bulk request failed without Elasticsearch rejecting any of the events
+	 */
+	private static boolean isUnreachable(Throwable cause) {
+		return cause instanceof BulkException && ((BulkException) cause).getBulkResult() == null;
+	}
+
+	private void dispatch(List<Event> events) {
+		if (ensureInitialized(events)) {
 			eventToIndex.forwardEvents(events);
 		}
 	}
+
+	private boolean ensureInitialized(List<Event> events) {
+		try {
+			// Ensure we are initialized correctly.
+			if (!elasticSearchInitializer.isInitialized()) {
+				elasticSearchInitializer.initialize(); // blocks until initialized properly
+			}
+			return true;
+		} catch (ConnectionPoolShutdownException ex) { // Connection Pool is gone, nothing we can do
+			ExceptionUtils.handle(getClass(), ex, events);
+			return false;
+		}
+	}
+
+	public void setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+	}
+
+	public void setMinBatchSize(int minBatchSize) {
+		this.minBatchSize = minBatchSize;
+	}
+
+	public void setTargetBulkLatency(long targetBulkLatency) {
+		this.targetBulkLatency = targetBulkLatency;
+	}
+
+	public void setOverflowDirectory(String overflowDirectory) {
+		this.overflowDirectory = overflowDirectory;
+	}
+
+	public void setOverflowSize(String overflowSize) {
+		this.overflowSize = overflowSize;
+	}
 }
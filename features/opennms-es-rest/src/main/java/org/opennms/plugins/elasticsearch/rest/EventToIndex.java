@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -133,6 +134,10 @@ public class EventToIndex implements AutoCloseable {
 		}
 	}
 
+	public int getThreads() {
+		return threads;
+	}
+
 	public void setNodeCache(NodeCache cache) {
 		this.nodeCache = cache;
 	}
@@ -148,11 +153,12 @@ public class EventToIndex implements AutoCloseable {
 	}
 
 	public void forwardEvents(final List<Event> events) {
-		CompletableFuture.completedFuture(events)
-				// Send the events to Elasticsearch
-				.thenAcceptAsync(this::sendEvents, executor)
+		forwardEventsAsync(events)
 				.exceptionally(e -> {
-					LOG.error("Unexpected exception during task completion: " + e.getMessage(), e);
+					// Failed bulk requests have already been logged by index()
+					if (!(e.getCause() instanceof IOException)) {
+						LOG.error("Unexpected exception during task completion: " + e.getMessage(), e);
+					}
 					if (e.getCause() instanceof ConnectionPoolShutdownException) {
 						ExceptionUtils.handle(getClass(), (ConnectionPoolShutdownException) e.getCause(), events);
 					}
@@ -160,7 +166,28 @@ public class EventToIndex implements AutoCloseable {
 				});
 	}
 
-	private void sendEvents(final List<Event> allEvents) {
+	/**
+	 * Sends the events to Elasticsearch with a single bulk request, on one of the threads of this instance.
+	 *
+	 * @return a future that completes once the bulk request succeeded, or exceptionally with the
+	 *         {@link IOException} it failed with
+	 */
+	public CompletableFuture<Void> forwardEventsAsync(final List<Event> events) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				index(events);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Sends the events to Elasticsearch with a single bulk request, retrying it as configured.
+	 *
+	 * @throws IOException if the bulk request failed, after the failure was logged
+	 */
+	public void index(final List<Event> allEvents) throws IOException {
 		final BulkRequest<Event> request = new BulkRequest<>(jestClient, allEvents,
 				(events) -> new BulkWrapper(new Bulk.Builder().addAction(convertEventsToEsActions(events))),
 				bulkRetryCount);
@@ -179,8 +206,10 @@ public class EventToIndex implements AutoCloseable {
 					}
 				}
 			}
+			throw ex;
 		} catch (IOException ex) {
 			LOG.error("Bulk API action failed. An exception occurred: {}", ex.getMessage(), ex);
+			throw ex;
 		}
 	}
 
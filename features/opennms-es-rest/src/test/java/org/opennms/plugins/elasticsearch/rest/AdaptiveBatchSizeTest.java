@@ -0,0 +1,70 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.plugins.elasticsearch.rest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class AdaptiveBatchSizeTest {
+
+    @Test
+    public void startsWithTheMaximumBatchSize() {
+        assertThat(new AdaptiveBatchSize(10, 200, 1000).get(), is(200));
+    }
+
+    @Test
+    public void halvesTheBatchSizeWhenSlowOrFailing() {
+        final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(10, 200, 1000);
+        batchSize.onSuccess(1500);
+        assertThat(batchSize.get(), is(100));
+        batchSize.onFailure();
+        assertThat(batchSize.get(), is(50));
+        for (int i = 0; i < 10; i++) {
+            batchSize.onFailure();
+        }
+        assertThat(batchSize.get(), is(10));
+    }
+
+    @Test
+    public void growsTheBatchSizeBackWhenFast() {
+        final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(10, 200, 1000);
+        batchSize.onFailure();
+        batchSize.onFailure();
+        assertThat(batchSize.get(), is(50));
+        batchSize.onSuccess(100);
+        assertThat(batchSize.get(), is(70));
+        for (int i = 0; i < 10; i++) {
+            batchSize.onSuccess(100);
+        }
+        assertThat(batchSize.get(), is(200));
+    }
+
+    @Test
+    public void keepsTheMaximumBatchSizeWithoutTargetLatency() {
+        final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(10, 200, 0);
+        batchSize.onFailure();
+        batchSize.onSuccess(5000);
+        assertThat(batchSize.get(), is(200));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.plugins.elasticsearch.rest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.opennms.core.ipc.sink.offheap.QueueFileOffHeapDispatchQueue;
+import org.opennms.core.xml.JaxbUtils;
+import org.opennms.features.jest.client.bulk.BulkException;
+import org.opennms.features.jest.client.template.TemplateInitializer;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+public class EventForwarderQueueImplTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final EventToIndex eventToIndex = mock(EventToIndex.class);
+    private final TemplateInitializer initializer = mock(TemplateInitializer.class);
+    private final MetricRegistry metrics = new MetricRegistry();
+    private final List<CompletableFuture<Void>> inFlight = new CopyOnWriteArrayList<>();
+    private volatile boolean answering;
+
+    private EventForwarderQueueImpl forwarder;
+
+    @Before
+    public void setUp() {
+        when(eventToIndex.getThreads()).thenReturn(1);
+        when(initializer.isInitialized()).thenReturn(true);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        answering = true;
+        inFlight.forEach(future -> future.complete(null));
+        if (forwarder != null) {
+            forwarder.close();
+        }
+    }
+
+    @Test
+    public void doesNotBlockWhenTheQueueIsFull() throws Exception {
+        // Elasticsearch never answers, so the single bulk request in flight never completes
+        when(eventToIndex.forwardEventsAsync(anyList())).then(invocation -> {
+            if (answering) {
+                return CompletableFuture.completedFuture(null);
+            }
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return future;
+        });
+        forwarder = createForwarder(10, 10);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            forwarder.sendNow(createEvent(i));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(5000L));
+        assertThat(metrics.meter("events.dropped").getCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void requeuesBulkRequestsWhenElasticsearchIsUnreachable() throws Exception {
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new CompletionException(new BulkException(new IOException("Connection refused"))));
+        when(eventToIndex.forwardEventsAsync(anyList()))
+                .thenReturn(failed)
+                .thenReturn(CompletableFuture.completedFuture(null));
+        forwarder = createForwarder(10, 100);
+
+        for (int i = 0; i < 5; i++) {
+            forwarder.sendNow(createEvent(i));
+        }
+
+        final ArgumentCaptor<List<Event>> batches = ArgumentCaptor.forClass(List.class);
+        verify(eventToIndex, timeout(5000).times(2)).forwardEventsAsync(batches.capture());
+        assertThat(ueis(batches.getAllValues().get(1)), is(ueis(batches.getAllValues().get(0))));
+        assertThat(metrics.meter("events.failed").getCount(), is(0L));
+    }
+
+    @Test
+    public void sendsTheQueuedEventsWhenClosed() throws Exception {
+        // The batch is only sent once full, or after a minute
+        forwarder = createForwarder(10, 60000);
+
+        for (int i = 0; i < 3; i++) {
+            forwarder.sendNow(createEvent(i));
+        }
+        forwarder.close();
+
+        final ArgumentCaptor<List<Event>> batch = ArgumentCaptor.forClass(List.class);
+        verify(eventToIndex).index(batch.capture());
+        assertThat(ueis(batch.getValue()), is(ueis(createEvent(0), createEvent(1), createEvent(2))));
+        verify(eventToIndex, never()).forwardEventsAsync(anyList());
+    }
+
+    @Test
+    public void leavesTheEventsOnDiskWhenClosed() throws Exception {
+        // Elasticsearch can't be reached, so the first bulk request is retried after a minute and the
+        // other events are queued, mostly on disk
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new CompletionException(new BulkException(new IOException("Connection refused"))));
+        when(eventToIndex.forwardEventsAsync(anyList())).thenReturn(failed);
+        doThrow(new IOException("Connection refused")).when(eventToIndex).index(anyList());
+        forwarder = new EventForwarderQueueImpl(eventToIndex, initializer, 10, 60000, metrics);
+        forwarder.setQueueSize(10);
+        forwarder.setMinBatchSize(10);
+        forwarder.setOverflowDirectory(tempFolder.getRoot().getAbsolutePath());
+        forwarder.setOverflowSize("10MB");
+        forwarder.init();
+
+        final int numEvents = 100;
+        for (int i = 0; i < numEvents; i++) {
+            // The hand-over queue only holds a batch, give the queue some time to take the events in
+            while (!sendNowWithoutDropping(createEvent(i))) {
+                Thread.sleep(1);
+            }
+        }
+        verify(eventToIndex, timeout(5000)).forwardEventsAsync(anyList());
+        // The metrics are removed when closing
+        final Meter eventsFailed = metrics.meter("events.failed");
+        forwarder.close();
+
+        // Only the events that are not on disk were sent, with a single bulk request since it failed
+        verify(eventToIndex).index(anyList());
+        final QueueFileOffHeapDispatchQueue<Event> queue = new QueueFileOffHeapDispatchQueue<>(
+                event -> JaxbUtils.marshal(event).getBytes(StandardCharsets.UTF_8),
+                bytes -> JaxbUtils.unmarshal(Event.class, new String(bytes, StandardCharsets.UTF_8)),
+                "elasticsearch-events", tempFolder.getRoot().toPath(), 10, 10, 10 * 1024 * 1024);
+        assertThat(queue.getSize(), greaterThan(0));
+        assertThat(eventsFailed.getCount() + queue.getSize(), is((long) numEvents));
+    }
+
+    /**
+     * @return false if the event was dropped because the hand-over queue was full
+     */
+    private boolean sendNowWithoutDropping(Event event) {
+        final long dropped = metrics.meter("events.dropped").getCount();
+        forwarder.sendNow(event);
+        return metrics.meter("events.dropped").getCount() == dropped;
+    }
+
+    private EventForwarderQueueImpl createForwarder(int batchSize, int batchInterval) throws IOException {
+        final EventForwarderQueueImpl forwarder = new EventForwarderQueueImpl(eventToIndex, initializer, batchSize, batchInterval, metrics);
+        forwarder.setQueueSize(batchSize);
+        forwarder.setMinBatchSize(batchSize);
+        // Only queue in memory
+        forwarder.setOverflowSize("0MB");
+        forwarder.init();
+        return forwarder;
+    }
+
+    private static Event createEvent(int index) {
+        return new EventBuilder("uei.opennms.org/test/" + index, "test").getEvent();
+    }
+
+    private static List<String> ueis(Event... events) {
+        return ueis(Arrays.asList(events));
+    }
+
+    private static List<String> ueis(List<Event> events) {
+        return events.stream().map(Event::getUei).collect(Collectors.toList());
+    }
+}
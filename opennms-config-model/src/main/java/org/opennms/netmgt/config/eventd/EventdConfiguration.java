@@ -47,6 +47,22 @@ public class EventdConfiguration implements Serializable {
     private static final int BATCH_INTERVAL = 500;
     private static final int QUEUE_SIZE = 10000;
 
+    // Event writer constants.
+    private static final int WRITE_BATCH_SIZE = 1;
+    private static final int WRITE_BATCH_INTERVAL = 10;
+
+    // Event handler constants.
+    private static final int LANES = 0;
+
+    // TCP listener constants.
+    private static final String TCP_FORMAT = "xml";
+
+    // Rate limiter constants.
+    private static final int RATE_LIMIT = 0;
+    private static final int RATE_LIMIT_BURST = 10;
+    private static final int RATE_LIMIT_MAX_KEYS = 65536;
+    private static final int RATE_LIMIT_ROLLUP_INTERVAL = 60;
+
     /**
      * The IP address on which eventd listens for TCP connections.
      *  If "" is specified, eventd will bind to all addresses. The default
@@ -157,6 +173,74 @@ public class EventdConfiguration implements Serializable {
 	@XmlAttribute(name="sink-batch-interval", required=false)
     private Integer m_batchInterval;
 
+    /**
+     * Maximum number of events written to the database in a single
+     * transaction. When greater than 1, the events received concurrently
+     * are grouped and committed together.
+     */
+    @XmlAttribute(name = "writeBatchSize", required = false)
+    private Integer m_writeBatchSize;
+
+    /**
+     * Maximum amount of time (ms) spent waiting for additional events
+     * before committing a batch of events to the database.
+     */
+    @XmlAttribute(name = "writeBatchInterval", required = false)
+    private Integer m_writeBatchInterval;
+
+    /**
+     * Number of single-threaded lanes used to process the events. When
+     * greater than 0, the events are assigned to a lane by node so that the
+     * events of a given node are processed in order, and the "receivers"
+     * attribute is ignored.
+     */
+    @XmlAttribute(name = "lanes", required = false)
+    private Integer m_lanes;
+
+    /**
+     * Format of the events received on the TCP port: "xml" documents that
+     * are unmarshalled as a whole, "xml-streaming" documents whose events
+     * are handled as soon as they are read, or length-prefixed "protobuf"
+     * events.
+     */
+    @XmlAttribute(name = "TCPFormat", required = false)
+    private String m_tcpFormat;
+
+    /**
+     * Maximum number of events per minute with the same UEI, node, interface
+     * and reduction key. The events in excess are neither persisted nor
+     * broadcast. The rate limiter is disabled when 0.
+     */
+    @XmlAttribute(name = "rateLimit", required = false)
+    private Integer m_rateLimit;
+
+    /**
+     * Number of events with the same key that can be received at once before
+     * they are rate limited.
+     */
+    @XmlAttribute(name = "rateLimitBurst", required = false)
+    private Integer m_rateLimitBurst;
+
+    /**
+     * Comma-separated list of the UEIs that are rate limited, prefixes end
+     * with '*'. All of the UEIs are rate limited when not set.
+     */
+    @XmlAttribute(name = "rateLimitUeis", required = false)
+    private String m_rateLimitUeis;
+
+    /**
+     * Maximum number of keys tracked by the rate limiter.
+     */
+    @XmlAttribute(name = "rateLimitMaxKeys", required = false)
+    private Integer m_rateLimitMaxKeys;
+
+    /**
+     * Interval (seconds) at which the number of suppressed events is
+     * summarized in an event.
+     */
+    @XmlAttribute(name = "rateLimitRollupInterval", required = false)
+    private Integer m_rateLimitRollupInterval;
+
     public EventdConfiguration() {
     }
 
@@ -272,6 +356,78 @@ public class EventdConfiguration implements Serializable {
         this.m_batchInterval = _batchInterval;
     }
 
+    public int getWriteBatchSize() {
+        return m_writeBatchSize == null ? WRITE_BATCH_SIZE : m_writeBatchSize;
+    }
+
+    public void setWriteBatchSize(final Integer writeBatchSize) {
+        m_writeBatchSize = writeBatchSize;
+    }
+
+    public int getWriteBatchInterval() {
+        return m_writeBatchInterval == null ? WRITE_BATCH_INTERVAL : m_writeBatchInterval;
+    }
+
+    public void setWriteBatchInterval(final Integer writeBatchInterval) {
+        m_writeBatchInterval = writeBatchInterval;
+    }
+
+    public int getLanes() {
+        return m_lanes == null ? LANES : m_lanes;
+    }
+
+    public void setLanes(final Integer lanes) {
+        m_lanes = lanes;
+    }
+
+    public String getTCPFormat() {
+        return m_tcpFormat == null ? TCP_FORMAT : m_tcpFormat;
+    }
+
+    public void setTCPFormat(final String tcpFormat) {
+        m_tcpFormat = ConfigUtils.normalizeString(tcpFormat);
+    }
+
+    public int getRateLimit() {
+        return m_rateLimit == null ? RATE_LIMIT : m_rateLimit;
+    }
+
+    public void setRateLimit(final Integer rateLimit) {
+        m_rateLimit = rateLimit;
+    }
+
+    public int getRateLimitBurst() {
+        return m_rateLimitBurst == null ? RATE_LIMIT_BURST : m_rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(final Integer rateLimitBurst) {
+        m_rateLimitBurst = rateLimitBurst;
+    }
+
+    public Optional<String> getRateLimitUeis() {
+        return Optional.ofNullable(m_rateLimitUeis);
+    }
+
+    public void setRateLimitUeis(final String rateLimitUeis) {
+        m_rateLimitUeis = ConfigUtils.normalizeString(rateLimitUeis);
+    }
+
+    public int getRateLimitMaxKeys() {
+        return m_rateLimitMaxKeys == null ? RATE_LIMIT_MAX_KEYS : m_rateLimitMaxKeys;
+    }
+
+    public void setRateLimitMaxKeys(final Integer rateLimitMaxKeys) {
+        m_rateLimitMaxKeys = rateLimitMaxKeys;
+    }
+
+    public int getRateLimitRollupInterval() {
+        return m_rateLimitRollupInterval == null ? RATE_LIMIT_ROLLUP_INTERVAL : m_rateLimitRollupInterval;
+    }
+
+    public void setRateLimitRollupInterval(final Integer rateLimitRollupInterval) {
+        m_rateLimitRollupInterval = rateLimitRollupInterval;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(
@@ -288,7 +444,16 @@ public class EventdConfiguration implements Serializable {
                             m_threads,
                             m_queueSize,
                             m_batchSize,
-                            m_batchInterval);
+                            m_batchInterval,
+                            m_writeBatchSize,
+                            m_writeBatchInterval,
+                            m_lanes,
+                            m_tcpFormat,
+                            m_rateLimit,
+                            m_rateLimitBurst,
+                            m_rateLimitUeis,
+                            m_rateLimitMaxKeys,
+                            m_rateLimitRollupInterval);
     }
 
     @Override
@@ -312,7 +477,16 @@ public class EventdConfiguration implements Serializable {
                     && Objects.equals(this.m_threads, that.m_threads)
                     && Objects.equals(this.m_queueSize, that.m_queueSize)
             		&& Objects.equals(this.m_batchSize, that.m_batchSize)
-            		&& Objects.equals(this.m_batchInterval, that.m_batchInterval);
+            		&& Objects.equals(this.m_batchInterval, that.m_batchInterval)
+                    && Objects.equals(this.m_writeBatchSize, that.m_writeBatchSize)
+                    && Objects.equals(this.m_writeBatchInterval, that.m_writeBatchInterval)
+                    && Objects.equals(this.m_lanes, that.m_lanes)
+                    && Objects.equals(this.m_tcpFormat, that.m_tcpFormat)
+                    && Objects.equals(this.m_rateLimit, that.m_rateLimit)
+                    && Objects.equals(this.m_rateLimitBurst, that.m_rateLimitBurst)
+                    && Objects.equals(this.m_rateLimitUeis, that.m_rateLimitUeis)
+                    && Objects.equals(this.m_rateLimitMaxKeys, that.m_rateLimitMaxKeys)
+                    && Objects.equals(this.m_rateLimitRollupInterval, that.m_rateLimitRollupInterval);
         }
         return false;
     }
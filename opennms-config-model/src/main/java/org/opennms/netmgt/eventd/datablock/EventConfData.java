@@ -27,10 +27,17 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
 /**
  * <pre>
  * The information read from the eventconf.xml is stored here. It maintains
@@ -47,6 +54,9 @@ import org.slf4j.LoggerFactory;
  *  - if there is still no match at this point, all keys in the eventconf are iterated through to
  *    find a match
  *
+ *  Lookups do not take any lock: the keys are compiled (regular expressions
+ *  included) into an immutable snapshot the first time a lookup is made after
+ *  a modification, and that snapshot is then shared by all readers.
  * </pre>
  *
  * @author <A HREF="mailto:sowmya@opennms.org">Sowmya Nataraj </A>
@@ -57,43 +67,38 @@ import org.slf4j.LoggerFactory;
  */
 public class EventConfData extends Object {
     private static final Logger LOG = LoggerFactory.getLogger(EventConfData.class);
+
+    /**
+     * The maximum number of compiled regular expressions kept by {@link #s_patterns}.
+     */
+    private static final int MAX_CACHED_PATTERNS = 10000;
+
+    /**
+     * Compiled regular expressions used by {@link #eventValuePassesMaskValue(String, List)},
+     * keyed by mask value (including the leading '~'). The mask values come from the
+     * configuration, but the cache is bounded so that reloads cannot grow it forever.
+     */
+    private static final LoadingCache<String, Pattern> s_patterns = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_PATTERNS)
+            .build(CacheLoader.from(v -> Pattern.compile(v.substring(1))));
+
     /**
      * The map keyed with 'EventKey's
      */
-    private Map<EventKey, org.opennms.netmgt.xml.eventconf.Event> m_eventMap;
+    private final Map<EventKey, org.opennms.netmgt.xml.eventconf.Event> m_eventMap;
 
     /**
      * The map of UEI to 'EventKey's list - used mainly to find matches for the
      * OpenNMS internal events faster(in cases where there are multiple masks
      * for the same UEI)
      */
-    private Map<String, List<EventKey>> m_ueiToKeyListMap;
+    private final Map<String, List<EventKey>> m_ueiToKeyListMap;
 
     /**
-     * Check whether the event matches the passed key
-     * 
-     * @return true if the event matches the passed key
+     * The compiled view of the event map used by lookups, or null if the
+     * event map was modified since it was last built.
      */
-    private boolean eventMatchesKey(EventKey eventKey, org.opennms.netmgt.xml.event.Event event) {
-        // go through the key elements and see if this event will match
-        boolean maskMatch = true;
-
-        for (final Entry<String, Object> entry : eventKey.entrySet()) {
-            final String key = entry.getKey();
-
-            @SuppressWarnings("unchecked")
-            final List<String> maskValues = (List<String>) entry.getValue();
-
-            // get the event value for this key
-            final String eventvalue = EventKey.getMaskElementValue(event, key);
-            maskMatch = eventValuePassesMaskValue(eventvalue, maskValues);
-            if (!maskMatch) {
-                return maskMatch;
-            }
-        }
-
-        return maskMatch;
-    }
+    private volatile Snapshot m_snapshot;
 
     /**
      * Check whether the eventvalue passes any of the mask values Mask values
@@ -117,7 +122,7 @@ public class EventConfData extends Object {
                 if (keyvalue.equals(eventvalue)) {
                     maskMatch = true;
                 } else if (keyvalue.charAt(0) == '~'){
-                    if (eventvalue.matches(keyvalue.substring(1))) {
+                    if (compile(keyvalue).matcher(eventvalue).matches()) {
                         maskMatch = true;
                     }
                 } else if (keyvalue.charAt(len - 1) == '%') {
@@ -131,6 +136,16 @@ public class EventConfData extends Object {
         return maskMatch;
     }
 
+    private static Pattern compile(String maskValue) {
+        try {
+            return s_patterns.getUnchecked(maskValue);
+        } catch (UncheckedExecutionException e) {
+            // Surface invalid expressions as a PatternSyntaxException, as Pattern.compile() would
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
     /**
      * Update the uei to keylist map
      */
@@ -190,6 +205,8 @@ public class EventConfData extends Object {
                 updateUeiToKeyListMap(snmpKey, event);
             }
         }
+
+        m_snapshot = null;
     }
 
     /**
@@ -205,14 +222,15 @@ public class EventConfData extends Object {
 
         // add to the uei to key list map
         updateUeiToKeyListMap(key, event);
+
+        m_snapshot = null;
     }
 
     /**
      * <pre>
-     * Get the right configuration for the event - the eventkey is used first.
-     *  If no match is found, the event's uei to keylist is iterated through, and these keys
-     *  used to lookup the event map. if still no match is found, all eventconf
-     *  keys are iterated through to find a match. The first successful match is returned.
+     * Get the right configuration for the event - all eventconf keys are
+     *  iterated through, in insertion order, to find a match. The first
+     *  successful match is returned.
      *
      *
      * <EM>
@@ -226,62 +244,8 @@ public class EventConfData extends Object {
      *            the event which is to be looked up
      * @return a {@link org.opennms.netmgt.xml.eventconf.Event} object.
      */
-    public synchronized org.opennms.netmgt.xml.eventconf.Event getEvent(org.opennms.netmgt.xml.event.Event event) {
-        org.opennms.netmgt.xml.eventconf.Event matchedEvent = null;
-
-        //
-        // use the eventkey and see if there is a match
-        //
-	/*
-        EventKey key = new EventKey(event);
-        matchedEvent = m_eventMap.get(key);
-        if (matchedEvent != null) {
-            LOG.debug("Match found using key: {}", key);
-
-            return matchedEvent;
-        }
-        */
-
-        //
-        // get the UEI and see if the UEI keys get a match - this step is here
-        // to make the matching process faster in case of usual internal events
-        // of OpenNMS, using the UEI shortens the search as against going
-        // through
-        // the entire eventconf for each event
-        //
-	/*
-        String uei = event.getUei();
-        if (uei != null) {
-            // Go through the uei to keylist map
-            List<EventKey> keylist = m_ueiToKeyListMap.get(uei);
-            if (keylist != null) {
-                // check the event keys known for this uei
-                matchedEvent = getMatchInKeyList(keylist, event);
-            }
-        }
-        */
-
-        //
-        // if still no match, no option but to go through all known keys
-        //
-        if (matchedEvent == null) {
-            Iterator<Entry<EventKey, org.opennms.netmgt.xml.eventconf.Event>> entryIterator = m_eventMap.entrySet().iterator();
-            while (entryIterator.hasNext() && (matchedEvent == null)) {
-                Entry<EventKey, org.opennms.netmgt.xml.eventconf.Event> entry = entryIterator.next();
-                EventKey iterKey = entry.getKey();
-
-                boolean keyMatchFound = eventMatchesKey(iterKey, event);
-
-                // if a match was found, return the config
-                if (keyMatchFound) {
-                    LOG.debug("Match found using key: {}", iterKey);
-
-                    matchedEvent = entry.getValue();
-                }
-            }
-        }
-
-        return matchedEvent;
+    public org.opennms.netmgt.xml.eventconf.Event getEvent(org.opennms.netmgt.xml.event.Event event) {
+        return getSnapshot().getEvent(event);
     }
 
     /**
@@ -291,11 +255,8 @@ public class EventConfData extends Object {
      *            the uei
      * @return a {@link org.opennms.netmgt.xml.eventconf.Event} object.
      */
-    public synchronized org.opennms.netmgt.xml.eventconf.Event getEventByUEI(String uei) {
-        EventKey key = new EventKey();
-        key.put(EventKey.TAG_UEI, new EventMaskValueList(uei));
-
-        return m_eventMap.get(key);
+    public org.opennms.netmgt.xml.eventconf.Event getEventByUEI(String uei) {
+        return getSnapshot().getEventByUEI(uei);
     }
 
     /**
@@ -304,5 +265,154 @@ public class EventConfData extends Object {
     public synchronized void clear() {
         m_eventMap.clear();
         m_ueiToKeyListMap.clear();
+        m_snapshot = null;
+    }
+
+    private Snapshot getSnapshot() {
+        final Snapshot snapshot = m_snapshot;
+        return snapshot != null ? snapshot : buildSnapshot();
+    }
+
+    private synchronized Snapshot buildSnapshot() {
+        if (m_snapshot == null) {
+            m_snapshot = new Snapshot(m_eventMap);
+        }
+        return m_snapshot;
+    }
+
+    /**
+     * Immutable, compiled copy of the event map.
+     */
+    private static final class Snapshot {
+        private final CompiledKey[] m_keys;
+        private final Map<String, org.opennms.netmgt.xml.eventconf.Event> m_eventsByUei;
+
+        private Snapshot(final Map<EventKey, org.opennms.netmgt.xml.eventconf.Event> eventMap) {
+            m_keys = new CompiledKey[eventMap.size()];
+            m_eventsByUei = new LinkedHashMap<>();
+            int i = 0;
+            for (final Entry<EventKey, org.opennms.netmgt.xml.eventconf.Event> entry : eventMap.entrySet()) {
+                final EventKey key = entry.getKey();
+                m_keys[i++] = new CompiledKey(key, entry.getValue());
+
+                // keys containing only the UEI are also indexed for getEventByUEI()
+                if (key.size() == 1) {
+                    final Object maskValues = key.get(EventKey.TAG_UEI);
+                    if (maskValues instanceof List && ((List<?>) maskValues).size() == 1) {
+                        final Object uei = ((List<?>) maskValues).get(0);
+                        if (uei instanceof String) {
+                            m_eventsByUei.put((String) uei, entry.getValue());
+                        }
+                    }
+                }
+            }
+        }
+
+        private org.opennms.netmgt.xml.eventconf.Event getEvent(final org.opennms.netmgt.xml.event.Event event) {
+            for (final CompiledKey key : m_keys) {
+                if (key.matches(event)) {
+                    LOG.debug("Match found using key: {}", key.m_key);
+                    return key.m_event;
+                }
+            }
+            return null;
+        }
+
+        private org.opennms.netmgt.xml.eventconf.Event getEventByUEI(final String uei) {
+            return m_eventsByUei.get(uei);
+        }
+    }
+
+    /**
+     * An 'EventKey' with its mask values compiled.
+     */
+    private static final class CompiledKey {
+        private final EventKey m_key;
+        private final org.opennms.netmgt.xml.eventconf.Event m_event;
+        private final String[] m_names;
+        private final MaskValue[][] m_values;
+
+        private CompiledKey(final EventKey key, final org.opennms.netmgt.xml.eventconf.Event event) {
+            m_key = key;
+            m_event = event;
+            m_names = new String[key.size()];
+            m_values = new MaskValue[key.size()][];
+            int i = 0;
+            for (final Entry<String, Object> entry : key.entrySet()) {
+                @SuppressWarnings("unchecked")
+                final List<String> maskValues = (List<String>) entry.getValue();
+                final List<MaskValue> compiled = new ArrayList<>(maskValues.size());
+                for (final String maskValue : maskValues) {
+                    if (maskValue != null) {
+                        compiled.add(new MaskValue(maskValue));
+                    }
+                }
+                m_names[i] = entry.getKey();
+                m_values[i] = compiled.toArray(new MaskValue[0]);
+                i++;
+            }
+        }
+
+        /**
+         * Check whether the event matches this key
+         *
+         * @return true if the event matches the key
+         */
+        private boolean matches(final org.opennms.netmgt.xml.event.Event event) {
+            for (int i = 0; i < m_names.length; i++) {
+                final String eventvalue = EventKey.getMaskElementValue(event, m_names[i]);
+                if (eventvalue == null || !passes(eventvalue, m_values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean passes(final String eventvalue, final MaskValue[] maskValues) {
+            for (final MaskValue maskValue : maskValues) {
+                if (maskValue.passes(eventvalue)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A single mask value, compiled according to the rules of
+     * {@link EventConfData#eventValuePassesMaskValue(String, List)}.
+     */
+    private static final class MaskValue {
+        private final String m_value;
+        private final String m_prefix;
+        private final Pattern m_pattern;
+
+        private MaskValue(final String value) {
+            m_value = value;
+            if (value.isEmpty()) {
+                m_pattern = null;
+                m_prefix = null;
+            } else if (value.charAt(0) == '~') {
+                m_pattern = compile(value);
+                m_prefix = null;
+            } else if (value.charAt(value.length() - 1) == '%') {
+                m_pattern = null;
+                m_prefix = value.substring(0, value.length() - 1);
+            } else {
+                m_pattern = null;
+                m_prefix = null;
+            }
+        }
+
+        private boolean passes(final String eventvalue) {
+            if (m_value.equals(eventvalue)) {
+                return true;
+            } else if (m_pattern != null) {
+                return m_pattern.matcher(eventvalue).matches();
+            } else if (m_prefix != null) {
+                return eventvalue.startsWith(m_prefix);
+            }
+            return false;
+        }
     }
 }
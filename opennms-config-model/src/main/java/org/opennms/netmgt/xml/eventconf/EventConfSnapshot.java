@@ -0,0 +1,239 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.xml.eventconf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * An immutable view of an initialized {@link Events} tree that is used to
+ * find the event definition matching a given event.
+ *
+ * <p>The snapshot is built once per (re)load of the event configuration and
+ * can then be shared between any number of threads without locking. Compared
+ * to {@link Events#findFirstMatchingEvent(org.opennms.netmgt.xml.event.Event)}
+ * it avoids all per-event allocations by:</p>
+ * <ul>
+ *   <li>pre-merging the candidates of every enterprise id partition with the
+ *   unpartitioned candidates, in priority order,</li>
+ *   <li>evaluating the partition key once per lookup instead of once per
+ *   event file,</li>
+ *   <li>rejecting candidates whose generic/specific trap numbers cannot match
+ *   using primitive comparisons before running the compiled mask matchers.</li>
+ * </ul>
+ *
+ * <p>The order in which definitions are considered, and hence the definition
+ * returned, is the same as the one of {@link Events#findFirstMatchingEvent(org.opennms.netmgt.xml.event.Event)}.</p>
+ */
+public final class EventConfSnapshot {
+
+    private static final Candidate[] NO_CANDIDATES = new Candidate[0];
+
+    private final Partition m_partition;
+
+    private final Level m_root;
+
+    private final int m_size;
+
+    private EventConfSnapshot(final Partition partition, final Level root, final int size) {
+        m_partition = partition;
+        m_root = root;
+        m_size = size;
+    }
+
+    /**
+     * Builds a snapshot for the given events. The events must have been
+     * initialized with {@link Events#initialize(Partition, EventOrdering)}
+     * beforehand and must not be modified while the snapshot is being built.
+     *
+     * @param events the root of the event configuration
+     * @return the snapshot
+     */
+    public static EventConfSnapshot of(final Events events) {
+        Objects.requireNonNull(events, "events is required");
+        if (events.getPartition() == null) {
+            throw new IllegalStateException("The events must be initialized before a snapshot can be built.");
+        }
+        final Map<Event, Candidate> candidates = new IdentityHashMap<>();
+        final Level root = new Level(events, candidates);
+        return new EventConfSnapshot(events.getPartition(), root, candidates.size());
+    }
+
+    /**
+     * Finds the first event definition matching the given event.
+     *
+     * @param matchingEvent the event to match
+     * @return the matching event definition, or {@code null} if there is none
+     */
+    public Event findFirstMatchingEvent(final org.opennms.netmgt.xml.event.Event matchingEvent) {
+        final String uei = matchingEvent.getUei();
+        final String key = m_partition.group(matchingEvent);
+
+        final org.opennms.netmgt.xml.event.Snmp snmp = matchingEvent.getSnmp();
+        final long generic = snmp != null && snmp.hasGeneric() ? snmp.getGeneric() : Candidate.NONE;
+        final long specific = snmp != null && snmp.hasSpecific() ? snmp.getSpecific() : Candidate.NONE;
+
+        return m_root.find(matchingEvent, uei, key, generic, specific);
+    }
+
+    /**
+     * @return the number of distinct event definitions held by this snapshot
+     */
+    public int size() {
+        return m_size;
+    }
+
+    private static final class Level {
+        private final Map<String, Event> m_eventsByUei;
+        private final Map<String, Candidate[]> m_partitionedCandidates;
+        private final Candidate[] m_nullPartitionedCandidates;
+        private final Level[] m_children;
+
+        private Level(final Events events, final Map<Event, Candidate> candidates) {
+            m_eventsByUei = Collections.unmodifiableMap(new HashMap<>(events.getEventsByUei()));
+
+            final List<Event> nullPartitioned = events.getNullPartitionedEvents();
+            m_nullPartitionedCandidates = toCandidates(nullPartitioned, candidates);
+
+            final Map<String, Candidate[]> partitioned = new HashMap<>();
+            for (final Map.Entry<String, List<Event>> entry : events.getPartitionedEvents().entrySet()) {
+                // Same ordering and de-duplication as the TreeSet built in Events.findFirstMatchingEvent()
+                final TreeSet<Event> merged = new TreeSet<>(nullPartitioned);
+                merged.addAll(entry.getValue());
+                partitioned.put(entry.getKey(), toCandidates(merged, candidates));
+            }
+            m_partitionedCandidates = Collections.unmodifiableMap(partitioned);
+
+            final List<Level> children = new ArrayList<>();
+            for (final Events loaded : events.getLoadedEvents()) {
+                children.add(new Level(loaded, candidates));
+            }
+            m_children = children.toArray(new Level[0]);
+        }
+
+        private static Candidate[] toCandidates(final Iterable<Event> events, final Map<Event, Candidate> candidates) {
+            final List<Candidate> result = new ArrayList<>();
+            for (final Event event : events) {
+                result.add(candidates.computeIfAbsent(event, Candidate::new));
+            }
+            return result.isEmpty() ? NO_CANDIDATES : result.toArray(NO_CANDIDATES);
+        }
+
+        private Event find(final org.opennms.netmgt.xml.event.Event matchingEvent, final String uei, final String key, final long generic, final long specific) {
+            if (uei != null) {
+                final Event matchedEvent = m_eventsByUei.get(uei);
+                if (matchedEvent != null) {
+                    return matchedEvent;
+                }
+            }
+
+            Candidate[] potentialMatches = m_nullPartitionedCandidates;
+            if (key != null) {
+                final Candidate[] partitioned = m_partitionedCandidates.get(key);
+                if (partitioned != null) {
+                    potentialMatches = partitioned;
+                }
+            }
+
+            for (final Candidate candidate : potentialMatches) {
+                if (candidate.mayMatch(generic, specific) && candidate.m_event.matches(matchingEvent).matched()) {
+                    return candidate.m_event;
+                }
+            }
+
+            for (final Level child : m_children) {
+                final Event matchedEvent = child.find(matchingEvent, uei, key, generic, specific);
+                if (matchedEvent != null) {
+                    return matchedEvent;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * An event definition along with the trap numbers it requires, if any.
+     */
+    private static final class Candidate {
+        private static final long NONE = Long.MIN_VALUE;
+
+        private final Event m_event;
+        private final int[] m_generic;
+        private final int[] m_specific;
+
+        private Candidate(final Event event) {
+            m_event = event;
+            m_generic = exactIntegers(event.getMaskElementValues(Maskelement.TAG_SNMP_GENERIC));
+            m_specific = exactIntegers(event.getMaskElementValues(Maskelement.TAG_SNMP_SPECIFIC));
+        }
+
+        /**
+         * Returns the set of integers the mask element requires, or {@code null} if
+         * the element is absent or uses values (wildcards, regular expressions, ...)
+         * that cannot be safely pre-filtered.
+         */
+        private static int[] exactIntegers(final List<String> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            final int[] integers = new int[values.size()];
+            for (int i = 0; i < integers.length; i++) {
+                final String value = values.get(i);
+                if (value == null || value.isEmpty() || value.startsWith("~") || value.endsWith("%")) {
+                    return null;
+                }
+                try {
+                    integers[i] = Integer.parseInt(value);
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+            }
+            return integers;
+        }
+
+        private static boolean contains(final int[] values, final long value) {
+            if (values == null) {
+                return true;
+            }
+            if (value == NONE) {
+                return false;
+            }
+            for (final int v : values) {
+                if (v == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean mayMatch(final long generic, final long specific) {
+            return contains(m_generic, generic) && contains(m_specific, specific);
+        }
+    }
+}
@@ -466,6 +466,34 @@ public class Events implements Serializable {
         }
     }
 
+    /**
+     * Builds an immutable, lock-free view of this (initialized) configuration
+     * that can be used to match events concurrently with configuration changes.
+     */
+    public EventConfSnapshot snapshot() {
+        return EventConfSnapshot.of(this);
+    }
+
+    Partition getPartition() {
+        return m_partition;
+    }
+
+    Map<String, Event> getEventsByUei() {
+        return m_eventsByUei;
+    }
+
+    Map<String, List<Event>> getPartitionedEvents() {
+        return m_partitionedEvents;
+    }
+
+    List<Event> getNullPartitionedEvents() {
+        return m_nullPartitionedEvents;
+    }
+
+    Collection<Events> getLoadedEvents() {
+        return m_loadedEventFiles.values();
+    }
+
     public Events getLoadEventsByFile(final String relativePath) {
         return m_loadedEventFiles.get(relativePath);
     }
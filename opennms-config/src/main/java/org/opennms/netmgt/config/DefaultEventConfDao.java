@@ -37,6 +37,7 @@ import org.opennms.core.config.api.ConfigReloadContainer;
 import org.opennms.core.xml.JaxbUtils;
 import org.opennms.netmgt.config.api.EventConfDao;
 import org.opennms.netmgt.xml.eventconf.Event;
+import org.opennms.netmgt.xml.eventconf.EventConfSnapshot;
 import org.opennms.netmgt.xml.eventconf.EventLabelComparator;
 import org.opennms.netmgt.xml.eventconf.EventMatchers;
 import org.opennms.netmgt.xml.eventconf.EventOrdering;
@@ -64,6 +65,12 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
 
 	private Events m_events;
 
+	/**
+	 * Immutable view of {@link #m_events} used to match events without locking.
+	 * It is rebuilt and re-published whenever the events are (re)initialized.
+	 */
+	private volatile EventConfSnapshot m_snapshot;
+
 	private Resource m_configResource;
 
 	private Partition m_partition;
@@ -196,6 +203,7 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
 	public void addEvent(Event event) {
 		m_events.addEvent(event);
 		m_events.initialize(m_partition, new EventOrdering());
+		m_snapshot = m_events.snapshot();
 	}
 
 	@Override
@@ -208,6 +216,7 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
 
 		programmaticEvents.addEvent(event);
 		m_events.initialize(m_partition, new EventOrdering());
+		m_snapshot = m_events.snapshot();
 
 	}
 
@@ -222,6 +231,7 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
 		}
 
 		m_events.initialize(m_partition, new EventOrdering());
+		m_snapshot = m_events.snapshot();
 
 		return true;
 	}
@@ -245,7 +255,7 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
 
 	@Override
 	public Event findByEvent(final org.opennms.netmgt.xml.event.Event matchingEvent) {
-		return m_events.findFirstMatchingEvent(matchingEvent);
+		return m_snapshot.findFirstMatchingEvent(matchingEvent);
 	}
 
 	@Override
@@ -326,6 +336,7 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
             events.initialize(m_partition, new EventOrdering());
 
             m_events = events;
+            m_snapshot = events.snapshot();
         } catch (Exception e) {
             throw new DataRetrievalFailureException("Unable to load " + m_configResource, e);
         }
@@ -340,6 +351,7 @@ public class DefaultEventConfDao implements EventConfDao, InitializingBean {
 			events.initialize(m_partition, new EventOrdering());
 
 			m_events = events;
+			m_snapshot = events.snapshot();
 		} catch (Exception e) {
 			throw new DataRetrievalFailureException("Unabled to load " + m_configResource, e);
 		}
@@ -218,6 +218,118 @@ public class EventdConfigManager implements EventdConfig {
         }
     }
 
+    /**
+     * Maximum number of events written to the database in a single transaction.
+     */
+    public int getWriteBatchSize() {
+        getReadLock().lock();
+        try {
+            return m_config.getWriteBatchSize();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Maximum amount of time (ms) spent waiting for additional events
+     * before committing a batch of events to the database.
+     */
+    public int getWriteBatchIntervalMs() {
+        getReadLock().lock();
+        try {
+            return m_config.getWriteBatchInterval();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Number of single-threaded lanes used to process the events in order by
+     * node, 0 if the events are processed by the pool of receivers.
+     */
+    public int getLanes() {
+        getReadLock().lock();
+        try {
+            return m_config.getLanes();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Format of the events received on the TCP port.
+     */
+    public String getTCPFormat() {
+        getReadLock().lock();
+        try {
+            return m_config.getTCPFormat();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Maximum number of events per minute with the same key, 0 if the
+     * events are not rate limited.
+     */
+    public int getRateLimit() {
+        getReadLock().lock();
+        try {
+            return m_config.getRateLimit();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Number of events with the same key received at once before they are
+     * rate limited.
+     */
+    public int getRateLimitBurst() {
+        getReadLock().lock();
+        try {
+            return m_config.getRateLimitBurst();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Comma-separated list of the rate limited UEIs, empty if all of them are.
+     */
+    public String getRateLimitUeis() {
+        getReadLock().lock();
+        try {
+            return m_config.getRateLimitUeis().orElse("");
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Maximum number of keys tracked by the rate limiter.
+     */
+    public int getRateLimitMaxKeys() {
+        getReadLock().lock();
+        try {
+            return m_config.getRateLimitMaxKeys();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
+    /**
+     * Interval (seconds) at which the suppressed events are summarized.
+     */
+    public int getRateLimitRollupInterval() {
+        getReadLock().lock();
+        try {
+            return m_config.getRateLimitRollupInterval();
+        } finally {
+            getReadLock().unlock();
+        }
+    }
+
     /**
      * Return the SQL statement to get the next event ID.
      *
@@ -21,7 +21,10 @@
  */
 package org.opennms.netmgt.config;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.opennms.core.utils.InetAddressUtils.addr;
@@ -29,6 +32,7 @@ import static org.opennms.core.utils.InetAddressUtils.addr;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.After;
 import org.junit.Before;
@@ -42,6 +46,8 @@ import org.opennms.netmgt.model.events.EventBuilder;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.eventconf.LogDestType;
 import org.opennms.netmgt.xml.eventconf.Logmsg;
+import org.opennms.netmgt.xml.eventconf.Mask;
+import org.opennms.netmgt.xml.eventconf.Maskelement;
 import org.springframework.core.io.FileSystemResource;
 
 public class EventConfDataTest {
@@ -106,6 +112,63 @@ public class EventConfDataTest {
         assertTrue(EventConfData.eventValuePassesMaskValue("Is FooBar On Air", Collections.singletonList("~.*Foo[Bb]ar.*")));
     }
 
+    @Test(expected=PatternSyntaxException.class)
+    public void testEventValuePassesMaskValueInvalidRegex() {
+        EventConfData.eventValuePassesMaskValue("Is FooBar On Air", Collections.singletonList("~Foo[Bar"));
+    }
+
+    @Test
+    public void testEventValuePassesMaskValueRegexCacheOverflow() {
+        // more distinct expressions than the cache holds must still be evaluated correctly
+        for (int i = 0; i < 20000; i++) {
+            assertTrue(EventConfData.eventValuePassesMaskValue("value" + i, Collections.singletonList("~value" + i + "$")));
+        }
+        assertTrue(EventConfData.eventValuePassesMaskValue("value0", Collections.singletonList("~value0$")));
+    }
+
+    @Test
+    public void testEventConfDataMatchesInInsertionOrder() {
+        final EventConfData data = new EventConfData();
+        final org.opennms.netmgt.xml.eventconf.Event regex = createEventConf("uei.opennms.org/junit/regex", ".1.3.6.1.4.1.5813", "~^.*Foo[Bb]ar.*$");
+        final org.opennms.netmgt.xml.eventconf.Event prefix = createEventConf("uei.opennms.org/junit/prefix", ".1.3.6.1.4.1.5813", "Foo%");
+        final org.opennms.netmgt.xml.eventconf.Event uei = new org.opennms.netmgt.xml.eventconf.Event();
+        uei.setUei("uei.opennms.org/junit/uei");
+        data.put(regex);
+        data.put(prefix);
+        data.put(uei);
+
+        assertSame(regex, data.getEvent(createEvent(".1.3.6.1.4.1.5813", "Is Foobar On Air")));
+        // both keys match, the first one that was added wins
+        assertSame(regex, data.getEvent(createEvent(".1.3.6.1.4.1.5813", "FooBar")));
+        assertSame(prefix, data.getEvent(createEvent(".1.3.6.1.4.1.5813", "Foo Fighters")));
+        assertNull(data.getEvent(createEvent(".1.3.6.1.4.1.5813", "Bar")));
+        assertNull(data.getEvent(createEvent(".1.3.6.1.4.1.9", "Foo Fighters")));
+        assertSame(uei, data.getEvent(new EventBuilder("uei.opennms.org/junit/uei", "JUnit").getEvent()));
+
+        assertSame(uei, data.getEventByUEI("uei.opennms.org/junit/uei"));
+        assertNull(data.getEventByUEI("uei.opennms.org/junit/regex"));
+    }
+
+    @Test
+    public void testEventConfDataSeesModifications() {
+        final EventConfData data = new EventConfData();
+        final Event event = createEvent(".1.3.6.1.4.1.5813", "Foo Fighters");
+        assertNull(data.getEvent(event));
+
+        final org.opennms.netmgt.xml.eventconf.Event prefix = createEventConf("uei.opennms.org/junit/prefix", ".1.3.6.1.4.1.5813", "Foo%");
+        data.put(prefix);
+        assertSame(prefix, data.getEvent(event));
+
+        // replacing the definition of an existing key
+        final org.opennms.netmgt.xml.eventconf.Event replaced = createEventConf("uei.opennms.org/junit/replaced", ".1.3.6.1.4.1.5813", "Foo%");
+        data.put(replaced);
+        assertSame(replaced, data.getEvent(event));
+        assertEquals("uei.opennms.org/junit/replaced", data.getEvent(event).getUei());
+
+        data.clear();
+        assertNull(data.getEvent(event));
+    }
+
     @Test
     public void testV1TrapNewSuspect() throws Exception {
         anticipateAndSend(null, "v1", null, 6, 1);
@@ -246,6 +309,31 @@ public class EventConfDataTest {
                 "v1", ".1.3.6.1.4.1.14179.2.6.3", 6, 38, "192.168.2.1", varbinds);
     }
 
+    private static org.opennms.netmgt.xml.eventconf.Event createEventConf(String uei, String enterprise, String descrMask) {
+        final Mask mask = new Mask();
+        final Maskelement id = new Maskelement();
+        id.setMename("id");
+        id.addMevalue(enterprise);
+        mask.addMaskelement(id);
+        final Maskelement source = new Maskelement();
+        source.setMename("source");
+        source.addMevalue(descrMask);
+        mask.addMaskelement(source);
+
+        final org.opennms.netmgt.xml.eventconf.Event event = new org.opennms.netmgt.xml.eventconf.Event();
+        event.setUei(uei);
+        event.setMask(mask);
+        return event;
+    }
+
+    private static Event createEvent(String enterprise, String source) {
+        final EventBuilder bldr = new EventBuilder(null, source);
+        bldr.setEnterpriseId(enterprise);
+        bldr.setGeneric(6);
+        bldr.setSpecific(1);
+        return bldr.getEvent();
+    }
+
     private EventBuilder createEventBuilder(String version, String enterprise, int generic, int specific) {
         EventBuilder bldr = new EventBuilder(null, "EventConfDataTest");
 
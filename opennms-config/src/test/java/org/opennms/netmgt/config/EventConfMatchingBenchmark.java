@@ -0,0 +1,140 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.core.test.ConfigurationTestUtils;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.eventconf.Event;
+import org.opennms.netmgt.xml.eventconf.EventConfSnapshot;
+import org.opennms.netmgt.xml.eventconf.Events;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the event definition lookup
+ * performed through {@link Events#findFirstMatchingEvent(org.opennms.netmgt.xml.event.Event)}
+ * with the one performed through the {@link EventConfSnapshot} used by the {@link DefaultEventConfDao}.
+ * <p>
+ * The shipped event configuration is loaded and the events to match are derived from
+ * randomly chosen event definitions, so that both traps (matched by their masks) and
+ * internal events (matched by their UEI) are exercised.
+ */
+public class EventConfMatchingBenchmark {
+
+    // the number of events that are matched in a single benchmark method call
+    // -> the reported number of operations per second must be multiplied by this number to get
+    //    the number of lookups per second
+    private static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        private Events events;
+        private EventConfSnapshot snapshot;
+        private List<org.opennms.netmgt.xml.event.Event> eventsToMatch;
+
+        @Setup
+        public void setup() throws Exception {
+            final DefaultEventConfDao eventConfDao = new DefaultEventConfDao();
+            eventConfDao.setConfigResource(new FileSystemResource(ConfigurationTestUtils.getFileForConfigFile("eventconf.xml")));
+            eventConfDao.afterPropertiesSet();
+
+            events = eventConfDao.getRootEvents();
+            snapshot = events.snapshot();
+
+            final List<Event> definitions = new ArrayList<>(eventConfDao.getAllEvents());
+            Collections.shuffle(definitions, new Random(123456L));
+            eventsToMatch = new ArrayList<>(BATCH_SIZE);
+            for (final Event definition : definitions) {
+                if (eventsToMatch.size() >= BATCH_SIZE) {
+                    break;
+                }
+                eventsToMatch.add(toEvent(definition));
+            }
+        }
+
+        private static org.opennms.netmgt.xml.event.Event toEvent(final Event definition) {
+            final String id = first(definition.getMaskElementValues("id"));
+            if (id == null) {
+                return new EventBuilder(definition.getUei(), "benchmark").getEvent();
+            }
+
+            // Traps have no UEI until they are matched against the configuration
+            final EventBuilder eb = new EventBuilder(null, "benchmark");
+            eb.setEnterpriseId(id);
+            final String generic = first(definition.getMaskElementValues("generic"));
+            eb.setGeneric(generic == null ? 6 : Integer.parseInt(generic));
+            final String specific = first(definition.getMaskElementValues("specific"));
+            eb.setSpecific(specific == null ? 0 : Integer.parseInt(specific));
+            return eb.getEvent();
+        }
+
+        private static String first(final List<String> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            final String value = values.get(0);
+            // only keep values that can be used verbatim
+            return value.startsWith("~") || value.endsWith("%") ? null : value;
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void events(BState state, Blackhole blackhole) {
+        for (final org.opennms.netmgt.xml.event.Event e : state.eventsToMatch) {
+            blackhole.consume(state.events.findFirstMatchingEvent(e));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    @Threads(4)
+    public void snapshot(BState state, Blackhole blackhole) {
+        for (final org.opennms.netmgt.xml.event.Event e : state.eventsToMatch) {
+            blackhole.consume(state.snapshot.findFirstMatchingEvent(e));
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.core.test.MockLogAppender;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.eventconf.Event;
+import org.opennms.netmgt.xml.eventconf.EventConfSnapshot;
+import org.springframework.core.io.FileSystemResource;
+
+public class EventConfSnapshotTest {
+
+    @Before
+    public void setUp() throws Exception {
+        MockLogAppender.setupLogging();
+    }
+
+    @After
+    public void tearDown() {
+        MockLogAppender.assertNoWarningsOrGreater();
+    }
+
+    /**
+     * Verify that the snapshot returns the very same definitions as the
+     * {@link org.opennms.netmgt.xml.eventconf.Events} it was built from.
+     */
+    @Test
+    public void canMatchLikeEvents() throws Exception {
+        for (String config : new String[] { "matcher-test.events.xml", "priority/eventconf.xml", "priority/eventconf2.xml", "priority/eventconf3.xml" }) {
+            final DefaultEventConfDao eventConfDao = load(config);
+            final EventConfSnapshot snapshot = eventConfDao.getRootEvents().snapshot();
+
+            for (org.opennms.netmgt.xml.event.Event e : getEventsToMatch()) {
+                final Event expected = eventConfDao.getRootEvents().findFirstMatchingEvent(e);
+                assertThat(config + ": " + e, snapshot.findFirstMatchingEvent(e), sameInstance(expected));
+                assertThat(config + ": " + e, eventConfDao.findByEvent(e), sameInstance(expected));
+            }
+        }
+    }
+
+    @Test
+    public void canRejectMismatchedTrapNumbers() throws Exception {
+        final DefaultEventConfDao eventConfDao = load("priority/eventconf.xml");
+
+        EventBuilder eb = new EventBuilder(null, "JUnit");
+        eb.setEnterpriseId(".1.3.6.1.4.1.43.29.10");
+        eb.setGeneric(6);
+        eb.setSpecific(6);
+        assertThat(eventConfDao.findByEvent(eb.getEvent()).getEventLabel(), is("FILE1 CONFIG"));
+
+        eb.setSpecific(7);
+        assertThat(eventConfDao.findByEvent(eb.getEvent()), is(nullValue()));
+    }
+
+    @Test
+    public void canPublishNewSnapshotWhenEventIsAdded() throws Exception {
+        final DefaultEventConfDao eventConfDao = load("priority/eventconf.xml");
+        final org.opennms.netmgt.xml.event.Event e = new EventBuilder("uei.opennms.org/junit/added", "JUnit").getEvent();
+        assertThat(eventConfDao.findByEvent(e), is(nullValue()));
+
+        final Event added = new Event();
+        added.setUei("uei.opennms.org/junit/added");
+        added.setEventLabel("Added");
+        eventConfDao.addEvent(added);
+
+        assertThat(eventConfDao.findByEvent(e), sameInstance(added));
+    }
+
+    private static DefaultEventConfDao load(String config) throws Exception {
+        final DefaultEventConfDao eventConfDao = new DefaultEventConfDao();
+        eventConfDao.setConfigResource(new FileSystemResource(new File("src/test/resources/" + config)));
+        eventConfDao.afterPropertiesSet();
+        return eventConfDao;
+    }
+
+    private static List<org.opennms.netmgt.xml.event.Event> getEventsToMatch() {
+        final List<org.opennms.netmgt.xml.event.Event> events = new ArrayList<>();
+
+        EventBuilder eb = new EventBuilder("uei.opennms.org/threshold/highThresholdExceeded", "JUnit");
+        events.add(eb.getEvent());
+        eb.setNodeid(101);
+        events.add(eb.getEvent());
+        eb = new EventBuilder("uei.opennms.org/threshold/highThresholdExceeded", "JUnit");
+        eb.setNodeid(201);
+        events.add(eb.getEvent());
+
+        for (int specific = 5; specific <= 7; specific++) {
+            eb = new EventBuilder("uei.opennms.org/vendor/3Com/traps/a3ComFddiMACNeighborChangeEvent", "JUnit");
+            eb.setEnterpriseId(".1.3.6.1.4.1.43.29.10");
+            eb.setGeneric(6);
+            eb.setSpecific(specific);
+            events.add(eb.getEvent());
+
+            eb = new EventBuilder(null, "JUnit");
+            eb.setEnterpriseId(".1.3.6.1.4.1.43.29.10");
+            eb.setGeneric(6);
+            eb.setSpecific(specific);
+            events.add(eb.getEvent());
+        }
+
+        eb = new EventBuilder("uei.opennms.org/vendor/ipo/traps/ipoGenServiceErrorSvcEventCRITICAL", "JUnit");
+        eb.setGeneric(6);
+        eb.setSpecific(48);
+        eb.setEnterpriseId(".1.3.6.1.4.1.6889.2.2.1.2");
+        eb.addParam(".1.3.6.1.4.1.6889.2.2.1.2.1.1", 3);
+        events.add(eb.getEvent());
+
+        events.add(new EventBuilder("uei.opennms.org/junit/unknown", "JUnit").getEvent());
+        return events;
+    }
+}
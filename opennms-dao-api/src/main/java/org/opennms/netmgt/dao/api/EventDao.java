@@ -44,4 +44,16 @@ public interface EventDao extends LegacyOnmsDao<OnmsEvent, Integer> {
 
     List<OnmsEvent> getEventsForEventParameters(final Map<String, String> eventParameters);
 
+    /**
+     * Saves new events, along with their parameters, in as few statements as possible.
+     *
+     * Unlike {@link #save(Object)}, the events may be inserted right away, so everything they
+     * reference must be loaded beforehand.
+     *
+     * @param events events that have not been saved yet
+     */
+    default void saveAll(List<OnmsEvent> events) {
+        events.forEach(this::save);
+    }
+
 }
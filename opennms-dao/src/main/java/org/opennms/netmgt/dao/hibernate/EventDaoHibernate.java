@@ -21,7 +21,11 @@
  */
 package org.opennms.netmgt.dao.hibernate;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -29,13 +33,27 @@ import java.util.Map;
 import org.hibernate.HibernateException;
 import org.hibernate.Query;
 import org.hibernate.Session;
+import org.hibernate.engine.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.netmgt.dao.api.EventDao;
 import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.OnmsEventParameter;
 import org.springframework.dao.DataAccessException;
 import org.springframework.orm.hibernate3.HibernateCallback;
 
 public class EventDaoHibernate extends AbstractDaoHibernate<OnmsEvent, Integer> implements EventDao {
 
+    private static final String INSERT_EVENT = "INSERT INTO events (eventId, eventUei, nodeId, eventTime, eventHost, eventSource, ipAddr, "
+            + "systemId, eventSnmpHost, serviceId, eventSnmp, eventCreateTime, eventDescr, eventLogGroup, eventLogMsg, eventSeverity, "
+            + "ifIndex, eventPathOutage, eventCorrelation, eventSuppressedCount, eventOperInstruct, eventAutoAction, eventOperAction, "
+            + "eventOperActionMenuText, eventNotification, eventTTicket, eventTTicketState, eventForward, eventMouseOverText, eventLog, "
+            + "eventDisplay, eventAckUser, eventAckTime, alarmId) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EVENT_PARAMETER = "INSERT INTO event_parameters (eventID, name, value, type, position, eventTime) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
 	public EventDaoHibernate() {
 		super(OnmsEvent.class);
 	}
@@ -86,4 +104,110 @@ public class EventDaoHibernate extends AbstractDaoHibernate<OnmsEvent, Integer>
             }
         });
     }
+
+    /**
+     * Assigns the ids with the generator of the mapping, and sends the inserts as two JDBC batches, one
+     * for the events and one for their parameters. The session factory does not batch statements, since
+     * {@code hibernate.jdbc.batch_size} is 0, so only the writers calling this method batch their inserts.
+     *
+     * The events are not attached to the session.
+     */
+    @Override
+    public void saveAll(final List<OnmsEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        getHibernateTemplate().execute(new HibernateCallback<Void>() {
+            @Override
+            public Void doInHibernate(Session session) throws HibernateException, SQLException {
+                final SessionImplementor sessionImplementor = (SessionImplementor) session;
+                final IdentifierGenerator generator = sessionImplementor.getFactory().getIdentifierGenerator(OnmsEvent.class.getName());
+                for (final OnmsEvent event : events) {
+                    event.setId((Integer) generator.generate(sessionImplementor, event));
+                }
+                session.doWork(connection -> insert(connection, events));
+                return null;
+            }
+        });
+    }
+
+    private static void insert(final Connection connection, final List<OnmsEvent> events) throws SQLException {
+        try (final PreparedStatement stmt = connection.prepareStatement(INSERT_EVENT)) {
+            for (final OnmsEvent e : events) {
+                int i = 1;
+                stmt.setInt(i++, e.getId());
+                stmt.setString(i++, e.getEventUei());
+                setInteger(stmt, i++, e.getNode() == null ? null : e.getNode().getId());
+                setTimestamp(stmt, i++, e.getEventTime());
+                stmt.setString(i++, e.getEventHost());
+                stmt.setString(i++, e.getEventSource());
+                stmt.setString(i++, e.getIpAddr() == null ? null : InetAddressUtils.str(e.getIpAddr()));
+                stmt.setString(i++, e.getDistPoller() == null ? null : e.getDistPoller().getId());
+                stmt.setString(i++, e.getEventSnmpHost());
+                setInteger(stmt, i++, e.getServiceType() == null ? null : e.getServiceType().getId());
+                stmt.setString(i++, e.getEventSnmp());
+                setTimestamp(stmt, i++, e.getEventCreateTime());
+                stmt.setString(i++, e.getEventDescr());
+                stmt.setString(i++, e.getEventLogGroup());
+                stmt.setString(i++, e.getEventLogMsg());
+                setInteger(stmt, i++, e.getEventSeverity());
+                setInteger(stmt, i++, e.getIfIndex());
+                stmt.setString(i++, e.getEventPathOutage());
+                stmt.setString(i++, e.getEventCorrelation());
+                setInteger(stmt, i++, e.getEventSuppressedCount());
+                stmt.setString(i++, e.getEventOperInstruct());
+                stmt.setString(i++, e.getEventAutoAction());
+                stmt.setString(i++, e.getEventOperAction());
+                stmt.setString(i++, e.getEventOperActionMenuText());
+                stmt.setString(i++, e.getEventNotification());
+                stmt.setString(i++, e.getEventTTicket());
+                setInteger(stmt, i++, e.getEventTTicketState());
+                stmt.setString(i++, e.getEventForward());
+                stmt.setString(i++, e.getEventMouseOverText());
+                stmt.setString(i++, e.getEventLog());
+                stmt.setString(i++, e.getEventDisplay());
+                stmt.setString(i++, e.getEventAckUser());
+                setTimestamp(stmt, i++, e.getEventAckTime());
+                setInteger(stmt, i++, e.getAlarm() == null ? null : e.getAlarm().getId());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+
+        try (final PreparedStatement stmt = connection.prepareStatement(INSERT_EVENT_PARAMETER)) {
+            boolean hasParameters = false;
+            for (final OnmsEvent e : events) {
+                if (e.getEventParameters() == null) {
+                    continue;
+                }
+                int position = 0;
+                for (final OnmsEventParameter parameter : e.getEventParameters()) {
+                    stmt.setInt(1, e.getId());
+                    stmt.setString(2, parameter.getName());
+                    stmt.setString(3, parameter.getValue());
+                    stmt.setString(4, parameter.getType());
+                    // Same position as the one set by OnmsEvent
+                    stmt.setInt(5, position++);
+                    setTimestamp(stmt, 6, e.getEventTime());
+                    stmt.addBatch();
+                    hasParameters = true;
+                }
+            }
+            if (hasParameters) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    private static void setInteger(final PreparedStatement stmt, final int index, final Integer value) throws SQLException {
+        if (value == null) {
+            stmt.setNull(index, Types.INTEGER);
+        } else {
+            stmt.setInt(index, value);
+        }
+    }
+
+    private static void setTimestamp(final PreparedStatement stmt, final int index, final Date value) throws SQLException {
+        stmt.setTimestamp(index, value == null ? null : new Timestamp(value.getTime()));
+    }
 }
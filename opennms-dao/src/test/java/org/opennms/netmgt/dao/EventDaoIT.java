@@ -141,6 +141,47 @@ public class EventDaoIT implements InitializingBean {
         System.err.println(JaxbUtils.marshal(event));
     }
 
+    @Test
+    @Transactional
+    public void testSaveAll() {
+        OnmsNode node = (OnmsNode) m_nodeDao.findAll().iterator().next();
+        OnmsIpInterface iface = (OnmsIpInterface)node.getIpInterfaces().iterator().next();
+        List<OnmsEvent> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            OnmsEvent event = new OnmsEvent();
+            event.setDistPoller(m_distPollerDao.whoami());
+            event.setEventCreateTime(new Date());
+            event.setEventHost("localhost");
+            event.setEventLog("Y");
+            event.setEventDisplay("Y");
+            event.setEventSeverity(OnmsSeverity.MINOR.getId());
+            event.setEventSource("EventDaoTest");
+            event.setEventTime(new Date());
+            event.setEventUei("uei://org/opennms/test/EventDaoTest/" + i);
+            event.setNode(i == 0 ? null : node);
+            event.setIpAddr(iface.getIpAddress());
+            event.setEventParameters(Lists.newArrayList(
+                    new OnmsEventParameter(event, "second", "b" + i, "string"),
+                    new OnmsEventParameter(event, "first", "a" + i, "string")));
+            events.add(event);
+        }
+        m_eventDao.saveAll(events);
+        m_eventDao.flush();
+        m_eventDao.clear();
+
+        for (int i = 0; i < 3; i++) {
+            OnmsEvent event = m_eventDao.get(events.get(i).getId());
+            assertEquals("uei://org/opennms/test/EventDaoTest/" + i, event.getEventUei());
+            assertEquals(i == 0 ? null : node.getId(), event.getNodeId());
+            assertEquals(iface.getIpAddress(), event.getIpAddr());
+            assertEquals(m_distPollerDao.whoami().getId(), event.getDistPoller().getId());
+            // The parameters keep their order
+            assertEquals(2, event.getEventParameters().size());
+            assertEquals("second", event.getEventParameters().get(0).getName());
+            assertEquals("a" + i, event.getEventParameters().get(1).getValue());
+        }
+    }
+
     @Test
     @Transactional
     public void testGetEventsAfterDate() {
@@ -495,6 +495,8 @@ public class Installer {
                 "turn on debugging for the database data transformation");
         options.addOption("e", "extended-repairs", false,
                 "enable extended repairs of old schemas");
+        options.addOption("E", "partition-events", false,
+                "partition the events table by time (requires PostgreSQL 12 or later)");
         // tomcat-related options
         options.addOption("y", "do-webapp", false,
                           "install web application (see '-w')");
@@ -560,8 +562,15 @@ public class Installer {
 
         m_fix_constraint = m_commandLine.hasOption("C");
         m_fix_constraint_name = m_commandLine.getOptionValue("C");
-        if (m_commandLine.hasOption("e")) {
-            System.setProperty("opennms.contexts", "production,repair");
+        if (m_commandLine.hasOption("e") || m_commandLine.hasOption("E")) {
+            final StringBuilder contexts = new StringBuilder("production");
+            if (m_commandLine.hasOption("e")) {
+                contexts.append(",repair");
+            }
+            if (m_commandLine.hasOption("E")) {
+                contexts.append(",partition-events");
+            }
+            System.setProperty("opennms.contexts", contexts.toString());
         }
         m_update_database = m_commandLine.hasOption("d");
         m_remove_database = m_commandLine.hasOption("Z");
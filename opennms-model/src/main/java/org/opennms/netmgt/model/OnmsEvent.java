@@ -301,6 +301,7 @@ public class OnmsEvent extends OnmsEntity implements Serializable {
 	 */
 	public void setEventTime(Date eventtime) {
 		eventTime = eventtime;
+		setPositionsOnParameters(eventParameters);
 	}
 
 	/**
@@ -472,12 +473,15 @@ public class OnmsEvent extends OnmsEntity implements Serializable {
      * We need this method to preserve the order in the m_eventParameters when saved and retrieved from the database.
      * There might be a more elegant solution via JPA but none seems to work in our context, see also:
      * https://issues.opennms.org/browse/NMS-9827
+     * The time of the event is copied as well, since it is the partition key of the event_parameters table
+     * when the events are partitioned.
      */
     private void setPositionsOnParameters(List<OnmsEventParameter> parameters) {
         if (parameters != null) {
             // give each parameter a distinct position
             for (int i = 0; i < parameters.size(); i++) {
                 parameters.get(i).setPosition(i);
+                parameters.get(i).setEventTime(eventTime);
             }
         }
     }
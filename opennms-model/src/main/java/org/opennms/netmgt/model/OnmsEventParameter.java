@@ -22,8 +22,10 @@
 package org.opennms.netmgt.model;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.Objects;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.Id;
@@ -31,6 +33,8 @@ import javax.persistence.IdClass;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
@@ -120,6 +124,12 @@ public class OnmsEventParameter implements Serializable {
     @XmlTransient
     private int position;
 
+    /** copy of the time of the event, used as partition key when the events table is partitioned. */
+    @XmlTransient
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name="eventTime")
+    private Date eventTime;
+
     /**
      * Instantiates a new OpenNMS event parameter.
      */
@@ -132,6 +142,7 @@ public class OnmsEventParameter implements Serializable {
      */
     public OnmsEventParameter(OnmsEvent event, Parm parm) {
         this.event = event;
+        this.eventTime = event == null ? null : event.getEventTime();
         name = parm.getParmName();
         value = EventDatabaseConstants.sanitize(parm.getValue().getContent() == null ? "" : parm.getValue().getContent());
         type = parm.getValue().getType();
@@ -142,6 +153,7 @@ public class OnmsEventParameter implements Serializable {
                               final String value,
                               final String type) {
         this.event = event;
+        this.eventTime = event == null ? null : event.getEventTime();
         this.name = name;
         this.value = EventDatabaseConstants.sanitize(value == null ? "" : value);
         this.type = type;
@@ -153,6 +165,7 @@ public class OnmsEventParameter implements Serializable {
 
     public void setEvent(final OnmsEvent event) {
         this.event = event;
+        this.eventTime = event == null ? null : event.getEventTime();
     }
 
     /**
@@ -217,4 +230,12 @@ public class OnmsEventParameter implements Serializable {
         this.position = position;
     }
 
+    Date getEventTime() {
+        return eventTime;
+    }
+
+    void setEventTime(Date eventTime) {
+        this.eventTime = eventTime;
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.dns.client.rpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves several host names or addresses in a single RPC.
+ *
+ * The requests of a batch are resolved in parallel on the pool of the
+ * {@link DnsLookupClientRpcModule}, so that both modules are bound by the same
+ * number of threads. A request that can not be resolved is answered without a
+ * response instead of failing the whole batch.
+ */
+public class DnsLookupBatchClientRpcModule extends AbstractXmlRpcModule<DnsLookupBatchRequestDTO, DnsLookupBatchResponseDTO> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DnsLookupBatchClientRpcModule.class);
+
+    public static final String RPC_MODULE_ID = "DNS-BATCH";
+
+    private final ExecutorService executorService;
+
+    public DnsLookupBatchClientRpcModule(final DnsLookupClientRpcModule dnsLookupClientRpcModule) {
+        super(DnsLookupBatchRequestDTO.class, DnsLookupBatchResponseDTO.class);
+
+        this.executorService = Objects.requireNonNull(dnsLookupClientRpcModule).getExecutorService();
+    }
+
+    @Override
+    public DnsLookupBatchResponseDTO createResponseWithException(Throwable ex) {
+        return new DnsLookupBatchResponseDTO(ex);
+    }
+
+    @Override
+    public String getId() {
+        return RPC_MODULE_ID;
+    }
+
+    @Override
+    public CompletableFuture<DnsLookupBatchResponseDTO> execute(DnsLookupBatchRequestDTO request) {
+        final QueryType queryType = request.getQueryType();
+        final List<CompletableFuture<String>> futures = new ArrayList<>(request.getHostRequests().size());
+        for (final String hostRequest : request.getHostRequests()) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return DnsLookupClientRpcModule.resolve(hostRequest, queryType);
+                } catch (RuntimeException e) {
+                    LOG.debug("Failed to resolve {} with {}.", hostRequest, queryType, e);
+                    return null;
+                }
+            }, this.executorService));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            final DnsLookupBatchResponseDTO dto = new DnsLookupBatchResponseDTO();
+            for (int i = 0; i < futures.size(); i++) {
+                dto.addHostResponse(request.getHostRequests().get(i), futures.get(i).join());
+            }
+            return dto;
+        });
+    }
+}
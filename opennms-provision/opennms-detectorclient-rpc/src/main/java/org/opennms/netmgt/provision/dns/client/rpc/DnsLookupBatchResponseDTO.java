@@ -0,0 +1,134 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.dns.client.rpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.opennms.core.rpc.api.RemoteExecutionException;
+import org.opennms.core.rpc.api.RpcResponse;
+
+@XmlRootElement(name = "dns-lookup-batch-response")
+@XmlAccessorType(XmlAccessType.NONE)
+public class DnsLookupBatchResponseDTO implements RpcResponse {
+
+    @XmlElement(name = "host-response")
+    private List<HostResponse> hostResponses = new ArrayList<>();
+
+    @XmlAttribute(name = "error")
+    private String error;
+
+    public DnsLookupBatchResponseDTO() { }
+
+    public DnsLookupBatchResponseDTO(Throwable ex) {
+        error = RemoteExecutionException.toErrorMessage(ex);
+    }
+
+    public List<HostResponse> getHostResponses() {
+        return hostResponses;
+    }
+
+    public void setHostResponses(List<HostResponse> hostResponses) {
+        this.hostResponses = hostResponses;
+    }
+
+    public void addHostResponse(String request, String response) {
+        hostResponses.add(new HostResponse(request, response));
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return error;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hostResponses, error);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        DnsLookupBatchResponseDTO other = (DnsLookupBatchResponseDTO) obj;
+        return Objects.equals(this.hostResponses, other.hostResponses)
+                && Objects.equals(this.error, other.error);
+    }
+
+    /**
+     * The result of a single lookup, the response is absent if the request could not be resolved.
+     */
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static class HostResponse {
+
+        @XmlAttribute(name = "request")
+        private String request;
+
+        @XmlAttribute(name = "response")
+        private String response;
+
+        public HostResponse() { }
+
+        public HostResponse(String request, String response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        public String getRequest() {
+            return request;
+        }
+
+        public String getResponse() {
+            return response;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(request, response);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            HostResponse other = (HostResponse) obj;
+            return Objects.equals(this.request, other.request)
+                    && Objects.equals(this.response, other.response);
+        }
+    }
+
+}
@@ -49,6 +49,13 @@ public class DnsLookupClientRpcModule extends AbstractXmlRpcModule<DnsLookupRequ
         LOG.debug("Configuring fixed-sized ThreadPool using threadCount={}", threadCount);
     }
 
+    /**
+     * The pool the lookups are resolved on, shared with {@link DnsLookupBatchClientRpcModule}.
+     */
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     @Override
     public DnsLookupResponseDTO createResponseWithException(Throwable ex) {
         return new DnsLookupResponseDTO(ex);
@@ -62,30 +69,34 @@ public class DnsLookupClientRpcModule extends AbstractXmlRpcModule<DnsLookupRequ
     @Override
     public CompletableFuture<DnsLookupResponseDTO> execute(DnsLookupRequestDTO request) {
         return CompletableFuture.supplyAsync(() -> {
-                final InetAddress addr = InetAddressUtils.addr(request.getHostRequest());
                 final DnsLookupResponseDTO dto = new DnsLookupResponseDTO();
-                final QueryType queryType = request.getQueryType();
-                if (queryType.equals(QueryType.LOOKUP)) {
-                    dto.setHostResponse(addr.getHostAddress());
-                } else if (queryType.equals(QueryType.REVERSE_LOOKUP)) {
-                    // Attempt to retrieve the fully qualified domain name for this IP address
-                    String hostName = addr.getCanonicalHostName();
-                    if (InetAddressUtils.str(addr).equals(hostName)) {
-                        // The given host name matches the textual representation of
-                        // the IP address, which means that the reverse lookup failed
-                        // NMS-9356: InetAddress#getCanonicalHostName requires PTR records
-                        // to have a corresponding A record in order to succeed, so we
-                        // try using dnsjava's implementation to work around this
-                        try {
-                            hostName = Address.getHostName(addr);
-                        } catch (UnknownHostException e) {
-                            LOG.warn("Failed to retrieve the fully qualified domain name for {}. "
-                                    + "Using the textual representation of the IP address.", addr);
-                        }
-                    }
-                    dto.setHostResponse(hostName);
-                }
+                dto.setHostResponse(resolve(request.getHostRequest(), request.getQueryType()));
                 return dto;
         }, this.executorService);
     }
+
+    protected static String resolve(String hostRequest, QueryType queryType) {
+        final InetAddress addr = InetAddressUtils.addr(hostRequest);
+        if (queryType.equals(QueryType.LOOKUP)) {
+            return addr.getHostAddress();
+        } else if (queryType.equals(QueryType.REVERSE_LOOKUP)) {
+            // Attempt to retrieve the fully qualified domain name for this IP address
+            String hostName = addr.getCanonicalHostName();
+            if (InetAddressUtils.str(addr).equals(hostName)) {
+                // The given host name matches the textual representation of
+                // the IP address, which means that the reverse lookup failed
+                // NMS-9356: InetAddress#getCanonicalHostName requires PTR records
+                // to have a corresponding A record in order to succeed, so we
+                // try using dnsjava's implementation to work around this
+                try {
+                    hostName = Address.getHostName(addr);
+                } catch (UnknownHostException e) {
+                    LOG.warn("Failed to retrieve the fully qualified domain name for {}. "
+                            + "Using the textual representation of the IP address.", addr);
+                }
+            }
+            return hostName;
+        }
+        return null;
+    }
 }
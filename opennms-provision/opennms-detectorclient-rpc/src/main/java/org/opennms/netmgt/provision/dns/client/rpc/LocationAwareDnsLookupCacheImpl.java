@@ -0,0 +1,406 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.dns.client.rpc;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.provision.LocationAwareDnsLookupCache;
+import org.opennms.netmgt.provision.LocationAwareDnsLookupClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the results of the {@link LocationAwareDnsLookupClient}.
+ *
+ * Resolved names are kept for the configured TTL, and are refreshed in the background when they
+ * are used within the refresh-ahead window preceding their expiry, so that names in use are never
+ * looked up while a message waits for them. Names that can not be resolved are kept for the
+ * (usually shorter) negative TTL instead, so that they are not looked up for every message either.
+ *
+ * Lookups that are not cached are queued per location and sent in batches of up to
+ * {@code batchSize} names, at the latest {@code batchDelayMs} after the first one was queued.
+ * Concurrent lookups of the same name share the pending lookup. When a batch fails, for
+ * instance because the Minion does not support batches yet, its names are looked up one by one.
+ */
+public class LocationAwareDnsLookupCacheImpl implements LocationAwareDnsLookupCache, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocationAwareDnsLookupCacheImpl.class);
+
+    private final LocationAwareDnsLookupClient client;
+
+    private final Ticker ticker;
+
+    private final long ttlNanos;
+
+    private final long negativeTtlNanos;
+
+    private final long refreshAheadNanos;
+
+    private final int batchSize;
+
+    private final long batchDelayMs;
+
+    private final Cache<Key, Entry> cache;
+
+    private final ConcurrentMap<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Meter hits;
+
+    private final Meter misses;
+
+    private final Meter refreshes;
+
+    private final Meter failures;
+
+    private final Timer lookups;
+
+    private final Histogram batchSizes;
+
+    public LocationAwareDnsLookupCacheImpl(LocationAwareDnsLookupClient client, MetricRegistry registry,
+                                           long maximumSize, long ttlMs, long negativeTtlMs, long refreshAheadMs,
+                                           int batchSize, long batchDelayMs) {
+        this(client, registry, maximumSize, ttlMs, negativeTtlMs, refreshAheadMs, batchSize, batchDelayMs, Ticker.systemTicker());
+    }
+
+    protected LocationAwareDnsLookupCacheImpl(LocationAwareDnsLookupClient client, MetricRegistry registry,
+                                              long maximumSize, long ttlMs, long negativeTtlMs, long refreshAheadMs,
+                                              int batchSize, long batchDelayMs, Ticker ticker) {
+        if (ttlMs <= 0 || negativeTtlMs <= 0) {
+            throw new IllegalArgumentException("The TTLs must be positive: ttlMs=" + ttlMs + ", negativeTtlMs=" + negativeTtlMs);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        this.client = Objects.requireNonNull(client);
+        this.ticker = Objects.requireNonNull(ticker);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMs);
+        this.refreshAheadNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(refreshAheadMs, ttlMs)));
+        this.batchSize = batchSize;
+        this.batchDelayMs = Math.max(0, batchDelayMs);
+
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Math.max(ttlMs, negativeTtlMs), TimeUnit.MILLISECONDS)
+                .ticker(ticker)
+                .build();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new LogPreservingThreadFactory(LocationAwareDnsLookupCacheImpl.class.getSimpleName(), 1));
+
+        hits = registry.meter("hits");
+        misses = registry.meter("misses");
+        refreshes = registry.meter("refreshes");
+        failures = registry.meter("failures");
+        lookups = registry.timer("lookups");
+        batchSizes = registry.histogram("batchSize");
+        registry.register("size", (Gauge<Long>) cache::size);
+    }
+
+    @Override
+    public CompletableFuture<String> lookup(String hostName, String location, String systemId) {
+        return get(new Key(QueryType.LOOKUP, hostName, location), systemId);
+    }
+
+    @Override
+    public CompletableFuture<String> reverseLookup(InetAddress ipAddress, String location, String systemId) {
+        return get(new Key(QueryType.REVERSE_LOOKUP, InetAddressUtils.str(ipAddress), location), systemId);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    private CompletableFuture<String> get(Key key, String systemId) {
+        final long now = ticker.read();
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !entry.isValid(now)) {
+            final Entry created = new Entry();
+            entry = cache.asMap().compute(key, (k, existing) -> existing != null && existing.isValid(now) ? existing : created);
+            if (entry == created) {
+                misses.mark();
+                enqueue(key, systemId, created);
+                return created.future.copy();
+            }
+        }
+
+        hits.mark();
+        if (entry.future.isDone() && now >= entry.refreshAt && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, systemId, entry);
+        }
+        // Callers can not complete the shared future
+        return entry.future.copy();
+    }
+
+    private void refresh(Key key, String systemId, Entry entry) {
+        refreshes.mark();
+        final Entry refreshed = new Entry();
+        refreshed.future.thenRun(() -> {
+            if (refreshed.failed) {
+                // Keep the current result until it expires, and try again later
+                entry.refreshAt = ticker.read() + negativeTtlNanos;
+                entry.refreshing.set(false);
+            } else {
+                cache.asMap().replace(key, entry, refreshed);
+            }
+        });
+        enqueue(key, systemId, refreshed);
+    }
+
+    private void enqueue(Key key, String systemId, Entry entry) {
+        final BatchKey batchKey = new BatchKey(key.queryType, key.location, systemId);
+        final Batch batch = batches.computeIfAbsent(batchKey, k -> new Batch());
+        batch.queue.add(new Pending(key.host, entry));
+        if (batch.size.incrementAndGet() >= batchSize) {
+            scheduler.execute(() -> flush(batchKey, batch));
+        } else if (batch.scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> flush(batchKey, batch), batchDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(BatchKey batchKey, Batch batch) {
+        // Anything queued from now on is either drained below, or schedules another flush
+        batch.scheduled.set(false);
+
+        List<Pending> drained = new ArrayList<>();
+        Pending pending;
+        while ((pending = batch.queue.poll()) != null) {
+            batch.size.decrementAndGet();
+            drained.add(pending);
+            if (drained.size() >= batchSize) {
+                send(batchKey, drained);
+                drained = new ArrayList<>();
+            }
+        }
+        if (!drained.isEmpty()) {
+            send(batchKey, drained);
+        }
+    }
+
+    private void send(BatchKey batchKey, List<Pending> drained) {
+        final Map<String, List<Entry>> entriesByHost = new LinkedHashMap<>();
+        for (final Pending pending : drained) {
+            entriesByHost.computeIfAbsent(pending.host, h -> new ArrayList<>(1)).add(pending.entry);
+        }
+        batchSizes.update(entriesByHost.size());
+
+        final Timer.Context ctx = lookups.time();
+        final CompletableFuture<?> future;
+        if (entriesByHost.size() == 1) {
+            // Not worth a batch
+            future = lookupEach(batchKey, entriesByHost);
+        } else {
+            final List<String> hosts = new ArrayList<>(entriesByHost.keySet());
+            future = call(() -> lookupBatch(batchKey, hosts)).handle((results, ex) -> {
+                if (ex != null) {
+                    // The Minion may not support batches, or the batch failed as a whole
+                    LOG.info("Failed to resolve {} names at location {} in a batch, resolving them one by one: {}",
+                            hosts.size(), batchKey.location, ex.getMessage());
+                    return lookupEach(batchKey, entriesByHost);
+                }
+                final long now = ticker.read();
+                entriesByHost.forEach((host, entries) -> complete(entries, host, results != null ? results.get(host) : null, false, now));
+                return CompletableFuture.completedFuture(null);
+            }).thenCompose(f -> f);
+        }
+        future.whenComplete((v, ex) -> ctx.stop());
+    }
+
+    private CompletableFuture<Void> lookupEach(BatchKey batchKey, Map<String, List<Entry>> entriesByHost) {
+        final List<CompletableFuture<String>> futures = new ArrayList<>(entriesByHost.size());
+        entriesByHost.forEach((host, entries) -> futures.add(call(() -> lookup(batchKey, host)).whenComplete((result, ex) -> {
+            if (ex != null) {
+                failures.mark();
+                LOG.warn("Failed to resolve {} at location {}: {}", host, batchKey.location, ex.getMessage());
+            }
+            complete(entries, host, ex == null ? result : null, ex != null, ticker.read());
+        })));
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private static void complete(List<Entry> entries, String host, String result, boolean failed, long now) {
+        for (final Entry entry : entries) {
+            entry.complete(host, result, failed, now);
+        }
+    }
+
+    private CompletableFuture<String> lookup(BatchKey batchKey, String host) {
+        return batchKey.queryType == QueryType.REVERSE_LOOKUP
+                ? client.reverseLookup(InetAddressUtils.addr(host), batchKey.location, batchKey.systemId)
+                : client.lookup(host, batchKey.location, batchKey.systemId);
+    }
+
+    private CompletableFuture<Map<String, String>> lookupBatch(BatchKey batchKey, List<String> hosts) {
+        if (batchKey.queryType == QueryType.REVERSE_LOOKUP) {
+            final List<InetAddress> addresses = new ArrayList<>(hosts.size());
+            for (final String host : hosts) {
+                addresses.add(InetAddressUtils.addr(host));
+            }
+            return client.reverseLookup(addresses, batchKey.location, batchKey.systemId).thenApply(results -> {
+                final Map<String, String> resultsByHost = new LinkedHashMap<>();
+                results.forEach((address, result) -> resultsByHost.put(InetAddressUtils.str(address), result));
+                return resultsByHost;
+            });
+        }
+        return client.lookup(hosts, batchKey.location, batchKey.systemId);
+    }
+
+    /**
+     * Turns the exceptions thrown by the client into failed futures.
+     */
+    private static <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> lookup) {
+        try {
+            return lookup.get();
+        } catch (RuntimeException e) {
+            final CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private class Entry {
+
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        // Both are set before the future is completed
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private volatile long refreshAt = Long.MAX_VALUE;
+
+        private volatile boolean failed;
+
+        private boolean isValid(long now) {
+            // A pending lookup is shared until it completes
+            return !future.isDone() || now < expiresAt;
+        }
+
+        private void complete(String host, String result, boolean failed, long now) {
+            // A failed reverse lookup answers with the address itself
+            final boolean negative = result == null || result.equals(host);
+            if (negative) {
+                expiresAt = now + negativeTtlNanos;
+            } else {
+                expiresAt = now + ttlNanos;
+                refreshAt = expiresAt - refreshAheadNanos;
+            }
+            this.failed = failed;
+            future.complete(result);
+        }
+    }
+
+    private static class Pending {
+        private final String host;
+        private final Entry entry;
+
+        private Pending(String host, Entry entry) {
+            this.host = host;
+            this.entry = entry;
+        }
+    }
+
+    private static class Batch {
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private static class Key {
+        private final QueryType queryType;
+        private final String host;
+        private final String location;
+
+        private Key(QueryType queryType, String host, String location) {
+            this.queryType = queryType;
+            this.host = host;
+            this.location = location;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key that = (Key) o;
+            return queryType == that.queryType && Objects.equals(host, that.host) && Objects.equals(location, that.location);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryType, host, location);
+        }
+    }
+
+    private static class BatchKey {
+        private final QueryType queryType;
+        private final String location;
+        private final String systemId;
+
+        private BatchKey(QueryType queryType, String location, String systemId) {
+            this.queryType = queryType;
+            this.location = location;
+            this.systemId = systemId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final BatchKey that = (BatchKey) o;
+            return queryType == that.queryType && Objects.equals(location, that.location) && Objects.equals(systemId, that.systemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryType, location, systemId);
+        }
+    }
+}
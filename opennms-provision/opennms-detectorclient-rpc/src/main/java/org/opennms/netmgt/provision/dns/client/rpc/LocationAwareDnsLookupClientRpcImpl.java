@@ -22,6 +22,11 @@
 package org.opennms.netmgt.provision.dns.client.rpc;
 
 import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.opennms.core.rpc.api.RpcClient;
@@ -39,11 +44,17 @@ public class LocationAwareDnsLookupClientRpcImpl implements LocationAwareDnsLook
     @Autowired
     private DnsLookupClientRpcModule dnsLookupClientRpcModule;
 
+    @Autowired
+    private DnsLookupBatchClientRpcModule dnsLookupBatchClientRpcModule;
+
     private RpcClient<DnsLookupRequestDTO, DnsLookupResponseDTO> delegate;
 
+    private RpcClient<DnsLookupBatchRequestDTO, DnsLookupBatchResponseDTO> batchDelegate;
+
     @Override
     public void afterPropertiesSet() {
         delegate = rpcClientFactory.getClient(dnsLookupClientRpcModule);
+        batchDelegate = rpcClientFactory.getClient(dnsLookupBatchClientRpcModule);
     }
 
     @Override
@@ -66,10 +77,42 @@ public class LocationAwareDnsLookupClientRpcImpl implements LocationAwareDnsLook
         return lookupExecute(InetAddressUtils.toIpAddrString(ipAddress), location, systemId, QueryType.REVERSE_LOOKUP);
     }
 
+    @Override
+    public CompletableFuture<Map<String, String>> lookup(Collection<String> hostNames, String location, String systemId) {
+        final List<String> requests = new ArrayList<>(hostNames);
+        return batchLookupExecute(requests, location, systemId, QueryType.LOOKUP).thenApply(responses -> {
+            final Map<String, String> results = new LinkedHashMap<>();
+            for (int i = 0; i < requests.size(); i++) {
+                results.put(requests.get(i), responses.get(i));
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<InetAddress, String>> reverseLookup(Collection<InetAddress> ipAddresses, String location, String systemId) {
+        final List<InetAddress> addresses = new ArrayList<>(ipAddresses);
+        final List<String> requests = new ArrayList<>(addresses.size());
+        for (final InetAddress ipAddress : addresses) {
+            requests.add(InetAddressUtils.toIpAddrString(ipAddress));
+        }
+        return batchLookupExecute(requests, location, systemId, QueryType.REVERSE_LOOKUP).thenApply(responses -> {
+            final Map<InetAddress, String> results = new LinkedHashMap<>();
+            for (int i = 0; i < addresses.size(); i++) {
+                results.put(addresses.get(i), responses.get(i));
+            }
+            return results;
+        });
+    }
+
     public RpcClient<DnsLookupRequestDTO, DnsLookupResponseDTO> getDelegate() {
         return delegate;
     }
 
+    public RpcClient<DnsLookupBatchRequestDTO, DnsLookupBatchResponseDTO> getBatchDelegate() {
+        return batchDelegate;
+    }
+
     private CompletableFuture<String> lookupExecute(String request, String location, String systemId, QueryType queryType) {
         final DnsLookupRequestDTO dto = new DnsLookupRequestDTO();
         dto.setHostRequest(request);
@@ -80,4 +123,27 @@ public class LocationAwareDnsLookupClientRpcImpl implements LocationAwareDnsLook
         return future.thenApply(DnsLookupResponseDTO::getHostResponse);
     }
 
+    /**
+     * Returns the responses in the order of the requests.
+     */
+    private CompletableFuture<List<String>> batchLookupExecute(List<String> requests, String location, String systemId, QueryType queryType) {
+        final DnsLookupBatchRequestDTO dto = new DnsLookupBatchRequestDTO();
+        dto.setHostRequests(requests);
+        dto.setLocation(location);
+        dto.setSystemId(systemId);
+        dto.setQueryType(queryType);
+        CompletableFuture<DnsLookupBatchResponseDTO> future = getBatchDelegate().execute(dto);
+        return future.thenApply(response -> {
+            final Map<String, String> responsesByRequest = new LinkedHashMap<>();
+            for (final DnsLookupBatchResponseDTO.HostResponse hostResponse : response.getHostResponses()) {
+                responsesByRequest.put(hostResponse.getRequest(), hostResponse.getResponse());
+            }
+            final List<String> responses = new ArrayList<>(requests.size());
+            for (final String request : requests) {
+                responses.add(responsesByRequest.get(request));
+            }
+            return responses;
+        });
+    }
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.dns.client.rpc;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.runners.Parameterized.Parameters;
+import org.opennms.core.test.xml.XmlTestNoCastor;
+
+public class DnsLookupBatchRequestDTOTest extends XmlTestNoCastor<DnsLookupBatchRequestDTO> {
+
+    public DnsLookupBatchRequestDTOTest(DnsLookupBatchRequestDTO sampleObject, Object sampleXml) {
+        super(sampleObject, sampleXml, null);
+    }
+
+    @Parameters
+    public static Collection<Object[]> data() throws Exception {
+        return Arrays.asList(new Object[][] {
+            {   getDnsLookupBatchRequest(),
+                "<?xml version=\"1.0\"?>\n" +
+                "<dns-lookup-batch-request location=\"MINION\" query-type=\"LOOKUP\">\n" +
+                "   <host-request>localhost</host-request>\n" +
+                "   <host-request>www.opennms.org</host-request>\n" +
+                "</dns-lookup-batch-request>"
+            }
+        });
+    }
+
+    private static Object getDnsLookupBatchRequest() {
+        DnsLookupBatchRequestDTO dto = new DnsLookupBatchRequestDTO();
+        dto.setLocation("MINION");
+        dto.setHostRequests(Arrays.asList("localhost", "www.opennms.org"));
+        dto.setQueryType(QueryType.LOOKUP);
+        return dto;
+    }
+
+}
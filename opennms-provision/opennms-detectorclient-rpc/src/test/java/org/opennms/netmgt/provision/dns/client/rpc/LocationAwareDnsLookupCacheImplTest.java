@@ -0,0 +1,268 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.dns.client.rpc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.netmgt.provision.LocationAwareDnsLookupClient;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Ticker;
+
+public class LocationAwareDnsLookupCacheImplTest {
+
+    private static final long TTL_MS = 60000;
+
+    private static final long NEGATIVE_TTL_MS = 1000;
+
+    private static final long REFRESH_AHEAD_MS = 10000;
+
+    private final MockDnsLookupClient client = new MockDnsLookupClient();
+
+    private final MetricRegistry registry = new MetricRegistry();
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private LocationAwareDnsLookupCacheImpl cache;
+
+    @After
+    public void tearDown() {
+        if (cache != null) {
+            cache.destroy();
+        }
+    }
+
+    @Test
+    public void canBatchLookups() throws Exception {
+        cache = createCache(3, TimeUnit.MINUTES.toMillis(1));
+        client.results.put("a", "10.0.0.1");
+        client.results.put("b", "10.0.0.2");
+
+        final CompletableFuture<String> a = cache.lookup("a", "MINION", "minion-1");
+        final CompletableFuture<String> a2 = cache.lookup("a", "MINION", "minion-1");
+        final CompletableFuture<String> b = cache.lookup("b", "MINION", "minion-1");
+        // Fills the batch
+        final CompletableFuture<String> c = cache.lookup("c", "MINION", "minion-1");
+
+        assertThat(a.get(10, TimeUnit.SECONDS), equalTo("10.0.0.1"));
+        assertThat(a2.get(10, TimeUnit.SECONDS), equalTo("10.0.0.1"));
+        assertThat(b.get(10, TimeUnit.SECONDS), equalTo("10.0.0.2"));
+        assertThat(c.get(10, TimeUnit.SECONDS), is(nullValue()));
+
+        // A single batch, in which the pending lookup of "a" was shared
+        assertThat(client.batches, hasSize(1));
+        assertThat(client.batches.get(0), containsInAnyOrder("a", "b", "c"));
+        assertThat(registry.meter("misses").getCount(), equalTo(3L));
+        assertThat(registry.meter("hits").getCount(), equalTo(1L));
+
+        // Cached
+        final CompletableFuture<String> cached = cache.lookup("a", "MINION", "minion-1");
+        assertThat(cached.isDone(), is(true));
+        assertThat(cached.get(), equalTo("10.0.0.1"));
+        assertThat(registry.meter("hits").getCount(), equalTo(2L));
+    }
+
+    @Test
+    public void canFallBackToSingleLookupsWhenTheBatchFails() throws Exception {
+        cache = createCache(2, TimeUnit.MINUTES.toMillis(1));
+        client.batchFailure = new IllegalStateException("No module found with id DNS-BATCH");
+        client.results.put("a", "10.0.0.1");
+        client.results.put("b", "10.0.0.2");
+
+        final CompletableFuture<String> a = cache.lookup("a", "MINION", null);
+        // Fills the batch
+        final CompletableFuture<String> b = cache.lookup("b", "MINION", null);
+
+        assertThat(a.get(10, TimeUnit.SECONDS), equalTo("10.0.0.1"));
+        assertThat(b.get(10, TimeUnit.SECONDS), equalTo("10.0.0.2"));
+        assertThat(client.batches, hasSize(1));
+        assertThat(client.lookups, containsInAnyOrder("a", "b"));
+        assertThat(registry.meter("failures").getCount(), equalTo(0L));
+
+        // The results of the single lookups are cached
+        assertThat(cache.lookup("a", "MINION", null).isDone(), is(true));
+    }
+
+    @Test
+    public void canExpireNegativeResults() throws Exception {
+        cache = createCache(100, 0);
+
+        assertThat(cache.lookup("a", "MINION", null).get(10, TimeUnit.SECONDS), is(nullValue()));
+        assertThat(client.lookups, contains("a"));
+
+        // The failed lookup is cached
+        client.results.put("a", "10.0.0.1");
+        final CompletableFuture<String> cached = cache.lookup("a", "MINION", null);
+        assertThat(cached.isDone(), is(true));
+        assertThat(cached.get(), is(nullValue()));
+
+        // Until the negative TTL expires
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(NEGATIVE_TTL_MS));
+        assertThat(cache.lookup("a", "MINION", null).get(10, TimeUnit.SECONDS), equalTo("10.0.0.1"));
+        assertThat(client.lookups, contains("a", "a"));
+
+        // The positive TTL applies to the result
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(NEGATIVE_TTL_MS));
+        assertThat(cache.lookup("a", "MINION", null).isDone(), is(true));
+        assertThat(client.lookups, hasSize(2));
+
+        // Other locations are cached separately
+        client.results.put("a", "192.168.0.1");
+        assertThat(cache.lookup("a", "Default", null).get(10, TimeUnit.SECONDS), equalTo("192.168.0.1"));
+        assertThat(client.lookups, hasSize(3));
+    }
+
+    @Test
+    public void canRefreshAhead() throws Exception {
+        cache = createCache(100, 0);
+        client.results.put("a", "10.0.0.1");
+        assertThat(cache.lookup("a", "MINION", null).get(10, TimeUnit.SECONDS), equalTo("10.0.0.1"));
+
+        // Within the refresh-ahead window, the cached result is used while it is refreshed
+        client.results.put("a", "10.0.0.2");
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS - REFRESH_AHEAD_MS));
+        final CompletableFuture<String> cached = cache.lookup("a", "MINION", null);
+        assertThat(cached.isDone(), is(true));
+        assertThat(cached.get(), equalTo("10.0.0.1"));
+
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (!"10.0.0.2".equals(cache.lookup("a", "MINION", null).getNow(null)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.lookup("a", "MINION", null).getNow(null), equalTo("10.0.0.2"));
+        assertThat(client.lookups, contains("a", "a"));
+        assertThat(registry.meter("refreshes").getCount(), equalTo(1L));
+
+        // The refreshed result is kept for the whole TTL
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(REFRESH_AHEAD_MS));
+        assertThat(cache.lookup("a", "MINION", null).getNow(null), equalTo("10.0.0.2"));
+    }
+
+    @Test
+    public void canCacheReverseLookups() throws Exception {
+        cache = createCache(100, 0);
+        final InetAddress address = InetAddress.getByName("10.0.0.1");
+        client.results.put("10.0.0.1", "router.example.org");
+
+        assertThat(cache.reverseLookup(address, "MINION", null).get(10, TimeUnit.SECONDS), equalTo("router.example.org"));
+        assertThat(cache.reverseLookup(address, "MINION", null).getNow(null), equalTo("router.example.org"));
+        assertThat(client.reverseLookups, contains(address));
+    }
+
+    @Test
+    public void canCacheFailedLookups() throws Exception {
+        cache = createCache(100, 0);
+        client.failure = new IllegalStateException("No route to Minion");
+
+        assertThat(cache.lookup("a", "MINION", null).get(10, TimeUnit.SECONDS), is(nullValue()));
+        assertThat(cache.lookup("a", "MINION", null).isDone(), is(true));
+        assertThat(client.lookups, hasSize(1));
+        assertThat(registry.meter("failures").getCount(), equalTo(1L));
+    }
+
+    private LocationAwareDnsLookupCacheImpl createCache(int batchSize, long batchDelayMs) {
+        return new LocationAwareDnsLookupCacheImpl(client, registry, 1000, TTL_MS, NEGATIVE_TTL_MS, REFRESH_AHEAD_MS,
+                batchSize, batchDelayMs, new Ticker() {
+                    @Override
+                    public long read() {
+                        return nanos.get();
+                    }
+                });
+    }
+
+    private static class MockDnsLookupClient implements LocationAwareDnsLookupClient {
+
+        private final Map<String, String> results = new HashMap<>();
+
+        private final List<String> lookups = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<InetAddress> reverseLookups = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile RuntimeException failure;
+
+        private volatile RuntimeException batchFailure;
+
+        @Override
+        public CompletableFuture<String> lookup(String hostName, String location) {
+            return lookup(hostName, location, null);
+        }
+
+        @Override
+        public CompletableFuture<String> lookup(String hostName, String location, String systemId) {
+            lookups.add(hostName);
+            if (failure != null) {
+                final CompletableFuture<String> future = new CompletableFuture<>();
+                future.completeExceptionally(failure);
+                return future;
+            }
+            return CompletableFuture.completedFuture(results.get(hostName));
+        }
+
+        @Override
+        public CompletableFuture<String> reverseLookup(InetAddress ipAddress, String location) {
+            return reverseLookup(ipAddress, location, null);
+        }
+
+        @Override
+        public CompletableFuture<String> reverseLookup(InetAddress ipAddress, String location, String systemId) {
+            reverseLookups.add(ipAddress);
+            return CompletableFuture.completedFuture(results.get(ipAddress.getHostAddress()));
+        }
+
+        @Override
+        public CompletableFuture<Map<String, String>> lookup(Collection<String> hostNames, String location, String systemId) {
+            batches.add(new ArrayList<>(hostNames));
+            if (batchFailure != null) {
+                final CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+                future.completeExceptionally(batchFailure);
+                return future;
+            }
+            final Map<String, String> resultsByHostName = new LinkedHashMap<>();
+            for (final String hostName : hostNames) {
+                resultsByHostName.put(hostName, results.get(hostName));
+            }
+            return CompletableFuture.completedFuture(resultsByHostName);
+        }
+    }
+}
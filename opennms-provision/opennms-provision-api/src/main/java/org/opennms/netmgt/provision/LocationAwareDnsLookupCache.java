@@ -0,0 +1,42 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision;
+
+import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A cache in front of the {@link LocationAwareDnsLookupClient} shared by the daemons
+ * that resolve the host names of the messages they receive.
+ *
+ * The returned futures are already completed when the result is cached, so that
+ * callers can tell a cached result from a pending lookup with {@link CompletableFuture#isDone()}.
+ * They complete with null when the host name or address could not be resolved, failed
+ * lookups are cached as well. Lookups that are not cached are batched per location.
+ */
+public interface LocationAwareDnsLookupCache {
+
+    CompletableFuture<String> lookup(String hostName, String location, String systemId);
+
+    CompletableFuture<String> reverseLookup(InetAddress ipAddress, String location, String systemId);
+
+}
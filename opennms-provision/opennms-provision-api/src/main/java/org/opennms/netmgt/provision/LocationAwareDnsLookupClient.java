@@ -22,7 +22,11 @@
 package org.opennms.netmgt.provision;
 
 import java.net.InetAddress;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public interface LocationAwareDnsLookupClient {
 
@@ -34,4 +38,36 @@ public interface LocationAwareDnsLookupClient {
 
     CompletableFuture<String> reverseLookup(InetAddress ipAddress, String location, String systemId);
 
+    /**
+     * Resolves several host names at the same location at once.
+     *
+     * The returned map contains an entry for every given host name, which is
+     * mapped to null if the host name could not be resolved.
+     */
+    default CompletableFuture<Map<String, String>> lookup(Collection<String> hostNames, String location, String systemId) {
+        return all(hostNames, hostName -> lookup(hostName, location, systemId));
+    }
+
+    /**
+     * Resolves the host names of several IP addresses at the same location at once.
+     *
+     * The returned map contains an entry for every given IP address, which is
+     * mapped to null if the address could not be resolved.
+     */
+    default CompletableFuture<Map<InetAddress, String>> reverseLookup(Collection<InetAddress> ipAddresses, String location, String systemId) {
+        return all(ipAddresses, ipAddress -> reverseLookup(ipAddress, location, systemId));
+    }
+
+    private static <K> CompletableFuture<Map<K, String>> all(Collection<K> keys, Function<K, CompletableFuture<String>> lookup) {
+        final Map<K, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (final K key : keys) {
+            futures.put(key, lookup.apply(key).exceptionally(t -> null));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(v -> {
+            final Map<K, String> results = new LinkedHashMap<>();
+            futures.forEach((key, future) -> results.put(key, future.join()));
+            return results;
+        });
+    }
+
 }